@@ -0,0 +1,112 @@
+package inventory.archive.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 종료되었거나 삭제된 출고/입고를 아카이브 테이블로 옮긴다.
+ * 옮기는 쪽과 지우는 쪽이 같은 ID 목록을 쓰므로 한 트랜잭션 안에서 호출해야 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArchiveJdbcRepository {
+
+    private static final String OUTBOUND_COLUMNS = """
+            outbound_id, warehouse_id, order_number, recipient_name, recipient_contact,
+            delivery_postcode, delivery_base_address, delivery_detail_address,
+            requested_date, expected_date, shipped_date, delivery_memo, wave_id, outbound_status,
+            created_at, modified_at, deleted, deleted_at""";
+
+    private static final String OUTBOUND_PRODUCT_COLUMNS = """
+            outbound_product_id, outbound_id, product_id, requested_quantity, deleted, deleted_at""";
+
+    private static final String INBOUND_COLUMNS = """
+            inbound_id, warehouse_id, supplier_id, expected_date, status,
+            created_at, modified_at, deleted, deleted_at""";
+
+    private static final String INBOUND_PRODUCT_COLUMNS = """
+            inbound_product_id, product_id, inbound_id, quantity, deleted, deleted_at""";
+
+    // 검색이 출고는 요청일, 입고는 예정일로 거르므로 종료 건도 그 날짜가 기준일 이전이어야 옮긴다.
+    // 그래야 기준일 이후만 보는 검색(아카이브를 보지 않는 검색)에서 종료 건이 빠지지 않는다.
+    private static final String FIND_ARCHIVABLE_OUTBOUND_IDS_SQL = """
+            SELECT outbound_id FROM outbound
+            WHERE (outbound_status IN ('SHIPPED', 'CANCELED') AND modified_at < :cutoff
+                   AND (requested_date IS NULL OR requested_date < :cutoffDate))
+               OR (deleted = true AND deleted_at < :cutoff)
+            ORDER BY outbound_id
+            LIMIT :limit
+            """;
+
+    private static final String FIND_ARCHIVABLE_INBOUND_IDS_SQL = """
+            SELECT inbound_id FROM inbound
+            WHERE (status IN ('COMPLETED', 'REJECTED', 'CANCELED') AND modified_at < :cutoff
+                   AND (expected_date IS NULL OR expected_date < :cutoffDate))
+               OR (deleted = true AND deleted_at < :cutoff)
+            ORDER BY inbound_id
+            LIMIT :limit
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<Long> findArchivableOutboundIds(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.queryForList(FIND_ARCHIVABLE_OUTBOUND_IDS_SQL, cutoffParams(cutoff, limit), Long.class);
+    }
+
+    public List<Long> findArchivableInboundIds(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.queryForList(FIND_ARCHIVABLE_INBOUND_IDS_SQL, cutoffParams(cutoff, limit), Long.class);
+    }
+
+    /**
+     * 출고 상품과 출고를 아카이브 테이블에 복사한 뒤 원본에서 삭제하고, 옮긴 출고 수를 반환한다.
+     */
+    public int moveOutbounds(Collection<Long> outboundIds, LocalDateTime archivedAt) {
+        MapSqlParameterSource params = idParams(outboundIds, archivedAt);
+
+        jdbcTemplate.update(copySql("outbound_product", OUTBOUND_PRODUCT_COLUMNS, "outbound_id"), params);
+        int moved = jdbcTemplate.update(copySql("outbound", OUTBOUND_COLUMNS, "outbound_id"), params);
+        jdbcTemplate.update("DELETE FROM outbound_product WHERE outbound_id IN (:ids)", params);
+        jdbcTemplate.update("DELETE FROM outbound WHERE outbound_id IN (:ids)", params);
+        return moved;
+    }
+
+    /**
+     * 입고 상품과 입고를 아카이브 테이블에 복사한 뒤 원본에서 삭제하고, 옮긴 입고 수를 반환한다.
+     */
+    public int moveInbounds(Collection<Long> inboundIds, LocalDateTime archivedAt) {
+        MapSqlParameterSource params = idParams(inboundIds, archivedAt);
+
+        jdbcTemplate.update(copySql("inbound_product", INBOUND_PRODUCT_COLUMNS, "inbound_id"), params);
+        int moved = jdbcTemplate.update(copySql("inbound", INBOUND_COLUMNS, "inbound_id"), params);
+        jdbcTemplate.update("DELETE FROM inbound_product WHERE inbound_id IN (:ids)", params);
+        jdbcTemplate.update("DELETE FROM inbound WHERE inbound_id IN (:ids)", params);
+        return moved;
+    }
+
+    private static String copySql(String table, String columns, String idColumn) {
+        return "INSERT INTO " + table + "_archive (" + columns + ", archived_at) "
+                + "SELECT " + columns + ", :archivedAt FROM " + table
+                + " WHERE " + idColumn + " IN (:ids)";
+    }
+
+    private static MapSqlParameterSource cutoffParams(LocalDateTime cutoff, int limit) {
+        return new MapSqlParameterSource()
+                .addValue("cutoff", Timestamp.valueOf(cutoff))
+                .addValue("cutoffDate", Date.valueOf(cutoff.toLocalDate()))
+                .addValue("limit", limit);
+    }
+
+    private static MapSqlParameterSource idParams(Collection<Long> ids, LocalDateTime archivedAt) {
+        return new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("archivedAt", Timestamp.valueOf(archivedAt));
+    }
+}
@@ -0,0 +1,34 @@
+package inventory.archive.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 종료된 출고/입고를 운영 테이블에 남겨두는 기간.
+ * 아카이버는 이 기간이 지난 행을 옮기고, 검색은 조회 범위가 이 기간을 벗어날 때만 아카이브를 함께 본다.
+ * 두 쪽이 같은 날짜(출고는 요청일, 입고는 예정일)를 기준일과 비교해야 검색에서 빠지는 행이 없다.
+ */
+@Component
+public class ArchivePolicy {
+
+    private final int retentionDays;
+
+    public ArchivePolicy(@Value("${archive.retention-days:180}") int retentionDays) {
+        this.retentionDays = retentionDays;
+    }
+
+    public LocalDateTime cutoff() {
+        return cutoffDate().atStartOfDay();
+    }
+
+    public boolean requiresArchive(LocalDate startDate) {
+        return startDate == null || !startDate.isAfter(cutoffDate());
+    }
+
+    private LocalDate cutoffDate() {
+        return LocalDate.now().minusDays(retentionDays);
+    }
+}
@@ -0,0 +1,104 @@
+package inventory.archive.service;
+
+import inventory.archive.repository.ArchiveJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+/**
+ * 보관 기간이 지난 종료/삭제 출고와 입고를 아카이브 테이블로 옮긴다.
+ * <p>
+ * 배치마다 트랜잭션을 나누고 배치 사이에 쉬어 운영 트래픽과 락 경합을 줄인다. 행을 옮기는 쓰기 작업이므로 기본인 쓰기 풀을 쓴다.
+ */
+@Slf4j
+@Service
+public class ArchiveService {
+
+    private final ArchiveJdbcRepository archiveJdbcRepository;
+    private final ArchivePolicy archivePolicy;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final int maxBatchesPerRun;
+
+    public ArchiveService(
+            ArchiveJdbcRepository archiveJdbcRepository,
+            ArchivePolicy archivePolicy,
+            TransactionTemplate transactionTemplate,
+            @Value("${archive.enabled:true}") boolean enabled,
+            @Value("${archive.batch-size:500}") int batchSize,
+            @Value("${archive.pause-millis:200}") long pauseMillis,
+            @Value("${archive.max-batches-per-run:1000}") int maxBatchesPerRun
+    ) {
+        this.archiveJdbcRepository = archiveJdbcRepository;
+        this.archivePolicy = archivePolicy;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Scheduled(cron = "${archive.cron:0 30 3 * * *}")
+    public void archiveClosedOrders() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime cutoff = archivePolicy.cutoff();
+        int outbounds = archiveOutbounds(cutoff);
+        int inbounds = archiveInbounds(cutoff);
+        log.info("아카이브 완료: 기준시각={}, 출고={}건, 입고={}건", cutoff, outbounds, inbounds);
+    }
+
+    public int archiveOutbounds(LocalDateTime cutoff) {
+        return archive(cutoff, archiveJdbcRepository::findArchivableOutboundIds, archiveJdbcRepository::moveOutbounds);
+    }
+
+    public int archiveInbounds(LocalDateTime cutoff) {
+        return archive(cutoff, archiveJdbcRepository::findArchivableInboundIds, archiveJdbcRepository::moveInbounds);
+    }
+
+    private int archive(LocalDateTime cutoff,
+                        BiFunction<LocalDateTime, Integer, List<Long>> findIds,
+                        BiConsumer<List<Long>, LocalDateTime> move) {
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<Long> ids = findIds.apply(cutoff, batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            LocalDateTime archivedAt = LocalDateTime.now();
+            transactionTemplate.executeWithoutResult(status -> move.accept(ids, archivedAt));
+            total += ids.size();
+
+            if (ids.size() < batchSize || !pause()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("아카이브 작업이 중단되었습니다.");
+            return false;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package inventory.common.admission;
+
+/**
+ * AIMD 방식의 동시 처리 한도.
+ * <p>
+ * 한도만큼의 요청이 목표 지연 안에 끝날 때마다 한도를 1 늘리고, 목표를 넘기거나 커넥션 부족 같은 자원 오류로 실패하면
+ * 일정 비율로 줄인다. 요청마다 1씩 늘리면 한 창 안에 한도가 두 배가 되어 줄이는 쪽보다 훨씬 빨리 커지므로 창 단위로 늘린다.
+ */
+public class AdaptiveLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+    private final double backoffRatio;
+
+    private double limit;
+    private int inFlight;
+    private int successesInWindow;
+
+    public AdaptiveLimiter(int initialLimit, int minLimit, int maxLimit, long targetLatencyNanos, double backoffRatio) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("동시 처리 한도 설정이 올바르지 않습니다.");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("한도 감소 비율은 0과 1 사이여야 합니다.");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyNanos = targetLatencyNanos;
+        this.backoffRatio = backoffRatio;
+        this.limit = initialLimit;
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    public synchronized void onSuccess(long latencyNanos) {
+        int used = inFlight;
+        inFlight--;
+        if (latencyNanos > targetLatencyNanos) {
+            decrease();
+            return;
+        }
+        // 한도의 절반 이상을 쓰고 있을 때만 늘려 한가한 창고의 한도가 끝없이 커지지 않게 한다
+        if (used * 2 >= limit && ++successesInWindow >= (int) limit) {
+            limit = Math.min(maxLimit, limit + 1);
+            successesInWindow = 0;
+        }
+    }
+
+    public synchronized void onDropped() {
+        inFlight--;
+        decrease();
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private void decrease() {
+        limit = Math.max(minLimit, limit * backoffRatio);
+        successesInWindow = 0;
+    }
+}
@@ -0,0 +1,16 @@
+package inventory.common.admission;
+
+import inventory.common.exception.CustomException;
+import inventory.common.exception.ExceptionCode;
+import lombok.Getter;
+
+@Getter
+public class AdmissionRejectedException extends CustomException {
+
+    private final long retryAfterSeconds;
+
+    public AdmissionRejectedException(Long warehouseId, long retryAfterSeconds) {
+        super(ExceptionCode.TOO_MANY_REQUESTS, "창고 ID " + warehouseId + "의 처리 한도를 초과했습니다.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,15 @@
+package inventory.common.admission;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 창고별 동시 처리 한도를 적용할 쓰기 메서드에 붙인다.
+ * 창고 ID는 {@link WarehouseScoped} 인자에서 읽는다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface WarehouseAdmission {
+}
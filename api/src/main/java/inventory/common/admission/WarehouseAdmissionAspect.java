@@ -0,0 +1,58 @@
+package inventory.common.admission;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+/**
+ * {@link WarehouseAdmission}이 붙은 메서드에 창고별 처리 한도를 적용한다.
+ * 트랜잭션보다 먼저 실행되어 거절된 요청은 커넥션을 잡지 않는다.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class WarehouseAdmissionAspect {
+
+    private final WarehouseAdmissionLimiter warehouseAdmissionLimiter;
+
+    @Around("@annotation(inventory.common.admission.WarehouseAdmission)")
+    public Object admit(ProceedingJoinPoint joinPoint) throws Throwable {
+        Long warehouseId = findWarehouseId(joinPoint.getArgs());
+        if (!warehouseAdmissionLimiter.isEnabled() || warehouseId == null) {
+            return joinPoint.proceed();
+        }
+
+        AdaptiveLimiter limiter = warehouseAdmissionLimiter.acquire(warehouseId);
+        long startedAt = System.nanoTime();
+        boolean dropped = false;
+        try {
+            return joinPoint.proceed();
+        } catch (CannotCreateTransactionException | TransientDataAccessException e) {
+            // 커넥션 대기 초과나 쿼리 타임아웃은 과부하 신호로 보고 한도를 줄인다
+            dropped = true;
+            throw e;
+        } finally {
+            if (dropped) {
+                limiter.onDropped();
+            } else {
+                limiter.onSuccess(System.nanoTime() - startedAt);
+            }
+        }
+    }
+
+    private Long findWarehouseId(Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof WarehouseScoped scoped) {
+                return scoped.warehouseId();
+            }
+        }
+        return null;
+    }
+}
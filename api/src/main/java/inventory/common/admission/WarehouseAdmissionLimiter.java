@@ -0,0 +1,80 @@
+package inventory.common.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 창고마다 별도의 {@link AdaptiveLimiter}를 두어 한 창고에 몰린 요청이 다른 창고의 커넥션까지 쓰지 않게 한다.
+ * 한도를 넘은 요청은 기다리지 않고 바로 거절한다.
+ */
+@Component
+public class WarehouseAdmissionLimiter {
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+    private final double backoffRatio;
+    private final long retryAfterSeconds;
+    private final ConcurrentMap<Long, AdaptiveLimiter> limiters = new ConcurrentHashMap<>();
+
+    public WarehouseAdmissionLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${admission.enabled:true}") boolean enabled,
+            @Value("${admission.initial-limit:20}") int initialLimit,
+            @Value("${admission.min-limit:2}") int minLimit,
+            @Value("${admission.max-limit:200}") int maxLimit,
+            @Value("${admission.target-latency-millis:500}") long targetLatencyMillis,
+            @Value("${admission.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${admission.retry-after-seconds:1}") long retryAfterSeconds
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(targetLatencyMillis);
+        this.backoffRatio = backoffRatio;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 창고의 처리 한도 안이면 한도를 하나 차지한 limiter를 반환하고, 넘으면 {@link AdmissionRejectedException}을 던진다.
+     */
+    public AdaptiveLimiter acquire(Long warehouseId) {
+        AdaptiveLimiter limiter = limiters.computeIfAbsent(warehouseId, this::register);
+        if (!limiter.tryAcquire()) {
+            Counter.builder("admission.rejected")
+                    .tag("warehouseId", String.valueOf(warehouseId))
+                    .register(meterRegistry)
+                    .increment();
+            throw new AdmissionRejectedException(warehouseId, retryAfterSeconds);
+        }
+        return limiter;
+    }
+
+    private AdaptiveLimiter register(Long warehouseId) {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(initialLimit, minLimit, maxLimit, targetLatencyNanos, backoffRatio);
+        String tag = String.valueOf(warehouseId);
+        Gauge.builder("admission.limit", limiter, AdaptiveLimiter::getLimit)
+                .tag("warehouseId", tag)
+                .register(meterRegistry);
+        Gauge.builder("admission.inflight", limiter, AdaptiveLimiter::getInFlight)
+                .tag("warehouseId", tag)
+                .register(meterRegistry);
+        return limiter;
+    }
+}
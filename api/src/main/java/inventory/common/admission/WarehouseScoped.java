@@ -0,0 +1,9 @@
+package inventory.common.admission;
+
+/**
+ * 특정 창고에 대한 요청임을 나타낸다.
+ */
+public interface WarehouseScoped {
+
+    Long warehouseId();
+}
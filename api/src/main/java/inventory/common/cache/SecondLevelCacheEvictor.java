@@ -0,0 +1,49 @@
+package inventory.common.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Hibernate를 거치지 않고 JDBC로 바꾼 엔티티를 2차 캐시와 쿼리 캐시에서 지운다.
+ * <p>
+ * 엔티티 저장과 {@code @SQLDelete} 소프트 삭제는 Hibernate가 캐시를 함께 정리하지만, JDBC 일괄 쓰기는 캐시를 모른다.
+ * 커밋 전에 다른 트랜잭션이 옛 값을 다시 읽어 채울 수 있으므로 바로 한 번, 커밋 뒤에 한 번 더 지운다.
+ * 이 노드의 캐시만 지우므로 다른 노드는 ehcache.xml에 리전마다 잡은 TTL이 지날 때까지 옛 값을 볼 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void evict(Class<?> entityClass, Collection<?> ids) {
+        List<?> evicted = List.copyOf(ids);
+        evictNow(entityClass, evicted);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(entityClass, evicted);
+                }
+            });
+        }
+    }
+
+    private void evictNow(Class<?> entityClass, List<?> ids) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        for (Object id : ids) {
+            cache.evictEntityData(entityClass, id);
+        }
+        // 새로 들어온 행은 캐시에 없지만 목록 쿼리 결과에는 빠져 있으므로 쿼리 캐시도 비운다
+        cache.evictQueryRegions();
+    }
+}
@@ -0,0 +1,66 @@
+package inventory.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import inventory.common.datasource.PoolRoutingDataSource;
+import inventory.common.datasource.PoolType;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 쓰기, 조회, 리포트용 Hikari 풀을 따로 만들고 {@link PoolRoutingDataSource}로 묶는다.
+ * <p>
+ * 접속 정보와 공통 설정은 {@code spring.datasource}, 풀마다 다른 크기와 타임아웃은 {@code datasource-pools.<풀 이름>}에서 읽는다.
+ * 풀 이름이 커넥션 대기 시간 지표({@code hikaricp.connections.acquire})의 {@code pool} 태그가 된다.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    public HikariDataSource writeDataSource(DataSourceProperties properties, Environment environment) {
+        return createPool(PoolType.WRITE, properties, environment);
+    }
+
+    @Bean
+    public HikariDataSource readDataSource(DataSourceProperties properties, Environment environment) {
+        return createPool(PoolType.READ, properties, environment);
+    }
+
+    @Bean
+    public HikariDataSource reportDataSource(DataSourceProperties properties, Environment environment) {
+        return createPool(PoolType.REPORT, properties, environment);
+    }
+
+    @Primary
+    @Bean
+    public DataSource dataSource(
+            @Qualifier("writeDataSource") DataSource writeDataSource,
+            @Qualifier("readDataSource") DataSource readDataSource,
+            @Qualifier("reportDataSource") DataSource reportDataSource
+    ) {
+        PoolRoutingDataSource dataSource = new PoolRoutingDataSource();
+        dataSource.setTargetDataSources(Map.of(
+                PoolType.WRITE, writeDataSource,
+                PoolType.READ, readDataSource,
+                PoolType.REPORT, reportDataSource));
+        dataSource.setDefaultTargetDataSource(writeDataSource);
+        return dataSource;
+    }
+
+    private HikariDataSource createPool(PoolType poolType, DataSourceProperties properties, Environment environment) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder binder = Binder.get(environment);
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        binder.bind("datasource-pools." + poolType.poolName(), Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(poolType.poolName());
+        return dataSource;
+    }
+}
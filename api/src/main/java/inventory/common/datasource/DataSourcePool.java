@@ -0,0 +1,16 @@
+package inventory.common.datasource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 서비스 메서드가 쓸 커넥션 풀을 지정한다. 이미 트랜잭션이 열려 있으면 그 트랜잭션의 커넥션을 그대로 쓴다.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DataSourcePool {
+
+    PoolType value();
+}
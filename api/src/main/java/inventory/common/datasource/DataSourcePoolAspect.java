@@ -0,0 +1,41 @@
+package inventory.common.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link DataSourcePool}이 붙은 메서드가 실행되는 동안 사용할 풀을 정한다.
+ * 트랜잭션이 커넥션을 얻기 전에 정해야 하므로 트랜잭션보다 먼저, 창고별 처리 한도 다음에 실행된다.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@Aspect
+@Component
+public class DataSourcePoolAspect {
+
+    @Around("@annotation(inventory.common.datasource.DataSourcePool) "
+            + "|| @within(inventory.common.datasource.DataSourcePool)")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        PoolType previous = PoolRoutingDataSource.use(findPoolType(joinPoint));
+        try {
+            return joinPoint.proceed();
+        } finally {
+            PoolRoutingDataSource.restore(previous);
+        }
+    }
+
+    // 메서드에 붙은 지정이 클래스에 붙은 지정보다 우선한다
+    private PoolType findPoolType(ProceedingJoinPoint joinPoint) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        DataSourcePool pool = AnnotatedElementUtils.findMergedAnnotation(signature.getMethod(), DataSourcePool.class);
+        if (pool == null) {
+            pool = AnnotatedElementUtils.findMergedAnnotation(joinPoint.getTarget().getClass(), DataSourcePool.class);
+        }
+        return pool.value();
+    }
+}
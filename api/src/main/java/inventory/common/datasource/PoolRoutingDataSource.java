@@ -0,0 +1,31 @@
+package inventory.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * 현재 스레드에 지정된 {@link PoolType}의 풀에서 커넥션을 꺼낸다. 지정이 없으면 쓰기 풀을 쓴다.
+ */
+public class PoolRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<PoolType> CURRENT = new ThreadLocal<>();
+
+    static PoolType use(PoolType poolType) {
+        PoolType previous = CURRENT.get();
+        CURRENT.set(poolType);
+        return previous;
+    }
+
+    static void restore(PoolType previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        PoolType poolType = CURRENT.get();
+        return poolType != null ? poolType : PoolType.WRITE;
+    }
+}
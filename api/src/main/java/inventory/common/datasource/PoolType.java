@@ -0,0 +1,32 @@
+package inventory.common.datasource;
+
+/**
+ * 용도별로 나눈 커넥션 풀. 느린 조회가 주문/재고 쓰기의 커넥션을 빼앗지 않도록 서로 격리한다.
+ */
+public enum PoolType {
+
+    /**
+     * 주문과 재고를 바꾸는 트랜잭션. 지정하지 않은 호출도 모두 여기로 간다.
+     */
+    WRITE("write"),
+
+    /**
+     * 화면에서 바로 응답해야 하는 단건/목록 조회
+     */
+    READ("read"),
+
+    /**
+     * 내보내기처럼 오래 걸리는 대량 조회
+     */
+    REPORT("report");
+
+    private final String poolName;
+
+    PoolType(String poolName) {
+        this.poolName = poolName;
+    }
+
+    public String poolName() {
+        return poolName;
+    }
+}
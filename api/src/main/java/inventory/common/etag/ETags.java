@@ -0,0 +1,48 @@
+package inventory.common.etag;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * 집계의 버전 값으로 강한 ETag를 만들고 조건부 조회에 응답한다.
+ * <p>
+ * 버전 값은 응답에 들어가는 행들의 수정 시각과 건수처럼 가벼운 쿼리 한 번으로 읽을 수 있는 것을 쓴다.
+ * 수정 시각 컬럼이 초 단위면 같은 초 안의 변경이 태그에 드러나지 않으므로 마이크로초({@code DATETIME(6)})로 저장한다.
+ * 태그가 같으면 응답 본문을 만들지 않고 304로 끝낸다.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String of(Object... versionParts) {
+        StringBuilder version = new StringBuilder();
+        for (Object part : versionParts) {
+            version.append(part).append('|');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(version.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static <T> ResponseEntity<T> conditional(WebRequest request, String eTag, Supplier<T> body) {
+        if (eTag == null) {
+            return ResponseEntity.ok(body.get());
+        }
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(body.get());
+    }
+}
@@ -31,6 +31,7 @@ public enum ExceptionCode {
     // 비즈니스 로직 관련
     INVALID_STATE(HttpStatus.BAD_REQUEST, "잘못된 상태입니다"),
     OPERATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "작업에 실패했습니다"),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요"),
     
     // 입고 관련
     INVALID_STATUS_TRANSITION(HttpStatus.BAD_REQUEST, "잘못된 상태 전환입니다"),
@@ -39,7 +40,11 @@ public enum ExceptionCode {
     
     // 출고 관련
     INSUFFICIENT_STOCK(HttpStatus.BAD_REQUEST, "재고가 부족합니다"),
-    STOCK_NOT_FOUND(HttpStatus.NOT_FOUND, "창고에 해당 상품의 재고가 없습니다");
+    STOCK_NOT_FOUND(HttpStatus.NOT_FOUND, "창고에 해당 상품의 재고가 없습니다"),
+
+    // 멱등성 키 관련
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 멱등성 키로 처리 중인 요청이 있습니다"),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "멱등성 키가 다른 요청에 이미 사용되었습니다");
 
     private final HttpStatus httpStatus;
     private final String message;
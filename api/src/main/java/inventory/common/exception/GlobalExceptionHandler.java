@@ -1,7 +1,9 @@
 package inventory.common.exception;
 
+import inventory.common.admission.AdmissionRejectedException;
 import inventory.common.dto.response.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.BindException;
@@ -27,6 +29,15 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(e.getExceptionCode()));
     }
 
+    @ExceptionHandler(AdmissionRejectedException.class)
+    protected ResponseEntity<ApiResponse<Void>> handleAdmissionRejectedException(AdmissionRejectedException e) {
+        log.warn("처리 한도 초과: {}", e.getMessage());
+        return ResponseEntity
+                .status(e.getExceptionCode().getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ApiResponse.error(e.getExceptionCode()));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     protected ResponseEntity<ApiResponse<Void>> handleMethodArgumentNotValidException(MethodArgumentNotValidException e) {
         log.error("입력 검증 실패: {}", e.getMessage());
@@ -0,0 +1,52 @@
+package inventory.common.export;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 내보내기 결과를 {@link StreamingResponseBody}로 응답한다.
+ * 클라이언트가 gzip을 받을 수 있으면 쓰는 즉시 압축한다.
+ */
+public final class ExportResponses {
+
+    private ExportResponses() {
+    }
+
+    public static ResponseEntity<StreamingResponseBody> stream(
+            String baseFileName,
+            ExportFormat format,
+            String acceptEncoding,
+            ExportBody body
+    ) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, format.getContentType() + ";charset=UTF-8")
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(baseFileName + "." + format.getExtension())
+                        .build()
+                        .toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (!gzip) {
+            return builder.body(body::writeTo);
+        }
+
+        return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .body(outputStream -> {
+                    GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, 8192);
+                    body.writeTo(gzipOutputStream);
+                    gzipOutputStream.finish();
+                });
+    }
+
+    @FunctionalInterface
+    public interface ExportBody {
+        void writeTo(OutputStream outputStream);
+    }
+}
@@ -0,0 +1,111 @@
+package inventory.common.export;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * record 한 건씩을 CSV 또는 NDJSON 한 줄로 기록한다.
+ * CSV 헤더는 record 컴포넌트 이름으로 만든다. 닫을 때 버퍼만 비우고 대상 스트림은 닫지 않는다.
+ */
+public class RecordExportWriter<T extends Record> implements Closeable {
+
+    private final Writer writer;
+    private final ExportFormat format;
+    private final ObjectMapper objectMapper;
+    private final RecordComponent[] components;
+    private long count = 0;
+
+    public RecordExportWriter(OutputStream outputStream, ExportFormat format, ObjectMapper objectMapper, Class<T> recordType) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.components = recordType.getRecordComponents();
+
+        if (format == ExportFormat.CSV) {
+            writeCsvHeader();
+        }
+    }
+
+    public void write(T row) {
+        try {
+            if (format == ExportFormat.CSV) {
+                writeCsvRow(row);
+            } else {
+                writer.write(toJson(row));
+            }
+            writer.write('\n');
+            count++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    private void writeCsvHeader() {
+        try {
+            for (int i = 0; i < components.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(components[i].getName());
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeCsvRow(T row) throws IOException {
+        for (int i = 0; i < components.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = readComponent(row, components[i]);
+            if (value != null) {
+                writer.write(escapeCsv(value.toString()));
+            }
+        }
+    }
+
+    private String toJson(T row) {
+        try {
+            return objectMapper.writeValueAsString(row);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("NDJSON 변환에 실패했습니다.", e);
+        }
+    }
+
+    private Object readComponent(T row, RecordComponent component) {
+        try {
+            return component.getAccessor().invoke(row);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("record 값을 읽을 수 없습니다: " + component.getName(), e);
+        }
+    }
+
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,15 @@
+package inventory.common.retry;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 교착 희생자로 선택되었거나 잠금을 얻지 못해 실패한 트랜잭션을 처음부터 다시 실행할 메서드에 붙인다.
+ * 메서드 전체가 한 트랜잭션이어야 하며, 바깥 트랜잭션 안에서 호출되면 다시 시도하지 않는다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DeadlockRetry {
+}
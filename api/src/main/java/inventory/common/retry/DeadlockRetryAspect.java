@@ -0,0 +1,68 @@
+package inventory.common.retry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link DeadlockRetry}가 붙은 메서드가 교착이나 잠금 대기 실패로 끝나면 잠시 쉬었다가 다시 실행한다.
+ * 롤백된 트랜잭션을 새로 시작해야 하므로 트랜잭션보다 먼저, 창고별 처리 한도와 풀 지정 다음에 실행된다.
+ * 같은 행을 노리는 요청들이 다시 부딪히지 않도록 대기 시간은 시도마다 두 배로 늘리고 무작위로 흩뜨린다.
+ */
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@Aspect
+@Component
+public class DeadlockRetryAspect {
+
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final Counter retries;
+
+    public DeadlockRetryAspect(
+            MeterRegistry meterRegistry,
+            @Value("${deadlock-retry.max-attempts:3}") int maxAttempts,
+            @Value("${deadlock-retry.backoff-millis:20}") long backoffMillis
+    ) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = Math.max(1, backoffMillis);
+        this.retries = meterRegistry.counter("deadlock.retries");
+    }
+
+    @Around("@annotation(inventory.common.retry.DeadlockRetry)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        // 바깥 트랜잭션은 이미 롤백 대상이므로 안쪽만 다시 실행해도 소용없다
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                retries.increment();
+                log.debug("잠금 실패로 다시 시도: {} ({}/{})", joinPoint.getSignature().toShortString(), attempt, maxAttempts);
+                Thread.sleep(backoff(attempt));
+            }
+        }
+    }
+
+    private long backoff(int attempt) {
+        long max = backoffMillis << Math.min(attempt - 1, 10);
+        return ThreadLocalRandom.current().nextLong(max / 2, max + 1);
+    }
+}
@@ -0,0 +1,52 @@
+package inventory.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 업로드 CSV 파싱에 쓰는 유틸리티. 큰따옴표로 감싼 컬럼과 이스케이프된 큰따옴표("")를 지원한다.
+ */
+public final class CsvUtils {
+
+    private static final char BOM = '\uFEFF';
+
+    private CsvUtils() {
+    }
+
+    public static List<String> split(String line) {
+        List<String> columns = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == ',' && !quoted) {
+                columns.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        columns.add(current.toString());
+        return columns;
+    }
+
+    /**
+     * 헤더 줄을 BOM과 공백을 제거한 소문자 컬럼 목록으로 변환한다.
+     */
+    public static List<String> normalizeHeader(String headerLine) {
+        if (!headerLine.isEmpty() && headerLine.charAt(0) == BOM) {
+            headerLine = headerLine.substring(1);
+        }
+        return split(headerLine).stream()
+                .map(column -> column.trim().toLowerCase())
+                .toList();
+    }
+}
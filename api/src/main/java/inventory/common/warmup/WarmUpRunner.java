@@ -0,0 +1,188 @@
+package inventory.common.warmup;
+
+import inventory.inbound.service.InboundService;
+import inventory.outbound.repository.OutboundJdbcRepository;
+import inventory.outbound.service.OutboundService;
+import inventory.outbound.service.response.OutboundSummaryResponse;
+import inventory.product.repository.ProductRepository;
+import inventory.product.service.ProductService;
+import inventory.supplier.repository.SupplierRepository;
+import inventory.supplier.service.SupplierService;
+import inventory.warehouse.repository.WarehouseRepository;
+import inventory.warehouse.repository.WarehouseStockJdbcRepository;
+import inventory.warehouse.repository.WarehouseStockJdbcRepository.AvailableRow;
+import inventory.warehouse.service.WarehouseService;
+import inventory.warehouse.service.WarehouseStockService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배포 직후 트래픽을 받기 전에 캐시와 JIT를 데운다.
+ * <p>
+ * {@link ApplicationRunner}는 readiness가 ACCEPTING_TRAFFIC으로 바뀌기 전에 실행되므로, 이 작업이 끝나야 readiness 프로브가 통과한다.
+ * 창고, 공급업체, 최근 많이 출고된 상품을 2차 캐시에 올리고, 목록 조회(QueryDSL), 출고 상세 조회, 예약 전에 읽는 재고 조회를 반복 호출한다.
+ * 읽기 경로만 호출하므로 데이터를 남기지 않고 잠금도 잡지 않으며, 핫 재고 판정과 창고별 처리 한도에도 잡히지 않는다.
+ * 단계마다 첫 호출과 마지막 호출 시간을 지표로 남겨 효과를 비교한다.
+ */
+@Slf4j
+@Component
+public class WarmUpRunner implements ApplicationRunner {
+
+    // ehcache.xml의 Supplier 리전 크기
+    private static final int SUPPLIER_PRELOAD_LIMIT = 10_000;
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+    private final WarehouseRepository warehouseRepository;
+    private final SupplierRepository supplierRepository;
+    private final ProductRepository productRepository;
+    private final OutboundJdbcRepository outboundJdbcRepository;
+    private final WarehouseStockJdbcRepository warehouseStockJdbcRepository;
+    private final ProductService productService;
+    private final WarehouseService warehouseService;
+    private final SupplierService supplierService;
+    private final WarehouseStockService warehouseStockService;
+    private final OutboundService outboundService;
+    private final InboundService inboundService;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int iterations;
+    private final Duration maxDuration;
+    private final int hotProducts;
+    private final int hotProductDays;
+
+    public WarmUpRunner(
+            WarehouseRepository warehouseRepository,
+            SupplierRepository supplierRepository,
+            ProductRepository productRepository,
+            OutboundJdbcRepository outboundJdbcRepository,
+            WarehouseStockJdbcRepository warehouseStockJdbcRepository,
+            ProductService productService,
+            WarehouseService warehouseService,
+            SupplierService supplierService,
+            WarehouseStockService warehouseStockService,
+            OutboundService outboundService,
+            InboundService inboundService,
+            MeterRegistry meterRegistry,
+            @Value("${warmup.enabled:true}") boolean enabled,
+            @Value("${warmup.iterations:200}") int iterations,
+            @Value("${warmup.max-duration-seconds:60}") long maxDurationSeconds,
+            @Value("${warmup.hot-products:500}") int hotProducts,
+            @Value("${warmup.hot-product-days:7}") int hotProductDays
+    ) {
+        this.warehouseRepository = warehouseRepository;
+        this.supplierRepository = supplierRepository;
+        this.productRepository = productRepository;
+        this.outboundJdbcRepository = outboundJdbcRepository;
+        this.warehouseStockJdbcRepository = warehouseStockJdbcRepository;
+        this.productService = productService;
+        this.warehouseService = warehouseService;
+        this.supplierService = supplierService;
+        this.warehouseStockService = warehouseStockService;
+        this.outboundService = outboundService;
+        this.inboundService = inboundService;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.iterations = iterations;
+        this.maxDuration = Duration.ofSeconds(maxDurationSeconds);
+        this.hotProducts = hotProducts;
+        this.hotProductDays = hotProductDays;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + maxDuration.toNanos();
+
+        List<Long> hotProductIds = preload();
+        List<AvailableRow> available = warehouseStockJdbcRepository.findAvailable(hotProductIds, 1);
+
+        repeat("product-search", deadline, () -> productService.findAllWithConditions(null, null, null, true, FIRST_PAGE));
+        repeat("warehouse-search", deadline, () -> warehouseService.findAllWithConditions(null, null, true, FIRST_PAGE));
+        repeat("supplier-search", deadline, () -> supplierService.findAllWithConditions(null, null, true, FIRST_PAGE));
+        repeat("stock-search", deadline, () ->
+                warehouseStockService.findAllWithConditions(null, null, null, null, null, FIRST_PAGE));
+        repeat("outbound-search", deadline, () ->
+                outboundService.searchOutbounds(null, null, null, null, null, FIRST_PAGE));
+        repeat("inbound-search", deadline, () ->
+                inboundService.findAllWithConditions(null, null, null, null, null, FIRST_PAGE));
+        List<OutboundSummaryResponse> recent = outboundService.searchOutbounds(null, null, null, null, null, FIRST_PAGE)
+                .getContent();
+        if (!recent.isEmpty()) {
+            Long outboundId = recent.get(0).outboundId();
+            repeat("outbound-detail", deadline, () -> {
+                outboundService.findETag(outboundId);
+                outboundService.findById(outboundId);
+            });
+        }
+        if (!available.isEmpty()) {
+            Long warehouseId = available.get(0).warehouseId();
+            repeat("stock-lookup", deadline, () -> warehouseStockJdbcRepository.findStocks(warehouseId, hotProductIds));
+        }
+
+        long elapsed = System.nanoTime() - startedAt;
+        Timer.builder("warmup.duration").register(meterRegistry).record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("웜업 완료: {}ms, 상품 {}개 적재", TimeUnit.NANOSECONDS.toMillis(elapsed), hotProductIds.size());
+    }
+
+    private List<Long> preload() {
+        try {
+            warehouseRepository.findAll();
+            supplierRepository.findAll(PageRequest.of(0, SUPPLIER_PRELOAD_LIMIT));
+            List<Long> hotProductIds = outboundJdbcRepository.findHotProductIds(
+                    LocalDateTime.now().minusDays(hotProductDays), hotProducts);
+            productRepository.findByIds(hotProductIds);
+            return hotProductIds;
+        } catch (RuntimeException e) {
+            meterRegistry.counter("warmup.failures", "step", "preload").increment();
+            log.warn("웜업 중 캐시 적재 실패", e);
+            return List.of();
+        }
+    }
+
+    private void repeat(String step, long deadline, Runnable call) {
+        long first = -1;
+        long last = -1;
+        try {
+            for (int i = 0; i < iterations && System.nanoTime() < deadline; i++) {
+                long startedAt = System.nanoTime();
+                call.run();
+                last = System.nanoTime() - startedAt;
+                if (first < 0) {
+                    first = last;
+                }
+            }
+        } catch (RuntimeException e) {
+            meterRegistry.counter("warmup.failures", "step", step).increment();
+            log.warn("웜업 단계 실패: {}", step, e);
+        }
+
+        if (first >= 0) {
+            registerGauge("warmup.step.first", step, first);
+            registerGauge("warmup.step.last", step, last);
+            log.debug("웜업 {}: 첫 호출 {}us, 마지막 호출 {}us", step, first / 1_000, last / 1_000);
+        }
+    }
+
+    private void registerGauge(String name, String step, long nanos) {
+        TimeGauge.builder(name, () -> nanos, TimeUnit.NANOSECONDS)
+                .tag("step", step)
+                .register(meterRegistry);
+    }
+}
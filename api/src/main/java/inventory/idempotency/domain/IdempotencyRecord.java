@@ -0,0 +1,46 @@
+package inventory.idempotency.domain;
+
+import inventory.idempotency.domain.enums.IdempotencyStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멱등성 키별 요청 지문과 첫 응답. 여러 노드가 같은 키를 동시에 처리하지 않도록 키를 기본 키로 선점한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "idempotency_record")
+@Getter
+@Entity
+public class IdempotencyRecord {
+
+    @Id
+    private String idempotencyKey;
+
+    @Column(length = 64)
+    private String requestHash;
+
+    @Enumerated(EnumType.STRING)
+    private IdempotencyStatus status;
+
+    private Integer responseStatus;
+
+    private String responseContentType;
+
+    @Lob
+    @Column(length = 16_777_215)
+    private byte[] responseBody;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,15 @@
+package inventory.idempotency.domain.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum IdempotencyStatus {
+    IN_PROGRESS("처리 중"),
+    COMPLETED("처리 완료");
+
+    private final String description;
+
+    IdempotencyStatus(String description) {
+        this.description = description;
+    }
+}
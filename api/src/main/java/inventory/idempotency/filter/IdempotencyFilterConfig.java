@@ -0,0 +1,21 @@
+package inventory.idempotency.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import inventory.idempotency.service.IdempotencyService;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdempotencyFilterConfig {
+
+    // 출고/입고 등록과 상태 변경 요청에만 적용한다
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(
+            IdempotencyService idempotencyService, ObjectMapper objectMapper) {
+        FilterRegistrationBean<IdempotencyFilter> registration =
+                new FilterRegistrationBean<>(new IdempotencyFilter(idempotencyService, objectMapper));
+        registration.addUrlPatterns("/api/v1/outbounds/*", "/api/v1/inbounds/*");
+        return registration;
+    }
+}
@@ -0,0 +1,104 @@
+package inventory.idempotency.repository;
+
+import inventory.idempotency.domain.enums.IdempotencyStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 멱등성 키를 선점하고 첫 응답을 저장한다.
+ * <p>
+ * 필터에서 트랜잭션 없이 호출되므로 각 문장은 바로 커밋되어 다른 노드에서도 즉시 보인다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyJdbcRepository {
+
+    private static final String CLAIM_SQL = """
+            INSERT INTO idempotency_record (idempotency_key, request_hash, status, created_at, expires_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private static final String FIND_SQL = """
+            SELECT request_hash, status, response_status, response_content_type, response_body, expires_at
+            FROM idempotency_record
+            WHERE idempotency_key = ?
+            """;
+
+    private static final String COMPLETE_SQL = """
+            UPDATE idempotency_record
+            SET status = ?, response_status = ?, response_content_type = ?, response_body = ?, expires_at = ?
+            WHERE idempotency_key = ? AND status = ?
+            """;
+
+    private static final String RELEASE_SQL = """
+            DELETE FROM idempotency_record WHERE idempotency_key = ? AND status = ?
+            """;
+
+    private static final String DELETE_EXPIRED_KEY_SQL = """
+            DELETE FROM idempotency_record WHERE idempotency_key = ? AND expires_at < ?
+            """;
+
+    private static final String DELETE_EXPIRED_SQL = """
+            DELETE FROM idempotency_record WHERE expires_at < ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 키를 처리 중 상태로 선점한다. 이미 다른 요청이 선점한 키면 false를 반환한다.
+     */
+    public boolean claim(String key, String requestHash, LocalDateTime createdAt, LocalDateTime expiresAt) {
+        try {
+            jdbcTemplate.update(CLAIM_SQL, key, requestHash, IdempotencyStatus.IN_PROGRESS.name(),
+                    Timestamp.valueOf(createdAt), Timestamp.valueOf(expiresAt));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    public Optional<RecordRow> find(String key) {
+        List<RecordRow> rows = jdbcTemplate.query(FIND_SQL, (rs, rowNum) -> {
+            int responseStatus = rs.getInt("response_status");
+            return new RecordRow(
+                    rs.getString("request_hash"),
+                    IdempotencyStatus.valueOf(rs.getString("status")),
+                    rs.wasNull() ? null : responseStatus,
+                    rs.getString("response_content_type"),
+                    rs.getBytes("response_body"),
+                    rs.getTimestamp("expires_at").toLocalDateTime());
+        }, key);
+        return rows.stream().findFirst();
+    }
+
+    public void complete(String key, int responseStatus, String contentType, byte[] body, LocalDateTime expiresAt) {
+        jdbcTemplate.update(COMPLETE_SQL, IdempotencyStatus.COMPLETED.name(), responseStatus, contentType, body,
+                Timestamp.valueOf(expiresAt), key, IdempotencyStatus.IN_PROGRESS.name());
+    }
+
+    /**
+     * 응답을 저장하지 못한 선점을 풀어 같은 키로 다시 시도할 수 있게 한다.
+     */
+    public void release(String key) {
+        jdbcTemplate.update(RELEASE_SQL, key, IdempotencyStatus.IN_PROGRESS.name());
+    }
+
+    public boolean deleteIfExpired(String key, LocalDateTime now) {
+        return jdbcTemplate.update(DELETE_EXPIRED_KEY_SQL, key, Timestamp.valueOf(now)) > 0;
+    }
+
+    public int deleteExpired(LocalDateTime now) {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL, Timestamp.valueOf(now));
+    }
+
+    public record RecordRow(String requestHash, IdempotencyStatus status, Integer responseStatus,
+                            String contentType, byte[] body, LocalDateTime expiresAt) {
+    }
+}
@@ -0,0 +1,264 @@
+package inventory.idempotency.service;
+
+import inventory.common.exception.CustomException;
+import inventory.common.exception.ExceptionCode;
+import inventory.idempotency.domain.enums.IdempotencyStatus;
+import inventory.idempotency.repository.IdempotencyJdbcRepository;
+import inventory.idempotency.repository.IdempotencyJdbcRepository.RecordRow;
+import inventory.idempotency.service.response.StoredResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 멱등성 키별로 요청을 한 번만 실행하고 첫 응답을 보관한다.
+ * <p>
+ * 최근 응답은 크기가 제한된 메모리 캐시에서 바로 돌려주고, 노드 간에는 {@code idempotency_record} 테이블로 키를 선점한다.
+ * 같은 노드에서 처리 중인 키로 들어온 요청은 다시 실행하지 않고 먼저 온 요청의 결과를 기다린다.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    // 요청 시간 초과, 너무 이른 요청, 입장 제한처럼 잠시 후 같은 요청이 성공할 수 있는 거절
+    private static final Set<Integer> TRANSIENT_STATUSES = Set.of(408, 425, 429);
+
+    private final IdempotencyJdbcRepository idempotencyJdbcRepository;
+    private final Duration ttl;
+    private final Duration lease;
+    private final long waitTimeoutNanos;
+    private final long pollIntervalMillis;
+    private final Map<String, CachedResponse> cache;
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(
+            IdempotencyJdbcRepository idempotencyJdbcRepository,
+            @Value("${idempotency.ttl-hours:24}") long ttlHours,
+            @Value("${idempotency.lease-seconds:300}") long leaseSeconds,
+            @Value("${idempotency.max-entries:10000}") int maxEntries,
+            @Value("${idempotency.wait-timeout-millis:5000}") long waitTimeoutMillis,
+            @Value("${idempotency.poll-interval-millis:100}") long pollIntervalMillis
+    ) {
+        this.idempotencyJdbcRepository = idempotencyJdbcRepository;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.waitTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(waitTimeoutMillis);
+        this.pollIntervalMillis = pollIntervalMillis;
+        // 접근 순서로 정렬해 가장 오래 쓰이지 않은 응답부터 밀어낸다
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 키를 선점하면 빈 값을, 같은 요청의 첫 응답이 이미 있으면 그 응답을 반환한다.
+     * 선점했다면 처리 후 반드시 {@link #complete} 또는 {@link #release}를 호출해야 한다.
+     */
+    public Optional<StoredResponse> acquire(String key, String requestHash) {
+        validateKey(key);
+        long deadline = System.nanoTime() + waitTimeoutNanos;
+
+        while (true) {
+            StoredResponse cached = findCached(key);
+            if (cached != null) {
+                return Optional.of(matching(cached, requestHash));
+            }
+
+            InFlight mine = new InFlight(requestHash, new CompletableFuture<>());
+            InFlight running = inFlight.putIfAbsent(key, mine);
+            if (running != null) {
+                if (!running.requestHash().equals(requestHash)) {
+                    throw new CustomException(ExceptionCode.IDEMPOTENCY_KEY_REUSED);
+                }
+                StoredResponse response = await(running.future(), deadline);
+                if (response != null) {
+                    return Optional.of(response);
+                }
+                // 먼저 온 요청이 응답을 남기지 못했으면 다시 선점을 시도한다
+                continue;
+            }
+
+            try {
+                Optional<StoredResponse> stored = claimOrWait(key, requestHash, deadline);
+                stored.ifPresent(response -> {
+                    inFlight.remove(key, mine);
+                    mine.future().complete(response);
+                });
+                return stored;
+            } catch (RuntimeException e) {
+                inFlight.remove(key, mine);
+                mine.future().complete(null);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 선점한 키의 응답을 저장하고 기다리던 요청에 넘긴다.
+     * 서버 오류와 429 같은 일시적인 거절은 저장하지 않아 재시도 때 다시 실행된다.
+     */
+    public void complete(String key, String requestHash, int status, String contentType, byte[] body) {
+        if (status >= 500 || TRANSIENT_STATUSES.contains(status)) {
+            release(key);
+            return;
+        }
+
+        LocalDateTime expiresAt = LocalDateTime.now().plus(ttl);
+        StoredResponse response = new StoredResponse(requestHash, status, contentType, body);
+        try {
+            idempotencyJdbcRepository.complete(key, status, contentType, body, expiresAt);
+        } catch (DataAccessException e) {
+            // 요청은 이미 처리되었으므로 저장 실패로 응답을 바꾸지 않는다. 다른 노드는 선점 만료 후 다시 실행할 수 있다
+            log.warn("멱등성 응답 저장 실패: 키={}", key, e);
+        }
+
+        putCache(key, response, expiresAt);
+        InFlight running = inFlight.remove(key);
+        if (running != null) {
+            running.future().complete(response);
+        }
+    }
+
+    public void release(String key) {
+        try {
+            idempotencyJdbcRepository.release(key);
+        } catch (DataAccessException e) {
+            log.warn("멱등성 키 선점 해제 실패: 키={}", key, e);
+        }
+
+        InFlight running = inFlight.remove(key);
+        if (running != null) {
+            running.future().complete(null);
+        }
+    }
+
+    @Scheduled(cron = "${idempotency.cleanup-cron:0 0 * * * *}")
+    public void deleteExpired() {
+        int deleted = idempotencyJdbcRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 멱등성 키 삭제: {}건", deleted);
+        }
+    }
+
+    private Optional<StoredResponse> claimOrWait(String key, String requestHash, long deadline) {
+        while (true) {
+            LocalDateTime now = LocalDateTime.now();
+            if (idempotencyJdbcRepository.claim(key, requestHash, now, now.plus(lease))) {
+                return Optional.empty();
+            }
+
+            Optional<RecordRow> found = idempotencyJdbcRepository.find(key);
+            if (found.isEmpty()) {
+                continue;
+            }
+
+            RecordRow row = found.get();
+            if (row.expiresAt().isBefore(now)) {
+                idempotencyJdbcRepository.deleteIfExpired(key, now);
+                continue;
+            }
+            if (!row.requestHash().equals(requestHash)) {
+                throw new CustomException(ExceptionCode.IDEMPOTENCY_KEY_REUSED);
+            }
+            if (row.status() == IdempotencyStatus.COMPLETED) {
+                StoredResponse response = new StoredResponse(
+                        row.requestHash(), row.responseStatus(), row.contentType(), row.body());
+                putCache(key, response, row.expiresAt());
+                return Optional.of(response);
+            }
+
+            // 다른 노드가 처리 중이면 응답이 저장될 때까지 기다린다
+            if (System.nanoTime() >= deadline) {
+                throw new CustomException(ExceptionCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+            }
+            sleep();
+        }
+    }
+
+    private StoredResponse await(CompletableFuture<StoredResponse> future, long deadline) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            throw new CustomException(ExceptionCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+
+        try {
+            return future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new CustomException(ExceptionCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ExceptionCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(pollIntervalMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ExceptionCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    private StoredResponse matching(StoredResponse response, String requestHash) {
+        if (!response.requestHash().equals(requestHash)) {
+            throw new CustomException(ExceptionCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        return response;
+    }
+
+    private StoredResponse findCached(String key) {
+        synchronized (cache) {
+            CachedResponse cached = cache.get(key);
+            if (cached == null) {
+                return null;
+            }
+            if (cached.expiresAt().isBefore(LocalDateTime.now())) {
+                cache.remove(key);
+                return null;
+            }
+            return cached.response();
+        }
+    }
+
+    private void putCache(String key, StoredResponse response, LocalDateTime expiresAt) {
+        synchronized (cache) {
+            cache.put(key, new CachedResponse(response, expiresAt));
+        }
+    }
+
+    private void validateKey(String key) {
+        if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new CustomException(ExceptionCode.INVALID_INPUT,
+                    "멱등성 키는 1자 이상 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+    }
+
+    private record CachedResponse(StoredResponse response, LocalDateTime expiresAt) {
+    }
+
+    private record InFlight(String requestHash, CompletableFuture<StoredResponse> future) {
+    }
+}
@@ -0,0 +1,12 @@
+package inventory.idempotency.service.response;
+
+/**
+ * 같은 멱등성 키로 다시 들어온 요청에 그대로 돌려줄 첫 응답.
+ */
+public record StoredResponse(
+        String requestHash,
+        int status,
+        String contentType,
+        byte[] body
+) {
+}
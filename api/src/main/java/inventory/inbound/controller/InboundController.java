@@ -2,13 +2,18 @@ package inventory.inbound.controller;
 
 import inventory.common.dto.response.ApiResponse;
 import inventory.common.dto.response.PageResponse;
+import inventory.common.etag.ETags;
 import inventory.inbound.domain.enums.InboundStatus;
+import inventory.inbound.service.InboundImportService;
 import inventory.inbound.service.InboundService;
 import inventory.inbound.service.request.CreateInboundRequest;
+import inventory.inbound.service.request.DeleteInboundsRequest;
 import inventory.inbound.service.request.UpdateInboundStatusRequest;
+import inventory.inbound.service.response.InboundImportResponse;
 import inventory.inbound.service.response.InboundResponse;
 import inventory.inbound.service.response.InboundSummaryResponse;
 import jakarta.validation.Valid;
+import java.io.InputStream;
 import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -17,6 +22,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -27,6 +33,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/inbounds")
@@ -34,6 +41,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class InboundController {
 
     private final InboundService inboundService;
+    private final InboundImportService inboundImportService;
 
     @PostMapping
     public ResponseEntity<ApiResponse<InboundResponse>> createInbound(
@@ -44,13 +52,20 @@ public class InboundController {
                 .body(ApiResponse.success(HttpStatus.CREATED, response));
     }
 
-    @GetMapping("{id}")
-    public ResponseEntity<ApiResponse<InboundResponse>> getInbound(@PathVariable Long id) {
-        InboundResponse response = inboundService.findById(id);
+    @PostMapping(value = "import", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<ApiResponse<InboundImportResponse>> importInbounds(InputStream body) {
+        InboundImportResponse response = inboundImportService.importCsv(body);
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("{id}")
+    public ResponseEntity<ApiResponse<InboundResponse>> getInbound(@PathVariable Long id, WebRequest webRequest) {
+        String eTag = inboundService.findETag(id);
+
+        return ETags.conditional(webRequest, eTag, () -> ApiResponse.success(inboundService.findById(id)));
+    }
+
     @GetMapping
     public ResponseEntity<ApiResponse<PageResponse<InboundSummaryResponse>>> searchInbounds(
             @RequestParam(defaultValue = "0") int page,
@@ -117,4 +132,10 @@ public class InboundController {
         inboundService.deleteById(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    @PostMapping("bulk-delete")
+    public ResponseEntity<ApiResponse<Void>> deleteInbounds(@Valid @RequestBody DeleteInboundsRequest request) {
+        inboundService.deleteByIds(request.inboundIds());
+        return ResponseEntity.noContent().build();
+    }
+}
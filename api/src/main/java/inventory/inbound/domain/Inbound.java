@@ -16,6 +16,7 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_inbound_warehouse_status", columnList = "warehouse_id, status"))
 @SQLDelete(sql = "UPDATE inbound SET deleted = true, deleted_at = NOW() WHERE inbound_id = ?")
 @SQLRestriction("deleted = false and deleted_at is null")
 @Getter
@@ -0,0 +1,49 @@
+package inventory.inbound.domain;
+
+import inventory.inbound.domain.enums.InboundStatus;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지나 inbound 테이블에서 옮겨진 입고. 원본 ID를 그대로 유지하며 읽기 전용이다.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_inbound_archive_warehouse_status", columnList = "warehouse_id, status"))
+@Immutable
+@Getter
+@Entity
+public class InboundArchive {
+
+    @Id
+    private Long inboundId;
+
+    private Long warehouseId;
+
+    private Long supplierId;
+
+    private LocalDate expectedDate;
+
+    @Enumerated(EnumType.STRING)
+    private InboundStatus status;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime modifiedAt;
+
+    private boolean deleted;
+
+    private LocalDateTime deletedAt;
+
+    private LocalDateTime archivedAt;
+}
@@ -4,6 +4,8 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,6 +16,7 @@ import org.hibernate.annotations.SQLRestriction;
 import java.time.LocalDateTime;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_inbound_product_inbound_id", columnList = "inbound_id"))
 @SQLDelete(sql = "UPDATE inbound_product SET deleted = true, deleted_at = NOW() WHERE inbound_product_id = ?")
 @SQLRestriction("deleted = false and deleted_at is null")
 @Getter
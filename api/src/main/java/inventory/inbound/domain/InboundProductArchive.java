@@ -0,0 +1,35 @@
+package inventory.inbound.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_inbound_product_archive_inbound_id", columnList = "inbound_id"))
+@Immutable
+@Getter
+@Entity
+public class InboundProductArchive {
+
+    @Id
+    private Long inboundProductId;
+
+    private Long productId;
+
+    private Long inboundId;
+
+    private int quantity;
+
+    private boolean deleted;
+
+    private LocalDateTime deletedAt;
+
+    private LocalDateTime archivedAt;
+}
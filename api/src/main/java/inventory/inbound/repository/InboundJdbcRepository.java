@@ -0,0 +1,66 @@
+package inventory.inbound.repository;
+
+import inventory.inbound.domain.enums.InboundStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class InboundJdbcRepository {
+
+    private static final String INSERT_INBOUND_SQL = """
+            INSERT INTO inbound (warehouse_id, supplier_id, expected_date, status, created_at, modified_at, deleted)
+            VALUES (?, ?, ?, ?, ?, ?, false)
+            """;
+
+    private static final String INSERT_INBOUND_PRODUCT_SQL = """
+            INSERT INTO inbound_product (inbound_id, product_id, quantity, deleted)
+            VALUES (?, ?, ?, false)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Long insertInbound(Long warehouseId, Long supplierId, LocalDate expectedDate, InboundStatus status) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_INBOUND_SQL, new String[]{"inbound_id"});
+            ps.setLong(1, warehouseId);
+            ps.setLong(2, supplierId);
+            ps.setDate(3, Date.valueOf(expectedDate));
+            ps.setString(4, status.name());
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+            return ps;
+        }, keyHolder);
+
+        Number key = keyHolder.getKey();
+        return key != null ? key.longValue() : null;
+    }
+
+    public void batchInsertInboundProducts(List<InboundProductRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_INBOUND_PRODUCT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.inboundId());
+            ps.setLong(2, row.productId());
+            ps.setInt(3, row.quantity());
+        });
+    }
+
+    public record InboundProductRow(Long inboundId, Long productId, int quantity) {
+    }
+}
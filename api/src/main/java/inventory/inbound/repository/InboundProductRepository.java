@@ -2,9 +2,18 @@ package inventory.inbound.repository;
 
 import inventory.inbound.domain.InboundProduct;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface InboundProductRepository extends JpaRepository<InboundProduct, Long> {
     List<InboundProduct> findInboundProductsByInboundId(Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE InboundProduct ip SET ip.deleted = true, ip.deletedAt = LOCAL DATETIME "
+            + "WHERE ip.inboundId IN :inboundIds AND ip.deleted = false")
+    int softDeleteByInboundIds(@Param("inboundIds") Collection<Long> inboundIds);
 }
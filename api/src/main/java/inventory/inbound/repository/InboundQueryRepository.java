@@ -5,10 +5,22 @@ import inventory.inbound.service.response.InboundSummaryResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Optional;
+
 public interface InboundQueryRepository {
 
     Page<InboundSummaryResponse> findInboundSummaries(
             InboundSearchCondition condition,
             Pageable pageable
     );
+
+    Page<InboundSummaryResponse> findInboundSummariesIncludingArchive(
+            InboundSearchCondition condition,
+            Pageable pageable
+    );
+
+    /**
+     * 입고 상세 응답을 이루는 행들의 수정 시각과 라인 수로 만든 ETag. 입고가 없으면 빈 값을 반환한다.
+     */
+    Optional<String> findInboundETag(Long inboundId);
 }
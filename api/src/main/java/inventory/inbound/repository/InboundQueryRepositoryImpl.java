@@ -1,12 +1,17 @@
 package inventory.inbound.repository;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import inventory.common.etag.ETags;
 import inventory.inbound.domain.Inbound;
 import inventory.inbound.domain.QInbound;
+import inventory.inbound.domain.QInboundArchive;
+import inventory.inbound.domain.QInboundProduct;
 import inventory.inbound.service.query.InboundSearchCondition;
 import inventory.inbound.service.response.InboundSummaryResponse;
+import inventory.product.domain.QProduct;
 import inventory.supplier.domain.QSupplier;
 import inventory.warehouse.domain.QWarehouse;
 import lombok.RequiredArgsConstructor;
@@ -15,15 +20,20 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 @RequiredArgsConstructor
 public class InboundQueryRepositoryImpl implements InboundQueryRepository {
 
     private static final QInbound inbound = QInbound.inbound;
+    private static final QInboundArchive inboundArchive = QInboundArchive.inboundArchive;
     private static final QWarehouse warehouse = QWarehouse.warehouse;
     private static final QSupplier supplier = QSupplier.supplier;
+    private static final QInboundProduct inboundProduct = QInboundProduct.inboundProduct;
+    private static final QProduct product = QProduct.product;
 
     private final JPAQueryFactory queryFactory;
 
@@ -64,6 +74,54 @@ public class InboundQueryRepositoryImpl implements InboundQueryRepository {
         return new PageImpl<>(content, pageable, totalCount == null ? 0L : totalCount);
     }
 
+    /**
+     * 운영 테이블 결과를 먼저, 아카이브 결과를 그 뒤에 이어 붙여 한 페이지를 만든다.
+     * 아카이브된 입고는 보관 기간이 지난 건이므로 생성일 역순에서 운영 테이블 결과 뒤에 온다.
+     */
+    @Override
+    public Page<InboundSummaryResponse> findInboundSummariesIncludingArchive(
+            InboundSearchCondition condition,
+            Pageable pageable
+    ) {
+        Page<InboundSummaryResponse> hotPage = findInboundSummaries(condition, pageable);
+        BooleanExpression archiveWhereClause = createArchiveWhereClause(condition);
+
+        Long archiveCount = queryFactory
+                .select(inboundArchive.count())
+                .from(inboundArchive)
+                .where(archiveWhereClause)
+                .fetchOne();
+        long archiveTotal = archiveCount == null ? 0L : archiveCount;
+
+        List<InboundSummaryResponse> content = new ArrayList<>(hotPage.getContent());
+        int remaining = pageable.getPageSize() - content.size();
+        if (remaining > 0 && archiveTotal > 0) {
+            long archiveOffset = Math.max(0L, pageable.getOffset() - hotPage.getTotalElements());
+            content.addAll(queryFactory
+                    .select(Projections.constructor(InboundSummaryResponse.class,
+                            inboundArchive.inboundId,
+                            inboundArchive.warehouseId,
+                            warehouse.name,
+                            inboundArchive.supplierId,
+                            supplier.name,
+                            inboundArchive.expectedDate,
+                            inboundArchive.status,
+                            inboundArchive.createdAt,
+                            inboundArchive.modifiedAt
+                    ))
+                    .from(inboundArchive)
+                    .leftJoin(warehouse).on(warehouse.warehouseId.eq(inboundArchive.warehouseId))
+                    .leftJoin(supplier).on(supplier.supplierId.eq(inboundArchive.supplierId))
+                    .where(archiveWhereClause)
+                    .orderBy(inboundArchive.createdAt.desc())
+                    .offset(archiveOffset)
+                    .limit(remaining)
+                    .fetch());
+        }
+
+        return new PageImpl<>(content, pageable, hotPage.getTotalElements() + archiveTotal);
+    }
+
     private BooleanExpression createWhereClause(InboundSearchCondition condition) {
         BooleanExpression whereClause = inbound.isNotNull();
 
@@ -85,4 +143,45 @@ public class InboundQueryRepositoryImpl implements InboundQueryRepository {
 
         return whereClause;
     }
+
+    // 삭제된 뒤 아카이브된 입고는 운영 테이블의 @SQLRestriction과 같이 검색에서 제외한다
+    private BooleanExpression createArchiveWhereClause(InboundSearchCondition condition) {
+        BooleanExpression whereClause = inboundArchive.deleted.isFalse()
+                .and(inboundArchive.deletedAt.isNull());
+
+        if (condition.warehouseId() != null) {
+            whereClause = whereClause.and(inboundArchive.warehouseId.eq(condition.warehouseId()));
+        }
+        if (condition.supplierId() != null) {
+            whereClause = whereClause.and(inboundArchive.supplierId.eq(condition.supplierId()));
+        }
+        if (condition.status() != null) {
+            whereClause = whereClause.and(inboundArchive.status.eq(condition.status()));
+        }
+        if (condition.startDate() != null) {
+            whereClause = whereClause.and(inboundArchive.expectedDate.goe(condition.startDate()));
+        }
+        if (condition.endDate() != null) {
+            whereClause = whereClause.and(inboundArchive.expectedDate.loe(condition.endDate()));
+        }
+
+        return whereClause;
+    }
+
+    @Override
+    public Optional<String> findInboundETag(Long inboundId) {
+        Tuple version = queryFactory
+                .select(inbound.modifiedAt, warehouse.modifiedAt, supplier.modifiedAt,
+                        inboundProduct.count(), product.modifiedAt.max())
+                .from(inbound)
+                .join(warehouse).on(warehouse.warehouseId.eq(inbound.warehouseId))
+                .join(supplier).on(supplier.supplierId.eq(inbound.supplierId))
+                .leftJoin(inboundProduct).on(inboundProduct.inboundId.eq(inbound.inboundId))
+                .leftJoin(product).on(product.productId.eq(inboundProduct.productId))
+                .where(inbound.inboundId.eq(inboundId))
+                .groupBy(inbound.inboundId, inbound.modifiedAt, warehouse.modifiedAt, supplier.modifiedAt)
+                .fetchOne();
+
+        return Optional.ofNullable(version).map(row -> ETags.of(row.toArray()));
+    }
 }
@@ -2,6 +2,18 @@ package inventory.inbound.repository;
 
 import inventory.inbound.domain.Inbound;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 
 public interface InboundRepository extends JpaRepository<Inbound, Long>, InboundQueryRepository {
-}
\ No newline at end of file
+
+    long countByInboundIdIn(Collection<Long> inboundIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Inbound i SET i.deleted = true, i.deletedAt = LOCAL DATETIME "
+            + "WHERE i.inboundId IN :inboundIds AND i.deleted = false")
+    int softDeleteByIds(@Param("inboundIds") Collection<Long> inboundIds);
+}
@@ -0,0 +1,176 @@
+package inventory.inbound.service;
+
+import inventory.common.exception.CustomException;
+import inventory.common.exception.ExceptionCode;
+import inventory.inbound.domain.enums.InboundStatus;
+import inventory.inbound.repository.InboundJdbcRepository;
+import inventory.inbound.repository.InboundJdbcRepository.InboundProductRow;
+import inventory.inbound.service.request.InboundCsvLine;
+import inventory.inbound.service.response.InboundImportError;
+import inventory.inbound.service.response.InboundImportResponse;
+import inventory.inbound.service.util.InboundCsvReader;
+import inventory.product.repository.ProductRepository;
+import inventory.supplier.repository.SupplierRepository;
+import inventory.warehouse.repository.WarehouseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * 공급업체의 입고 예정(ASN) CSV를 스트리밍으로 읽어 입고를 일괄 등록한다.
+ * <p>
+ * 파일은 {@link #CHUNK_SIZE} 줄 단위로 검증/저장하며, 청크마다 트랜잭션을 커밋하므로
+ * 파일 크기와 관계없이 메모리 사용량이 일정하다. 같은 (창고, 공급업체, 입고 예정일)이 연속된 줄은 하나의 입고로 묶인다.
+ * 잘못된 줄은 건너뛰고 줄 번호와 사유를 응답에 담는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class InboundImportService {
+
+    private static final int CHUNK_SIZE = 1_000;
+    private static final int MAX_REPORTED_ERRORS = 1_000;
+    private static final int MAX_CACHED_IDS = 10_000;
+
+    private final InboundJdbcRepository inboundJdbcRepository;
+    private final ProductRepository productRepository;
+    private final WarehouseRepository warehouseRepository;
+    private final SupplierRepository supplierRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public InboundImportResponse importCsv(InputStream inputStream) {
+        ImportContext context = new ImportContext();
+
+        try (InboundCsvReader reader = new InboundCsvReader(inputStream)) {
+            List<InboundCsvLine> chunk = new ArrayList<>(CHUNK_SIZE);
+            InboundCsvLine line;
+            while ((line = reader.next()) != null) {
+                chunk.add(line);
+                if (chunk.size() == CHUNK_SIZE) {
+                    processChunk(chunk, context);
+                    chunk.clear();
+                }
+            }
+            processChunk(chunk, context);
+        } catch (IOException e) {
+            throw new CustomException(ExceptionCode.INVALID_INPUT, "CSV 파일을 읽을 수 없습니다.", e);
+        }
+
+        log.info("입고 CSV 등록 완료: 전체={}, 성공={}, 실패={}, 생성된 입고={}",
+                context.totalLines, context.importedLines, context.failedLines, context.createdInboundCount);
+        return context.toResponse();
+    }
+
+    private void processChunk(List<InboundCsvLine> chunk, ImportContext context) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // 청크의 상품코드를 한 번에 조회한다
+            Set<String> productCodes = new HashSet<>();
+            for (InboundCsvLine line : chunk) {
+                if (line.isValid()) {
+                    productCodes.add(line.productCode());
+                }
+            }
+            Map<String, Long> productIds = productRepository.findProductIdsByCodes(productCodes);
+
+            List<InboundProductRow> rows = new ArrayList<>(chunk.size());
+            for (InboundCsvLine line : chunk) {
+                context.totalLines++;
+
+                String errorMessage = validate(line, productIds, context);
+                if (errorMessage != null) {
+                    context.addError(line.lineNumber(), errorMessage);
+                    continue;
+                }
+
+                if (!line.isSameInbound(context.currentInboundLine)) {
+                    context.currentInboundLine = line;
+                    context.currentInboundId = inboundJdbcRepository.insertInbound(
+                            line.warehouseId(), line.supplierId(), line.expectedDate(), InboundStatus.REGISTERED);
+                    context.createdInboundCount++;
+                }
+                rows.add(new InboundProductRow(
+                        context.currentInboundId, productIds.get(line.productCode()), line.quantity()));
+            }
+
+            inboundJdbcRepository.batchInsertInboundProducts(rows);
+            context.importedLines += rows.size();
+        });
+    }
+
+    private String validate(InboundCsvLine line, Map<String, Long> productIds, ImportContext context) {
+        if (!line.isValid()) {
+            return line.errorMessage();
+        }
+        if (!exists(line.warehouseId(), context.warehouseExistence, warehouseRepository::existsById)) {
+            return "창고를 찾을 수 없습니다. 창고 ID: " + line.warehouseId();
+        }
+        if (!exists(line.supplierId(), context.supplierExistence, supplierRepository::existsById)) {
+            return "공급업체를 찾을 수 없습니다. 공급업체 ID: " + line.supplierId();
+        }
+        if (!productIds.containsKey(line.productCode())) {
+            return "상품을 찾을 수 없습니다. 상품코드: " + line.productCode();
+        }
+        return null;
+    }
+
+    private boolean exists(Long id, Map<Long, Boolean> cache, Predicate<Long> lookup) {
+        Boolean cached = cache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        boolean exists = lookup.test(id);
+        if (cache.size() < MAX_CACHED_IDS) {
+            cache.put(id, exists);
+        }
+        return exists;
+    }
+
+    private static class ImportContext {
+
+        private long totalLines;
+        private long importedLines;
+        private long failedLines;
+        private int createdInboundCount;
+        private final List<InboundImportError> errors = new ArrayList<>();
+
+        private InboundCsvLine currentInboundLine;
+        private Long currentInboundId;
+
+        private final Map<Long, Boolean> warehouseExistence = new HashMap<>();
+        private final Map<Long, Boolean> supplierExistence = new HashMap<>();
+
+        private void addError(long lineNumber, String message) {
+            failedLines++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new InboundImportError(lineNumber, message));
+            }
+        }
+
+        private InboundImportResponse toResponse() {
+            return new InboundImportResponse(
+                    totalLines,
+                    importedLines,
+                    failedLines,
+                    createdInboundCount,
+                    List.copyOf(errors),
+                    failedLines > errors.size()
+            );
+        }
+    }
+}
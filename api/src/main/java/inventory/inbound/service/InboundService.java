@@ -1,5 +1,9 @@
 package inventory.inbound.service;
 
+import inventory.archive.service.ArchivePolicy;
+import inventory.common.admission.WarehouseAdmission;
+import inventory.common.datasource.DataSourcePool;
+import inventory.common.datasource.PoolType;
 import inventory.common.exception.CustomException;
 import inventory.common.exception.ExceptionCode;
 import inventory.inbound.domain.Inbound;
@@ -18,6 +22,8 @@ import inventory.product.domain.Product;
 import inventory.product.repository.ProductRepository;
 import inventory.supplier.domain.Supplier;
 import inventory.supplier.repository.SupplierRepository;
+import inventory.throughput.service.ThroughputService;
+import inventory.throughput.service.request.ThroughputLine;
 import inventory.warehouse.domain.Warehouse;
 import inventory.warehouse.repository.WarehouseRepository;
 import inventory.warehouse.service.WarehouseStockService;
@@ -44,7 +50,10 @@ public class InboundService {
     private final SupplierRepository supplierRepository;
     private final ProductRepository productRepository;
     private final WarehouseStockService warehouseStockService;
+    private final ArchivePolicy archivePolicy;
+    private final ThroughputService throughputService;
 
+    @WarehouseAdmission
     public InboundResponse save(CreateInboundRequest request) {
         Warehouse warehouse = validateAndGetWarehouse(request.warehouseId());
         Supplier supplier = validateAndGetSupplier(request.supplierId());
@@ -56,6 +65,20 @@ public class InboundService {
         return createInboundResponse(savedInbound, warehouse, supplier);
     }
 
+    /**
+     * 상세 응답을 만들지 않고 쿼리 한 번으로 입고 상세의 ETag를 구한다.
+     */
+    @DataSourcePool(PoolType.READ)
+    @Transactional(readOnly = true)
+    public String findETag(Long id) {
+        if (id == null) {
+            throw new CustomException(ExceptionCode.INVALID_INPUT);
+        }
+        return inboundRepository.findInboundETag(id)
+                .orElseThrow(() -> new CustomException(ExceptionCode.DATA_NOT_FOUND));
+    }
+
+    @DataSourcePool(PoolType.READ)
     @Transactional(readOnly = true)
     public InboundResponse findById(Long id) {
         if (id == null) {
@@ -71,6 +94,7 @@ public class InboundService {
         return createInboundResponse(inbound, warehouse, supplier);
     }
 
+    @DataSourcePool(PoolType.READ)
     @Transactional(readOnly = true)
     public Page<InboundSummaryResponse> findAllWithConditions(
             Long warehouseId,
@@ -86,6 +110,9 @@ public class InboundService {
         InboundSearchCondition condition = new InboundSearchCondition(
                 warehouseId, supplierId, status, defaultStartDate, defaultEndDate);
 
+        if (archivePolicy.requiresArchive(defaultStartDate)) {
+            return inboundRepository.findInboundSummariesIncludingArchive(condition, pageable);
+        }
         return inboundRepository.findInboundSummaries(
                 condition, pageable
         );
@@ -137,15 +164,33 @@ public class InboundService {
             throw new CustomException(ExceptionCode.INVALID_INPUT);
         }
 
-        inboundRepository.findById(id)
-                .orElseThrow(() -> new CustomException(ExceptionCode.DATA_NOT_FOUND));
+        if (!inboundRepository.existsById(id)) {
+            throw new CustomException(ExceptionCode.DATA_NOT_FOUND);
+        }
 
-        List<InboundProduct> inboundProducts = inboundProductRepository.findInboundProductsByInboundId(id);
-        for (InboundProduct inboundProduct : inboundProducts) {
-            inboundProductRepository.deleteById(inboundProduct.getInboundProductId());
+        softDelete(List.of(id));
+    }
+
+    /**
+     * 여러 입고를 한 번에 삭제한다. 하나라도 없으면 아무것도 삭제하지 않는다.
+     */
+    public void deleteByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.contains(null)) {
+            throw new CustomException(ExceptionCode.INVALID_INPUT);
+        }
+
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        if (inboundRepository.countByInboundIdIn(distinctIds) != distinctIds.size()) {
+            throw new CustomException(ExceptionCode.DATA_NOT_FOUND);
         }
 
-        inboundRepository.deleteById(id);
+        softDelete(distinctIds);
+    }
+
+    // 라인과 헤더를 각각 한 번의 UPDATE로 소프트 삭제한다
+    private void softDelete(List<Long> inboundIds) {
+        inboundProductRepository.softDeleteByInboundIds(inboundIds);
+        inboundRepository.softDeleteByIds(inboundIds);
     }
 
     private Warehouse validateAndGetWarehouse(Long warehouseId) {
@@ -232,5 +277,10 @@ public class InboundService {
                     inboundProduct.getQuantity()
             );
         }
+
+        throughputService.recordReceipt(inbound.getWarehouseId(), inbound.getModifiedAt().toLocalDate(),
+                inboundProducts.stream()
+                        .map(inboundProduct -> new ThroughputLine(inboundProduct.getProductId(), inboundProduct.getQuantity()))
+                        .toList());
     }
 }
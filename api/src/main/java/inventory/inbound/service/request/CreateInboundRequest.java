@@ -1,5 +1,6 @@
 package inventory.inbound.service.request;
 
+import inventory.common.admission.WarehouseScoped;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
@@ -19,5 +20,5 @@ public record CreateInboundRequest(
         @NotEmpty(message = "입고 목록은 비어있을 수 없습니다")
         @Valid
         List<InboundProductRequest> products
-) {
+) implements WarehouseScoped {
 }
@@ -0,0 +1,34 @@
+package inventory.inbound.service.request;
+
+import java.time.LocalDate;
+
+public record InboundCsvLine(
+        long lineNumber,
+        Long warehouseId,
+        Long supplierId,
+        LocalDate expectedDate,
+        String productCode,
+        int quantity,
+        String errorMessage
+) {
+
+    public static InboundCsvLine valid(long lineNumber, Long warehouseId, Long supplierId,
+                                       LocalDate expectedDate, String productCode, int quantity) {
+        return new InboundCsvLine(lineNumber, warehouseId, supplierId, expectedDate, productCode, quantity, null);
+    }
+
+    public static InboundCsvLine invalid(long lineNumber, String errorMessage) {
+        return new InboundCsvLine(lineNumber, null, null, null, null, 0, errorMessage);
+    }
+
+    public boolean isValid() {
+        return errorMessage == null;
+    }
+
+    public boolean isSameInbound(InboundCsvLine other) {
+        return other != null
+                && warehouseId.equals(other.warehouseId)
+                && supplierId.equals(other.supplierId)
+                && expectedDate.equals(other.expectedDate);
+    }
+}
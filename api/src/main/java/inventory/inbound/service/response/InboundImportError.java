@@ -0,0 +1,7 @@
+package inventory.inbound.service.response;
+
+public record InboundImportError(
+        long lineNumber,
+        String message
+) {
+}
@@ -0,0 +1,13 @@
+package inventory.inbound.service.response;
+
+import java.util.List;
+
+public record InboundImportResponse(
+        long totalLines,
+        long importedLines,
+        long failedLines,
+        int createdInboundCount,
+        List<InboundImportError> errors,
+        boolean errorsTruncated
+) {
+}
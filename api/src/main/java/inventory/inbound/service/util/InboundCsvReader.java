@@ -0,0 +1,93 @@
+package inventory.inbound.service.util;
+
+import inventory.common.exception.CustomException;
+import inventory.common.exception.ExceptionCode;
+import inventory.common.util.CsvUtils;
+import inventory.inbound.service.request.InboundCsvLine;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * 입고 예정 CSV를 한 줄씩 읽는다. 파일 전체를 메모리에 올리지 않는다.
+ * <p>
+ * 형식: {@code warehouseId,supplierId,expectedDate,productCode,quantity} (첫 줄은 헤더)
+ */
+public class InboundCsvReader implements Closeable {
+
+    private static final List<String> HEADER = List.of(
+            "warehouseid", "supplierid", "expecteddate", "productcode", "quantity");
+
+    private final BufferedReader reader;
+    private long lineNumber = 0;
+
+    public InboundCsvReader(InputStream inputStream) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        validateHeader(reader.readLine());
+        lineNumber++;
+    }
+
+    /**
+     * 다음 데이터 행을 반환한다. 파일 끝이면 null을 반환한다.
+     */
+    public InboundCsvLine next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (!line.isBlank()) {
+                return parse(lineNumber, line);
+            }
+        }
+        return null;
+    }
+
+    private void validateHeader(String headerLine) {
+        if (headerLine == null) {
+            throw new CustomException(ExceptionCode.INVALID_INPUT, "CSV 파일이 비어있습니다.");
+        }
+        if (!HEADER.equals(CsvUtils.normalizeHeader(headerLine))) {
+            throw new CustomException(ExceptionCode.INVALID_INPUT,
+                    "CSV 헤더가 올바르지 않습니다. 필요한 헤더: warehouseId,supplierId,expectedDate,productCode,quantity");
+        }
+    }
+
+    private InboundCsvLine parse(long lineNumber, String line) {
+        List<String> columns = CsvUtils.split(line);
+        if (columns.size() != HEADER.size()) {
+            return InboundCsvLine.invalid(lineNumber,
+                    "컬럼 수가 올바르지 않습니다. 필요: " + HEADER.size() + ", 실제: " + columns.size());
+        }
+
+        try {
+            Long warehouseId = Long.parseLong(columns.get(0).trim());
+            Long supplierId = Long.parseLong(columns.get(1).trim());
+            LocalDate expectedDate = LocalDate.parse(columns.get(2).trim());
+            String productCode = columns.get(3).trim();
+            int quantity = Integer.parseInt(columns.get(4).trim());
+
+            if (productCode.isEmpty()) {
+                return InboundCsvLine.invalid(lineNumber, "상품코드는 필수입니다.");
+            }
+            if (quantity <= 0) {
+                return InboundCsvLine.invalid(lineNumber, "입고 수량은 0보다 커야 합니다.");
+            }
+            return InboundCsvLine.valid(lineNumber, warehouseId, supplierId, expectedDate, productCode, quantity);
+        } catch (NumberFormatException e) {
+            return InboundCsvLine.invalid(lineNumber, "숫자 형식이 올바르지 않습니다.");
+        } catch (DateTimeParseException e) {
+            return InboundCsvLine.invalid(lineNumber, "입고 예정일 형식이 올바르지 않습니다. (yyyy-MM-dd)");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -13,6 +13,7 @@ import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
@@ -24,6 +25,8 @@ import java.util.List;
 @Service
 public class NotificationService {
 
+    // 메일은 알림을 보낼 때만 필요하므로 기동 시 만들지 않는다
+    @Lazy
     private final JavaMailSender mailSender;
     private final MailTemplateGenerator mailTemplateGenerator;
     private final NotificationRepository notificationRepository;
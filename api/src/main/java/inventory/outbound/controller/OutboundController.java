@@ -2,11 +2,25 @@ package inventory.outbound.controller;
 
 import inventory.common.dto.response.ApiResponse;
 import inventory.common.dto.response.PageResponse;
+import inventory.common.etag.ETags;
+import inventory.common.export.ExportFormat;
+import inventory.common.export.ExportResponses;
 import inventory.outbound.domain.enums.OutboundStatus;
+import inventory.outbound.service.OutboundAllocationService;
+import inventory.outbound.service.OutboundBulkService;
+import inventory.outbound.service.OutboundExportService;
+import inventory.outbound.service.OutboundIngestService;
 import inventory.outbound.service.OutboundService;
+import inventory.outbound.service.request.AllocateOutboundRequest;
+import inventory.outbound.service.request.BulkOutboundRequest;
 import inventory.outbound.service.request.CreateOutboundRequest;
+import inventory.outbound.service.request.DeleteOutboundsRequest;
+import inventory.outbound.service.response.OutboundAllocationResponse;
+import inventory.outbound.service.response.OutboundBulkResponse;
 import inventory.outbound.service.response.OutboundResponse;
 import inventory.outbound.service.response.OutboundSummaryResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -14,10 +28,15 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.time.LocalDate;
 
 @RequiredArgsConstructor
@@ -26,6 +45,10 @@ import java.time.LocalDate;
 public class OutboundController {
 
     private final OutboundService outboundService;
+    private final OutboundExportService outboundExportService;
+    private final OutboundBulkService outboundBulkService;
+    private final OutboundAllocationService outboundAllocationService;
+    private final OutboundIngestService outboundIngestService;
 
     @PostMapping
     public ResponseEntity<ApiResponse<OutboundResponse>> createOutbound(
@@ -36,11 +59,43 @@ public class OutboundController {
                 .body(ApiResponse.success(HttpStatus.CREATED, response));
     }
 
+    /**
+     * 줄 단위 JSON으로 출고 주문을 연속해 받고, 주문마다 처리 결과를 같은 형식으로 돌려준다.
+     */
+    @PostMapping(value = "stream",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void ingestOutbounds(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        outboundIngestService.ingest(request.getInputStream(), response.getOutputStream());
+    }
+
+    /**
+     * 같은 주문 스트림을 바이너리 JSON(Smile)으로 받고 결과도 Smile로 돌려준다.
+     */
+    @PostMapping(value = "stream",
+            consumes = OutboundIngestService.APPLICATION_SMILE_VALUE,
+            produces = OutboundIngestService.APPLICATION_SMILE_VALUE)
+    public void ingestOutboundsSmile(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(OutboundIngestService.APPLICATION_SMILE_VALUE);
+        outboundIngestService.ingest(request.getInputStream(), response.getOutputStream(),
+                OutboundIngestService.Format.SMILE);
+    }
+
+    @PostMapping("allocate")
+    public ResponseEntity<ApiResponse<OutboundAllocationResponse>> allocateOutbound(
+            @Valid @RequestBody AllocateOutboundRequest request
+    ) {
+        OutboundAllocationResponse response = outboundAllocationService.allocate(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(HttpStatus.CREATED, response));
+    }
+
     @GetMapping("{id}")
-    public ResponseEntity<ApiResponse<OutboundResponse>> getOutbound(@PathVariable Long id) {
-        OutboundResponse response = outboundService.findById(id);
+    public ResponseEntity<ApiResponse<OutboundResponse>> getOutbound(@PathVariable Long id, WebRequest webRequest) {
+        String eTag = outboundService.findETag(id);
 
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return ETags.conditional(webRequest, eTag, () -> ApiResponse.success(outboundService.findById(id)));
     }
 
     @GetMapping
@@ -71,6 +126,21 @@ public class OutboundController {
         return ResponseEntity.ok(ApiResponse.success(pageResponse));
     }
 
+    @GetMapping("export")
+    public ResponseEntity<StreamingResponseBody> exportOutbounds(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(required = false) String orderNumber,
+            @RequestParam(required = false) Long warehouseId,
+            @RequestParam(required = false) OutboundStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return ExportResponses.stream("outbounds", format, acceptEncoding, outputStream ->
+                outboundExportService.exportOutbounds(
+                        orderNumber, warehouseId, status, startDate, endDate, format, outputStream));
+    }
+
     @PostMapping("{id}/picking")
     public ResponseEntity<ApiResponse<Void>> startPicking(@PathVariable Long id) {
         outboundService.startPicking(id);
@@ -89,9 +159,39 @@ public class OutboundController {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("bulk/picking")
+    public ResponseEntity<ApiResponse<OutboundBulkResponse>> startPickings(
+            @Valid @RequestBody BulkOutboundRequest request
+    ) {
+        OutboundBulkResponse response = outboundBulkService.startPickings(request.outboundIds());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @PostMapping("bulk/complete")
+    public ResponseEntity<ApiResponse<OutboundBulkResponse>> completeOutbounds(
+            @Valid @RequestBody BulkOutboundRequest request
+    ) {
+        OutboundBulkResponse response = outboundBulkService.completeOutbounds(request.outboundIds());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @PostMapping("bulk/cancel")
+    public ResponseEntity<ApiResponse<OutboundBulkResponse>> cancelOutbounds(
+            @Valid @RequestBody BulkOutboundRequest request
+    ) {
+        OutboundBulkResponse response = outboundBulkService.cancelOutbounds(request.outboundIds());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @DeleteMapping("{id}")
     public ResponseEntity<ApiResponse<Void>> deleteOutbound(@PathVariable Long id) {
         outboundService.deleteOutbound(id);
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("bulk-delete")
+    public ResponseEntity<ApiResponse<Void>> deleteOutbounds(@Valid @RequestBody DeleteOutboundsRequest request) {
+        outboundService.deleteOutbounds(request.outboundIds());
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -0,0 +1,39 @@
+package inventory.outbound.controller;
+
+import inventory.common.dto.response.ApiResponse;
+import inventory.outbound.service.PickingWaveService;
+import inventory.outbound.service.response.PickingWaveResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/picking-waves")
+@RestController
+public class PickingWaveController {
+
+    private final PickingWaveService pickingWaveService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<List<PickingWaveResponse>>> planWaves(
+            @RequestParam Long warehouseId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate planningDate
+    ) {
+        LocalDate date = planningDate != null ? planningDate : LocalDate.now();
+        return ResponseEntity.ok(ApiResponse.success(pickingWaveService.planWaves(warehouseId, date)));
+    }
+
+    @GetMapping("{id}")
+    public ResponseEntity<ApiResponse<PickingWaveResponse>> getWave(@PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.success(pickingWaveService.findById(id)));
+    }
+}
@@ -17,6 +17,7 @@ import java.util.Objects;
 import java.util.UUID;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_outbound_warehouse_status", columnList = "warehouse_id, outbound_status"))
 @SQLDelete(sql = "UPDATE outbound SET deleted = true, deleted_at = NOW() WHERE outbound_id = ?")
 @SQLRestriction("deleted = false and deleted_at is null")
 @Getter
@@ -51,6 +52,8 @@ public class Outbound {
 
     private String deliveryMemo;
 
+    private Long waveId;
+
     @Enumerated(EnumType.STRING)
     private OutboundStatus outboundStatus;
 
@@ -0,0 +1,67 @@
+package inventory.outbound.domain;
+
+import inventory.outbound.domain.enums.OutboundStatus;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지나 outbound 테이블에서 옮겨진 출고. 원본 ID를 그대로 유지하며 읽기 전용이다.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_outbound_archive_warehouse_status", columnList = "warehouse_id, outbound_status"))
+@Immutable
+@Getter
+@Entity
+public class OutboundArchive {
+
+    @Id
+    private Long outboundId;
+
+    private Long warehouseId;
+
+    private String orderNumber;
+
+    private String recipientName;
+
+    private String recipientContact;
+
+    private String deliveryPostcode;
+
+    private String deliveryBaseAddress;
+
+    private String deliveryDetailAddress;
+
+    private LocalDate requestedDate;
+
+    private LocalDate expectedDate;
+
+    private LocalDate shippedDate;
+
+    private String deliveryMemo;
+
+    private Long waveId;
+
+    @Enumerated(EnumType.STRING)
+    private OutboundStatus outboundStatus;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime modifiedAt;
+
+    private boolean deleted;
+
+    private LocalDateTime deletedAt;
+
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,35 @@
+package inventory.outbound.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_outbound_product_archive_outbound_id", columnList = "outbound_id"))
+@Immutable
+@Getter
+@Entity
+public class OutboundProductArchive {
+
+    @Id
+    private Long outboundProductId;
+
+    private Long outboundId;
+
+    private Long productId;
+
+    private int requestedQuantity;
+
+    private boolean deleted;
+
+    private LocalDateTime deletedAt;
+
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,56 @@
+package inventory.outbound.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+/**
+ * 같은 창고, 같은 출고 예정일의 출고를 묶어 한 번에 피킹하는 단위.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+public class PickingWave {
+
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    private Long pickingWaveId;
+
+    private String waveNumber;
+
+    private Long warehouseId;
+
+    private LocalDate expectedDate;
+
+    private int outboundCount;
+
+    private long totalQuantity;
+
+    private LocalDateTime createdAt;
+
+    @Builder
+    public PickingWave(Long warehouseId, LocalDate expectedDate, int outboundCount, long totalQuantity) {
+        this.waveNumber = generateWaveNumber(expectedDate);
+        this.warehouseId = warehouseId;
+        this.expectedDate = expectedDate;
+        this.outboundCount = outboundCount;
+        this.totalQuantity = totalQuantity;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    private String generateWaveNumber(LocalDate expectedDate) {
+        String datePart = expectedDate.format(DateTimeFormatter.BASIC_ISO_DATE);
+        String randomPart = UUID.randomUUID().toString().replace("-", "").substring(0, 8).toUpperCase();
+        return "WV" + datePart + "-" + randomPart;
+    }
+}
@@ -0,0 +1,39 @@
+package inventory.outbound.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 웨이브의 통합 피킹 목록 한 줄. 웨이브에 속한 출고의 같은 상품 수량을 합친 값이다.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+public class PickingWaveItem {
+
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    private Long pickingWaveItemId;
+
+    private Long pickingWaveId;
+
+    private Long productId;
+
+    private long quantity;
+
+    private int outboundCount;
+
+    @Builder
+    public PickingWaveItem(Long pickingWaveId, Long productId, long quantity, int outboundCount) {
+        this.pickingWaveId = pickingWaveId;
+        this.productId = productId;
+        this.quantity = quantity;
+        this.outboundCount = outboundCount;
+    }
+}
@@ -0,0 +1,136 @@
+package inventory.outbound.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+@Repository
+@RequiredArgsConstructor
+public class OutboundJdbcRepository {
+
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1_000;
+    private static final int STREAM_FETCH_SIZE = 1_000;
+
+    // 같은 출고를 단건 피킹과 웨이브가 동시에 가져가지 않도록 행을 잠근다
+    private static final String FIND_WAVE_CANDIDATES_SQL = """
+            SELECT outbound_id, expected_date
+            FROM outbound
+            WHERE warehouse_id = :warehouseId
+              AND outbound_status = 'ORDERED'
+              AND deleted = false
+              AND expected_date <= :throughDate
+            ORDER BY expected_date, outbound_id
+            LIMIT :limit
+            FOR UPDATE
+            """;
+
+    private static final String FIND_LINES_SQL = """
+            SELECT outbound_id, product_id, requested_quantity
+            FROM outbound_product
+            WHERE outbound_id IN (:outboundIds) AND deleted = false
+            """;
+
+    private static final String FIND_ORDERED_SQL = """
+            SELECT outbound_id, created_at
+            FROM outbound
+            WHERE outbound_status = 'ORDERED' AND deleted = false
+            """;
+
+    // 타이머가 만료를 알린 뒤에도 피킹/취소되지 않았는지 잠근 상태에서 다시 확인한다
+    private static final String FIND_EXPIRED_ORDERED_SQL = """
+            SELECT outbound_id, warehouse_id
+            FROM outbound
+            WHERE outbound_id IN (:outboundIds)
+              AND outbound_status = 'ORDERED'
+              AND deleted = false
+              AND created_at <= :cutoff
+            ORDER BY outbound_id
+            FOR UPDATE
+            """;
+
+    private static final String FIND_HOT_PRODUCT_IDS_SQL = """
+            SELECT op.product_id
+            FROM outbound_product op
+            JOIN outbound o ON o.outbound_id = op.outbound_id
+            WHERE o.created_at >= :since AND op.deleted = false
+            GROUP BY op.product_id
+            ORDER BY COUNT(*) DESC
+            LIMIT :limit
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<WaveCandidateRow> findWaveCandidatesForUpdate(Long warehouseId, LocalDate throughDate, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("warehouseId", warehouseId)
+                .addValue("throughDate", Date.valueOf(throughDate))
+                .addValue("limit", limit);
+        return jdbcTemplate.query(FIND_WAVE_CANDIDATES_SQL, params, (rs, rowNum) -> new WaveCandidateRow(
+                rs.getLong("outbound_id"), rs.getDate("expected_date").toLocalDate()));
+    }
+
+    public List<OutboundLineRow> findLines(Collection<Long> outboundIds) {
+        List<Long> ids = new ArrayList<>(outboundIds);
+        List<OutboundLineRow> lines = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size()));
+            lines.addAll(jdbcTemplate.query(FIND_LINES_SQL, new MapSqlParameterSource("outboundIds", chunk),
+                    (rs, rowNum) -> new OutboundLineRow(
+                            rs.getLong("outbound_id"), rs.getLong("product_id"), rs.getInt("requested_quantity"))));
+        }
+        return lines;
+    }
+
+    /**
+     * 예약을 잡고 있는 ORDERED 출고를 모두 스트리밍으로 읽는다.
+     */
+    public void forEachOrdered(BiConsumer<Long, LocalDateTime> consumer) {
+        jdbcTemplate.getJdbcOperations().query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    FIND_ORDERED_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(
+                rs.getLong("outbound_id"), rs.getTimestamp("created_at").toLocalDateTime()));
+    }
+
+    public List<ExpiredOutboundRow> findExpiredOrderedForUpdate(Collection<Long> outboundIds, LocalDateTime cutoff) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("outboundIds", outboundIds)
+                .addValue("cutoff", Timestamp.valueOf(cutoff));
+        return jdbcTemplate.query(FIND_EXPIRED_ORDERED_SQL, params, (rs, rowNum) -> new ExpiredOutboundRow(
+                rs.getLong("outbound_id"), rs.getLong("warehouse_id")));
+    }
+
+    /**
+     * {@code since} 이후 등록된 출고에 많이 나온 상품 ID를 많은 순으로 반환한다.
+     */
+    public List<Long> findHotProductIds(LocalDateTime since, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("since", Timestamp.valueOf(since))
+                .addValue("limit", limit);
+        return jdbcTemplate.queryForList(FIND_HOT_PRODUCT_IDS_SQL, params, Long.class);
+    }
+
+    public record ExpiredOutboundRow(Long outboundId, Long warehouseId) {
+    }
+
+    public record WaveCandidateRow(Long outboundId, LocalDate expectedDate) {
+    }
+
+    public record OutboundLineRow(Long outboundId, Long productId, int quantity) {
+    }
+}
@@ -2,9 +2,18 @@ package inventory.outbound.repository;
 
 import inventory.outbound.domain.OutboundProduct;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface OutboundProductRepository extends JpaRepository<OutboundProduct, Long> {
     List<OutboundProduct> findByOutboundId(Long outboundId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboundProduct op SET op.deleted = true, op.deletedAt = LOCAL DATETIME "
+            + "WHERE op.outboundId IN :outboundIds AND op.deleted = false")
+    int softDeleteByOutboundIds(@Param("outboundIds") Collection<Long> outboundIds);
 }
@@ -5,10 +5,27 @@ import inventory.outbound.service.response.OutboundSummaryResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Optional;
+import java.util.stream.Stream;
+
 public interface OutboundQueryRepository {
 
     Page<OutboundSummaryResponse> findOutboundSummaries(
             OutboundSearchCondition condition,
             Pageable pageable
     );
+
+    Page<OutboundSummaryResponse> findOutboundSummariesIncludingArchive(
+            OutboundSearchCondition condition,
+            Pageable pageable
+    );
+
+    Stream<OutboundSummaryResponse> streamOutboundSummaries(OutboundSearchCondition condition);
+
+    Stream<OutboundSummaryResponse> streamOutboundSummariesIncludingArchive(OutboundSearchCondition condition);
+
+    /**
+     * 출고 상세 응답을 이루는 행들의 수정 시각과 라인 수로 만든 ETag. 출고가 없으면 빈 값을 반환한다.
+     */
+    Optional<String> findOutboundETag(Long outboundId);
 }
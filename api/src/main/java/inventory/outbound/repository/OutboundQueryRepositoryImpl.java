@@ -1,26 +1,46 @@
 package inventory.outbound.repository;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import inventory.common.etag.ETags;
 import inventory.outbound.domain.QOutbound;
+import inventory.outbound.domain.QOutboundArchive;
+import inventory.outbound.domain.QOutboundProduct;
 import inventory.outbound.service.query.OutboundSearchCondition;
 import inventory.outbound.service.response.OutboundSummaryResponse;
+import inventory.product.domain.QProduct;
 import inventory.warehouse.domain.QWarehouse;
+import inventory.warehouse.domain.QWarehouseStock;
+import inventory.warehouse.domain.QWarehouseStockBucket;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
 public class OutboundQueryRepositoryImpl implements OutboundQueryRepository {
 
     private static final QOutbound outbound = QOutbound.outbound;
+    private static final QOutboundArchive outboundArchive = QOutboundArchive.outboundArchive;
     private static final QWarehouse warehouse = QWarehouse.warehouse;
+    private static final QOutboundProduct outboundProduct = QOutboundProduct.outboundProduct;
+    private static final QProduct product = QProduct.product;
+    private static final QWarehouseStock warehouseStock = QWarehouseStock.warehouseStock;
+    private static final QWarehouseStockBucket bucket = QWarehouseStockBucket.warehouseStockBucket;
+
+    private static final int EXPORT_FETCH_SIZE = 500;
 
     private final JPAQueryFactory queryFactory;
 
@@ -39,17 +59,7 @@ public class OutboundQueryRepositoryImpl implements OutboundQueryRepository {
                 .fetchOne();
 
         List<OutboundSummaryResponse> content = queryFactory
-                .select(Projections.constructor(OutboundSummaryResponse.class,
-                        outbound.outboundId,
-                        outbound.orderNumber,
-                        outbound.warehouseId,
-                        warehouse.name,
-                        outbound.recipientName,
-                        outbound.requestedDate,
-                        outbound.expectedDate,
-                        outbound.outboundStatus,
-                        outbound.createdAt
-                ))
+                .select(summaryProjection())
                 .from(outbound)
                 .leftJoin(warehouse).on(warehouse.warehouseId.eq(outbound.warehouseId))
                 .where(whereClause)
@@ -61,6 +71,109 @@ public class OutboundQueryRepositoryImpl implements OutboundQueryRepository {
         return new PageImpl<>(content, pageable, totalCount == null ? 0L : totalCount);
     }
 
+    /**
+     * 운영 테이블 결과를 먼저, 아카이브 결과를 그 뒤에 이어 붙여 한 페이지를 만든다.
+     * 아카이브된 출고는 보관 기간이 지난 건이므로 생성일 역순에서 운영 테이블 결과 뒤에 온다.
+     */
+    @Override
+    public Page<OutboundSummaryResponse> findOutboundSummariesIncludingArchive(
+            OutboundSearchCondition condition,
+            Pageable pageable
+    ) {
+        Page<OutboundSummaryResponse> hotPage = findOutboundSummaries(condition, pageable);
+        BooleanExpression archiveWhereClause = createArchiveWhereClause(condition);
+
+        Long archiveCount = queryFactory
+                .select(outboundArchive.count())
+                .from(outboundArchive)
+                .where(archiveWhereClause)
+                .fetchOne();
+        long archiveTotal = archiveCount == null ? 0L : archiveCount;
+
+        List<OutboundSummaryResponse> content = new ArrayList<>(hotPage.getContent());
+        int remaining = pageable.getPageSize() - content.size();
+        if (remaining > 0 && archiveTotal > 0) {
+            long archiveOffset = Math.max(0L, pageable.getOffset() - hotPage.getTotalElements());
+            content.addAll(queryFactory
+                    .select(archiveSummaryProjection())
+                    .from(outboundArchive)
+                    .leftJoin(warehouse).on(warehouse.warehouseId.eq(outboundArchive.warehouseId))
+                    .where(archiveWhereClause)
+                    .orderBy(outboundArchive.createdAt.desc())
+                    .offset(archiveOffset)
+                    .limit(remaining)
+                    .fetch());
+        }
+
+        return new PageImpl<>(content, pageable, hotPage.getTotalElements() + archiveTotal);
+    }
+
+    @Override
+    public Stream<OutboundSummaryResponse> streamOutboundSummaries(OutboundSearchCondition condition) {
+        // DTO 프로젝션이라 영속성 컨텍스트에 엔티티가 쌓이지 않고, fetch size 단위로 커서에서 읽어온다
+        return queryFactory
+                .select(summaryProjection())
+                .from(outbound)
+                .leftJoin(warehouse).on(warehouse.warehouseId.eq(outbound.warehouseId))
+                .where(createWhereClause(condition))
+                .orderBy(outbound.outboundId.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    /**
+     * 운영 테이블을 다 읽은 뒤 아카이브를 이어서 읽는다.
+     * 한 커넥션에서 두 커서가 동시에 열리지 않도록 아카이브 조회는 운영 테이블 커서를 닫은 뒤에 연다.
+     */
+    @Override
+    public Stream<OutboundSummaryResponse> streamOutboundSummariesIncludingArchive(OutboundSearchCondition condition) {
+        return Stream.<Supplier<Stream<OutboundSummaryResponse>>>of(
+                        () -> streamOutboundSummaries(condition),
+                        () -> streamArchivedOutboundSummaries(condition))
+                .flatMap(Supplier::get);
+    }
+
+    private Stream<OutboundSummaryResponse> streamArchivedOutboundSummaries(OutboundSearchCondition condition) {
+        return queryFactory
+                .select(archiveSummaryProjection())
+                .from(outboundArchive)
+                .leftJoin(warehouse).on(warehouse.warehouseId.eq(outboundArchive.warehouseId))
+                .where(createArchiveWhereClause(condition))
+                .orderBy(outboundArchive.outboundId.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    private ConstructorExpression<OutboundSummaryResponse> summaryProjection() {
+        return Projections.constructor(OutboundSummaryResponse.class,
+                outbound.outboundId,
+                outbound.orderNumber,
+                outbound.warehouseId,
+                warehouse.name,
+                outbound.recipientName,
+                outbound.requestedDate,
+                outbound.expectedDate,
+                outbound.outboundStatus,
+                outbound.createdAt
+        );
+    }
+
+    private ConstructorExpression<OutboundSummaryResponse> archiveSummaryProjection() {
+        return Projections.constructor(OutboundSummaryResponse.class,
+                outboundArchive.outboundId,
+                outboundArchive.orderNumber,
+                outboundArchive.warehouseId,
+                warehouse.name,
+                outboundArchive.recipientName,
+                outboundArchive.requestedDate,
+                outboundArchive.expectedDate,
+                outboundArchive.outboundStatus,
+                outboundArchive.createdAt
+        );
+    }
+
     private BooleanExpression createWhereClause(OutboundSearchCondition condition) {
         BooleanExpression whereClause = outbound.isNotNull();
 
@@ -84,4 +197,52 @@ public class OutboundQueryRepositoryImpl implements OutboundQueryRepository {
 
         return whereClause;
     }
+
+    // 삭제된 뒤 아카이브된 출고는 운영 테이블의 @SQLRestriction과 같이 검색에서 제외한다
+    private BooleanExpression createArchiveWhereClause(OutboundSearchCondition condition) {
+        BooleanExpression whereClause = outboundArchive.deleted.isFalse()
+                .and(outboundArchive.deletedAt.isNull());
+
+        if (condition != null) {
+            if (condition.orderNumber() != null && !condition.orderNumber().isBlank()) {
+                whereClause = whereClause.and(outboundArchive.orderNumber.containsIgnoreCase(condition.orderNumber()));
+            }
+            if (condition.warehouseId() != null) {
+                whereClause = whereClause.and(outboundArchive.warehouseId.eq(condition.warehouseId()));
+            }
+            if (condition.status() != null) {
+                whereClause = whereClause.and(outboundArchive.outboundStatus.eq(condition.status()));
+            }
+            if (condition.startDate() != null) {
+                whereClause = whereClause.and(outboundArchive.requestedDate.goe(condition.startDate()));
+            }
+            if (condition.endDate() != null) {
+                whereClause = whereClause.and(outboundArchive.requestedDate.loe(condition.endDate()));
+            }
+        }
+
+        return whereClause;
+    }
+
+    // 버킷에서 예약하면 재고 행은 그대로이고 버킷만 바뀌므로 버킷의 수정 시각과 수량도 버전에 넣는다
+    @Override
+    public Optional<String> findOutboundETag(Long outboundId) {
+        Tuple version = queryFactory
+                .select(outbound.modifiedAt, warehouse.modifiedAt, outboundProduct.outboundProductId.countDistinct(),
+                        product.modifiedAt.max(), warehouseStock.modifiedAt.max(),
+                        bucket.modifiedAt.max(), bucket.quantity.sum())
+                .from(outbound)
+                .join(warehouse).on(warehouse.warehouseId.eq(outbound.warehouseId))
+                .leftJoin(outboundProduct).on(outboundProduct.outboundId.eq(outbound.outboundId))
+                .leftJoin(product).on(product.productId.eq(outboundProduct.productId))
+                .leftJoin(warehouseStock).on(warehouseStock.warehouseId.eq(outbound.warehouseId),
+                        warehouseStock.productId.eq(outboundProduct.productId))
+                .leftJoin(bucket).on(bucket.warehouseId.eq(outbound.warehouseId),
+                        bucket.productId.eq(outboundProduct.productId))
+                .where(outbound.outboundId.eq(outboundId))
+                .groupBy(outbound.outboundId, outbound.modifiedAt, warehouse.modifiedAt)
+                .fetchOne();
+
+        return Optional.ofNullable(version).map(row -> ETags.of(row.toArray()));
+    }
 }
@@ -1,7 +1,51 @@
 package inventory.outbound.repository;
 
 import inventory.outbound.domain.Outbound;
+import inventory.outbound.domain.enums.OutboundStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface OutboundRepository extends JpaRepository<Outbound, Long> {
+
+    long countByOutboundIdIn(Collection<Long> outboundIds);
+
+    /**
+     * 출고를 ID 순으로 잠그고 조회한다. 잠금을 얻은 뒤 읽으므로 다른 트랜잭션이 먼저 바꾼 상태가 보인다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Outbound o WHERE o.outboundId IN :outboundIds ORDER BY o.outboundId")
+    List<Outbound> findAllForUpdate(@Param("outboundIds") Collection<Long> outboundIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Outbound o SET o.deleted = true, o.deletedAt = LOCAL DATETIME "
+            + "WHERE o.outboundId IN :outboundIds AND o.deleted = false")
+    int softDeleteByIds(@Param("outboundIds") Collection<Long> outboundIds);
+
+    /**
+     * 지정한 출고 중 아직 {@code from} 상태인 것만 웨이브에 배정하며 {@code to} 상태로 바꾼다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Outbound o SET o.outboundStatus = :to, o.waveId = :waveId, o.modifiedAt = LOCAL DATETIME "
+            + "WHERE o.outboundId IN :outboundIds AND o.outboundStatus = :from")
+    int assignWave(@Param("outboundIds") Collection<Long> outboundIds,
+                   @Param("waveId") Long waveId,
+                   @Param("from") OutboundStatus from,
+                   @Param("to") OutboundStatus to);
+
+    /**
+     * 지정한 출고 중 아직 {@code from} 상태인 것만 {@code to} 상태로 바꾼다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Outbound o SET o.outboundStatus = :to, o.modifiedAt = LOCAL DATETIME "
+            + "WHERE o.outboundId IN :outboundIds AND o.outboundStatus = :from")
+    int updateStatusByIds(@Param("outboundIds") Collection<Long> outboundIds,
+                          @Param("from") OutboundStatus from,
+                          @Param("to") OutboundStatus to);
 }
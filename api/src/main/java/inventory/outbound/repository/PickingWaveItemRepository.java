@@ -0,0 +1,11 @@
+package inventory.outbound.repository;
+
+import inventory.outbound.domain.PickingWaveItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface PickingWaveItemRepository extends JpaRepository<PickingWaveItem, Long> {
+
+    List<PickingWaveItem> findByPickingWaveIdOrderByProductId(Long pickingWaveId);
+}
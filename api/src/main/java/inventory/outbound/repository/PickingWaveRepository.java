@@ -0,0 +1,7 @@
+package inventory.outbound.repository;
+
+import inventory.outbound.domain.PickingWave;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PickingWaveRepository extends JpaRepository<PickingWave, Long> {
+}
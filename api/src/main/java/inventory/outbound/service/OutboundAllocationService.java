@@ -0,0 +1,105 @@
+package inventory.outbound.service;
+
+import inventory.common.exception.CustomException;
+import inventory.common.exception.ExceptionCode;
+import inventory.outbound.service.request.AllocateOutboundRequest;
+import inventory.outbound.service.request.OutboundProductRequest;
+import inventory.outbound.service.response.OutboundAllocationResponse;
+import inventory.outbound.service.response.OutboundResponse;
+import inventory.outbound.service.util.StockAllocator;
+import inventory.outbound.service.util.StockAllocator.Line;
+import inventory.outbound.service.util.StockAllocator.ProductStock;
+import inventory.outbound.service.util.StockAllocator.WarehouseAllocation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 창고를 지정하지 않은 출고 요청을 가용 재고 색인으로 창고에 배정하고, 배정된 창고마다 출고를 등록한다.
+ * <p>
+ * 나뉜 출고는 한 트랜잭션에서 등록되므로 어느 한 창고라도 재고 검증에 실패하면 모두 등록되지 않는다.
+ */
+@Slf4j
+@Service
+public class OutboundAllocationService {
+
+    private final OutboundService outboundService;
+    private final StockAvailabilityIndex stockAvailabilityIndex;
+    private final StockAllocator stockAllocator;
+
+    public OutboundAllocationService(
+            OutboundService outboundService,
+            StockAvailabilityIndex stockAvailabilityIndex,
+            @Value("${allocation.distance-weight:1.0}") double distanceWeight,
+            @Value("${allocation.balance-weight:0.5}") double balanceWeight,
+            @Value("${allocation.split-penalty:0.3}") double splitPenalty
+    ) {
+        this.outboundService = outboundService;
+        this.stockAvailabilityIndex = stockAvailabilityIndex;
+        this.stockAllocator = new StockAllocator(distanceWeight, balanceWeight, splitPenalty);
+    }
+
+    @Transactional
+    public OutboundAllocationResponse allocate(AllocateOutboundRequest request) {
+        List<Line> lines = mergeLines(request.products());
+        List<WarehouseAllocation> allocations = plan(lines, request.deliveryPostcode());
+        if (allocations.isEmpty()) {
+            throw new CustomException(ExceptionCode.INSUFFICIENT_STOCK, "요청 수량을 채울 수 있는 창고 재고가 없습니다.");
+        }
+
+        List<OutboundResponse> outbounds = new ArrayList<>(allocations.size());
+        for (WarehouseAllocation allocation : allocations) {
+            List<OutboundProductRequest> products = allocation.lines().stream()
+                    .map(line -> new OutboundProductRequest(line.productId(), line.quantity()))
+                    .toList();
+            outbounds.add(outboundService.createOutbound(request.toCreateRequest(allocation.warehouseId(), products)));
+        }
+
+        decreaseIndexAfterCommit(allocations);
+        log.info("출고 창고 배정: 상품 {}종, 출고 {}건", lines.size(), outbounds.size());
+        return OutboundAllocationResponse.of(outbounds);
+    }
+
+    /**
+     * 색인 기준으로 창고별 배정안을 만든다. 채울 수 없으면 빈 목록을 반환한다.
+     */
+    public List<WarehouseAllocation> plan(List<Line> lines, String deliveryPostcode) {
+        Map<Long, ProductStock> stocks = stockAvailabilityIndex.find(lines.stream().map(Line::productId).toList());
+        return stockAllocator.allocate(lines, stocks, warehouseId -> StockAllocator.postcodeDistance(
+                stockAvailabilityIndex.findPostcode(warehouseId), deliveryPostcode));
+    }
+
+    private List<Line> mergeLines(List<OutboundProductRequest> products) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (OutboundProductRequest product : products) {
+            quantities.merge(product.productId(), product.quantity(), Integer::sum);
+        }
+        List<Line> lines = new ArrayList<>(quantities.size());
+        quantities.forEach((productId, quantity) -> lines.add(new Line(productId, quantity)));
+        return lines;
+    }
+
+    private void decreaseIndexAfterCommit(List<WarehouseAllocation> allocations) {
+        Runnable decrease = () -> allocations.forEach(allocation -> allocation.lines().forEach(line ->
+                stockAvailabilityIndex.decrease(allocation.warehouseId(), line.productId(), line.quantity())));
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            decrease.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                decrease.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,317 @@
+package inventory.outbound.service;
+
+import inventory.common.exception.CustomException;
+import inventory.common.exception.ExceptionCode;
+import inventory.common.retry.DeadlockRetry;
+import inventory.notification.service.NotificationService;
+import inventory.notification.service.request.LowStockProduct;
+import inventory.notification.service.request.RecipientInfo;
+import inventory.outbound.domain.Outbound;
+import inventory.outbound.domain.enums.OutboundStatus;
+import inventory.outbound.repository.OutboundJdbcRepository;
+import inventory.outbound.repository.OutboundJdbcRepository.OutboundLineRow;
+import inventory.outbound.repository.OutboundRepository;
+import inventory.outbound.service.response.OutboundBulkResponse;
+import inventory.outbound.service.response.OutboundBulkResult;
+import inventory.product.domain.Product;
+import inventory.product.repository.ProductRepository;
+import inventory.supplier.domain.Supplier;
+import inventory.supplier.repository.SupplierRepository;
+import inventory.throughput.service.ThroughputService;
+import inventory.throughput.service.request.ThroughputLine;
+import inventory.warehouse.repository.WarehouseStockJdbcRepository;
+import inventory.warehouse.repository.WarehouseStockJdbcRepository.StockDelta;
+import inventory.warehouse.repository.WarehouseStockJdbcRepository.StockRow;
+import inventory.warehouse.service.SplitStockService;
+import inventory.warehouse.service.event.StockChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * 여러 출고의 상태를 한 번에 바꾼다.
+ * <p>
+ * 상태와 재고 조건은 출고마다 메모리에서 검증하고, 재고 증감은 (창고, 상품)별로 모아 한 번의 배치로 반영한다.
+ * 예약은 출고를 등록할 때 잡으므로 피킹 시작은 예약이 남아 있는지만 확인하고 재고를 바꾸지 않는다.
+ * 출고는 ID 순으로, 관련 재고는 상품 ID 순으로 처리 전에 잠그므로 같은 출고를 동시에 처리해도 한 번만 반영되고
+ * 메모리에서 계산한 가용 재고가 반영 시점까지 유지된다.
+ * 단건 처리와 잠금 순서가 달라 교착되면 {@link DeadlockRetry}로 다시 시도한다.
+ * 실패한 출고는 건너뛰고 ID별 결과에 사유를 담는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class OutboundBulkService {
+
+    private final OutboundRepository outboundRepository;
+    private final OutboundJdbcRepository outboundJdbcRepository;
+    private final WarehouseStockJdbcRepository warehouseStockJdbcRepository;
+    private final ProductRepository productRepository;
+    private final SupplierRepository supplierRepository;
+    private final NotificationService notificationService;
+    private final ThroughputService throughputService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SplitStockService splitStockService;
+
+    @DeadlockRetry
+    @Transactional
+    public OutboundBulkResponse startPickings(List<Long> outboundIds) {
+        return process(outboundIds, BulkAction.PICKING);
+    }
+
+    @DeadlockRetry
+    @Transactional
+    public OutboundBulkResponse completeOutbounds(List<Long> outboundIds) {
+        return process(outboundIds, BulkAction.COMPLETE);
+    }
+
+    @DeadlockRetry
+    @Transactional
+    public OutboundBulkResponse cancelOutbounds(List<Long> outboundIds) {
+        return process(outboundIds, BulkAction.CANCEL);
+    }
+
+    private OutboundBulkResponse process(List<Long> outboundIds, BulkAction action) {
+        if (outboundIds == null || outboundIds.isEmpty() || outboundIds.contains(null)) {
+            throw new CustomException(ExceptionCode.INVALID_INPUT);
+        }
+
+        List<Long> distinctIds = outboundIds.stream().distinct().toList();
+        Map<Long, Outbound> outbounds = outboundRepository.findAllForUpdate(distinctIds).stream()
+                .collect(toMap(Outbound::getOutboundId, Function.identity()));
+        Map<Long, Map<Long, Integer>> linesByOutbound = new HashMap<>();
+        for (OutboundLineRow line : outboundJdbcRepository.findLines(outbounds.keySet())) {
+            linesByOutbound.computeIfAbsent(line.outboundId(), key -> new LinkedHashMap<>())
+                    .merge(line.productId(), line.quantity(), Integer::sum);
+        }
+
+        Map<StockKey, StockState> stocks = lockStocks(outbounds, linesByOutbound);
+        Map<StockKey, int[]> deltas = new LinkedHashMap<>();
+        List<Outbound> shipped = new ArrayList<>();
+        List<OutboundBulkResult> results = new ArrayList<>(distinctIds.size());
+
+        for (Long outboundId : distinctIds) {
+            Outbound outbound = outbounds.get(outboundId);
+            if (outbound == null) {
+                results.add(OutboundBulkResult.failed(outboundId, "출고를 찾을 수 없습니다."));
+                continue;
+            }
+
+            if (!action.sourceStatuses.contains(outbound.getOutboundStatus())) {
+                results.add(OutboundBulkResult.failed(outboundId,
+                        "처리할 수 없는 출고 상태입니다. 현재 상태: " + outbound.getOutboundStatus()));
+                continue;
+            }
+
+            Map<Long, Integer> lines = linesByOutbound.getOrDefault(outboundId, Map.of());
+            String stockError = checkStock(outbound.getWarehouseId(), lines, stocks, action);
+            if (stockError != null) {
+                results.add(OutboundBulkResult.failed(outboundId, stockError));
+                continue;
+            }
+
+            outbound.updateStatus(action.targetStatus);
+            lines.forEach((productId, quantity) -> {
+                StockKey key = new StockKey(outbound.getWarehouseId(), productId);
+                int quantityDelta = action.quantitySign * quantity;
+                int reservedDelta = action.reservedSign * quantity;
+                stocks.get(key).apply(quantityDelta, reservedDelta);
+                int[] delta = deltas.computeIfAbsent(key, k -> new int[2]);
+                delta[0] += quantityDelta;
+                delta[1] += reservedDelta;
+            });
+            if (action == BulkAction.COMPLETE) {
+                shipped.add(outbound);
+            }
+            results.add(OutboundBulkResult.succeeded(outboundId));
+        }
+
+        List<StockDelta> stockDeltas = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> {
+            if (delta[0] != 0 || delta[1] != 0) {
+                stockDeltas.add(new StockDelta(key.warehouseId(), key.productId(), delta[0], delta[1]));
+            }
+        });
+        warehouseStockJdbcRepository.applyDeltas(stockDeltas);
+        stockDeltas.stream()
+                .collect(groupingBy(StockDelta::warehouseId, mapping(StockDelta::productId, toList())))
+                .forEach((warehouseId, productIds) ->
+                        eventPublisher.publishEvent(StockChangedEvent.of(warehouseId, productIds)));
+
+        if (!shipped.isEmpty()) {
+            recordThroughput(shipped, linesByOutbound);
+            notifyLowStock(deltas.keySet(), stocks);
+        }
+
+        OutboundBulkResponse response = OutboundBulkResponse.of(results);
+        log.info("출고 일괄 처리: 작업={}, 요청={}, 성공={}, 실패={}",
+                action, response.requestedCount(), response.succeededCount(), response.failedCount());
+        return response;
+    }
+
+    // 창고별로 필요한 재고를 상품 ID 순으로 잠근다. 버킷에 남은 수량은 재고 행의 예약에 잡혀 있으므로 함께 읽어
+    // 출고가 잡은 예약과 구분한다
+    private Map<StockKey, StockState> lockStocks(Map<Long, Outbound> outbounds,
+                                                 Map<Long, Map<Long, Integer>> linesByOutbound) {
+        Map<Long, Set<Long>> productIdsByWarehouse = new TreeMap<>();
+        outbounds.values().forEach(outbound -> productIdsByWarehouse
+                .computeIfAbsent(outbound.getWarehouseId(), key -> new TreeSet<>())
+                .addAll(linesByOutbound.getOrDefault(outbound.getOutboundId(), Map.of()).keySet()));
+
+        Map<StockKey, StockState> stocks = new HashMap<>();
+        productIdsByWarehouse.forEach((warehouseId, productIds) -> {
+            List<StockRow> rows = warehouseStockJdbcRepository.findForUpdate(warehouseId, productIds);
+            Map<Long, Integer> bucketQuantities = splitStockService.findBucketQuantities(warehouseId, productIds);
+            for (StockRow row : rows) {
+                stocks.put(new StockKey(row.warehouseId(), row.productId()),
+                        new StockState(row, bucketQuantities.getOrDefault(row.productId(), 0)));
+            }
+        });
+        return stocks;
+    }
+
+    private String checkStock(Long warehouseId, Map<Long, Integer> lines,
+                              Map<StockKey, StockState> stocks, BulkAction action) {
+        for (Map.Entry<Long, Integer> line : lines.entrySet()) {
+            StockState stock = stocks.get(new StockKey(warehouseId, line.getKey()));
+            if (stock == null) {
+                return "상품 ID " + line.getKey() + "의 재고를 찾을 수 없습니다.";
+            }
+
+            int quantity = line.getValue();
+            boolean enough = switch (action) {
+                case PICKING, CANCEL -> stock.reservedByOutbounds() >= quantity;
+                case COMPLETE -> stock.reservedByOutbounds() >= quantity && stock.quantity >= quantity;
+            };
+            if (!enough) {
+                return String.format("재고가 부족합니다. 상품 ID: %d, 현재 재고: %d, 예약: %d, 요청 수량: %d",
+                        line.getKey(), stock.quantity, stock.reservedByOutbounds(), quantity);
+            }
+        }
+        return null;
+    }
+
+    private void recordThroughput(List<Outbound> shipped, Map<Long, Map<Long, Integer>> linesByOutbound) {
+        Map<Long, Map<LocalDate, List<Outbound>>> byWarehouseAndDate = shipped.stream()
+                .collect(groupingBy(Outbound::getWarehouseId, groupingBy(Outbound::getShippedDate)));
+
+        byWarehouseAndDate.forEach((warehouseId, byDate) -> byDate.forEach((shippedDate, orders) -> {
+            List<ThroughputLine> lines = new ArrayList<>();
+            for (Outbound order : orders) {
+                linesByOutbound.getOrDefault(order.getOutboundId(), Map.of())
+                        .forEach((productId, quantity) -> lines.add(new ThroughputLine(productId, quantity)));
+            }
+            throughputService.recordShipments(warehouseId, shippedDate, orders.size(), lines);
+        }));
+    }
+
+    // 배치 전체에서 안전재고 아래로 내려간 상품을 모아 공급업체별로 한 번씩 알린다
+    private void notifyLowStock(Set<StockKey> touched, Map<StockKey, StockState> stocks) {
+        Map<Long, StockState> lowStocks = new LinkedHashMap<>();
+        for (StockKey key : touched) {
+            StockState stock = stocks.get(key);
+            if (stock.available() < stock.safetyStock) {
+                lowStocks.putIfAbsent(key.productId(), stock);
+            }
+        }
+        if (lowStocks.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<Product>> productsBySupplier = productRepository.findByIds(new ArrayList<>(lowStocks.keySet()))
+                .stream()
+                .collect(groupingBy(Product::getSupplierId));
+        Map<Long, Supplier> suppliers = supplierRepository.findAllById(productsBySupplier.keySet()).stream()
+                .collect(toMap(Supplier::getSupplierId, Function.identity()));
+
+        productsBySupplier.forEach((supplierId, products) -> {
+            Supplier supplier = suppliers.get(supplierId);
+            if (supplier == null) {
+                log.warn("재고 부족 알림 대상 공급업체를 찾을 수 없습니다. 공급업체 ID: {}", supplierId);
+                return;
+            }
+
+            List<LowStockProduct> lowStockProducts = products.stream()
+                    .map(product -> {
+                        StockState stock = lowStocks.get(product.getProductId());
+                        return new LowStockProduct(product.getProductName(), stock.quantity, stock.safetyStock);
+                    })
+                    .toList();
+            RecipientInfo recipient = new RecipientInfo(
+                    supplier.getManagerName(),
+                    supplier.getManagerContact(),
+                    supplier.getManagerEmail()
+            );
+            notificationService.sendLowStockNotification(recipient, lowStockProducts);
+        });
+    }
+
+    private enum BulkAction {
+        PICKING(EnumSet.of(OutboundStatus.ORDERED), OutboundStatus.PICKING, 0, 0),
+        COMPLETE(EnumSet.of(OutboundStatus.PICKING), OutboundStatus.SHIPPED, -1, -1),
+        CANCEL(EnumSet.of(OutboundStatus.ORDERED, OutboundStatus.PICKING), OutboundStatus.CANCELED, 0, -1);
+
+        private final Set<OutboundStatus> sourceStatuses;
+        private final OutboundStatus targetStatus;
+        private final int quantitySign;
+        private final int reservedSign;
+
+        BulkAction(Set<OutboundStatus> sourceStatuses, OutboundStatus targetStatus,
+                   int quantitySign, int reservedSign) {
+            this.sourceStatuses = sourceStatuses;
+            this.targetStatus = targetStatus;
+            this.quantitySign = quantitySign;
+            this.reservedSign = reservedSign;
+        }
+    }
+
+    private record StockKey(Long warehouseId, Long productId) {
+    }
+
+    private static class StockState {
+
+        private int quantity;
+        private int reservedQuantity;
+        private final int safetyStock;
+        private final int bucketQuantity;
+
+        private StockState(StockRow row, int bucketQuantity) {
+            this.quantity = row.quantity();
+            this.reservedQuantity = row.reservedQuantity();
+            this.safetyStock = row.safetyStock();
+            this.bucketQuantity = bucketQuantity;
+        }
+
+        private int reservedByOutbounds() {
+            return reservedQuantity - bucketQuantity;
+        }
+
+        private int available() {
+            return quantity - reservedByOutbounds();
+        }
+
+        private void apply(int quantityDelta, int reservedDelta) {
+            quantity += quantityDelta;
+            reservedQuantity += reservedDelta;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package inventory.outbound.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import inventory.archive.service.ArchivePolicy;
+import inventory.common.datasource.DataSourcePool;
+import inventory.common.datasource.PoolType;
+import inventory.common.export.ExportFormat;
+import inventory.common.export.RecordExportWriter;
+import inventory.outbound.domain.enums.OutboundStatus;
+import inventory.outbound.repository.OutboundQueryRepository;
+import inventory.outbound.service.query.OutboundSearchCondition;
+import inventory.outbound.service.response.OutboundSummaryResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class OutboundExportService {
+
+    private final OutboundQueryRepository outboundQueryRepository;
+    private final ObjectMapper objectMapper;
+    private final ArchivePolicy archivePolicy;
+
+    /**
+     * 검색 조건에 맞는 출고 목록을 커서로 읽으면서 바로 출력 스트림에 기록한다.
+     * 조건 기본값과 아카이브를 함께 읽는 기준은 출고 검색({@link OutboundService#searchOutbounds})과 같다.
+     */
+    @DataSourcePool(PoolType.REPORT)
+    @Transactional(readOnly = true)
+    public long exportOutbounds(
+            String orderNumber, Long warehouseId, OutboundStatus status,
+            LocalDate startDate, LocalDate endDate,
+            ExportFormat format, OutputStream outputStream) {
+
+        LocalDate defaultStartDate = startDate != null ? startDate : LocalDate.now();
+        LocalDate defaultEndDate = endDate != null ? endDate : LocalDate.now();
+
+        OutboundSearchCondition condition = new OutboundSearchCondition(
+                orderNumber, warehouseId, status, defaultStartDate, defaultEndDate
+        );
+
+        try (Stream<OutboundSummaryResponse> rows = archivePolicy.requiresArchive(defaultStartDate)
+                ? outboundQueryRepository.streamOutboundSummariesIncludingArchive(condition)
+                : outboundQueryRepository.streamOutboundSummaries(condition);
+             RecordExportWriter<OutboundSummaryResponse> writer = new RecordExportWriter<>(
+                     outputStream, format, objectMapper, OutboundSummaryResponse.class)) {
+            rows.forEach(writer::write);
+
+            log.info("출고 내보내기 완료: 형식={}, 건수={}", format, writer.getCount());
+            return writer.getCount();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
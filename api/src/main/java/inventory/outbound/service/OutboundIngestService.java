@@ -0,0 +1,211 @@
+package inventory.outbound.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import inventory.common.exception.CustomException;
+import inventory.outbound.service.request.CreateOutboundRequest;
+import inventory.outbound.service.request.OutboundProductRequest;
+import inventory.outbound.service.response.OutboundIngestResult;
+import inventory.warehouse.repository.WarehouseStockJdbcRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 줄 단위 JSON(NDJSON)이나 바이너리 JSON(Smile)으로 들어오는 출고 주문 스트림을 받아 결과를 같은 형식의 스트림으로 돌려준다.
+ * <p>
+ * Smile은 JSON과 같은 요청/응답 타입을 쓰면서 필드 이름과 숫자를 바이너리로 줄여 주문당 전송 크기와 파싱 비용을 낮춘다.
+ * 주문은 {@code batch-size}건씩 한 트랜잭션으로 등록한다. 배치 안에서 한 건이라도 실패하면 배치를 되돌리고 한 건씩 다시 등록해
+ * 실패한 주문만 골라낸다. 한 배치의 결과를 내보낸 뒤에야 다음 주문을 읽으므로, 서버가 밀리면 요청 스트림을 읽는 속도도 함께 늦춰진다.
+ * 배치 트랜잭션은 주문을 등록하기 전에 배치가 쓸 재고 행을 모두 (창고, 상품) 순으로 잠근다. 주문 순서대로 잠그면 상품이 겹치는
+ * 두 배치가 서로의 행을 기다리며 교착되지만, 먼저 모두 잠그면 나중 배치는 앞 배치가 끝날 때까지 기다리기만 한다.
+ */
+@Slf4j
+@Service
+public class OutboundIngestService {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    private final OutboundService outboundService;
+    private final WarehouseStockJdbcRepository warehouseStockJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final Map<Format, Codec> codecs = new EnumMap<>(Format.class);
+    private final int batchSize;
+
+    public OutboundIngestService(
+            OutboundService outboundService,
+            WarehouseStockJdbcRepository warehouseStockJdbcRepository,
+            TransactionTemplate transactionTemplate,
+            Validator validator,
+            ObjectMapper objectMapper,
+            @Value("${outbound-ingest.batch-size:100}") int batchSize
+    ) {
+        this.outboundService = outboundService;
+        this.warehouseStockJdbcRepository = warehouseStockJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.batchSize = batchSize;
+        codecs.put(Format.NDJSON, Codec.of(objectMapper, true));
+        // 날짜 모듈 같은 설정을 그대로 쓰도록 애플리케이션 ObjectMapper를 Smile 팩토리로 복사한다
+        codecs.put(Format.SMILE, Codec.of(objectMapper.copyWith(new SmileFactory()), false));
+    }
+
+    public long ingest(InputStream in, OutputStream out) throws IOException {
+        return ingest(in, out, Format.NDJSON);
+    }
+
+    /**
+     * 요청 스트림이 끝날 때까지 주문을 등록하고 결과를 한 건씩 쓴다. 처리한 주문 수를 반환한다.
+     */
+    public long ingest(InputStream in, OutputStream out, Format format) throws IOException {
+        Codec codec = codecs.get(format);
+        List<PendingOrder> batch = new ArrayList<>(batchSize);
+        long sequence = 0;
+        long created = 0;
+
+        try (MappingIterator<CreateOutboundRequest> orders = codec.requestReader().readValues(in);
+             JsonGenerator generator = codec.mapper().getFactory().createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+
+            while (true) {
+                CreateOutboundRequest request;
+                try {
+                    if (!orders.hasNextValue()) {
+                        break;
+                    }
+                    request = orders.nextValue();
+                } catch (JsonProcessingException e) {
+                    // 깨진 줄 뒤로는 주문 경계를 믿을 수 없으므로 받은 주문까지만 처리하고 멈춘다
+                    created += write(process(batch), generator, codec);
+                    batch.clear();
+                    write(List.of(OutboundIngestResult.failed(sequence + 1,
+                            "요청 형식이 올바르지 않습니다: " + e.getOriginalMessage())), generator, codec);
+                    break;
+                }
+
+                batch.add(new PendingOrder(++sequence, request));
+                if (batch.size() == batchSize) {
+                    created += write(process(batch), generator, codec);
+                    batch.clear();
+                }
+            }
+            created += write(process(batch), generator, codec);
+        }
+
+        log.info("출고 스트림 수신: 형식={}, 주문 {}건, 등록 {}건", format, sequence, created);
+        return sequence;
+    }
+
+    private List<OutboundIngestResult> process(List<PendingOrder> batch) {
+        List<OutboundIngestResult> results = new ArrayList<>(batch.size());
+        List<PendingOrder> valid = new ArrayList<>(batch.size());
+        for (PendingOrder order : batch) {
+            Set<ConstraintViolation<CreateOutboundRequest>> violations = validator.validate(order.request());
+            if (violations.isEmpty()) {
+                valid.add(order);
+            } else {
+                results.add(OutboundIngestResult.failed(order.sequence(), violations.iterator().next().getMessage()));
+            }
+        }
+        if (valid.isEmpty()) {
+            return results;
+        }
+
+        try {
+            results.addAll(transactionTemplate.execute(status -> {
+                lockStocks(valid);
+                List<OutboundIngestResult> created = new ArrayList<>(valid.size());
+                for (PendingOrder order : valid) {
+                    created.add(OutboundIngestResult.succeeded(
+                            order.sequence(), outboundService.createOutbound(order.request())));
+                }
+                return created;
+            }));
+        } catch (RuntimeException e) {
+            log.debug("출고 배치 등록 실패, 한 건씩 다시 등록합니다: {}", e.getMessage());
+            for (PendingOrder order : valid) {
+                results.add(createOne(order));
+            }
+        }
+
+        results.sort(Comparator.comparingLong(OutboundIngestResult::sequence));
+        return results;
+    }
+
+    private void lockStocks(List<PendingOrder> orders) {
+        Map<Long, Set<Long>> productIdsByWarehouse = new TreeMap<>();
+        for (PendingOrder order : orders) {
+            Set<Long> productIds = productIdsByWarehouse.computeIfAbsent(
+                    order.request().warehouseId(), key -> new TreeSet<>());
+            for (OutboundProductRequest product : order.request().products()) {
+                productIds.add(product.productId());
+            }
+        }
+        productIdsByWarehouse.forEach(warehouseStockJdbcRepository::findForUpdate);
+    }
+
+    private OutboundIngestResult createOne(PendingOrder order) {
+        try {
+            return OutboundIngestResult.succeeded(order.sequence(), outboundService.createOutbound(order.request()));
+        } catch (CustomException e) {
+            return OutboundIngestResult.failed(order.sequence(), e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("출고 스트림 주문 등록 실패: 순번 {}", order.sequence(), e);
+            return OutboundIngestResult.failed(order.sequence(), "출고 등록에 실패했습니다.");
+        }
+    }
+
+    // 결과를 한 건씩 쓰고 배치 단위로 내보낸다. 성공한 건수를 반환한다
+    private int write(List<OutboundIngestResult> results, JsonGenerator generator, Codec codec) throws IOException {
+        int succeeded = 0;
+        for (OutboundIngestResult result : results) {
+            codec.resultWriter().writeValue(generator, result);
+            if (codec.lineDelimited()) {
+                generator.writeRaw('\n');
+            }
+            if (result.success()) {
+                succeeded++;
+            }
+        }
+        generator.flush();
+        return succeeded;
+    }
+
+    public enum Format {
+        NDJSON,
+        SMILE
+    }
+
+    private record Codec(ObjectMapper mapper, ObjectReader requestReader, ObjectWriter resultWriter,
+                         boolean lineDelimited) {
+
+        private static Codec of(ObjectMapper mapper, boolean lineDelimited) {
+            return new Codec(mapper, mapper.readerFor(CreateOutboundRequest.class),
+                    mapper.writerFor(OutboundIngestResult.class), lineDelimited);
+        }
+    }
+
+    private record PendingOrder(long sequence, CreateOutboundRequest request) {
+    }
+}
@@ -1,7 +1,12 @@
 package inventory.outbound.service;
 
+import inventory.archive.service.ArchivePolicy;
+import inventory.common.admission.WarehouseAdmission;
+import inventory.common.datasource.DataSourcePool;
+import inventory.common.datasource.PoolType;
 import inventory.common.exception.CustomException;
 import inventory.common.exception.ExceptionCode;
+import inventory.common.retry.DeadlockRetry;
 import inventory.notification.service.NotificationService;
 import inventory.notification.service.request.LowStockProduct;
 import inventory.notification.service.request.RecipientInfo;
@@ -21,11 +26,16 @@ import inventory.product.domain.Product;
 import inventory.product.repository.ProductRepository;
 import inventory.supplier.domain.Supplier;
 import inventory.supplier.repository.SupplierRepository;
+import inventory.throughput.service.ThroughputService;
+import inventory.throughput.service.request.ThroughputLine;
 import inventory.warehouse.domain.Warehouse;
 import inventory.warehouse.domain.WarehouseStock;
 import inventory.warehouse.repository.WarehouseRepository;
 import inventory.warehouse.repository.WarehouseStockRepository;
+import inventory.warehouse.service.SplitStockService;
+import inventory.warehouse.service.event.StockChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -51,7 +61,15 @@ public class OutboundService {
     private final ProductRepository productRepository;
     private final SupplierRepository supplierRepository;
     private final NotificationService notificationService;
-
+    private final ArchivePolicy archivePolicy;
+    private final ThroughputService throughputService;
+    private final ReservationExpiryService reservationExpiryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboundStockLocker outboundStockLocker;
+    private final SplitStockService splitStockService;
+
+    @WarehouseAdmission
+    @DeadlockRetry
     @Transactional
     public OutboundResponse createOutbound(CreateOutboundRequest request) {
         // 창고를 찾는다.
@@ -86,8 +104,8 @@ public class OutboundService {
         }
 
         Map<Long, WarehouseStock> stockMap = new HashMap<>();
-        for (WarehouseStock warehouseStock : warehouseStockRepository.findByWarehouseIdAndProductIdIn(
-                warehouse.getWarehouseId(), productIds)) {
+        List<WarehouseStock> stocks = outboundStockLocker.findStocksToReserve(warehouse.getWarehouseId(), productIds);
+        for (WarehouseStock warehouseStock : stocks) {
             stockMap.put(warehouseStock.getProductId(), warehouseStock);
         }
 
@@ -103,10 +121,11 @@ public class OutboundService {
         List<OutboundProduct> savedOutboundProducts = outboundProductRepository.saveAll(outboundProducts);
 
         for (OutboundProductRequest productRequest : request.products()) {
-            WarehouseStock stock = stockMap.get(productRequest.productId());
-            stock.reserve(productRequest.quantity());
+            reserve(stockMap.get(productRequest.productId()), productRequest.quantity(), savedOutbound.getOutboundId());
         }
         warehouseStockRepository.saveAll(new ArrayList<>(stockMap.values()));
+        eventPublisher.publishEvent(StockChangedEvent.of(warehouse.getWarehouseId(), stockMap.keySet()));
+        reservationExpiryService.register(savedOutbound.getOutboundId(), savedOutbound.getCreatedAt());
 
         List<OutboundProductResponse> outboundProductResponses = new ArrayList<>();
         for (OutboundProduct savedOutboundProduct : savedOutboundProducts) {
@@ -130,10 +149,11 @@ public class OutboundService {
                 .collect(toMap(Product::getProductId, p -> p));
 
         // 3. 재고 정보 일괄 조회
-        List<WarehouseStock> stockList = warehouseStockRepository.findByWarehouseIdAndProductIdIn(warehouseId,
-                productIds);
+        List<WarehouseStock> stockList = outboundStockLocker.findStocksToReserve(warehouseId, productIds);
         Map<Long, WarehouseStock> stockMap = stockList.stream()
                 .collect(toMap(WarehouseStock::getProductId, s -> s));
+        // 버킷으로 나뉜 재고는 버킷에 남은 수량도 예약할 수 있다
+        Map<Long, Integer> bucketQuantities = splitStockService.findBucketQuantities(warehouseId, productIds);
 
         // 4. 검증
         for (OutboundProductRequest productRequest : products) {
@@ -149,7 +169,9 @@ public class OutboundService {
                         "창고에 해당 상품의 재고가 없습니다. 상품: " + product.getProductName());
             }
 
-            if (!warehouseStock.hasEnoughStock(productRequest.quantity())) {
+            int available = warehouseStock.getAvailableQuantity()
+                    + bucketQuantities.getOrDefault(productRequest.productId(), 0);
+            if (available < productRequest.quantity()) {
                 throw new CustomException(ExceptionCode.INSUFFICIENT_STOCK,
                         String.format("재고가 부족합니다. 상품: %s, 현재 재고: %d, 요청 수량: %d",
                                 product.getProductName(),
@@ -159,6 +181,7 @@ public class OutboundService {
         }
     }
 
+    @DeadlockRetry
     @Transactional
     public void startPicking(Long outboundId) {
         Outbound outbound = outboundRepository.findById(outboundId)
@@ -169,9 +192,11 @@ public class OutboundService {
                     "출고 상태가 ORDERED가 아닙니다. 현재 상태: " + outbound.getOutboundStatus());
         }
 
+        // 예약은 출고를 등록할 때 잡았으므로 남아 있는지만 확인한다. 버킷에 남은 수량은 출고의 예약이 아니다
         List<OutboundProduct> outboundProducts = outboundProductRepository.findByOutboundId(outboundId);
-
         Map<Long, WarehouseStock> stockMap = getWarehouseStockMap(outbound.getWarehouseId(), outboundProducts);
+        Map<Long, Integer> bucketQuantities = splitStockService.findBucketQuantities(
+                outbound.getWarehouseId(), stockMap.keySet());
 
         for (OutboundProduct outboundProduct : outboundProducts) {
             WarehouseStock stock = stockMap.get(outboundProduct.getProductId());
@@ -180,14 +205,18 @@ public class OutboundService {
                         "상품 ID " + outboundProduct.getProductId() + "의 재고를 찾을 수 없습니다.");
             }
 
-            stock.reserve(outboundProduct.getRequestedQuantity());
+            int reserved = stock.getReservedQuantity()
+                    - bucketQuantities.getOrDefault(outboundProduct.getProductId(), 0);
+            if (reserved < outboundProduct.getRequestedQuantity()) {
+                throw new CustomException(ExceptionCode.INSUFFICIENT_STOCK,
+                        "예약된 재고가 부족합니다. 상품 ID: " + outboundProduct.getProductId());
+            }
         }
 
-        warehouseStockRepository.saveAll(new ArrayList<>(stockMap.values()));
-
         outbound.updateStatus(OutboundStatus.PICKING);
     }
 
+    @DeadlockRetry
     @Transactional
     public void completeOutbound(Long outboundId) {
         Outbound outbound = outboundRepository.findById(outboundId)
@@ -200,6 +229,8 @@ public class OutboundService {
         Map<Long, WarehouseStock> stockMap = getWarehouseStockMap(outbound.getWarehouseId(), outboundProducts);
 
         // 재고 차감 처리
+        Map<Long, Integer> bucketQuantities = splitStockService.findBucketQuantities(
+                outbound.getWarehouseId(), stockMap.keySet());
         List<Long> lowStockProductIds = new ArrayList<>();
         for (OutboundProduct outboundProduct : outboundProducts) {
             WarehouseStock stock = stockMap.get(outboundProduct.getProductId());
@@ -208,10 +239,19 @@ public class OutboundService {
             }
             stock.confirmShipment(outboundProduct.getRequestedQuantity());
 
-            if (stock.isBelowSafetyStock()) {
+            int available = stock.getAvailableQuantity()
+                    + bucketQuantities.getOrDefault(outboundProduct.getProductId(), 0);
+            if (available < stock.getSafetyStock()) {
                 lowStockProductIds.add(outboundProduct.getProductId());
             }
         }
+        eventPublisher.publishEvent(StockChangedEvent.of(outbound.getWarehouseId(), stockMap.keySet()));
+
+        throughputService.recordShipment(outbound.getWarehouseId(), outbound.getShippedDate(),
+                outboundProducts.stream()
+                        .map(outboundProduct -> new ThroughputLine(
+                                outboundProduct.getProductId(), outboundProduct.getRequestedQuantity()))
+                        .toList());
 
         // 재고 부족 상품이 있으면 공급업체 관리자에게 알림 발송
         if (!lowStockProductIds.isEmpty()) {
@@ -243,6 +283,7 @@ public class OutboundService {
         }
     }
 
+    @DeadlockRetry
     @Transactional
     public void cancelOutbound(Long outboundId) {
         Outbound outbound = outboundRepository.findById(outboundId)
@@ -266,8 +307,23 @@ public class OutboundService {
             }
             stock.releaseReservation(outboundProduct.getRequestedQuantity());
         }
+        eventPublisher.publishEvent(StockChangedEvent.of(outbound.getWarehouseId(), stockMap.keySet()));
     }
 
+    /**
+     * 상세 응답을 만들지 않고 쿼리 한 번으로 출고 상세의 ETag를 구한다.
+     */
+    @DataSourcePool(PoolType.READ)
+    @Transactional(readOnly = true)
+    public String findETag(Long id) {
+        if (id == null) {
+            throw new CustomException(ExceptionCode.INVALID_INPUT);
+        }
+        return outboundQueryRepository.findOutboundETag(id)
+                .orElseThrow(() -> new CustomException(ExceptionCode.DATA_NOT_FOUND));
+    }
+
+    @DataSourcePool(PoolType.READ)
     @Transactional(readOnly = true)
     public OutboundResponse findById(Long id) {
         if (id == null) {
@@ -304,6 +360,7 @@ public class OutboundService {
         return OutboundResponse.from(outbound, warehouse, outboundProductResponses);
     }
 
+    @DataSourcePool(PoolType.READ)
     @Transactional(readOnly = true)
     public Page<OutboundSummaryResponse> searchOutbounds(
             String orderNumber, Long warehouseId, OutboundStatus status,
@@ -316,6 +373,9 @@ public class OutboundService {
                 orderNumber, warehouseId, status, defaultStartDate, defaultEndDate
         );
 
+        if (archivePolicy.requiresArchive(defaultStartDate)) {
+            return outboundQueryRepository.findOutboundSummariesIncludingArchive(condition, pageable);
+        }
         return outboundQueryRepository.findOutboundSummaries(condition, pageable);
     }
 
@@ -325,15 +385,57 @@ public class OutboundService {
             throw new CustomException(ExceptionCode.INVALID_INPUT);
         }
 
-        outboundRepository.findById(id)
-                .orElseThrow(() -> new CustomException(ExceptionCode.DATA_NOT_FOUND));
+        if (!outboundRepository.existsById(id)) {
+            throw new CustomException(ExceptionCode.DATA_NOT_FOUND);
+        }
 
-        List<OutboundProduct> outboundProducts = outboundProductRepository.findByOutboundId(id);
-        for (OutboundProduct outboundProduct : outboundProducts) {
-            outboundProductRepository.deleteById(outboundProduct.getOutboundProductId());
+        softDelete(List.of(id));
+    }
+
+    /**
+     * 여러 출고를 한 번에 삭제한다. 하나라도 없으면 아무것도 삭제하지 않는다.
+     */
+    @Transactional
+    public void deleteOutbounds(List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.contains(null)) {
+            throw new CustomException(ExceptionCode.INVALID_INPUT);
+        }
+
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        if (outboundRepository.countByOutboundIdIn(distinctIds) != distinctIds.size()) {
+            throw new CustomException(ExceptionCode.DATA_NOT_FOUND);
+        }
+
+        softDelete(distinctIds);
+    }
+
+    // 라인과 헤더를 각각 한 번의 UPDATE로 소프트 삭제한다
+    private void softDelete(List<Long> outboundIds) {
+        outboundProductRepository.softDeleteByOutboundIds(outboundIds);
+        outboundRepository.softDeleteByIds(outboundIds);
+    }
+
+    // 버킷으로 나뉜 재고는 버킷에서, 아니면 재고 행에서 예약한다. 재고 행이 모자라면 그 사이에 나뉘었을 수 있으므로
+    // 버킷을 잠가 다시 확인하고, 그래도 모자라면 재고 부족으로 실패한다
+    private void reserve(WarehouseStock stock, int quantity, Long outboundId) {
+        Long warehouseId = stock.getWarehouseId();
+        Long productId = stock.getProductId();
+        if (splitStockService.reserveFromBuckets(warehouseId, productId, quantity, outboundId)) {
+            return;
         }
 
-        outboundRepository.deleteById(id);
+        int remaining = quantity;
+        if (!stock.hasEnoughStock(remaining)) {
+            remaining = splitStockService.takeFromLockedBuckets(warehouseId, productId, remaining);
+        }
+        if (remaining == 0) {
+            return;
+        }
+        if (!stock.hasEnoughStock(remaining)) {
+            throw new CustomException(ExceptionCode.INSUFFICIENT_STOCK,
+                    "예약 가능한 재고가 부족합니다. 상품 ID: " + productId);
+        }
+        stock.reserve(remaining);
     }
 
     private Map<Long, WarehouseStock> getWarehouseStockMap(Long warehouseId, List<OutboundProduct> outboundProducts) {
@@ -341,8 +443,7 @@ public class OutboundService {
                 .map(OutboundProduct::getProductId)
                 .toList();
 
-        List<WarehouseStock> stockList = warehouseStockRepository.findByWarehouseIdAndProductIdIn(warehouseId,
-                productIds);
+        List<WarehouseStock> stockList = outboundStockLocker.findStocks(warehouseId, productIds);
         return stockList.stream()
                 .collect(toMap(WarehouseStock::getProductId, s -> s));
     }
@@ -0,0 +1,90 @@
+package inventory.outbound.service;
+
+import inventory.warehouse.domain.WarehouseStock;
+import inventory.warehouse.repository.WarehouseStockQueryRepository;
+import inventory.warehouse.repository.WarehouseStockRepository;
+import inventory.warehouse.service.SplitStockService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 출고 처리에서 변경할 재고 행을 읽는다.
+ * <p>
+ * PESSIMISTIC 모드에서는 필요한 행을 상품 ID 순으로 한 문장에서 잠근다. 요청에 적힌 순서대로 잠그면 상품이 겹치는
+ * 여러 줄 출고끼리 교착되지만, 모두 같은 순서로 잠그면 먼저 잠근 쪽이 끝날 때까지 기다리기만 한다.
+ * 잠금 대기 시간은 쓰기 풀의 innodb_lock_wait_timeout을 따르고, nowait이면 기다리지 않고 바로 실패한다.
+ * 교착이나 잠금 실패로 롤백된 요청은 {@link inventory.common.retry.DeadlockRetry}로 다시 시도한다.
+ * 예약할 재고 중 버킷으로 나뉜 재고는 예약이 재고 행을 거치지 않으므로 잠그지 않는다. 나뉘었는지는 예약하는 트랜잭션에서
+ * 버킷 테이블을 읽어 정하므로 REPEATABLE READ에서는 예약할 때 버킷을 다시 읽어도 같은 결과를 본다.
+ */
+@Component
+public class OutboundStockLocker {
+
+    private final WarehouseStockRepository warehouseStockRepository;
+    private final WarehouseStockQueryRepository warehouseStockQueryRepository;
+    private final SplitStockService splitStockService;
+    private final LockMode mode;
+    private final boolean nowait;
+
+    public OutboundStockLocker(
+            WarehouseStockRepository warehouseStockRepository,
+            WarehouseStockQueryRepository warehouseStockQueryRepository,
+            SplitStockService splitStockService,
+            @Value("${outbound.stock-lock.mode:NONE}") LockMode mode,
+            @Value("${outbound.stock-lock.nowait:false}") boolean nowait
+    ) {
+        this.warehouseStockRepository = warehouseStockRepository;
+        this.warehouseStockQueryRepository = warehouseStockQueryRepository;
+        this.splitStockService = splitStockService;
+        this.mode = mode;
+        this.nowait = nowait;
+    }
+
+    public List<WarehouseStock> findStocks(Long warehouseId, Collection<Long> productIds) {
+        if (mode == LockMode.PESSIMISTIC) {
+            return warehouseStockQueryRepository.findForUpdate(warehouseId, new TreeSet<>(productIds), nowait);
+        }
+        return warehouseStockRepository.findByWarehouseIdAndProductIdIn(warehouseId, new ArrayList<>(productIds));
+    }
+
+    /**
+     * 예약할 재고를 읽는다. 버킷으로 나뉜 재고는 잠그지 않고 읽는다.
+     */
+    public List<WarehouseStock> findStocksToReserve(Long warehouseId, Collection<Long> productIds) {
+        if (mode != LockMode.PESSIMISTIC) {
+            return findStocks(warehouseId, productIds);
+        }
+
+        Set<Long> splitProductIds = splitStockService.findSplitProductIds(warehouseId, productIds);
+        Set<Long> locked = new TreeSet<>();
+        List<Long> split = new ArrayList<>();
+        for (Long productId : productIds) {
+            if (splitProductIds.contains(productId)) {
+                split.add(productId);
+            } else {
+                locked.add(productId);
+            }
+        }
+        List<WarehouseStock> stocks = new ArrayList<>();
+        if (!locked.isEmpty()) {
+            stocks.addAll(findStocks(warehouseId, locked));
+        }
+        if (!split.isEmpty()) {
+            stocks.addAll(warehouseStockRepository.findByWarehouseIdAndProductIdIn(warehouseId, split));
+        }
+        return stocks;
+    }
+
+    public enum LockMode {
+        // 잠그지 않고 읽는다
+        NONE,
+        // 상품 ID 순으로 SELECT ... FOR UPDATE
+        PESSIMISTIC
+    }
+}
@@ -0,0 +1,213 @@
+package inventory.outbound.service;
+
+import inventory.common.exception.CustomException;
+import inventory.common.exception.ExceptionCode;
+import inventory.outbound.domain.PickingWave;
+import inventory.outbound.domain.PickingWaveItem;
+import inventory.outbound.domain.enums.OutboundStatus;
+import inventory.outbound.repository.OutboundJdbcRepository;
+import inventory.outbound.repository.OutboundJdbcRepository.OutboundLineRow;
+import inventory.outbound.repository.OutboundJdbcRepository.WaveCandidateRow;
+import inventory.outbound.repository.OutboundRepository;
+import inventory.outbound.repository.PickingWaveItemRepository;
+import inventory.outbound.repository.PickingWaveRepository;
+import inventory.outbound.service.response.PickListItemResponse;
+import inventory.outbound.service.response.PickingWaveResponse;
+import inventory.outbound.service.util.WavePlanner;
+import inventory.outbound.service.util.WavePlanner.PlannedWave;
+import inventory.outbound.service.util.WavePlanner.WaveOrder;
+import inventory.product.domain.Product;
+import inventory.product.repository.ProductRepository;
+import inventory.warehouse.domain.Warehouse;
+import inventory.warehouse.repository.WarehouseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * 출고 예정일이 된 ORDERED 출고를 웨이브로 묶어 한 번에 피킹 상태로 바꾸고 상품별 통합 피킹 목록을 만든다.
+ * <p>
+ * 재고 예약은 출고 등록 시점에 이미 이루어졌으므로 웨이브 배정은 상태와 웨이브 ID만 바꾼다.
+ * 대상 출고는 조회 시점에 잠가 단건 피킹/취소와 동시에 처리되지 않게 한다.
+ */
+@Slf4j
+@Service
+public class PickingWaveService {
+
+    private final OutboundRepository outboundRepository;
+    private final OutboundJdbcRepository outboundJdbcRepository;
+    private final PickingWaveRepository pickingWaveRepository;
+    private final PickingWaveItemRepository pickingWaveItemRepository;
+    private final ProductRepository productRepository;
+    private final WarehouseRepository warehouseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final WavePlanner wavePlanner;
+    private final boolean enabled;
+    private final int maxOutboundsPerRun;
+
+    public PickingWaveService(
+            OutboundRepository outboundRepository,
+            OutboundJdbcRepository outboundJdbcRepository,
+            PickingWaveRepository pickingWaveRepository,
+            PickingWaveItemRepository pickingWaveItemRepository,
+            ProductRepository productRepository,
+            WarehouseRepository warehouseRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${wave.enabled:true}") boolean enabled,
+            @Value("${wave.max-outbounds-per-wave:200}") int maxOutboundsPerWave,
+            @Value("${wave.max-quantity-per-wave:5000}") long maxQuantityPerWave,
+            @Value("${wave.max-outbounds-per-run:10000}") int maxOutboundsPerRun
+    ) {
+        this.outboundRepository = outboundRepository;
+        this.outboundJdbcRepository = outboundJdbcRepository;
+        this.pickingWaveRepository = pickingWaveRepository;
+        this.pickingWaveItemRepository = pickingWaveItemRepository;
+        this.productRepository = productRepository;
+        this.warehouseRepository = warehouseRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.wavePlanner = new WavePlanner(maxOutboundsPerWave, maxQuantityPerWave);
+        this.enabled = enabled;
+        this.maxOutboundsPerRun = maxOutboundsPerRun;
+    }
+
+    // 출고 컷오프(10시)에 맞춰 당일까지 예정된 출고를 웨이브로 묶는다
+    @Scheduled(cron = "${wave.cron:0 0 10 * * *}")
+    public void planAtCutoff() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        for (Warehouse warehouse : warehouseRepository.findAll()) {
+            try {
+                List<PickingWaveResponse> waves = planWaves(warehouse.getWarehouseId(), today);
+                log.info("웨이브 생성: 창고 ID={}, 웨이브={}개", warehouse.getWarehouseId(), waves.size());
+            } catch (RuntimeException e) {
+                log.error("웨이브 생성 실패: 창고 ID={}", warehouse.getWarehouseId(), e);
+            }
+        }
+    }
+
+    /**
+     * 창고의 출고 예정일이 {@code planningDate} 이전인 ORDERED 출고를 웨이브로 묶어 피킹을 시작한다.
+     */
+    public List<PickingWaveResponse> planWaves(Long warehouseId, LocalDate planningDate) {
+        if (warehouseId == null || planningDate == null) {
+            throw new CustomException(ExceptionCode.INVALID_INPUT);
+        }
+        if (!warehouseRepository.existsById(warehouseId)) {
+            throw new CustomException(ExceptionCode.DATA_NOT_FOUND, "창고를 찾을 수 없습니다.");
+        }
+
+        return transactionTemplate.execute(status -> {
+            List<WaveCandidateRow> candidates =
+                    outboundJdbcRepository.findWaveCandidatesForUpdate(warehouseId, planningDate, maxOutboundsPerRun);
+            if (candidates.isEmpty()) {
+                return List.of();
+            }
+
+            Map<Long, List<OutboundLineRow>> linesByOutbound = new HashMap<>();
+            for (OutboundLineRow line : outboundJdbcRepository.findLines(
+                    candidates.stream().map(WaveCandidateRow::outboundId).toList())) {
+                linesByOutbound.computeIfAbsent(line.outboundId(), key -> new ArrayList<>()).add(line);
+            }
+
+            List<WaveOrder> orders = candidates.stream()
+                    .map(candidate -> new WaveOrder(candidate.outboundId(), candidate.expectedDate(),
+                            linesByOutbound.getOrDefault(candidate.outboundId(), List.of()).stream()
+                                    .mapToLong(OutboundLineRow::quantity)
+                                    .sum()))
+                    .toList();
+
+            List<PickingWaveResponse> responses = new ArrayList<>();
+            Map<Long, Product> productCache = new HashMap<>();
+            for (PlannedWave plannedWave : wavePlanner.plan(orders)) {
+                responses.add(createWave(warehouseId, plannedWave, linesByOutbound, productCache));
+            }
+            return responses;
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public PickingWaveResponse findById(Long pickingWaveId) {
+        PickingWave wave = pickingWaveRepository.findById(pickingWaveId)
+                .orElseThrow(() -> new CustomException(ExceptionCode.DATA_NOT_FOUND, "웨이브를 찾을 수 없습니다."));
+        List<PickingWaveItem> items = pickingWaveItemRepository.findByPickingWaveIdOrderByProductId(pickingWaveId);
+        return toResponse(wave, items, new HashMap<>());
+    }
+
+    private PickingWaveResponse createWave(Long warehouseId, PlannedWave plannedWave,
+                                           Map<Long, List<OutboundLineRow>> linesByOutbound,
+                                           Map<Long, Product> productCache) {
+        PickingWave wave = pickingWaveRepository.save(PickingWave.builder()
+                .warehouseId(warehouseId)
+                .expectedDate(plannedWave.expectedDate())
+                .outboundCount(plannedWave.outboundIds().size())
+                .totalQuantity(plannedWave.totalQuantity())
+                .build());
+
+        int assigned = outboundRepository.assignWave(plannedWave.outboundIds(), wave.getPickingWaveId(),
+                OutboundStatus.ORDERED, OutboundStatus.PICKING);
+        if (assigned != plannedWave.outboundIds().size()) {
+            // 대상 행을 잠갔으므로 정상이라면 일어나지 않는다
+            throw new IllegalStateException("웨이브 배정 중 출고 상태가 변경되었습니다. 웨이브: " + wave.getWaveNumber());
+        }
+
+        // 상품별로 수량과 출고 수를 합친다 (배열 순서: 수량, 출고 수)
+        Map<Long, long[]> totals = new TreeMap<>();
+        for (Long outboundId : plannedWave.outboundIds()) {
+            Map<Long, Long> perOutbound = new LinkedHashMap<>();
+            for (OutboundLineRow line : linesByOutbound.getOrDefault(outboundId, List.of())) {
+                perOutbound.merge(line.productId(), (long) line.quantity(), Long::sum);
+            }
+            perOutbound.forEach((productId, quantity) -> {
+                long[] total = totals.computeIfAbsent(productId, key -> new long[2]);
+                total[0] += quantity;
+                total[1]++;
+            });
+        }
+
+        List<PickingWaveItem> items = new ArrayList<>(totals.size());
+        totals.forEach((productId, total) -> items.add(PickingWaveItem.builder()
+                .pickingWaveId(wave.getPickingWaveId())
+                .productId(productId)
+                .quantity(total[0])
+                .outboundCount((int) total[1])
+                .build()));
+        pickingWaveItemRepository.saveAll(items);
+
+        return toResponse(wave, items, productCache);
+    }
+
+    private PickingWaveResponse toResponse(PickingWave wave, List<PickingWaveItem> items,
+                                           Map<Long, Product> productCache) {
+        List<Long> missing = items.stream()
+                .map(PickingWaveItem::getProductId)
+                .filter(productId -> !productCache.containsKey(productId))
+                .distinct()
+                .toList();
+        if (!missing.isEmpty()) {
+            productCache.putAll(productRepository.findByIds(missing).stream()
+                    .collect(toMap(Product::getProductId, Function.identity())));
+        }
+
+        List<PickListItemResponse> pickList = items.stream()
+                .map(item -> PickListItemResponse.from(item, productCache.get(item.getProductId())))
+                .toList();
+        return PickingWaveResponse.from(wave, pickList);
+    }
+}
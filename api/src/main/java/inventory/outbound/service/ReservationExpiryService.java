@@ -0,0 +1,243 @@
+package inventory.outbound.service;
+
+import inventory.common.datasource.DataSourcePool;
+import inventory.common.datasource.PoolType;
+import inventory.outbound.domain.enums.OutboundStatus;
+import inventory.outbound.repository.OutboundJdbcRepository;
+import inventory.outbound.repository.OutboundJdbcRepository.ExpiredOutboundRow;
+import inventory.outbound.repository.OutboundJdbcRepository.OutboundLineRow;
+import inventory.outbound.repository.OutboundRepository;
+import inventory.outbound.service.util.HierarchicalTimingWheel;
+import inventory.warehouse.repository.WarehouseStockJdbcRepository;
+import inventory.warehouse.repository.WarehouseStockJdbcRepository.StockDelta;
+import inventory.warehouse.service.event.StockChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * ORDERED 상태로 TTL을 넘긴 출고의 예약 재고를 풀고 출고를 취소한다.
+ * <p>
+ * 만료 시각은 메모리의 타이밍 휠로 관리해 매 틱마다 테이블을 훑지 않는다. 휠은 시작 시와 주기적으로 DB에서 다시 만들어
+ * 다른 노드에서 등록된 출고도 반영하며, 만료 처리 직전에 행을 잠그고 상태를 다시 확인하므로 여러 노드가 같은 출고를 처리해도 한 번만 반영된다.
+ */
+@Slf4j
+@Service
+public class ReservationExpiryService {
+
+    private static final long WHEEL_TICK_MILLIS = 1_000;
+    private static final int WHEEL_SIZE = 60;
+
+    private final OutboundRepository outboundRepository;
+    private final OutboundJdbcRepository outboundJdbcRepository;
+    private final WarehouseStockJdbcRepository warehouseStockJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final int batchSize;
+    private final Counter expiredOutbounds;
+    private final Counter expiredUnits;
+
+    private HierarchicalTimingWheel<Long> wheel;
+    // 휠을 다시 만드는 동안 등록된 출고. 새 휠로 바꿀 때 옮겨 담는다
+    private List<Registration> registeredDuringRebuild;
+
+    public ReservationExpiryService(
+            OutboundRepository outboundRepository,
+            OutboundJdbcRepository outboundJdbcRepository,
+            WarehouseStockJdbcRepository warehouseStockJdbcRepository,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${reservation-expiry.enabled:true}") boolean enabled,
+            @Value("${reservation-expiry.ttl-hours:72}") long ttlHours,
+            @Value("${reservation-expiry.batch-size:500}") int batchSize
+    ) {
+        this.outboundRepository = outboundRepository;
+        this.outboundJdbcRepository = outboundJdbcRepository;
+        this.warehouseStockJdbcRepository = warehouseStockJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.batchSize = batchSize;
+        this.wheel = new HierarchicalTimingWheel<>(WHEEL_TICK_MILLIS, WHEEL_SIZE, System.currentTimeMillis());
+        this.expiredOutbounds = meterRegistry.counter("reservation.expiry.outbounds");
+        this.expiredUnits = meterRegistry.counter("reservation.expiry.units");
+        Gauge.builder("reservation.expiry.pending", this, ReservationExpiryService::pendingCount)
+                .register(meterRegistry);
+    }
+
+    @DataSourcePool(PoolType.REPORT)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        int loaded = rebuild();
+        log.info("예약 만료 타이머 구성: {}건", loaded);
+    }
+
+    @DataSourcePool(PoolType.REPORT)
+    @Scheduled(cron = "${reservation-expiry.resync-cron:0 */10 * * * *}")
+    public void resync() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${reservation-expiry.tick-millis:1000}")
+    public void tick() {
+        if (!enabled) {
+            return;
+        }
+
+        List<Long> due;
+        synchronized (this) {
+            due = wheel.advance(System.currentTimeMillis());
+        }
+        if (!due.isEmpty()) {
+            expire(due, LocalDateTime.now());
+        }
+    }
+
+    /**
+     * 새로 예약을 잡은 출고를 타이머에 등록한다.
+     */
+    public synchronized void register(Long outboundId, LocalDateTime reservedAt) {
+        if (!enabled) {
+            return;
+        }
+        long deadline = toEpochMillis(reservedAt.plus(ttl));
+        wheel.add(outboundId, deadline);
+        if (registeredDuringRebuild != null) {
+            registeredDuringRebuild.add(new Registration(outboundId, deadline));
+        }
+    }
+
+    /**
+     * DB의 ORDERED 출고로 타이머를 다시 만들고 등록된 건수를 반환한다.
+     */
+    public int rebuild() {
+        synchronized (this) {
+            registeredDuringRebuild = new ArrayList<>();
+        }
+
+        HierarchicalTimingWheel<Long> rebuilt =
+                new HierarchicalTimingWheel<>(WHEEL_TICK_MILLIS, WHEEL_SIZE, System.currentTimeMillis());
+        try {
+            outboundJdbcRepository.forEachOrdered((outboundId, createdAt) ->
+                    rebuilt.add(outboundId, toEpochMillis(createdAt.plus(ttl))));
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                registeredDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            registeredDuringRebuild.forEach(registration ->
+                    rebuilt.add(registration.outboundId(), registration.deadline()));
+            registeredDuringRebuild = null;
+            wheel = rebuilt;
+            return rebuilt.size();
+        }
+    }
+
+    /**
+     * 만료 대상 출고의 예약을 풀고 취소한다. 실제로 취소된 출고 수를 반환한다.
+     */
+    public int expire(List<Long> outboundIds, LocalDateTime now) {
+        int expired = 0;
+        for (int from = 0; from < outboundIds.size(); from += batchSize) {
+            List<Long> batch = outboundIds.subList(from, Math.min(from + batchSize, outboundIds.size()));
+            try {
+                Integer count = transactionTemplate.execute(status -> expireBatch(batch, now));
+                expired += count != null ? count : 0;
+            } catch (RuntimeException e) {
+                // 다음 재구성 때 다시 등록되므로 배치 하나의 실패로 나머지를 멈추지 않는다
+                log.error("예약 만료 처리 실패: 출고 {}건", batch.size(), e);
+            }
+        }
+        if (expired > 0) {
+            log.info("예약 만료로 출고 취소: {}건", expired);
+        }
+        return expired;
+    }
+
+    private int expireBatch(List<Long> outboundIds, LocalDateTime now) {
+        List<ExpiredOutboundRow> rows = outboundJdbcRepository.findExpiredOrderedForUpdate(outboundIds, now.minus(ttl));
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Long> warehouseByOutbound = rows.stream()
+                .collect(toMap(ExpiredOutboundRow::outboundId, ExpiredOutboundRow::warehouseId));
+
+        // 다른 재고 변경과 같은 순서(창고, 상품)로 잠그도록 정렬해 모은다
+        Map<StockKey, Integer> released = new TreeMap<>(
+                Comparator.comparing(StockKey::warehouseId).thenComparing(StockKey::productId));
+        long units = 0;
+        for (OutboundLineRow line : outboundJdbcRepository.findLines(warehouseByOutbound.keySet())) {
+            released.merge(new StockKey(warehouseByOutbound.get(line.outboundId()), line.productId()),
+                    line.quantity(), Integer::sum);
+            units += line.quantity();
+        }
+
+        List<StockDelta> deltas = new ArrayList<>(released.size());
+        released.forEach((key, quantity) -> deltas.add(new StockDelta(key.warehouseId(), key.productId(), 0, -quantity)));
+        warehouseStockJdbcRepository.applyDeltas(deltas);
+        deltas.stream()
+                .collect(groupingBy(StockDelta::warehouseId, mapping(StockDelta::productId, toList())))
+                .forEach((warehouseId, productIds) ->
+                        eventPublisher.publishEvent(StockChangedEvent.of(warehouseId, productIds)));
+
+        int updated = outboundRepository.updateStatusByIds(
+                warehouseByOutbound.keySet(), OutboundStatus.ORDERED, OutboundStatus.CANCELED);
+        if (updated != rows.size()) {
+            // 대상 행을 잠갔으므로 정상이라면 일어나지 않는다
+            throw new IllegalStateException("예약 만료 중 출고 상태가 변경되었습니다.");
+        }
+
+        expiredOutbounds.increment(updated);
+        expiredUnits.increment(units);
+        return updated;
+    }
+
+    private synchronized int pendingCount() {
+        return wheel.size();
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record Registration(Long outboundId, long deadline) {
+    }
+
+    private record StockKey(Long warehouseId, Long productId) {
+    }
+}
@@ -0,0 +1,194 @@
+package inventory.outbound.service;
+
+import inventory.common.datasource.DataSourcePool;
+import inventory.common.datasource.PoolType;
+import inventory.outbound.service.util.StockAllocator.ProductStock;
+import inventory.warehouse.repository.WarehouseStockJdbcRepository;
+import inventory.warehouse.repository.WarehouseStockJdbcRepository.AvailableRow;
+import inventory.warehouse.service.event.StockChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 출고 창고 배정에 쓰는 상품별 창고 가용 재고 색인.
+ * <p>
+ * 배정 때마다 재고 테이블을 읽지 않도록 전체를 메모리에 둔다. 재고 변경 이벤트로 바뀐 상품은 {@code flush-millis}마다
+ * 다시 읽어 반영하고, 이벤트가 오지 않는 다른 노드의 변경은 {@code refresh-millis}마다 전체를 다시 읽어 맞춘다.
+ * 값은 배정 후보를 고르는 참고용이며, 실제 예약은 출고 등록 시 재고 행에서 다시 검증한다.
+ * 상품별 배열은 바꾸지 않고 통째로 교체하므로 읽는 쪽은 잠그지 않는다. 반영과 전체 갱신은 서로 겹치지 않게 돌려,
+ * 전체 갱신이 그보다 뒤에 읽은 반영 값을 덮어쓰지 않게 한다.
+ * 전체 재고를 훑는 갱신이 주문 처리 커넥션을 잡지 않도록 리포트 풀을 쓴다.
+ */
+@Slf4j
+@Component
+@DataSourcePool(PoolType.REPORT)
+public class StockAvailabilityIndex {
+
+    private final WarehouseStockJdbcRepository warehouseStockJdbcRepository;
+    private final boolean enabled;
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    private volatile ConcurrentMap<Long, ProductStock> stocks = new ConcurrentHashMap<>();
+    private volatile Map<Long, String> postcodes = Map.of();
+
+    public StockAvailabilityIndex(
+            WarehouseStockJdbcRepository warehouseStockJdbcRepository,
+            @Value("${allocation.index-enabled:true}") boolean enabled
+    ) {
+        this.warehouseStockJdbcRepository = warehouseStockJdbcRepository;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (enabled) {
+            refresh();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${allocation.refresh-millis:60000}",
+            initialDelayString = "${allocation.refresh-millis:60000}")
+    public void scheduledRefresh() {
+        if (enabled) {
+            refresh();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockChanged(StockChangedEvent event) {
+        if (enabled) {
+            pending.addAll(event.productIds());
+        }
+    }
+
+    /**
+     * 변경된 상품의 창고별 가용 재고를 다시 읽어 교체한다. 가용 재고가 남은 창고가 없으면 색인에서 뺀다.
+     */
+    @DataSourcePool(PoolType.READ)
+    @Scheduled(fixedDelayString = "${allocation.flush-millis:200}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        updateLock.lock();
+        try {
+            // 도는 동안 들어온 상품은 이번에 읽거나 다음 반영으로 넘어간다
+            Set<Long> productIds = new TreeSet<>();
+            for (Iterator<Long> iterator = pending.iterator(); iterator.hasNext(); ) {
+                productIds.add(iterator.next());
+                iterator.remove();
+            }
+
+            Map<Long, List<long[]>> rowsByProduct = new HashMap<>();
+            for (AvailableRow row : warehouseStockJdbcRepository.findAvailable(productIds)) {
+                rowsByProduct.computeIfAbsent(row.productId(), k -> new ArrayList<>())
+                        .add(new long[]{row.warehouseId(), row.available()});
+            }
+
+            ConcurrentMap<Long, ProductStock> current = stocks;
+            for (Long productId : productIds) {
+                List<long[]> rows = rowsByProduct.get(productId);
+                if (rows == null) {
+                    current.remove(productId);
+                } else {
+                    current.put(productId, toProductStock(rows));
+                }
+            }
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    public void refresh() {
+        updateLock.lock();
+        try {
+            load();
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private void load() {
+        ConcurrentMap<Long, ProductStock> loaded = new ConcurrentHashMap<>();
+        List<long[]> current = new ArrayList<>();
+        long[] currentProduct = {-1};
+
+        // 상품 ID 순으로 오므로 상품이 바뀔 때마다 모아 둔 행을 배열로 만든다
+        warehouseStockJdbcRepository.forEachAvailable(row -> {
+            if (row.productId() != currentProduct[0] && !current.isEmpty()) {
+                loaded.put(currentProduct[0], toProductStock(current));
+                current.clear();
+            }
+            currentProduct[0] = row.productId();
+            current.add(new long[]{row.warehouseId(), row.available()});
+        });
+        if (!current.isEmpty()) {
+            loaded.put(currentProduct[0], toProductStock(current));
+        }
+
+        Map<Long, String> loadedPostcodes = warehouseStockJdbcRepository.findActiveWarehousePostcodes();
+        stocks = loaded;
+        postcodes = loadedPostcodes;
+        log.debug("가용 재고 색인 갱신: 상품 {}개, 창고 {}개", loaded.size(), loadedPostcodes.size());
+    }
+
+    public Map<Long, ProductStock> find(Collection<Long> productIds) {
+        Map<Long, ProductStock> current = stocks;
+        Map<Long, ProductStock> found = new HashMap<>();
+        for (Long productId : productIds) {
+            ProductStock stock = current.get(productId);
+            if (stock != null) {
+                found.put(productId, stock);
+            }
+        }
+        return found;
+    }
+
+    public String findPostcode(Long warehouseId) {
+        return postcodes.get(warehouseId);
+    }
+
+    /**
+     * 배정이 커밋된 뒤 변경이 반영되기 전까지 같은 재고를 다시 배정하지 않도록 색인에서 빼 둔다.
+     */
+    public void decrease(Long warehouseId, Long productId, int quantity) {
+        stocks.computeIfPresent(productId, (key, stock) -> {
+            int[] available = stock.available().clone();
+            for (int i = 0; i < stock.warehouseIds().length; i++) {
+                if (stock.warehouseIds()[i] == warehouseId) {
+                    available[i] = Math.max(0, available[i] - quantity);
+                }
+            }
+            return new ProductStock(stock.warehouseIds(), available);
+        });
+    }
+
+    private ProductStock toProductStock(List<long[]> rows) {
+        long[] warehouseIds = new long[rows.size()];
+        int[] available = new int[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            warehouseIds[i] = rows.get(i)[0];
+            available[i] = (int) rows.get(i)[1];
+        }
+        return new ProductStock(warehouseIds, available);
+    }
+}
@@ -1,5 +1,6 @@
 package inventory.outbound.service.request;
 
+import inventory.common.admission.WarehouseScoped;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
@@ -37,5 +38,5 @@ public record CreateOutboundRequest(
         @NotEmpty(message = "출고 상품 목록은 비어있을 수 없습니다")
         @Valid
         List<OutboundProductRequest> products
-) {
+) implements WarehouseScoped {
 }
@@ -0,0 +1,14 @@
+package inventory.outbound.service.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record DeleteOutboundsRequest(
+        @NotEmpty(message = "삭제할 출고 ID는 필수입니다")
+        @Size(max = 1000, message = "한 번에 최대 1000건까지 삭제할 수 있습니다")
+        List<@NotNull Long> outboundIds
+) {
+}
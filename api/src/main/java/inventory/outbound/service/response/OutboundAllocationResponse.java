@@ -0,0 +1,13 @@
+package inventory.outbound.service.response;
+
+import java.util.List;
+
+public record OutboundAllocationResponse(
+        int outboundCount,
+        boolean split,
+        List<OutboundResponse> outbounds
+) {
+    public static OutboundAllocationResponse of(List<OutboundResponse> outbounds) {
+        return new OutboundAllocationResponse(outbounds.size(), outbounds.size() > 1, outbounds);
+    }
+}
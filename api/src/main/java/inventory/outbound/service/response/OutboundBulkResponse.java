@@ -0,0 +1,15 @@
+package inventory.outbound.service.response;
+
+import java.util.List;
+
+public record OutboundBulkResponse(
+        int requestedCount,
+        int succeededCount,
+        int failedCount,
+        List<OutboundBulkResult> results
+) {
+    public static OutboundBulkResponse of(List<OutboundBulkResult> results) {
+        int succeeded = (int) results.stream().filter(OutboundBulkResult::success).count();
+        return new OutboundBulkResponse(results.size(), succeeded, results.size() - succeeded, results);
+    }
+}
@@ -0,0 +1,15 @@
+package inventory.outbound.service.response;
+
+public record OutboundBulkResult(
+        Long outboundId,
+        boolean success,
+        String message
+) {
+    public static OutboundBulkResult succeeded(Long outboundId) {
+        return new OutboundBulkResult(outboundId, true, null);
+    }
+
+    public static OutboundBulkResult failed(Long outboundId, String message) {
+        return new OutboundBulkResult(outboundId, false, message);
+    }
+}
@@ -0,0 +1,20 @@
+package inventory.outbound.service.response;
+
+/**
+ * 스트림으로 받은 출고 주문 한 건의 처리 결과. {@code sequence}는 요청 스트림에서의 순번(1부터)이다.
+ */
+public record OutboundIngestResult(
+        long sequence,
+        boolean success,
+        Long outboundId,
+        String orderNumber,
+        String message
+) {
+    public static OutboundIngestResult succeeded(long sequence, OutboundResponse outbound) {
+        return new OutboundIngestResult(sequence, true, outbound.outboundId(), outbound.orderNumber(), null);
+    }
+
+    public static OutboundIngestResult failed(long sequence, String message) {
+        return new OutboundIngestResult(sequence, false, null, null, message);
+    }
+}
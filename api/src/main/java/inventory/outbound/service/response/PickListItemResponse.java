@@ -0,0 +1,22 @@
+package inventory.outbound.service.response;
+
+import inventory.outbound.domain.PickingWaveItem;
+import inventory.product.domain.Product;
+
+public record PickListItemResponse(
+        Long productId,
+        String productCode,
+        String productName,
+        long quantity,
+        int outboundCount
+) {
+    public static PickListItemResponse from(PickingWaveItem item, Product product) {
+        return new PickListItemResponse(
+                item.getProductId(),
+                product != null ? product.getProductCode() : null,
+                product != null ? product.getProductName() : null,
+                item.getQuantity(),
+                item.getOutboundCount()
+        );
+    }
+}
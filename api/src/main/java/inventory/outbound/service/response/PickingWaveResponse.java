@@ -0,0 +1,31 @@
+package inventory.outbound.service.response;
+
+import inventory.outbound.domain.PickingWave;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record PickingWaveResponse(
+        Long pickingWaveId,
+        String waveNumber,
+        Long warehouseId,
+        LocalDate expectedDate,
+        int outboundCount,
+        long totalQuantity,
+        LocalDateTime createdAt,
+        List<PickListItemResponse> pickList
+) {
+    public static PickingWaveResponse from(PickingWave wave, List<PickListItemResponse> pickList) {
+        return new PickingWaveResponse(
+                wave.getPickingWaveId(),
+                wave.getWaveNumber(),
+                wave.getWarehouseId(),
+                wave.getExpectedDate(),
+                wave.getOutboundCount(),
+                wave.getTotalQuantity(),
+                wave.getCreatedAt(),
+                pickList
+        );
+    }
+}
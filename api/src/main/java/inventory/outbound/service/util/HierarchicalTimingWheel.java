@@ -0,0 +1,123 @@
+package inventory.outbound.service.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 만료 시각이 된 항목을 꺼내는 계층형 타이밍 휠.
+ * <p>
+ * 가장 아래 휠은 {@code tickMillis} 단위 슬롯 {@code wheelSize}개로 한 바퀴를 덮고, 그보다 먼 항목은 한 단계 위의
+ * (슬롯 하나가 아래 휠 한 바퀴인) 휠에 넣는다. 위 휠의 슬롯 시각이 되면 항목을 아래로 다시 넣으므로
+ * 항목 수와 관계없이 추가는 O(1), 시계를 한 틱 진행하는 비용은 만료되는 항목 수에 비례한다.
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화한다.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long intervalMillis;
+    private final List<List<Entry<T>>> buckets;
+    private final HierarchicalTimingWheel<T> root;
+    private final List<T> overdue;
+
+    private long currentTime;
+    private int size;
+    private HierarchicalTimingWheel<T> overflow;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        this(tickMillis, wheelSize, startMillis, null);
+    }
+
+    private HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis, HierarchicalTimingWheel<T> root) {
+        if (tickMillis <= 0 || wheelSize <= 1) {
+            throw new IllegalArgumentException("타이밍 휠 설정이 올바르지 않습니다.");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.intervalMillis = Math.multiplyExact(tickMillis, (long) wheelSize);
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        this.root = root != null ? root : this;
+        this.overdue = root != null ? null : new ArrayList<>();
+        this.currentTime = startMillis - Math.floorMod(startMillis, tickMillis);
+    }
+
+    /**
+     * 항목을 {@code deadlineMillis}에 만료되도록 넣는다. 이미 지난 시각이면 다음 {@link #advance} 때 바로 꺼낸다.
+     */
+    public void add(T item, long deadlineMillis) {
+        size++;
+        if (deadlineMillis < currentTime) {
+            overdue.add(item);
+            return;
+        }
+        insert(new Entry<>(item, deadlineMillis));
+    }
+
+    /**
+     * 시계를 {@code nowMillis}까지 진행하고 그 사이 만료된 항목을 반환한다.
+     */
+    public List<T> advance(long nowMillis) {
+        List<T> expired = new ArrayList<>(overdue);
+        overdue.clear();
+
+        while (currentTime + tickMillis <= nowMillis) {
+            List<Entry<T>> bucket = takeBucket(currentTime);
+            for (Entry<T> entry : bucket) {
+                expired.add(entry.item());
+            }
+            currentTime += tickMillis;
+            if (overflow != null && currentTime % intervalMillis == 0) {
+                overflow.cascade(currentTime);
+            }
+        }
+
+        size -= expired.size();
+        return expired;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void insert(Entry<T> entry) {
+        if (entry.deadline() < currentTime + intervalMillis) {
+            buckets.get(slot(entry.deadline())).add(entry);
+            return;
+        }
+        if (overflow == null) {
+            overflow = new HierarchicalTimingWheel<>(intervalMillis, wheelSize, currentTime, root);
+        }
+        overflow.insert(entry);
+    }
+
+    // 위 휠의 슬롯 시각이 되면 그 슬롯의 항목을 가장 아래 휠부터 다시 넣는다
+    private void cascade(long time) {
+        currentTime = time;
+        if (overflow != null && time % intervalMillis == 0) {
+            overflow.cascade(time);
+        }
+        for (Entry<T> entry : takeBucket(time)) {
+            root.insert(entry);
+        }
+    }
+
+    private List<Entry<T>> takeBucket(long time) {
+        int slot = slot(time);
+        List<Entry<T>> bucket = buckets.get(slot);
+        if (bucket.isEmpty()) {
+            return List.of();
+        }
+        buckets.set(slot, new ArrayList<>());
+        return bucket;
+    }
+
+    private int slot(long time) {
+        return (int) Math.floorMod(Math.floorDiv(time, tickMillis), (long) wheelSize);
+    }
+
+    private record Entry<T>(T item, long deadline) {
+    }
+}
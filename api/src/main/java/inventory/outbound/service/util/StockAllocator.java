@@ -0,0 +1,193 @@
+package inventory.outbound.service.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 주문 상품을 어느 창고에서 출고할지 정한다.
+ * <p>
+ * 한 창고에서 모두 보낼 수 있으면 비용이 가장 낮은 창고 하나를 고른다. 그런 창고가 없으면 단위 수량당 비용이 가장 낮은 창고부터
+ * 채울 수 있는 만큼 배정하며, 창고가 늘어날 때마다 분할 비용을 더해 되도록 적은 창고로 나눈다.
+ * 창고 비용은 배송지까지의 거리와 배정 후 남는 재고 비율(재고를 바닥내는 창고일수록 비쌈)을 가중합한다.
+ */
+public class StockAllocator {
+
+    private final double distanceWeight;
+    private final double balanceWeight;
+    private final double splitPenalty;
+
+    public StockAllocator(double distanceWeight, double balanceWeight, double splitPenalty) {
+        this.distanceWeight = distanceWeight;
+        this.balanceWeight = balanceWeight;
+        this.splitPenalty = splitPenalty;
+    }
+
+    /**
+     * @param lines          상품별 요청 수량. 같은 상품은 한 줄로 합쳐져 있어야 한다.
+     * @param stocks         상품 ID별 창고 가용 재고
+     * @param distanceCost   창고 ID별 배송지까지의 거리 비용(0~1)
+     * @return 창고별 배정 결과. 전체 수량을 채울 수 없으면 빈 목록
+     */
+    public List<WarehouseAllocation> allocate(List<Line> lines, Map<Long, ProductStock> stocks,
+                                              ToDoubleFunction<Long> distanceCost) {
+        if (lines.isEmpty()) {
+            return List.of();
+        }
+
+        // 후보 창고를 0부터 번호를 매겨 창고 x 상품 가용 재고 행렬로 펼친다
+        Map<Long, Integer> warehouseIndex = new HashMap<>();
+        List<Long> warehouseIds = new ArrayList<>();
+        for (Line line : lines) {
+            ProductStock stock = stocks.get(line.productId());
+            if (stock == null) {
+                return List.of();
+            }
+            for (long warehouseId : stock.warehouseIds()) {
+                if (warehouseIndex.putIfAbsent(warehouseId, warehouseIds.size()) == null) {
+                    warehouseIds.add(warehouseId);
+                }
+            }
+        }
+
+        int warehouseCount = warehouseIds.size();
+        int lineCount = lines.size();
+        int[][] available = new int[warehouseCount][lineCount];
+        int[] requested = new int[lineCount];
+        for (int l = 0; l < lineCount; l++) {
+            Line line = lines.get(l);
+            requested[l] = line.quantity();
+            ProductStock stock = stocks.get(line.productId());
+            for (int i = 0; i < stock.warehouseIds().length; i++) {
+                available[warehouseIndex.get(stock.warehouseIds()[i])][l] = stock.available()[i];
+            }
+        }
+
+        double[] distance = new double[warehouseCount];
+        for (int w = 0; w < warehouseCount; w++) {
+            distance[w] = distanceWeight * distanceCost.applyAsDouble(warehouseIds.get(w));
+        }
+
+        int single = findSingleWarehouse(available, requested, distance);
+        if (single >= 0) {
+            return List.of(new WarehouseAllocation(warehouseIds.get(single), lines));
+        }
+        return split(lines, warehouseIds, available, requested, distance);
+    }
+
+    private int findSingleWarehouse(int[][] available, int[] requested, double[] distance) {
+        int best = -1;
+        double bestCost = Double.MAX_VALUE;
+        for (int w = 0; w < available.length; w++) {
+            double usage = 0;
+            boolean enough = true;
+            for (int l = 0; l < requested.length; l++) {
+                if (available[w][l] < requested[l]) {
+                    enough = false;
+                    break;
+                }
+                usage += (double) requested[l] / available[w][l];
+            }
+            if (!enough) {
+                continue;
+            }
+
+            double cost = distance[w] + balanceWeight * usage / requested.length;
+            if (cost < bestCost) {
+                bestCost = cost;
+                best = w;
+            }
+        }
+        return best;
+    }
+
+    private List<WarehouseAllocation> split(List<Line> lines, List<Long> warehouseIds,
+                                            int[][] available, int[] requested, double[] distance) {
+        int[] remaining = requested.clone();
+        int remainingTotal = 0;
+        for (int quantity : remaining) {
+            remainingTotal += quantity;
+        }
+
+        boolean[] chosen = new boolean[warehouseIds.size()];
+        List<WarehouseAllocation> allocations = new ArrayList<>();
+        while (remainingTotal > 0) {
+            int best = -1;
+            double bestCostPerUnit = Double.MAX_VALUE;
+            for (int w = 0; w < available.length; w++) {
+                if (chosen[w]) {
+                    continue;
+                }
+
+                long covered = 0;
+                double usage = 0;
+                int usedLines = 0;
+                for (int l = 0; l < remaining.length; l++) {
+                    int take = Math.min(available[w][l], remaining[l]);
+                    if (take > 0) {
+                        covered += take;
+                        usage += (double) take / available[w][l];
+                        usedLines++;
+                    }
+                }
+                if (covered == 0) {
+                    continue;
+                }
+
+                double cost = distance[w] + splitPenalty + balanceWeight * usage / usedLines;
+                double costPerUnit = cost / covered;
+                if (costPerUnit < bestCostPerUnit) {
+                    bestCostPerUnit = costPerUnit;
+                    best = w;
+                }
+            }
+
+            if (best < 0) {
+                return List.of();
+            }
+
+            chosen[best] = true;
+            List<Line> allocated = new ArrayList<>();
+            for (int l = 0; l < remaining.length; l++) {
+                int take = Math.min(available[best][l], remaining[l]);
+                if (take > 0) {
+                    allocated.add(new Line(lines.get(l).productId(), take));
+                    remaining[l] -= take;
+                    remainingTotal -= take;
+                }
+            }
+            allocations.add(new WarehouseAllocation(warehouseIds.get(best), allocated));
+        }
+        return allocations;
+    }
+
+    /**
+     * 우편번호 앞 세 자리(시/군/구 단위)의 차이로 거리를 0~1 사이로 어림한다. 형식이 맞지 않으면 가장 먼 것으로 본다.
+     */
+    public static double postcodeDistance(String from, String to) {
+        if (from == null || to == null || from.length() < 3 || to.length() < 3) {
+            return 1.0;
+        }
+        try {
+            int fromArea = Integer.parseInt(from.substring(0, 3));
+            int toArea = Integer.parseInt(to.substring(0, 3));
+            return Math.abs(fromArea - toArea) / 999.0;
+        } catch (NumberFormatException e) {
+            return 1.0;
+        }
+    }
+
+    public record Line(Long productId, int quantity) {
+    }
+
+    /**
+     * 한 상품의 창고별 가용 재고. 두 배열은 같은 순서로 짝을 이룬다.
+     */
+    public record ProductStock(long[] warehouseIds, int[] available) {
+    }
+
+    public record WarehouseAllocation(Long warehouseId, List<Line> lines) {
+    }
+}
@@ -0,0 +1,57 @@
+package inventory.outbound.service.util;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 출고 예정일 순으로 정렬된 출고를 예정일별로 나누고, 웨이브 용량(출고 수, 수량)을 넘지 않도록 잘라 웨이브를 만든다.
+ * 수량 한도보다 큰 출고 하나는 단독 웨이브가 된다.
+ */
+public class WavePlanner {
+
+    private final int maxOutboundsPerWave;
+    private final long maxQuantityPerWave;
+
+    public WavePlanner(int maxOutboundsPerWave, long maxQuantityPerWave) {
+        if (maxOutboundsPerWave <= 0 || maxQuantityPerWave <= 0) {
+            throw new IllegalArgumentException("웨이브 용량은 0보다 커야 합니다.");
+        }
+        this.maxOutboundsPerWave = maxOutboundsPerWave;
+        this.maxQuantityPerWave = maxQuantityPerWave;
+    }
+
+    public List<PlannedWave> plan(List<WaveOrder> orders) {
+        List<PlannedWave> waves = new ArrayList<>();
+        LocalDate currentDate = null;
+        List<Long> currentIds = new ArrayList<>();
+        long currentQuantity = 0;
+
+        for (WaveOrder order : orders) {
+            boolean dateChanged = !Objects.equals(currentDate, order.expectedDate());
+            boolean full = currentIds.size() == maxOutboundsPerWave
+                    || currentQuantity + order.quantity() > maxQuantityPerWave;
+            if (!currentIds.isEmpty() && (dateChanged || full)) {
+                waves.add(new PlannedWave(currentDate, List.copyOf(currentIds), currentQuantity));
+                currentIds.clear();
+                currentQuantity = 0;
+            }
+
+            currentDate = order.expectedDate();
+            currentIds.add(order.outboundId());
+            currentQuantity += order.quantity();
+        }
+
+        if (!currentIds.isEmpty()) {
+            waves.add(new PlannedWave(currentDate, List.copyOf(currentIds), currentQuantity));
+        }
+        return waves;
+    }
+
+    public record WaveOrder(Long outboundId, LocalDate expectedDate, long quantity) {
+    }
+
+    public record PlannedWave(LocalDate expectedDate, List<Long> outboundIds, long totalQuantity) {
+    }
+}
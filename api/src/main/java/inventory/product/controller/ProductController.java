@@ -4,7 +4,9 @@ import inventory.common.dto.response.ApiResponse;
 import inventory.common.dto.response.PageResponse;
 import inventory.product.service.request.CreateProductRequest;
 import inventory.product.service.request.UpdateProductRequest;
+import inventory.product.service.response.ProductBulkImportResponse;
 import inventory.product.service.response.ProductResponse;
+import inventory.product.service.ProductBulkImportService;
 import inventory.product.service.ProductService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -13,9 +15,11 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -24,6 +28,7 @@ import java.util.List;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductBulkImportService productBulkImportService;
 
     @PostMapping
     public ResponseEntity<ApiResponse<ProductResponse>> createProduct(
@@ -34,6 +39,13 @@ public class ProductController {
                 .body(ApiResponse.success(HttpStatus.CREATED, response));
     }
 
+    @PostMapping(value = "bulk", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<ApiResponse<ProductBulkImportResponse>> importProducts(InputStream body) {
+        ProductBulkImportResponse response = productBulkImportService.importCsv(body);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping("{id}")
     public ResponseEntity<ApiResponse<ProductResponse>> getProduct(@PathVariable Long id) {
         ProductResponse response = productService.findById(id);
@@ -1,5 +1,6 @@
 package inventory.product.domain;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -8,6 +9,8 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
@@ -15,13 +18,15 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @SQLDelete(sql = "UPDATE product SET deleted = true, deleted_at = NOW() WHERE product_id = ?")
 @SQLRestriction("deleted = false and deleted_at is null")
 @Getter
 @Entity
 public class Product {
 
-    private static final String THUMBNAIL_DEFAULT_PNG = "thumbnail/default.png";
+    public static final String THUMBNAIL_DEFAULT_PNG = "thumbnail/default.png";
 
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Id
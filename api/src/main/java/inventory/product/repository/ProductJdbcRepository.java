@@ -0,0 +1,135 @@
+package inventory.product.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductJdbcRepository {
+
+    private static final String INSERT_PRODUCT_SQL = """
+            INSERT INTO product (supplier_id, product_name, product_code, unit, thumbnail_url,
+                                 active, created_at, modified_at, deleted)
+            VALUES (?, ?, ?, ?, ?, true, ?, ?, false)
+            """;
+
+    private static final String UPDATE_PRODUCT_SQL = """
+            UPDATE product
+            SET product_name = ?, unit = ?, thumbnail_url = COALESCE(?, thumbnail_url), modified_at = ?
+            WHERE product_id = ? AND supplier_id = ? AND deleted = false
+            """;
+
+    // 삭제된 상품을 같은 상품코드로 다시 들이면 새로 만들지 않고 삭제된 행을 되살린다
+    private static final String RESTORE_PRODUCT_SQL = """
+            UPDATE product
+            SET product_name = ?, unit = ?, thumbnail_url = COALESCE(?, thumbnail_url), modified_at = ?,
+                deleted = false, deleted_at = NULL
+            WHERE product_id = ? AND supplier_id = ? AND deleted = true
+            """;
+
+    private static final String FIND_DELETED_PRODUCT_IDS_SQL = """
+            SELECT product_code, MAX(product_id) AS product_id
+            FROM product
+            WHERE product_code IN (:productCodes) AND deleted = true
+            GROUP BY product_code
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public void batchInsert(List<ProductRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_PRODUCT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.supplierId());
+            ps.setString(2, row.productName());
+            ps.setString(3, row.productCode());
+            ps.setString(4, row.unit());
+            ps.setString(5, row.thumbnailUrl());
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+        });
+    }
+
+    /**
+     * 기존 상품을 일괄 수정하고, 행마다 반영 여부를 반환한다.
+     * 상품코드가 다른 공급업체의 상품이면 수정되지 않는다.
+     */
+    public boolean[] batchUpdate(List<ProductRow> rows) {
+        return batchUpdate(UPDATE_PRODUCT_SQL, rows);
+    }
+
+    /**
+     * 삭제된 상품을 되살리며 수정하고, 행마다 반영 여부를 반환한다.
+     * 상품코드가 다른 공급업체의 상품이면 되살리지 않는다.
+     */
+    public boolean[] batchRestore(List<ProductRow> rows) {
+        return batchUpdate(RESTORE_PRODUCT_SQL, rows);
+    }
+
+    /**
+     * 살아 있는 상품이 없는 상품코드의 삭제된 상품 ID를 찾는다. 같은 코드의 삭제된 행이 여럿이면 가장 최근에 만든 행을 고른다.
+     */
+    public Map<String, Long> findDeletedProductIdsByCodes(Collection<String> productCodes) {
+        Map<String, Long> productIds = new HashMap<>();
+        if (productCodes.isEmpty()) {
+            return productIds;
+        }
+
+        namedParameterJdbcTemplate.query(FIND_DELETED_PRODUCT_IDS_SQL,
+                new MapSqlParameterSource("productCodes", productCodes),
+                (RowCallbackHandler) rs -> productIds.put(rs.getString("product_code"), rs.getLong("product_id")));
+        return productIds;
+    }
+
+    private boolean[] batchUpdate(String sql, List<ProductRow> rows) {
+        if (rows.isEmpty()) {
+            return new boolean[0];
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(sql, rows, rows.size(), (ps, row) -> {
+            ps.setString(1, row.productName());
+            ps.setString(2, row.unit());
+            ps.setString(3, row.thumbnailUrl());
+            ps.setTimestamp(4, now);
+            ps.setLong(5, row.productId());
+            ps.setLong(6, row.supplierId());
+        });
+
+        boolean[] updated = new boolean[rows.size()];
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // 드라이버가 행 단위 결과를 주지 않는 경우(SUCCESS_NO_INFO)는 반영된 것으로 본다
+                updated[index++] = count > 0 || count == Statement.SUCCESS_NO_INFO;
+            }
+        }
+        return updated;
+    }
+
+    public record ProductRow(
+            Long productId,
+            Long supplierId,
+            String productName,
+            String productCode,
+            String unit,
+            String thumbnailUrl
+    ) {
+    }
+}
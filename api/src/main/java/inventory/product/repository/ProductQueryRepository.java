@@ -5,9 +5,14 @@ import inventory.product.service.response.ProductResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface ProductQueryRepository {
 
     Page<ProductResponse> findProductSummaries(ProductSearchCondition condition, Pageable pageable);
+
+    Map<String, Long> findProductIdsByCodes(Collection<String> productCodes);
 }
 
 
@@ -1,5 +1,6 @@
 package inventory.product.repository;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -13,6 +14,10 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 @Repository
 @RequiredArgsConstructor
 public class ProductQueryRepositoryImpl implements ProductQueryRepository {
@@ -62,6 +67,24 @@ public class ProductQueryRepositoryImpl implements ProductQueryRepository {
 
         return new PageImpl<>(content, pageable, total == null ? 0 : total);
     }
+
+    @Override
+    public Map<String, Long> findProductIdsByCodes(Collection<String> productCodes) {
+        Map<String, Long> productIds = new HashMap<>();
+        if (productCodes == null || productCodes.isEmpty()) {
+            return productIds;
+        }
+
+        // 엔티티 대신 (코드, ID) 튜플만 조회해 영속성 컨텍스트에 쌓이지 않도록 한다
+        for (Tuple tuple : queryFactory
+                .select(product.productCode, product.productId)
+                .from(product)
+                .where(product.productCode.in(productCodes))
+                .fetch()) {
+            productIds.putIfAbsent(tuple.get(product.productCode), tuple.get(product.productId));
+        }
+        return productIds;
+    }
 }
 
 
@@ -0,0 +1,279 @@
+package inventory.product.service;
+
+import inventory.common.cache.SecondLevelCacheEvictor;
+import inventory.common.exception.CustomException;
+import inventory.common.exception.ExceptionCode;
+import inventory.product.domain.Product;
+import inventory.product.repository.ProductJdbcRepository;
+import inventory.product.repository.ProductJdbcRepository.ProductRow;
+import inventory.product.repository.ProductRepository;
+import inventory.product.service.request.ProductCsvLine;
+import inventory.product.service.response.ProductBulkImportResponse;
+import inventory.product.service.response.ProductImportError;
+import inventory.product.service.util.ProductCsvReader;
+import inventory.supplier.repository.SupplierRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품 카탈로그 CSV를 읽어 상품코드 기준으로 일괄 등록/수정한다.
+ * 삭제된 상품의 상품코드는 같은 코드의 행을 하나 더 만들지 않고 삭제된 상품을 되살려 수정으로 센다.
+ * <p>
+ * 상품코드 해시로 줄을 레인에 나누고 레인마다 단일 스레드가 청크를 순서대로 처리한다.
+ * 같은 상품코드는 항상 같은 레인에서 처리되므로 레인 간 경합 없이 병렬로 저장할 수 있다.
+ * 처리 중인 청크 수는 세마포어로 제한해 메모리 사용량이 파일 크기와 무관하게 유지된다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ProductBulkImportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int LANE_COUNT = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    private static final int MAX_IN_FLIGHT_CHUNKS = LANE_COUNT * 2;
+    private static final int MAX_REPORTED_ERRORS = 1_000;
+
+    private final ProductRepository productRepository;
+    private final ProductJdbcRepository productJdbcRepository;
+    private final SupplierRepository supplierRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SecondLevelCacheEvictor secondLevelCacheEvictor;
+
+    public ProductBulkImportResponse importCsv(InputStream inputStream) {
+        long startedAt = System.nanoTime();
+        ImportContext context = new ImportContext();
+
+        List<ExecutorService> lanes = new ArrayList<>(LANE_COUNT);
+        for (int i = 0; i < LANE_COUNT; i++) {
+            lanes.add(Executors.newSingleThreadExecutor());
+        }
+        Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT_CHUNKS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try (ProductCsvReader reader = new ProductCsvReader(inputStream)) {
+            List<List<ProductCsvLine>> buffers = new ArrayList<>(LANE_COUNT);
+            for (int i = 0; i < LANE_COUNT; i++) {
+                buffers.add(new ArrayList<>(CHUNK_SIZE));
+            }
+
+            ProductCsvLine line;
+            while ((line = reader.next()) != null) {
+                context.totalLines.incrementAndGet();
+                if (!line.isValid()) {
+                    context.addError(line.lineNumber(), line.errorMessage());
+                    continue;
+                }
+
+                int lane = Math.floorMod(line.productCode().hashCode(), LANE_COUNT);
+                List<ProductCsvLine> buffer = buffers.get(lane);
+                buffer.add(line);
+                if (buffer.size() == CHUNK_SIZE) {
+                    futures.add(submit(lanes.get(lane), inFlight, buffer, context));
+                    buffers.set(lane, new ArrayList<>(CHUNK_SIZE));
+                }
+            }
+
+            for (int lane = 0; lane < LANE_COUNT; lane++) {
+                if (!buffers.get(lane).isEmpty()) {
+                    futures.add(submit(lanes.get(lane), inFlight, buffers.get(lane), context));
+                }
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (IOException e) {
+            throw new CustomException(ExceptionCode.INVALID_INPUT, "CSV 파일을 읽을 수 없습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("상품 일괄 등록이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("상품 일괄 등록 중 오류가 발생했습니다.", e.getCause());
+        } finally {
+            lanes.forEach(ExecutorService::shutdownNow);
+        }
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        ProductBulkImportResponse response = context.toResponse(elapsedMillis);
+        log.info("상품 일괄 등록 완료: 전체={}, 등록={}, 수정={}, 실패={}, 소요={}ms, 처리량={}건/초",
+                response.totalLines(), response.insertedCount(), response.updatedCount(),
+                response.failedCount(), response.elapsedMillis(), response.recordsPerSecond());
+        return response;
+    }
+
+    private Future<?> submit(ExecutorService lane, Semaphore inFlight, List<ProductCsvLine> chunk,
+                             ImportContext context) throws InterruptedException {
+        inFlight.acquire();
+        return lane.submit(() -> {
+            try {
+                processChunk(chunk, context);
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    /**
+     * 청크 하나를 한 트랜잭션으로 저장한다.
+     * <p>
+     * 저장과 무관하게 정해지는 오류(청크 안 중복, 없는 공급업체)는 바로 보고하고, 저장 결과는 커밋된 뒤에만 합산한다.
+     * 저장에 실패하면 저장하려던 줄만 실패로 보고하므로 한 줄이 두 번 세어지지 않는다.
+     */
+    private void processChunk(List<ProductCsvLine> chunk, ImportContext context) {
+        // 청크 안에서 같은 상품코드는 마지막 줄만 반영한다
+        Map<String, ProductCsvLine> latestByCode = new LinkedHashMap<>();
+        for (ProductCsvLine line : chunk) {
+            ProductCsvLine previous = latestByCode.put(line.productCode(), line);
+            if (previous != null) {
+                context.addError(previous.lineNumber(), "같은 상품코드가 뒤에서 다시 등장해 건너뜁니다: " + line.productCode());
+            }
+        }
+
+        List<ProductCsvLine> lines = new ArrayList<>(latestByCode.size());
+        for (ProductCsvLine line : latestByCode.values()) {
+            if (supplierExists(line.supplierId(), context)) {
+                lines.add(line);
+            } else {
+                context.addError(line.lineNumber(), "공급업체를 찾을 수 없습니다. 공급업체 ID: " + line.supplierId());
+            }
+        }
+        if (lines.isEmpty()) {
+            return;
+        }
+
+        ChunkResult result;
+        try {
+            result = transactionTemplate.execute(status -> save(lines));
+        } catch (RuntimeException e) {
+            log.error("상품 일괄 등록 청크 저장 실패: 첫 줄={}", lines.get(0).lineNumber(), e);
+            lines.forEach(line -> context.addError(line.lineNumber(), "저장 중 오류가 발생했습니다."));
+            return;
+        }
+
+        context.insertedCount.addAndGet(result.insertedCount());
+        context.updatedCount.addAndGet(result.updatedCount());
+        result.errors().forEach(error -> context.addError(error.lineNumber(), error.message()));
+    }
+
+    // 살아 있는 상품은 수정하고, 삭제된 상품만 있는 코드는 되살리고, 처음 보는 코드만 새로 등록한다
+    private ChunkResult save(List<ProductCsvLine> lines) {
+        List<String> productCodes = lines.stream().map(ProductCsvLine::productCode).toList();
+        Map<String, Long> existingIds = productRepository.findProductIdsByCodes(productCodes);
+        Map<String, Long> deletedIds = productJdbcRepository.findDeletedProductIdsByCodes(
+                productCodes.stream().filter(code -> !existingIds.containsKey(code)).toList());
+
+        List<ProductRow> inserts = new ArrayList<>();
+        List<ProductRow> updates = new ArrayList<>();
+        List<ProductCsvLine> updateLines = new ArrayList<>();
+        List<ProductRow> restores = new ArrayList<>();
+        List<ProductCsvLine> restoreLines = new ArrayList<>();
+        for (ProductCsvLine line : lines) {
+            Long productId = existingIds.get(line.productCode());
+            Long deletedId = deletedIds.get(line.productCode());
+            if (productId != null) {
+                updates.add(toRow(productId, line, line.thumbnailUrl()));
+                updateLines.add(line);
+            } else if (deletedId != null) {
+                restores.add(toRow(deletedId, line, line.thumbnailUrl()));
+                restoreLines.add(line);
+            } else {
+                inserts.add(toRow(null, line,
+                        line.thumbnailUrl() != null ? line.thumbnailUrl() : Product.THUMBNAIL_DEFAULT_PNG));
+            }
+        }
+
+        productJdbcRepository.batchInsert(inserts);
+        boolean[] updated = productJdbcRepository.batchUpdate(updates);
+        boolean[] restored = productJdbcRepository.batchRestore(restores);
+        List<Long> changedIds = new ArrayList<>(updates.size() + restores.size());
+        updates.forEach(row -> changedIds.add(row.productId()));
+        restores.forEach(row -> changedIds.add(row.productId()));
+        secondLevelCacheEvictor.evict(Product.class, changedIds);
+
+        List<ProductImportError> errors = new ArrayList<>();
+        long updatedCount = countApplied(updated, updateLines, errors) + countApplied(restored, restoreLines, errors);
+        return new ChunkResult(inserts.size(), updatedCount, errors);
+    }
+
+    private long countApplied(boolean[] applied, List<ProductCsvLine> lines, List<ProductImportError> errors) {
+        long count = 0;
+        for (int i = 0; i < applied.length; i++) {
+            if (applied[i]) {
+                count++;
+            } else {
+                errors.add(new ProductImportError(lines.get(i).lineNumber(),
+                        "다른 공급업체에 등록된 상품코드입니다: " + lines.get(i).productCode()));
+            }
+        }
+        return count;
+    }
+
+    private boolean supplierExists(Long supplierId, ImportContext context) {
+        return context.supplierExistence.computeIfAbsent(supplierId, supplierRepository::existsById);
+    }
+
+    private ProductRow toRow(Long productId, ProductCsvLine line, String thumbnailUrl) {
+        return new ProductRow(productId, line.supplierId(), line.productName(), line.productCode(),
+                line.unit(), thumbnailUrl);
+    }
+
+    private record ChunkResult(long insertedCount, long updatedCount, List<ProductImportError> errors) {
+    }
+
+    private static class ImportContext {
+
+        private final AtomicLong totalLines = new AtomicLong();
+        private final AtomicLong insertedCount = new AtomicLong();
+        private final AtomicLong updatedCount = new AtomicLong();
+        private final AtomicLong failedCount = new AtomicLong();
+        private final List<ProductImportError> errors = new ArrayList<>();
+        private final Map<Long, Boolean> supplierExistence = new ConcurrentHashMap<>();
+
+        private void addError(long lineNumber, String message) {
+            failedCount.incrementAndGet();
+            synchronized (errors) {
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(new ProductImportError(lineNumber, message));
+                }
+            }
+        }
+
+        private ProductBulkImportResponse toResponse(long elapsedMillis) {
+            List<ProductImportError> sortedErrors;
+            synchronized (errors) {
+                sortedErrors = errors.stream()
+                        .sorted(Comparator.comparingLong(ProductImportError::lineNumber))
+                        .toList();
+            }
+
+            long processed = insertedCount.get() + updatedCount.get();
+            return new ProductBulkImportResponse(
+                    totalLines.get(),
+                    insertedCount.get(),
+                    updatedCount.get(),
+                    failedCount.get(),
+                    elapsedMillis,
+                    processed * 1_000 / elapsedMillis,
+                    sortedErrors,
+                    failedCount.get() > sortedErrors.size()
+            );
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package inventory.product.service;
 
+import inventory.common.datasource.DataSourcePool;
+import inventory.common.datasource.PoolType;
 import inventory.common.exception.CustomException;
 import inventory.common.exception.ExceptionCode;
 import inventory.product.domain.Product;
@@ -39,6 +41,7 @@ public class ProductService {
         return ProductResponse.from(productRepository.save(product), supplier);
     }
 
+    @DataSourcePool(PoolType.READ)
     @Transactional(readOnly = true)
     public ProductResponse findById(Long id) {
         if (id == null) {
@@ -52,6 +55,7 @@ public class ProductService {
         return ProductResponse.from(product, supplier);
     }
 
+    @DataSourcePool(PoolType.READ)
     @Transactional(readOnly = true)
     public Page<ProductResponse> findAllWithConditions(
             Long supplierId,
@@ -0,0 +1,25 @@
+package inventory.product.service.request;
+
+public record ProductCsvLine(
+        long lineNumber,
+        Long supplierId,
+        String productName,
+        String productCode,
+        String unit,
+        String thumbnailUrl,
+        String errorMessage
+) {
+
+    public static ProductCsvLine valid(long lineNumber, Long supplierId, String productName,
+                                       String productCode, String unit, String thumbnailUrl) {
+        return new ProductCsvLine(lineNumber, supplierId, productName, productCode, unit, thumbnailUrl, null);
+    }
+
+    public static ProductCsvLine invalid(long lineNumber, String errorMessage) {
+        return new ProductCsvLine(lineNumber, null, null, null, null, null, errorMessage);
+    }
+
+    public boolean isValid() {
+        return errorMessage == null;
+    }
+}
@@ -0,0 +1,15 @@
+package inventory.product.service.response;
+
+import java.util.List;
+
+public record ProductBulkImportResponse(
+        long totalLines,
+        long insertedCount,
+        long updatedCount,
+        long failedCount,
+        long elapsedMillis,
+        long recordsPerSecond,
+        List<ProductImportError> errors,
+        boolean errorsTruncated
+) {
+}
@@ -0,0 +1,7 @@
+package inventory.product.service.response;
+
+public record ProductImportError(
+        long lineNumber,
+        String message
+) {
+}
@@ -0,0 +1,95 @@
+package inventory.product.service.util;
+
+import inventory.common.exception.CustomException;
+import inventory.common.exception.ExceptionCode;
+import inventory.common.util.CsvUtils;
+import inventory.product.service.request.ProductCsvLine;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 상품 카탈로그 CSV를 한 줄씩 읽는다. 파일 전체를 메모리에 올리지 않는다.
+ * <p>
+ * 형식: {@code supplierId,productName,productCode,unit,thumbnailUrl} (첫 줄은 헤더, thumbnailUrl은 생략 가능)
+ */
+public class ProductCsvReader implements Closeable {
+
+    private static final List<String> HEADER = List.of(
+            "supplierid", "productname", "productcode", "unit", "thumbnailurl");
+
+    private final BufferedReader reader;
+    private long lineNumber = 0;
+
+    public ProductCsvReader(InputStream inputStream) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        validateHeader(reader.readLine());
+        lineNumber++;
+    }
+
+    /**
+     * 다음 데이터 행을 반환한다. 파일 끝이면 null을 반환한다.
+     */
+    public ProductCsvLine next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (!line.isBlank()) {
+                return parse(lineNumber, line);
+            }
+        }
+        return null;
+    }
+
+    private void validateHeader(String headerLine) {
+        if (headerLine == null) {
+            throw new CustomException(ExceptionCode.INVALID_INPUT, "CSV 파일이 비어있습니다.");
+        }
+        if (!HEADER.equals(CsvUtils.normalizeHeader(headerLine))) {
+            throw new CustomException(ExceptionCode.INVALID_INPUT,
+                    "CSV 헤더가 올바르지 않습니다. 필요한 헤더: supplierId,productName,productCode,unit,thumbnailUrl");
+        }
+    }
+
+    private ProductCsvLine parse(long lineNumber, String line) {
+        List<String> columns = CsvUtils.split(line);
+        if (columns.size() != HEADER.size()) {
+            return ProductCsvLine.invalid(lineNumber,
+                    "컬럼 수가 올바르지 않습니다. 필요: " + HEADER.size() + ", 실제: " + columns.size());
+        }
+
+        Long supplierId;
+        try {
+            supplierId = Long.parseLong(columns.get(0).trim());
+        } catch (NumberFormatException e) {
+            return ProductCsvLine.invalid(lineNumber, "공급업체 ID 형식이 올바르지 않습니다.");
+        }
+
+        String productName = columns.get(1).trim();
+        String productCode = columns.get(2).trim();
+        String unit = columns.get(3).trim();
+        String thumbnailUrl = columns.get(4).trim();
+
+        if (productName.isEmpty()) {
+            return ProductCsvLine.invalid(lineNumber, "상품명은 필수입니다.");
+        }
+        if (productCode.isEmpty()) {
+            return ProductCsvLine.invalid(lineNumber, "상품코드는 필수입니다.");
+        }
+        if (unit.isEmpty()) {
+            return ProductCsvLine.invalid(lineNumber, "상품단위는 필수입니다.");
+        }
+        return ProductCsvLine.valid(lineNumber, supplierId, productName, productCode, unit,
+                thumbnailUrl.isEmpty() ? null : thumbnailUrl);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
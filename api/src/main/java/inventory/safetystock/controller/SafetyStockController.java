@@ -0,0 +1,30 @@
+package inventory.safetystock.controller;
+
+import inventory.common.dto.response.ApiResponse;
+import inventory.safetystock.service.SafetyStockService;
+import inventory.safetystock.service.response.SafetyStockRunResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/safety-stock")
+@RestController
+public class SafetyStockController {
+
+    private final SafetyStockService safetyStockService;
+
+    @PostMapping("recalculate")
+    public ResponseEntity<ApiResponse<SafetyStockRunResponse>> recalculate(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate processedThrough
+    ) {
+        LocalDate target = processedThrough != null ? processedThrough : LocalDate.now().minusDays(1);
+        return ResponseEntity.ok(ApiResponse.success(safetyStockService.recalculateAll(target)));
+    }
+}
@@ -0,0 +1,52 @@
+package inventory.safetystock.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 창고/상품별 수요와 리드타임의 누적 합계.
+ * 합과 제곱합만 보관하므로 다음 실행은 새로 쌓인 이력만 읽어 평균과 분산을 이어서 계산할 수 있다.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "demand_statistics",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"warehouse_id", "product_id"}))
+@Getter
+@Entity
+public class DemandStatistics {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long demandStatisticsId;
+
+    private Long warehouseId;
+
+    private Long productId;
+
+    private LocalDate firstDemandDate;
+
+    private long demandSum;
+
+    private double demandSquareSum;
+
+    private long leadTimeCount;
+
+    private long leadTimeSum;
+
+    private long leadTimeSquareSum;
+
+    private Integer safetyStock;
+
+    private Integer reorderPoint;
+
+    private LocalDateTime calculatedAt;
+}
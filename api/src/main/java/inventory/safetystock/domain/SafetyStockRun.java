@@ -0,0 +1,28 @@
+package inventory.safetystock.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 창고별 안전재고 계산이 어느 날짜까지의 이력을 반영했는지 기록한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "safety_stock_run")
+@Getter
+@Entity
+public class SafetyStockRun {
+
+    @Id
+    private Long warehouseId;
+
+    private LocalDate processedThrough;
+
+    private LocalDateTime ranAt;
+}
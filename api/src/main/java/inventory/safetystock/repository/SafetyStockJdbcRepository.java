@@ -0,0 +1,217 @@
+package inventory.safetystock.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 안전재고 계산에 필요한 이력을 스트리밍으로 읽고, 누적 통계와 계산 결과를 저장한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SafetyStockJdbcRepository {
+
+    private static final int STREAM_FETCH_SIZE = 1_000;
+
+    // 같은 날 출고가 운영 테이블과 아카이브에 나뉘어 있어도 하루 한 행이 되도록 바깥에서 다시 묶는다
+    private static final String DAILY_DEMAND_SQL = """
+            SELECT product_id, shipped_date, SUM(quantity) AS quantity
+            FROM (
+                SELECT op.product_id, o.shipped_date, op.requested_quantity AS quantity
+                FROM outbound o
+                JOIN outbound_product op ON op.outbound_id = o.outbound_id
+                WHERE o.warehouse_id = ? AND o.outbound_status = 'SHIPPED' AND o.shipped_date BETWEEN ? AND ?
+                UNION ALL
+                SELECT op.product_id, o.shipped_date, op.requested_quantity AS quantity
+                FROM outbound_archive o
+                JOIN outbound_product_archive op ON op.outbound_id = o.outbound_id
+                WHERE o.warehouse_id = ? AND o.outbound_status = 'SHIPPED' AND o.shipped_date BETWEEN ? AND ?
+            ) demand
+            GROUP BY product_id, shipped_date
+            """;
+
+    private static final String LEAD_TIME_SQL = """
+            SELECT ip.product_id, i.created_at, i.modified_at
+            FROM inbound i
+            JOIN inbound_product ip ON ip.inbound_id = i.inbound_id
+            WHERE i.warehouse_id = ? AND i.status = 'COMPLETED' AND i.modified_at >= ? AND i.modified_at < ?
+            UNION ALL
+            SELECT ip.product_id, i.created_at, i.modified_at
+            FROM inbound_archive i
+            JOIN inbound_product_archive ip ON ip.inbound_id = i.inbound_id
+            WHERE i.warehouse_id = ? AND i.status = 'COMPLETED' AND i.modified_at >= ? AND i.modified_at < ?
+            """;
+
+    private static final String FIND_STATISTICS_SQL = """
+            SELECT product_id, first_demand_date, demand_sum, demand_square_sum,
+                   lead_time_count, lead_time_sum, lead_time_square_sum
+            FROM demand_statistics
+            WHERE warehouse_id = ?
+            """;
+
+    private static final String UPDATE_STATISTICS_SQL = """
+            UPDATE demand_statistics
+            SET first_demand_date = ?, demand_sum = ?, demand_square_sum = ?,
+                lead_time_count = ?, lead_time_sum = ?, lead_time_square_sum = ?,
+                safety_stock = ?, reorder_point = ?, calculated_at = ?
+            WHERE warehouse_id = ? AND product_id = ?
+            """;
+
+    private static final String INSERT_STATISTICS_SQL = """
+            INSERT INTO demand_statistics
+                (first_demand_date, demand_sum, demand_square_sum,
+                 lead_time_count, lead_time_sum, lead_time_square_sum,
+                 safety_stock, reorder_point, calculated_at, warehouse_id, product_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    // 계산 결과가 있고 현재 값과 다른 재고만 한 문장으로 갱신한다
+    private static final String APPLY_TO_WAREHOUSE_STOCK_SQL = """
+            UPDATE warehouse_stock
+            SET safety_stock = (SELECT d.safety_stock FROM demand_statistics d
+                                WHERE d.warehouse_id = warehouse_stock.warehouse_id
+                                  AND d.product_id = warehouse_stock.product_id),
+                reorder_point = (SELECT d.reorder_point FROM demand_statistics d
+                                 WHERE d.warehouse_id = warehouse_stock.warehouse_id
+                                   AND d.product_id = warehouse_stock.product_id),
+                modified_at = ?
+            WHERE warehouse_id = ?
+              AND EXISTS (SELECT 1 FROM demand_statistics d
+                          WHERE d.warehouse_id = warehouse_stock.warehouse_id
+                            AND d.product_id = warehouse_stock.product_id
+                            AND d.safety_stock IS NOT NULL
+                            AND (d.safety_stock <> warehouse_stock.safety_stock
+                                 OR d.reorder_point <> warehouse_stock.reorder_point))
+            """;
+
+    private static final String UPDATE_RUN_SQL = """
+            UPDATE safety_stock_run SET processed_through = ?, ran_at = ? WHERE warehouse_id = ?
+            """;
+
+    private static final String INSERT_RUN_SQL = """
+            INSERT INTO safety_stock_run (processed_through, ran_at, warehouse_id) VALUES (?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LocalDate findProcessedThrough(Long warehouseId) {
+        List<LocalDate> dates = jdbcTemplate.query(
+                "SELECT processed_through FROM safety_stock_run WHERE warehouse_id = ?",
+                (rs, rowNum) -> rs.getDate("processed_through").toLocalDate(),
+                warehouseId);
+        return dates.isEmpty() ? null : dates.get(0);
+    }
+
+    public List<StatisticsRow> findStatistics(Long warehouseId) {
+        return jdbcTemplate.query(FIND_STATISTICS_SQL, (rs, rowNum) -> {
+            Date firstDemandDate = rs.getDate("first_demand_date");
+            return new StatisticsRow(
+                    warehouseId,
+                    rs.getLong("product_id"),
+                    firstDemandDate != null ? firstDemandDate.toLocalDate() : null,
+                    rs.getLong("demand_sum"),
+                    rs.getDouble("demand_square_sum"),
+                    rs.getLong("lead_time_count"),
+                    rs.getLong("lead_time_sum"),
+                    rs.getLong("lead_time_square_sum"),
+                    null,
+                    null
+            );
+        }, warehouseId);
+    }
+
+    public void forEachDailyDemand(Long warehouseId, LocalDate from, LocalDate to, Consumer<DailyDemand> consumer) {
+        Date fromDate = Date.valueOf(from);
+        Date toDate = Date.valueOf(to);
+        stream(DAILY_DEMAND_SQL, new Object[]{warehouseId, fromDate, toDate, warehouseId, fromDate, toDate},
+                rs -> consumer.accept(new DailyDemand(
+                        rs.getLong("product_id"), rs.getDate("shipped_date").toLocalDate(), rs.getLong("quantity"))));
+    }
+
+    public void forEachLeadTime(Long warehouseId, LocalDate from, LocalDate to, Consumer<LeadTimeSample> consumer) {
+        Timestamp fromTime = Timestamp.valueOf(from.atStartOfDay());
+        Timestamp toTime = Timestamp.valueOf(to.plusDays(1).atStartOfDay());
+        stream(LEAD_TIME_SQL, new Object[]{warehouseId, fromTime, toTime, warehouseId, fromTime, toTime},
+                rs -> consumer.accept(new LeadTimeSample(
+                        rs.getLong("product_id"),
+                        rs.getTimestamp("created_at").toLocalDateTime().toLocalDate(),
+                        rs.getTimestamp("modified_at").toLocalDateTime().toLocalDate())));
+    }
+
+    public void updateStatistics(List<StatisticsRow> rows, LocalDateTime calculatedAt) {
+        batchStatistics(UPDATE_STATISTICS_SQL, rows, calculatedAt);
+    }
+
+    public void insertStatistics(List<StatisticsRow> rows, LocalDateTime calculatedAt) {
+        batchStatistics(INSERT_STATISTICS_SQL, rows, calculatedAt);
+    }
+
+    /**
+     * 창고의 누적 통계에 담긴 안전재고와 재주문점을 창고 재고에 반영하고, 바뀐 재고 수를 반환한다.
+     */
+    public int applyToWarehouseStock(Long warehouseId, LocalDateTime modifiedAt) {
+        return jdbcTemplate.update(APPLY_TO_WAREHOUSE_STOCK_SQL, Timestamp.valueOf(modifiedAt), warehouseId);
+    }
+
+    public void saveRun(Long warehouseId, LocalDate processedThrough, LocalDateTime ranAt) {
+        Object[] params = {Date.valueOf(processedThrough), Timestamp.valueOf(ranAt), warehouseId};
+        if (jdbcTemplate.update(UPDATE_RUN_SQL, params) == 0) {
+            jdbcTemplate.update(INSERT_RUN_SQL, params);
+        }
+    }
+
+    private void stream(String sql, Object[] params, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            for (int i = 0; i < params.length; i++) {
+                ps.setObject(i + 1, params[i]);
+            }
+            return ps;
+        }, handler);
+    }
+
+    private void batchStatistics(String sql, List<StatisticsRow> rows, LocalDateTime calculatedAt) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        Timestamp calculatedAtTimestamp = Timestamp.valueOf(calculatedAt);
+        jdbcTemplate.batchUpdate(sql, rows, rows.size(), (ps, row) -> {
+            ps.setDate(1, row.firstDemandDate() != null ? Date.valueOf(row.firstDemandDate()) : null);
+            ps.setLong(2, row.demandSum());
+            ps.setDouble(3, row.demandSquareSum());
+            ps.setLong(4, row.leadTimeCount());
+            ps.setLong(5, row.leadTimeSum());
+            ps.setLong(6, row.leadTimeSquareSum());
+            ps.setObject(7, row.safetyStock(), Types.INTEGER);
+            ps.setObject(8, row.reorderPoint(), Types.INTEGER);
+            ps.setTimestamp(9, calculatedAtTimestamp);
+            ps.setLong(10, row.warehouseId());
+            ps.setLong(11, row.productId());
+        });
+    }
+
+    public record StatisticsRow(Long warehouseId, Long productId, LocalDate firstDemandDate,
+                                long demandSum, double demandSquareSum,
+                                long leadTimeCount, long leadTimeSum, long leadTimeSquareSum,
+                                Integer safetyStock, Integer reorderPoint) {
+    }
+
+    public record DailyDemand(Long productId, LocalDate shippedDate, long quantity) {
+    }
+
+    public record LeadTimeSample(Long productId, LocalDate registeredDate, LocalDate completedDate) {
+    }
+}
@@ -0,0 +1,82 @@
+package inventory.safetystock.service;
+
+import inventory.common.datasource.DataSourcePool;
+import inventory.common.datasource.PoolType;
+import inventory.safetystock.repository.SafetyStockJdbcRepository;
+import inventory.safetystock.repository.SafetyStockJdbcRepository.LeadTimeSample;
+import inventory.safetystock.repository.SafetyStockJdbcRepository.StatisticsRow;
+import inventory.safetystock.service.util.DemandAccumulator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 창고 하나의 누적 통계를 새 이력 창으로 옮겨 상품별 누적값을 만든다.
+ * 마지막 실행 이후의 출고/입고 이력을 더하고, 창에서 밀려난 날의 이력은 다시 읽어 뺀다.
+ * <p>
+ * 포크조인 작업은 호출한 스레드의 풀 지정을 물려받지 않으므로 프록시를 거쳐 호출되어야 리포트 풀에서 읽는다.
+ */
+@Component
+@DataSourcePool(PoolType.REPORT)
+@RequiredArgsConstructor
+public class SafetyStockReader {
+
+    private final SafetyStockJdbcRepository safetyStockJdbcRepository;
+
+    public LocalDate findProcessedThrough(Long warehouseId) {
+        return safetyStockJdbcRepository.findProcessedThrough(warehouseId);
+    }
+
+    /**
+     * 저장된 통계에서 {@code expiredFrom}부터 {@code windowStart} 전날까지의 이력을 빼고
+     * {@code from}부터 {@code processedThrough}까지의 이력을 더한다.
+     * {@code expiredFrom}이 null이면 저장된 통계를 버리고 {@code from}부터 다시 쌓는다.
+     */
+    public Map<Long, DemandAccumulator> readDemand(Long warehouseId, LocalDate expiredFrom, LocalDate windowStart,
+                                                   LocalDate from, LocalDate processedThrough) {
+        Map<Long, DemandAccumulator> accumulators = new HashMap<>();
+        for (StatisticsRow row : safetyStockJdbcRepository.findStatistics(warehouseId)) {
+            DemandAccumulator accumulator = DemandAccumulator.from(row);
+            if (expiredFrom == null) {
+                accumulator.reset();
+            }
+            accumulators.put(row.productId(), accumulator);
+        }
+
+        if (expiredFrom != null && expiredFrom.isBefore(windowStart)) {
+            LocalDate expiredTo = windowStart.minusDays(1);
+            safetyStockJdbcRepository.forEachDailyDemand(warehouseId, expiredFrom, expiredTo, demand -> {
+                DemandAccumulator accumulator = accumulators.get(demand.productId());
+                if (accumulator != null) {
+                    accumulator.removeDailyDemand(demand.quantity());
+                }
+            });
+            safetyStockJdbcRepository.forEachLeadTime(warehouseId, expiredFrom, expiredTo, sample -> {
+                DemandAccumulator accumulator = accumulators.get(sample.productId());
+                if (accumulator != null) {
+                    accumulator.removeLeadTime(leadTimeDays(sample));
+                }
+            });
+        }
+
+        safetyStockJdbcRepository.forEachDailyDemand(warehouseId, from, processedThrough, demand ->
+                accumulators.computeIfAbsent(demand.productId(), DemandAccumulator::empty)
+                        .addDailyDemand(demand.shippedDate(), demand.quantity()));
+        safetyStockJdbcRepository.forEachLeadTime(warehouseId, from, processedThrough, sample ->
+                accumulators.computeIfAbsent(sample.productId(), DemandAccumulator::empty)
+                        .addLeadTime(leadTimeDays(sample)));
+
+        for (DemandAccumulator accumulator : accumulators.values()) {
+            accumulator.startWindowAt(windowStart);
+        }
+        return accumulators;
+    }
+
+    private long leadTimeDays(LeadTimeSample sample) {
+        return Math.max(1, ChronoUnit.DAYS.between(sample.registeredDate(), sample.completedDate()));
+    }
+}
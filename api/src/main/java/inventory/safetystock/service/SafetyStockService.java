@@ -0,0 +1,167 @@
+package inventory.safetystock.service;
+
+import inventory.common.exception.CustomException;
+import inventory.common.exception.ExceptionCode;
+import inventory.safetystock.repository.SafetyStockJdbcRepository;
+import inventory.safetystock.repository.SafetyStockJdbcRepository.StatisticsRow;
+import inventory.safetystock.service.response.SafetyStockRunResponse;
+import inventory.safetystock.service.util.DemandAccumulator;
+import inventory.safetystock.service.util.SafetyStockCalculator;
+import inventory.warehouse.domain.Warehouse;
+import inventory.warehouse.repository.WarehouseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 출고/입고 이력으로 창고 재고의 안전재고와 재주문점을 다시 계산한다.
+ * <p>
+ * 통계는 기준일까지의 최근 {@code history-days}일 이력으로 계산한다. 창고마다 마지막으로 반영한 날짜를 기록해 두고
+ * 그 다음 날부터 기준일까지의 이력을 더하며, 그만큼 창에서 밀려난 날의 이력은 다시 읽어 뺀다.
+ * 마지막 실행이 창보다 오래되었으면 저장된 통계를 버리고 창 전체를 다시 읽는다.
+ * 창고별 계산은 서로 독립적이므로 ForkJoinPool에서 병렬로 실행한다. 이력은 {@link SafetyStockReader}로 리포트 풀에서 읽고,
+ * 결과는 쓰기 풀에서 창고 단위 트랜잭션으로 저장한다.
+ */
+@Slf4j
+@Service
+public class SafetyStockService {
+
+    private final SafetyStockJdbcRepository safetyStockJdbcRepository;
+    private final SafetyStockReader safetyStockReader;
+    private final SafetyStockCalculator safetyStockCalculator;
+    private final WarehouseRepository warehouseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int historyDays;
+    private final int parallelism;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public SafetyStockService(
+            SafetyStockJdbcRepository safetyStockJdbcRepository,
+            SafetyStockReader safetyStockReader,
+            SafetyStockCalculator safetyStockCalculator,
+            WarehouseRepository warehouseRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${safety-stock.enabled:true}") boolean enabled,
+            @Value("${safety-stock.history-days:365}") int historyDays,
+            @Value("${safety-stock.parallelism:4}") int parallelism
+    ) {
+        this.safetyStockJdbcRepository = safetyStockJdbcRepository;
+        this.safetyStockReader = safetyStockReader;
+        this.safetyStockCalculator = safetyStockCalculator;
+        this.warehouseRepository = warehouseRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.historyDays = Math.max(1, historyDays);
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    @Scheduled(cron = "${safety-stock.cron:0 0 4 * * *}")
+    public void recalculateScheduled() {
+        if (!enabled) {
+            return;
+        }
+        recalculateAll(LocalDate.now().minusDays(1));
+    }
+
+    /**
+     * 모든 창고를 {@code processedThrough}까지의 이력으로 갱신한다.
+     */
+    public SafetyStockRunResponse recalculateAll(LocalDate processedThrough) {
+        // 진행 중인 날을 반영하면 다음 실행에서 그날의 나머지 이력을 놓친다
+        if (processedThrough == null || !processedThrough.isBefore(LocalDate.now())) {
+            throw new CustomException(ExceptionCode.INVALID_INPUT, "기준일은 오늘 이전이어야 합니다.");
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new CustomException(ExceptionCode.INVALID_STATE, "안전재고 계산이 이미 실행 중입니다.");
+        }
+
+        long startedAt = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<Long> warehouseIds = warehouseRepository.findAll().stream()
+                    .map(Warehouse::getWarehouseId)
+                    .toList();
+
+            List<ForkJoinTask<WarehouseResult>> tasks = new ArrayList<>(warehouseIds.size());
+            for (Long warehouseId : warehouseIds) {
+                tasks.add(pool.submit(() -> recalculateWarehouse(warehouseId, processedThrough)));
+            }
+
+            int failedWarehouseCount = 0;
+            long calculatedProductCount = 0;
+            long updatedStockCount = 0;
+            for (int i = 0; i < tasks.size(); i++) {
+                try {
+                    WarehouseResult result = tasks.get(i).join();
+                    calculatedProductCount += result.calculatedProductCount();
+                    updatedStockCount += result.updatedStockCount();
+                } catch (RuntimeException e) {
+                    failedWarehouseCount++;
+                    log.error("안전재고 계산 실패: 창고 ID={}", warehouseIds.get(i), e);
+                }
+            }
+
+            long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            log.info("안전재고 계산 완료: 기준일={}, 창고={}, 실패={}, 상품={}, 갱신된 재고={}, 소요={}ms",
+                    processedThrough, warehouseIds.size(), failedWarehouseCount,
+                    calculatedProductCount, updatedStockCount, elapsedMillis);
+            return new SafetyStockRunResponse(processedThrough, warehouseIds.size(), failedWarehouseCount,
+                    calculatedProductCount, updatedStockCount, elapsedMillis);
+        } finally {
+            pool.shutdownNow();
+            running.set(false);
+        }
+    }
+
+    /**
+     * 창고 하나의 누적 통계를 {@code processedThrough}까지의 이력 창으로 옮기고 재고에 반영한다.
+     */
+    public WarehouseResult recalculateWarehouse(Long warehouseId, LocalDate processedThrough) {
+        LocalDate lastProcessed = safetyStockReader.findProcessedThrough(warehouseId);
+        if (lastProcessed != null && !lastProcessed.isBefore(processedThrough)) {
+            return new WarehouseResult(0, 0);
+        }
+
+        LocalDate windowStart = processedThrough.minusDays(historyDays - 1L);
+        Map<Long, DemandAccumulator> accumulators;
+        if (lastProcessed == null || lastProcessed.isBefore(windowStart)) {
+            accumulators = safetyStockReader.readDemand(warehouseId, null, windowStart, windowStart, processedThrough);
+        } else {
+            LocalDate previousWindowStart = lastProcessed.minusDays(historyDays - 1L);
+            accumulators = safetyStockReader.readDemand(warehouseId, previousWindowStart, windowStart,
+                    lastProcessed.plusDays(1), processedThrough);
+        }
+
+        List<StatisticsRow> updates = new ArrayList<>();
+        List<StatisticsRow> inserts = new ArrayList<>();
+        for (DemandAccumulator accumulator : accumulators.values()) {
+            StatisticsRow row = accumulator.toRow(warehouseId,
+                    safetyStockCalculator.calculate(accumulator, processedThrough));
+            (accumulator.isPersisted() ? updates : inserts).add(row);
+        }
+
+        Integer updatedStockCount = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            safetyStockJdbcRepository.updateStatistics(updates, now);
+            safetyStockJdbcRepository.insertStatistics(inserts, now);
+            safetyStockJdbcRepository.saveRun(warehouseId, processedThrough, now);
+            return safetyStockJdbcRepository.applyToWarehouseStock(warehouseId, now);
+        });
+        return new WarehouseResult(accumulators.size(), updatedStockCount != null ? updatedStockCount : 0);
+    }
+
+    public record WarehouseResult(int calculatedProductCount, int updatedStockCount) {
+    }
+}
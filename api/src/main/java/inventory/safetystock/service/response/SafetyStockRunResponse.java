@@ -0,0 +1,13 @@
+package inventory.safetystock.service.response;
+
+import java.time.LocalDate;
+
+public record SafetyStockRunResponse(
+        LocalDate processedThrough,
+        int warehouseCount,
+        int failedWarehouseCount,
+        long calculatedProductCount,
+        long updatedStockCount,
+        long elapsedMillis
+) {
+}
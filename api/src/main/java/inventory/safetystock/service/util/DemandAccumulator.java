@@ -0,0 +1,98 @@
+package inventory.safetystock.service.util;
+
+import inventory.safetystock.repository.SafetyStockJdbcRepository.StatisticsRow;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 한 창고/상품의 일별 수요와 리드타임 표본을 합과 제곱합으로 누적한다.
+ * 수요가 없는 날은 합과 제곱합에 0을 더하는 것과 같으므로 따로 기록하지 않는다.
+ * 합과 제곱합은 더한 값을 그대로 빼면 되돌아가므로, 창에서 밀려난 날은 다시 읽어 빼는 것으로 창을 옮긴다.
+ */
+@Getter
+public class DemandAccumulator {
+
+    private final Long productId;
+    private final boolean persisted;
+    private LocalDate firstDemandDate;
+    private long demandSum;
+    private double demandSquareSum;
+    private long leadTimeCount;
+    private long leadTimeSum;
+    private long leadTimeSquareSum;
+
+    private DemandAccumulator(Long productId, boolean persisted) {
+        this.productId = productId;
+        this.persisted = persisted;
+    }
+
+    public static DemandAccumulator empty(Long productId) {
+        return new DemandAccumulator(productId, false);
+    }
+
+    public static DemandAccumulator from(StatisticsRow row) {
+        DemandAccumulator accumulator = new DemandAccumulator(row.productId(), true);
+        accumulator.firstDemandDate = row.firstDemandDate();
+        accumulator.demandSum = row.demandSum();
+        accumulator.demandSquareSum = row.demandSquareSum();
+        accumulator.leadTimeCount = row.leadTimeCount();
+        accumulator.leadTimeSum = row.leadTimeSum();
+        accumulator.leadTimeSquareSum = row.leadTimeSquareSum();
+        return accumulator;
+    }
+
+    public void addDailyDemand(LocalDate date, long quantity) {
+        if (firstDemandDate == null || date.isBefore(firstDemandDate)) {
+            firstDemandDate = date;
+        }
+        demandSum += quantity;
+        demandSquareSum += (double) quantity * quantity;
+    }
+
+    public void removeDailyDemand(long quantity) {
+        // 반영한 뒤에 출고 상태가 바뀐 이력이 있어도 음수로 내려가지 않게 한다
+        demandSum = Math.max(0, demandSum - quantity);
+        demandSquareSum = Math.max(0, demandSquareSum - (double) quantity * quantity);
+    }
+
+    public void addLeadTime(long days) {
+        leadTimeCount++;
+        leadTimeSum += days;
+        leadTimeSquareSum += days * days;
+    }
+
+    public void removeLeadTime(long days) {
+        leadTimeCount = Math.max(0, leadTimeCount - 1);
+        leadTimeSum = Math.max(0, leadTimeSum - days);
+        leadTimeSquareSum = Math.max(0, leadTimeSquareSum - days * days);
+    }
+
+    /**
+     * 창의 시작일보다 앞선 첫 수요일을 시작일로 당겨, 관측 일수가 창 길이를 넘지 않게 한다.
+     */
+    public void startWindowAt(LocalDate windowStart) {
+        if (firstDemandDate != null && firstDemandDate.isBefore(windowStart)) {
+            firstDemandDate = windowStart;
+        }
+    }
+
+    /**
+     * 저장된 값을 버린다. 저장 여부는 그대로 두어 기존 행을 덮어쓰게 한다.
+     */
+    public void reset() {
+        firstDemandDate = null;
+        demandSum = 0;
+        demandSquareSum = 0;
+        leadTimeCount = 0;
+        leadTimeSum = 0;
+        leadTimeSquareSum = 0;
+    }
+
+    public StatisticsRow toRow(Long warehouseId, SafetyStockLevel level) {
+        return new StatisticsRow(warehouseId, productId, firstDemandDate,
+                demandSum, demandSquareSum, leadTimeCount, leadTimeSum, leadTimeSquareSum,
+                level != null ? level.safetyStock() : null,
+                level != null ? level.reorderPoint() : null);
+    }
+}
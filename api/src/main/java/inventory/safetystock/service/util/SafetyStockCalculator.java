@@ -0,0 +1,66 @@
+package inventory.safetystock.service.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 누적된 수요/리드타임 통계로 안전재고와 재주문점을 계산한다.
+ * <p>
+ * 안전재고 = z * sqrt(L * σd² + d² * σL²), 재주문점 = d * L + 안전재고 (d: 일평균 수요, L: 평균 리드타임(일)).
+ * 첫 수요일부터 관측한 날이 {@code minObservationDays}보다 적으면 계산하지 않는다.
+ */
+@Component
+public class SafetyStockCalculator {
+
+    private final double serviceLevelZ;
+    private final int defaultLeadTimeDays;
+    private final int minObservationDays;
+
+    public SafetyStockCalculator(
+            @Value("${safety-stock.service-level-z:1.65}") double serviceLevelZ,
+            @Value("${safety-stock.default-lead-time-days:7}") int defaultLeadTimeDays,
+            @Value("${safety-stock.min-observation-days:14}") int minObservationDays
+    ) {
+        this.serviceLevelZ = serviceLevelZ;
+        this.defaultLeadTimeDays = defaultLeadTimeDays;
+        this.minObservationDays = minObservationDays;
+    }
+
+    public SafetyStockLevel calculate(DemandAccumulator accumulator, LocalDate processedThrough) {
+        if (accumulator.getFirstDemandDate() == null) {
+            return null;
+        }
+
+        long observedDays = ChronoUnit.DAYS.between(accumulator.getFirstDemandDate(), processedThrough) + 1;
+        if (observedDays < minObservationDays) {
+            return null;
+        }
+
+        double demandMean = (double) accumulator.getDemandSum() / observedDays;
+        double demandVariance = variance(accumulator.getDemandSquareSum(), demandMean, observedDays);
+
+        double leadTimeMean = defaultLeadTimeDays;
+        double leadTimeVariance = 0;
+        if (accumulator.getLeadTimeCount() > 0) {
+            leadTimeMean = (double) accumulator.getLeadTimeSum() / accumulator.getLeadTimeCount();
+            leadTimeVariance = variance(accumulator.getLeadTimeSquareSum(), leadTimeMean, accumulator.getLeadTimeCount());
+        }
+
+        double safetyStock = serviceLevelZ
+                * Math.sqrt(leadTimeMean * demandVariance + demandMean * demandMean * leadTimeVariance);
+        double reorderPoint = demandMean * leadTimeMean + safetyStock;
+
+        return new SafetyStockLevel(toQuantity(safetyStock), toQuantity(reorderPoint));
+    }
+
+    private double variance(double squareSum, double mean, long count) {
+        return Math.max(0, squareSum / count - mean * mean);
+    }
+
+    private int toQuantity(double value) {
+        return (int) Math.min(Integer.MAX_VALUE, Math.ceil(value));
+    }
+}
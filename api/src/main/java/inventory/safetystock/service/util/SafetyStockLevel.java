@@ -0,0 +1,4 @@
+package inventory.safetystock.service.util;
+
+public record SafetyStockLevel(int safetyStock, int reorderPoint) {
+}
@@ -0,0 +1,26 @@
+package inventory.stockaudit.controller;
+
+import inventory.common.dto.response.ApiResponse;
+import inventory.stockaudit.service.StockAuditService;
+import inventory.stockaudit.service.response.StockAuditResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/stock-audits")
+@RestController
+public class StockAuditController {
+
+    private final StockAuditService stockAuditService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<StockAuditResponse>> audit(
+            @RequestParam(defaultValue = "false") boolean correct
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(stockAuditService.audit(correct)));
+    }
+}
@@ -0,0 +1,179 @@
+package inventory.stockaudit.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 재고 점검에 필요한 창고별 입출고 합계와 재고 행을 스트리밍으로 읽는다.
+ * 합계는 DB에서 상품별로 묶어 오므로 이력 행 수와 관계없이 창고의 상품 수만큼만 전송된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StockAuditJdbcRepository {
+
+    private static final int STREAM_FETCH_SIZE = 1_000;
+
+    // 완료된 입고와 출고 완료된 출고는 이미 재고에 반영되었으므로 이후에 삭제되었더라도 합계에 넣는다.
+    // 창고 간 이동은 도착 창고에는 입고로, 출발 창고에는 출고로 센다
+    private static final String RECEIVED_SQL = """
+            SELECT product_id, SUM(quantity) AS quantity
+            FROM (
+                SELECT ip.product_id, ip.quantity
+                FROM inbound i
+                JOIN inbound_product ip ON ip.inbound_id = i.inbound_id
+                WHERE i.warehouse_id = ? AND i.status = 'COMPLETED'
+                UNION ALL
+                SELECT ip.product_id, ip.quantity
+                FROM inbound_archive i
+                JOIN inbound_product_archive ip ON ip.inbound_id = i.inbound_id
+                WHERE i.warehouse_id = ? AND i.status = 'COMPLETED'
+                UNION ALL
+                SELECT tp.product_id, tp.quantity
+                FROM stock_transfer t
+                JOIN stock_transfer_product tp ON tp.stock_transfer_id = t.stock_transfer_id
+                WHERE t.to_warehouse_id = ?
+            ) received
+            GROUP BY product_id
+            """;
+
+    private static final String SHIPPED_SQL = """
+            SELECT product_id, SUM(quantity) AS quantity
+            FROM (
+                SELECT op.product_id, op.requested_quantity AS quantity
+                FROM outbound o
+                JOIN outbound_product op ON op.outbound_id = o.outbound_id
+                WHERE o.warehouse_id = ? AND o.outbound_status = 'SHIPPED'
+                UNION ALL
+                SELECT op.product_id, op.requested_quantity AS quantity
+                FROM outbound_archive o
+                JOIN outbound_product_archive op ON op.outbound_id = o.outbound_id
+                WHERE o.warehouse_id = ? AND o.outbound_status = 'SHIPPED'
+                UNION ALL
+                SELECT tp.product_id, tp.quantity
+                FROM stock_transfer t
+                JOIN stock_transfer_product tp ON tp.stock_transfer_id = t.stock_transfer_id
+                WHERE t.from_warehouse_id = ?
+            ) shipped
+            GROUP BY product_id
+            """;
+
+    // 아카이브에는 종료되었거나 삭제된 출고만 있으므로 진행 중인 출고는 운영 테이블에서만 읽는다.
+    // 버킷으로 나눈 가용 수량도 재고 행의 예약에 잡혀 있으므로 함께 더한다
+    private static final String RESERVED_SQL = """
+            SELECT product_id, SUM(quantity) AS quantity
+            FROM (
+                SELECT op.product_id, op.requested_quantity AS quantity
+                FROM outbound o
+                JOIN outbound_product op ON op.outbound_id = o.outbound_id
+                WHERE o.warehouse_id = ? AND o.outbound_status IN ('ORDERED', 'PICKING')
+                  AND o.deleted = false AND op.deleted = false
+                UNION ALL
+                SELECT product_id, quantity
+                FROM warehouse_stock_bucket
+                WHERE warehouse_id = ?
+            ) reserved
+            GROUP BY product_id
+            """;
+
+    private static final String STOCK_SQL = """
+            SELECT product_id, quantity, reserved_quantity
+            FROM warehouse_stock
+            WHERE warehouse_id = ?
+            ORDER BY product_id
+            """;
+
+    // 점검 이후 재고가 바뀌었으면 기대값이 더 이상 맞지 않으므로 읽었던 값 그대로일 때만 고친다
+    private static final String UPDATE_RESERVED_SQL = """
+            UPDATE warehouse_stock
+            SET reserved_quantity = ?, modified_at = ?
+            WHERE warehouse_id = ? AND product_id = ?
+              AND reserved_quantity = ? AND quantity >= ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Long> findWarehouseIds() {
+        return jdbcTemplate.queryForList("SELECT warehouse_id FROM warehouse ORDER BY warehouse_id", Long.class);
+    }
+
+    public void forEachReceived(Long warehouseId, Consumer<ProductQuantity> consumer) {
+        stream(RECEIVED_SQL, new Object[]{warehouseId, warehouseId, warehouseId},
+                rs -> consumer.accept(toProductQuantity(rs)));
+    }
+
+    public void forEachShipped(Long warehouseId, Consumer<ProductQuantity> consumer) {
+        stream(SHIPPED_SQL, new Object[]{warehouseId, warehouseId, warehouseId},
+                rs -> consumer.accept(toProductQuantity(rs)));
+    }
+
+    public void forEachReserved(Long warehouseId, Consumer<ProductQuantity> consumer) {
+        stream(RESERVED_SQL, new Object[]{warehouseId, warehouseId}, rs -> consumer.accept(toProductQuantity(rs)));
+    }
+
+    public void forEachStock(Long warehouseId, Consumer<StockRow> consumer) {
+        stream(STOCK_SQL, new Object[]{warehouseId}, rs -> consumer.accept(new StockRow(
+                rs.getLong("product_id"), rs.getInt("quantity"), rs.getInt("reserved_quantity"))));
+    }
+
+    /**
+     * 예약 재고를 한 번의 배치로 고치고, 행마다 반영 여부를 반환한다.
+     */
+    public boolean[] updateReservedQuantities(List<ReservedCorrection> corrections, LocalDateTime modifiedAt) {
+        if (corrections.isEmpty()) {
+            return new boolean[0];
+        }
+
+        Timestamp modifiedAtTimestamp = Timestamp.valueOf(modifiedAt);
+        int[][] results = jdbcTemplate.batchUpdate(UPDATE_RESERVED_SQL, corrections, corrections.size(), (ps, correction) -> {
+            ps.setInt(1, correction.reservedQuantity());
+            ps.setTimestamp(2, modifiedAtTimestamp);
+            ps.setLong(3, correction.warehouseId());
+            ps.setLong(4, correction.productId());
+            ps.setInt(5, correction.observedReservedQuantity());
+            ps.setInt(6, correction.reservedQuantity());
+        });
+
+        boolean[] applied = new boolean[corrections.size()];
+        int index = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                applied[index++] = count > 0;
+            }
+        }
+        return applied;
+    }
+
+    private ProductQuantity toProductQuantity(ResultSet rs) throws SQLException {
+        return new ProductQuantity(rs.getLong("product_id"), rs.getLong("quantity"));
+    }
+
+    private void stream(String sql, Object[] params, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            for (int i = 0; i < params.length; i++) {
+                ps.setObject(i + 1, params[i]);
+            }
+            return ps;
+        }, handler);
+    }
+
+    public record ProductQuantity(long productId, long quantity) {
+    }
+
+    public record StockRow(long productId, int quantity, int reservedQuantity) {
+    }
+
+    public record ReservedCorrection(Long warehouseId, Long productId, int observedReservedQuantity, int reservedQuantity) {
+    }
+}
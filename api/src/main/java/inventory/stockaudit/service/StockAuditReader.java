@@ -0,0 +1,96 @@
+package inventory.stockaudit.service;
+
+import inventory.common.datasource.DataSourcePool;
+import inventory.common.datasource.PoolType;
+import inventory.stockaudit.repository.StockAuditJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 창고 하나의 이력으로 상품별 기대 재고를 다시 계산해 재고 행과 비교한다.
+ * <p>
+ * 포크조인 작업에서 프록시를 거쳐 호출되어야 리포트 풀과 트랜잭션이 적용된다. 네 번의 조회를 한 스냅샷에서 읽도록
+ * REPEATABLE READ 읽기 전용 트랜잭션으로 묶는다.
+ */
+@Component
+@DataSourcePool(PoolType.REPORT)
+@RequiredArgsConstructor
+public class StockAuditReader {
+
+    private static final int RECEIVED = 0;
+    private static final int SHIPPED = 1;
+    private static final int RESERVED = 2;
+
+    private final StockAuditJdbcRepository stockAuditJdbcRepository;
+
+    public List<Long> findWarehouseIds() {
+        return stockAuditJdbcRepository.findWarehouseIds();
+    }
+
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public WarehouseAudit audit(Long warehouseId) {
+        Map<Long, long[]> expected = new HashMap<>();
+        stockAuditJdbcRepository.forEachReceived(warehouseId, row ->
+                expected.computeIfAbsent(row.productId(), key -> new long[3])[RECEIVED] += row.quantity());
+        stockAuditJdbcRepository.forEachShipped(warehouseId, row ->
+                expected.computeIfAbsent(row.productId(), key -> new long[3])[SHIPPED] += row.quantity());
+        stockAuditJdbcRepository.forEachReserved(warehouseId, row ->
+                expected.computeIfAbsent(row.productId(), key -> new long[3])[RESERVED] += row.quantity());
+
+        List<Discrepancy> discrepancies = new ArrayList<>();
+        long[] stockCount = {0};
+        stockAuditJdbcRepository.forEachStock(warehouseId, stock -> {
+            stockCount[0]++;
+            long[] totals = expected.remove(stock.productId());
+            long expectedQuantity = totals != null ? totals[RECEIVED] - totals[SHIPPED] : 0;
+            long expectedReserved = totals != null ? totals[RESERVED] : 0;
+            if (stock.quantity() != expectedQuantity || stock.reservedQuantity() != expectedReserved) {
+                discrepancies.add(new Discrepancy(warehouseId, stock.productId(), false,
+                        stock.quantity(), expectedQuantity, stock.reservedQuantity(), expectedReserved));
+            }
+        });
+
+        // 이력은 있는데 재고 행이 없는 상품
+        expected.forEach((productId, totals) -> {
+            long expectedQuantity = totals[RECEIVED] - totals[SHIPPED];
+            if (expectedQuantity != 0 || totals[RESERVED] != 0) {
+                discrepancies.add(new Discrepancy(warehouseId, productId, true,
+                        0, expectedQuantity, 0, totals[RESERVED]));
+            }
+        });
+        return new WarehouseAudit(stockCount[0], discrepancies);
+    }
+
+    public record WarehouseAudit(long stockCount, List<Discrepancy> discrepancies) {
+    }
+
+    /**
+     * 재고 행과 이력으로 계산한 값이 다른 상품. 재고 행이 없으면 {@code stockMissing}이 참이고 현재 값은 0이다.
+     */
+    public record Discrepancy(
+            long warehouseId,
+            long productId,
+            boolean stockMissing,
+            int quantity,
+            long expectedQuantity,
+            int reservedQuantity,
+            long expectedReservedQuantity
+    ) {
+
+        /**
+         * 예약 재고만 고칠 수 있다. 기대 예약이 현재 실재고를 넘으면 실재고부터 확인해야 하므로 고치지 않는다.
+         */
+        public boolean isReservedCorrectable() {
+            return !stockMissing
+                    && reservedQuantity != expectedReservedQuantity
+                    && expectedReservedQuantity <= quantity;
+        }
+    }
+}
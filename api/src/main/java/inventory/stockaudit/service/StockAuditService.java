@@ -0,0 +1,179 @@
+package inventory.stockaudit.service;
+
+import inventory.common.exception.CustomException;
+import inventory.common.exception.ExceptionCode;
+import inventory.stockaudit.repository.StockAuditJdbcRepository;
+import inventory.stockaudit.repository.StockAuditJdbcRepository.ReservedCorrection;
+import inventory.stockaudit.service.StockAuditReader.Discrepancy;
+import inventory.stockaudit.service.StockAuditReader.WarehouseAudit;
+import inventory.stockaudit.service.response.StockAuditResponse;
+import inventory.stockaudit.service.response.StockDiscrepancyResponse;
+import inventory.warehouse.service.event.StockChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 입고 완료, 출고 완료, 창고 간 이동, 진행 중인 출고 이력으로 창고 재고의 실재고와 예약 재고를 다시 계산해 어긋난 상품을 찾는다.
+ * <p>
+ * 창고별 계산은 서로 독립적이므로 ForkJoinPool에서 병렬로 실행한다. 동시에 쓰는 커넥션이 리포트 풀 크기를 넘지 않도록
+ * 병렬도는 리포트 풀 크기 이하로 둔다. 보정은 예약 재고에만 적용한다. 실재고 차이는 초기 재고처럼 이력 밖에서 들어온
+ * 수량일 수 있어 보고만 한다.
+ */
+@Slf4j
+@Service
+public class StockAuditService {
+
+    private final StockAuditReader stockAuditReader;
+    private final StockAuditJdbcRepository stockAuditJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int parallelism;
+    private final int maxReportRows;
+    private final Timer duration;
+    private final Counter correctedStocks;
+    private final AtomicInteger lastDiscrepancyCount = new AtomicInteger();
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public StockAuditService(
+            StockAuditReader stockAuditReader,
+            StockAuditJdbcRepository stockAuditJdbcRepository,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${stock-audit.parallelism:4}") int parallelism,
+            @Value("${stock-audit.max-report-rows:1000}") int maxReportRows
+    ) {
+        this.stockAuditReader = stockAuditReader;
+        this.stockAuditJdbcRepository = stockAuditJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.parallelism = Math.max(1, parallelism);
+        this.maxReportRows = maxReportRows;
+        this.duration = meterRegistry.timer("stock.audit.duration");
+        this.correctedStocks = meterRegistry.counter("stock.audit.corrected");
+        meterRegistry.gauge("stock.audit.discrepancies", lastDiscrepancyCount);
+    }
+
+    /**
+     * 모든 창고를 점검한다. {@code correct}가 참이면 고칠 수 있는 예약 재고를 기대값으로 맞춘다.
+     */
+    public StockAuditResponse audit(boolean correct) {
+        if (!running.compareAndSet(false, true)) {
+            throw new CustomException(ExceptionCode.INVALID_STATE, "재고 점검이 이미 실행 중입니다.");
+        }
+
+        long startedAt = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<Long> warehouseIds = stockAuditReader.findWarehouseIds();
+
+            List<ForkJoinTask<WarehouseAudit>> tasks = new ArrayList<>(warehouseIds.size());
+            for (Long warehouseId : warehouseIds) {
+                tasks.add(pool.submit(() -> stockAuditReader.audit(warehouseId)));
+            }
+
+            int failedWarehouseCount = 0;
+            long checkedStockCount = 0;
+            List<Discrepancy> discrepancies = new ArrayList<>();
+            for (int i = 0; i < tasks.size(); i++) {
+                try {
+                    WarehouseAudit result = tasks.get(i).join();
+                    checkedStockCount += result.stockCount();
+                    discrepancies.addAll(result.discrepancies());
+                } catch (RuntimeException e) {
+                    failedWarehouseCount++;
+                    log.error("재고 점검 실패: 창고 ID={}", warehouseIds.get(i), e);
+                }
+            }
+            discrepancies.sort(Comparator.comparingLong(Discrepancy::warehouseId)
+                    .thenComparingLong(Discrepancy::productId));
+
+            Set<Discrepancy> corrected = correct ? correctReserved(discrepancies) : Set.of();
+
+            long elapsedNanos = System.nanoTime() - startedAt;
+            duration.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            lastDiscrepancyCount.set(discrepancies.size());
+            long elapsedMillis = elapsedNanos / 1_000_000;
+            log.info("재고 점검 완료: 창고={}, 실패={}, 재고={}, 불일치={}, 보정={}, 소요={}ms",
+                    warehouseIds.size(), failedWarehouseCount, checkedStockCount,
+                    discrepancies.size(), corrected.size(), elapsedMillis);
+
+            List<StockDiscrepancyResponse> rows = discrepancies.stream()
+                    .limit(maxReportRows)
+                    .map(discrepancy -> StockDiscrepancyResponse.of(discrepancy, corrected.contains(discrepancy)))
+                    .toList();
+            return new StockAuditResponse(warehouseIds.size(), failedWarehouseCount, checkedStockCount,
+                    discrepancies.size(), corrected.size(), elapsedMillis, rows);
+        } finally {
+            pool.shutdownNow();
+            running.set(false);
+        }
+    }
+
+    // 창고 단위 트랜잭션으로 고친다. 한 창고가 실패해도 나머지 창고는 계속 고친다
+    private Set<Discrepancy> correctReserved(List<Discrepancy> discrepancies) {
+        Map<Long, List<Discrepancy>> byWarehouse = new LinkedHashMap<>();
+        for (Discrepancy discrepancy : discrepancies) {
+            if (discrepancy.isReservedCorrectable()) {
+                byWarehouse.computeIfAbsent(discrepancy.warehouseId(), key -> new ArrayList<>()).add(discrepancy);
+            }
+        }
+
+        Set<Discrepancy> corrected = new HashSet<>();
+        byWarehouse.forEach((warehouseId, targets) -> {
+            try {
+                List<Discrepancy> applied = transactionTemplate.execute(status -> correctWarehouse(warehouseId, targets));
+                if (applied != null) {
+                    corrected.addAll(applied);
+                }
+            } catch (RuntimeException e) {
+                log.error("예약 재고 보정 실패: 창고 ID={}", warehouseId, e);
+            }
+        });
+        correctedStocks.increment(corrected.size());
+        return corrected;
+    }
+
+    private List<Discrepancy> correctWarehouse(Long warehouseId, List<Discrepancy> targets) {
+        // 다른 재고 변경과 같은 순서(상품 ID)로 잠그도록 정렬된 목록을 그대로 넘긴다
+        List<ReservedCorrection> corrections = targets.stream()
+                .map(target -> new ReservedCorrection(warehouseId, target.productId(),
+                        target.reservedQuantity(), (int) target.expectedReservedQuantity()))
+                .toList();
+        boolean[] results = stockAuditJdbcRepository.updateReservedQuantities(corrections, LocalDateTime.now());
+
+        List<Discrepancy> applied = new ArrayList<>();
+        for (int i = 0; i < results.length; i++) {
+            if (results[i]) {
+                applied.add(targets.get(i));
+            } else {
+                log.warn("점검 이후 재고가 바뀌어 보정하지 않음: 창고 ID={}, 상품 ID={}", warehouseId, targets.get(i).productId());
+            }
+        }
+        if (!applied.isEmpty()) {
+            eventPublisher.publishEvent(StockChangedEvent.of(warehouseId,
+                    applied.stream().map(Discrepancy::productId).toList()));
+        }
+        return applied;
+    }
+}
@@ -0,0 +1,17 @@
+package inventory.stockaudit.service.response;
+
+import java.util.List;
+
+/**
+ * 재고 점검 결과. {@code discrepancies}는 설정된 최대 행 수까지만 담고, 전체 건수는 {@code discrepancyCount}로 알린다.
+ */
+public record StockAuditResponse(
+        int warehouseCount,
+        int failedWarehouseCount,
+        long checkedStockCount,
+        int discrepancyCount,
+        int correctedCount,
+        long elapsedMillis,
+        List<StockDiscrepancyResponse> discrepancies
+) {
+}
@@ -0,0 +1,28 @@
+package inventory.stockaudit.service.response;
+
+import inventory.stockaudit.service.StockAuditReader.Discrepancy;
+
+public record StockDiscrepancyResponse(
+        Long warehouseId,
+        Long productId,
+        boolean stockMissing,
+        int quantity,
+        long expectedQuantity,
+        int reservedQuantity,
+        long expectedReservedQuantity,
+        boolean corrected
+) {
+
+    public static StockDiscrepancyResponse of(Discrepancy discrepancy, boolean corrected) {
+        return new StockDiscrepancyResponse(
+                discrepancy.warehouseId(),
+                discrepancy.productId(),
+                discrepancy.stockMissing(),
+                discrepancy.quantity(),
+                discrepancy.expectedQuantity(),
+                discrepancy.reservedQuantity(),
+                discrepancy.expectedReservedQuantity(),
+                corrected
+        );
+    }
+}
@@ -1,5 +1,7 @@
 package inventory.supplier.service;
 
+import inventory.common.datasource.DataSourcePool;
+import inventory.common.datasource.PoolType;
 import inventory.common.exception.CustomException;
 import inventory.common.exception.ExceptionCode;
 import inventory.supplier.domain.Supplier;
@@ -37,6 +39,7 @@ public class SupplierService {
         return SupplierResponse.from(supplierRepository.save(supplier));
     }
 
+    @DataSourcePool(PoolType.READ)
     @Transactional(readOnly = true)
     public SupplierResponse findById(Long id) {
         if (id == null) {
@@ -47,6 +50,7 @@ public class SupplierService {
                 .orElseThrow(() -> new CustomException(ExceptionCode.DATA_NOT_FOUND)));
     }
 
+    @DataSourcePool(PoolType.READ)
     @Transactional(readOnly = true)
     public Page<SupplierResponse> findAllWithConditions(
             String nameContains,
@@ -0,0 +1,62 @@
+package inventory.throughput.controller;
+
+import inventory.common.dto.response.ApiResponse;
+import inventory.throughput.service.ThroughputRebuildService;
+import inventory.throughput.service.ThroughputService;
+import inventory.throughput.service.request.RebuildThroughputRequest;
+import inventory.throughput.service.response.DailyProductThroughputResponse;
+import inventory.throughput.service.response.ThroughputRebuildResponse;
+import inventory.throughput.service.response.WarehouseThroughputResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/throughput")
+@RestController
+public class ThroughputController {
+
+    private final ThroughputService throughputService;
+    private final ThroughputRebuildService throughputRebuildService;
+
+    @GetMapping("warehouses/{warehouseId}")
+    public ResponseEntity<ApiResponse<WarehouseThroughputResponse>> getWarehouseThroughput(
+            @PathVariable Long warehouseId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        WarehouseThroughputResponse response = throughputService.getWarehouseThroughput(warehouseId, startDate, endDate);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("warehouses/{warehouseId}/products")
+    public ResponseEntity<ApiResponse<List<DailyProductThroughputResponse>>> getProductThroughput(
+            @PathVariable Long warehouseId,
+            @RequestParam(required = false) Long productId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        List<DailyProductThroughputResponse> response =
+                throughputService.getProductThroughput(warehouseId, productId, startDate, endDate);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @PostMapping("rebuild")
+    public ResponseEntity<ApiResponse<ThroughputRebuildResponse>> rebuild(
+            @Valid @RequestBody RebuildThroughputRequest request
+    ) {
+        ThroughputRebuildResponse response = throughputRebuildService.rebuild(request.startDate(), request.endDate());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
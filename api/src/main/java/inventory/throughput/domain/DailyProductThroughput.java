@@ -0,0 +1,38 @@
+package inventory.throughput.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 창고/상품별 일일 처리량. 출고 완료와 입고 완료 시점에 증분으로 갱신된다.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "daily_product_throughput",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"warehouse_id", "product_id", "throughput_date"}))
+@Getter
+@Entity
+public class DailyProductThroughput {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long dailyProductThroughputId;
+
+    private Long warehouseId;
+
+    private Long productId;
+
+    private LocalDate throughputDate;
+
+    private long shippedQuantity;
+
+    private long receivedQuantity;
+}
@@ -0,0 +1,16 @@
+package inventory.throughput.repository;
+
+import inventory.throughput.domain.DailyProductThroughput;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyProductThroughputRepository extends JpaRepository<DailyProductThroughput, Long> {
+
+    List<DailyProductThroughput> findByWarehouseIdAndThroughputDateBetweenOrderByThroughputDateAscProductIdAsc(
+            Long warehouseId, LocalDate startDate, LocalDate endDate);
+
+    List<DailyProductThroughput> findByWarehouseIdAndProductIdAndThroughputDateBetweenOrderByThroughputDate(
+            Long warehouseId, Long productId, LocalDate startDate, LocalDate endDate);
+}
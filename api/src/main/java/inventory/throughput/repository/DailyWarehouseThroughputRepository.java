@@ -0,0 +1,13 @@
+package inventory.throughput.repository;
+
+import inventory.throughput.domain.DailyWarehouseThroughput;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyWarehouseThroughputRepository extends JpaRepository<DailyWarehouseThroughput, Long> {
+
+    List<DailyWarehouseThroughput> findByWarehouseIdAndThroughputDateBetweenOrderByThroughputDate(
+            Long warehouseId, LocalDate startDate, LocalDate endDate);
+}
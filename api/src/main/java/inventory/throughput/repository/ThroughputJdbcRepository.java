@@ -0,0 +1,252 @@
+package inventory.throughput.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일일 처리량 집계 테이블을 갱신한다.
+ * 증분 갱신은 {@code x = x + ?} 형태의 UPDATE로 원자적으로 더하고, 행이 없을 때만 INSERT 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ThroughputJdbcRepository {
+
+    private static final String INCREMENT_WAREHOUSE_SQL = """
+            UPDATE daily_warehouse_throughput
+            SET shipped_order_count = shipped_order_count + ?,
+                shipped_quantity = shipped_quantity + ?,
+                received_inbound_count = received_inbound_count + ?,
+                received_quantity = received_quantity + ?
+            WHERE warehouse_id = ? AND throughput_date = ?
+            """;
+
+    private static final String INSERT_WAREHOUSE_SQL = """
+            INSERT INTO daily_warehouse_throughput
+                (warehouse_id, throughput_date, shipped_order_count, shipped_quantity,
+                 received_inbound_count, received_quantity)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INCREMENT_PRODUCT_SQL = """
+            UPDATE daily_product_throughput
+            SET shipped_quantity = shipped_quantity + ?,
+                received_quantity = received_quantity + ?
+            WHERE warehouse_id = ? AND product_id = ? AND throughput_date = ?
+            """;
+
+    private static final String INSERT_PRODUCT_SQL = """
+            INSERT INTO daily_product_throughput
+                (warehouse_id, product_id, throughput_date, shipped_quantity, received_quantity)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private static final String DELETE_WAREHOUSE_RANGE_SQL = """
+            DELETE FROM daily_warehouse_throughput
+            WHERE warehouse_id = ? AND throughput_date BETWEEN ? AND ?
+            """;
+
+    private static final String DELETE_PRODUCT_RANGE_SQL = """
+            DELETE FROM daily_product_throughput
+            WHERE warehouse_id = ? AND throughput_date BETWEEN ? AND ?
+            """;
+
+    // 재계산은 삭제된 건과 아카이브로 옮겨진 건까지 포함해 증분 갱신과 같은 결과를 낸다
+    private static final String SHIPPED_ORDER_COUNTS_SQL = """
+            SELECT shipped_date AS throughput_date, COUNT(*) AS order_count
+            FROM outbound
+            WHERE warehouse_id = ? AND outbound_status = 'SHIPPED' AND shipped_date BETWEEN ? AND ?
+            GROUP BY shipped_date
+            UNION ALL
+            SELECT shipped_date AS throughput_date, COUNT(*) AS order_count
+            FROM outbound_archive
+            WHERE warehouse_id = ? AND outbound_status = 'SHIPPED' AND shipped_date BETWEEN ? AND ?
+            GROUP BY shipped_date
+            """;
+
+    private static final String SHIPPED_PRODUCT_QUANTITIES_SQL = """
+            SELECT o.shipped_date AS throughput_date, op.product_id, SUM(op.requested_quantity) AS quantity
+            FROM outbound o
+            JOIN outbound_product op ON op.outbound_id = o.outbound_id
+            WHERE o.warehouse_id = ? AND o.outbound_status = 'SHIPPED' AND o.shipped_date BETWEEN ? AND ?
+            GROUP BY o.shipped_date, op.product_id
+            UNION ALL
+            SELECT o.shipped_date AS throughput_date, op.product_id, SUM(op.requested_quantity) AS quantity
+            FROM outbound_archive o
+            JOIN outbound_product_archive op ON op.outbound_id = o.outbound_id
+            WHERE o.warehouse_id = ? AND o.outbound_status = 'SHIPPED' AND o.shipped_date BETWEEN ? AND ?
+            GROUP BY o.shipped_date, op.product_id
+            """;
+
+    private static final String RECEIVED_INBOUND_COUNTS_SQL = """
+            SELECT CAST(modified_at AS DATE) AS throughput_date, COUNT(*) AS order_count
+            FROM inbound
+            WHERE warehouse_id = ? AND status = 'COMPLETED' AND modified_at >= ? AND modified_at < ?
+            GROUP BY CAST(modified_at AS DATE)
+            UNION ALL
+            SELECT CAST(modified_at AS DATE) AS throughput_date, COUNT(*) AS order_count
+            FROM inbound_archive
+            WHERE warehouse_id = ? AND status = 'COMPLETED' AND modified_at >= ? AND modified_at < ?
+            GROUP BY CAST(modified_at AS DATE)
+            """;
+
+    private static final String RECEIVED_PRODUCT_QUANTITIES_SQL = """
+            SELECT CAST(i.modified_at AS DATE) AS throughput_date, ip.product_id, SUM(ip.quantity) AS quantity
+            FROM inbound i
+            JOIN inbound_product ip ON ip.inbound_id = i.inbound_id
+            WHERE i.warehouse_id = ? AND i.status = 'COMPLETED' AND i.modified_at >= ? AND i.modified_at < ?
+            GROUP BY CAST(i.modified_at AS DATE), ip.product_id
+            UNION ALL
+            SELECT CAST(i.modified_at AS DATE) AS throughput_date, ip.product_id, SUM(ip.quantity) AS quantity
+            FROM inbound_archive i
+            JOIN inbound_product_archive ip ON ip.inbound_id = i.inbound_id
+            WHERE i.warehouse_id = ? AND i.status = 'COMPLETED' AND i.modified_at >= ? AND i.modified_at < ?
+            GROUP BY CAST(i.modified_at AS DATE), ip.product_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void incrementWarehouse(WarehouseRow delta) {
+        int updated = jdbcTemplate.update(INCREMENT_WAREHOUSE_SQL,
+                delta.shippedOrderCount(), delta.shippedQuantity(),
+                delta.receivedInboundCount(), delta.receivedQuantity(),
+                delta.warehouseId(), Date.valueOf(delta.throughputDate()));
+        if (updated > 0) {
+            return;
+        }
+
+        try {
+            insertWarehouseRows(List.of(delta));
+        } catch (DuplicateKeyException e) {
+            // 다른 트랜잭션이 먼저 행을 만들었으면 다시 더한다
+            jdbcTemplate.update(INCREMENT_WAREHOUSE_SQL,
+                    delta.shippedOrderCount(), delta.shippedQuantity(),
+                    delta.receivedInboundCount(), delta.receivedQuantity(),
+                    delta.warehouseId(), Date.valueOf(delta.throughputDate()));
+        }
+    }
+
+    public void incrementProducts(List<ProductRow> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        int[][] results = jdbcTemplate.batchUpdate(INCREMENT_PRODUCT_SQL, deltas, deltas.size(), (ps, row) -> {
+            ps.setLong(1, row.shippedQuantity());
+            ps.setLong(2, row.receivedQuantity());
+            ps.setLong(3, row.warehouseId());
+            ps.setLong(4, row.productId());
+            ps.setDate(5, Date.valueOf(row.throughputDate()));
+        });
+
+        List<ProductRow> missing = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                if (count == 0) {
+                    missing.add(deltas.get(index));
+                }
+                index++;
+            }
+        }
+
+        for (ProductRow row : missing) {
+            try {
+                insertProductRows(List.of(row));
+            } catch (DuplicateKeyException e) {
+                jdbcTemplate.update(INCREMENT_PRODUCT_SQL, row.shippedQuantity(), row.receivedQuantity(),
+                        row.warehouseId(), row.productId(), Date.valueOf(row.throughputDate()));
+            }
+        }
+    }
+
+    public void deleteRange(Long warehouseId, LocalDate from, LocalDate to) {
+        jdbcTemplate.update(DELETE_WAREHOUSE_RANGE_SQL, warehouseId, Date.valueOf(from), Date.valueOf(to));
+        jdbcTemplate.update(DELETE_PRODUCT_RANGE_SQL, warehouseId, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    public void insertWarehouseRows(List<WarehouseRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_WAREHOUSE_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.warehouseId());
+            ps.setDate(2, Date.valueOf(row.throughputDate()));
+            ps.setInt(3, row.shippedOrderCount());
+            ps.setLong(4, row.shippedQuantity());
+            ps.setInt(5, row.receivedInboundCount());
+            ps.setLong(6, row.receivedQuantity());
+        });
+    }
+
+    public void insertProductRows(List<ProductRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_PRODUCT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.warehouseId());
+            ps.setLong(2, row.productId());
+            ps.setDate(3, Date.valueOf(row.throughputDate()));
+            ps.setLong(4, row.shippedQuantity());
+            ps.setLong(5, row.receivedQuantity());
+        });
+    }
+
+    public List<DailyCount> findShippedOrderCounts(Long warehouseId, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(SHIPPED_ORDER_COUNTS_SQL,
+                (rs, rowNum) -> new DailyCount(rs.getDate("throughput_date").toLocalDate(), rs.getInt("order_count")),
+                dateRangeParams(warehouseId, Date.valueOf(from), Date.valueOf(to)));
+    }
+
+    public List<DailyProductQuantity> findShippedProductQuantities(Long warehouseId, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(SHIPPED_PRODUCT_QUANTITIES_SQL,
+                (rs, rowNum) -> new DailyProductQuantity(
+                        rs.getDate("throughput_date").toLocalDate(), rs.getLong("product_id"), rs.getLong("quantity")),
+                dateRangeParams(warehouseId, Date.valueOf(from), Date.valueOf(to)));
+    }
+
+    public List<DailyCount> findReceivedInboundCounts(Long warehouseId, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(RECEIVED_INBOUND_COUNTS_SQL,
+                (rs, rowNum) -> new DailyCount(rs.getDate("throughput_date").toLocalDate(), rs.getInt("order_count")),
+                dateRangeParams(warehouseId, startOf(from), startOf(to.plusDays(1))));
+    }
+
+    public List<DailyProductQuantity> findReceivedProductQuantities(Long warehouseId, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(RECEIVED_PRODUCT_QUANTITIES_SQL,
+                (rs, rowNum) -> new DailyProductQuantity(
+                        rs.getDate("throughput_date").toLocalDate(), rs.getLong("product_id"), rs.getLong("quantity")),
+                dateRangeParams(warehouseId, startOf(from), startOf(to.plusDays(1))));
+    }
+
+    // 본 테이블과 아카이브 테이블에 같은 조건을 한 번씩 넘긴다
+    private Object[] dateRangeParams(Long warehouseId, Object from, Object to) {
+        return new Object[]{warehouseId, from, to, warehouseId, from, to};
+    }
+
+    private Timestamp startOf(LocalDate date) {
+        return Timestamp.valueOf(date.atStartOfDay());
+    }
+
+    public record WarehouseRow(Long warehouseId, LocalDate throughputDate, int shippedOrderCount,
+                               long shippedQuantity, int receivedInboundCount, long receivedQuantity) {
+    }
+
+    public record ProductRow(Long warehouseId, Long productId, LocalDate throughputDate,
+                             long shippedQuantity, long receivedQuantity) {
+    }
+
+    public record DailyCount(LocalDate throughputDate, int count) {
+    }
+
+    public record DailyProductQuantity(LocalDate throughputDate, Long productId, long quantity) {
+    }
+}
@@ -0,0 +1,140 @@
+package inventory.throughput.service;
+
+import inventory.throughput.repository.ThroughputJdbcRepository;
+import inventory.throughput.repository.ThroughputJdbcRepository.DailyCount;
+import inventory.throughput.repository.ThroughputJdbcRepository.DailyProductQuantity;
+import inventory.throughput.repository.ThroughputJdbcRepository.ProductRow;
+import inventory.throughput.repository.ThroughputJdbcRepository.WarehouseRow;
+import inventory.throughput.service.response.ThroughputRebuildResponse;
+import inventory.warehouse.domain.Warehouse;
+import inventory.warehouse.repository.WarehouseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 출고/입고 이력으로부터 일일 처리량 집계를 다시 계산한다.
+ * <p>
+ * 창고마다 독립된 작업으로 나누어 병렬로 처리하며, 창고 하나의 삭제와 재적재는 한 트랜잭션에서 이루어진다.
+ * 재계산 중에 같은 창고에서 완료된 건은 재계산 결과에 포함되지 않을 수 있으므로 한가한 시간에 실행한다.
+ */
+@Slf4j
+@Service
+public class ThroughputRebuildService {
+
+    private final ThroughputJdbcRepository throughputJdbcRepository;
+    private final WarehouseRepository warehouseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int parallelism;
+
+    public ThroughputRebuildService(
+            ThroughputJdbcRepository throughputJdbcRepository,
+            WarehouseRepository warehouseRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${throughput.rebuild-parallelism:4}") int parallelism
+    ) {
+        this.throughputJdbcRepository = throughputJdbcRepository;
+        this.warehouseRepository = warehouseRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public ThroughputRebuildResponse rebuild(LocalDate startDate, LocalDate endDate) {
+        ThroughputService.validateRange(startDate, endDate);
+        long startedAt = System.nanoTime();
+
+        List<Long> warehouseIds = warehouseRepository.findAll().stream()
+                .map(Warehouse::getWarehouseId)
+                .toList();
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, Math.max(1, warehouseIds.size())));
+        List<Future<Integer>> futures = new ArrayList<>(warehouseIds.size());
+        try {
+            for (Long warehouseId : warehouseIds) {
+                futures.add(executor.submit(() -> rebuildWarehouse(warehouseId, startDate, endDate)));
+            }
+
+            long dailyRowCount = 0;
+            int failedWarehouseCount = 0;
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    dailyRowCount += futures.get(i).get();
+                } catch (ExecutionException e) {
+                    failedWarehouseCount++;
+                    log.error("처리량 재계산 실패: 창고 ID={}", warehouseIds.get(i), e.getCause());
+                }
+            }
+
+            long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            log.info("처리량 재계산 완료: 기간={}~{}, 창고={}, 실패={}, 일자 행={}, 소요={}ms",
+                    startDate, endDate, warehouseIds.size(), failedWarehouseCount, dailyRowCount, elapsedMillis);
+            return new ThroughputRebuildResponse(startDate, endDate, warehouseIds.size(),
+                    failedWarehouseCount, dailyRowCount, elapsedMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("처리량 재계산이 중단되었습니다.", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 창고 하나의 기간 집계를 지우고 이력으로 다시 채운 뒤, 채운 창고 일자 행 수를 반환한다.
+     */
+    public int rebuildWarehouse(Long warehouseId, LocalDate startDate, LocalDate endDate) {
+        Integer rowCount = transactionTemplate.execute(status -> {
+            Map<LocalDate, long[]> warehouseTotals = new TreeMap<>();
+            Map<LocalDate, Map<Long, long[]>> productTotals = new TreeMap<>();
+
+            // 배열 순서: 출고 건수, 출고 수량, 입고 건수, 입고 수량
+            for (DailyCount count : throughputJdbcRepository.findShippedOrderCounts(warehouseId, startDate, endDate)) {
+                totalsOf(warehouseTotals, count.throughputDate())[0] += count.count();
+            }
+            for (DailyCount count : throughputJdbcRepository.findReceivedInboundCounts(warehouseId, startDate, endDate)) {
+                totalsOf(warehouseTotals, count.throughputDate())[2] += count.count();
+            }
+            for (DailyProductQuantity row : throughputJdbcRepository.findShippedProductQuantities(warehouseId, startDate, endDate)) {
+                totalsOf(warehouseTotals, row.throughputDate())[1] += row.quantity();
+                productTotalsOf(productTotals, row)[0] += row.quantity();
+            }
+            for (DailyProductQuantity row : throughputJdbcRepository.findReceivedProductQuantities(warehouseId, startDate, endDate)) {
+                totalsOf(warehouseTotals, row.throughputDate())[3] += row.quantity();
+                productTotalsOf(productTotals, row)[1] += row.quantity();
+            }
+
+            List<WarehouseRow> warehouseRows = new ArrayList<>(warehouseTotals.size());
+            warehouseTotals.forEach((date, totals) -> warehouseRows.add(new WarehouseRow(
+                    warehouseId, date, (int) totals[0], totals[1], (int) totals[2], totals[3])));
+
+            List<ProductRow> productRows = new ArrayList<>();
+            productTotals.forEach((date, byProduct) -> byProduct.forEach((productId, totals) ->
+                    productRows.add(new ProductRow(warehouseId, productId, date, totals[0], totals[1]))));
+
+            throughputJdbcRepository.deleteRange(warehouseId, startDate, endDate);
+            throughputJdbcRepository.insertWarehouseRows(warehouseRows);
+            throughputJdbcRepository.insertProductRows(productRows);
+            return warehouseRows.size();
+        });
+        return rowCount != null ? rowCount : 0;
+    }
+
+    private long[] totalsOf(Map<LocalDate, long[]> totals, LocalDate date) {
+        return totals.computeIfAbsent(date, key -> new long[4]);
+    }
+
+    private long[] productTotalsOf(Map<LocalDate, Map<Long, long[]>> totals, DailyProductQuantity row) {
+        return totals.computeIfAbsent(row.throughputDate(), key -> new TreeMap<>())
+                .computeIfAbsent(row.productId(), key -> new long[2]);
+    }
+}
@@ -0,0 +1,146 @@
+package inventory.throughput.service;
+
+import inventory.common.exception.CustomException;
+import inventory.common.exception.ExceptionCode;
+import inventory.throughput.domain.DailyWarehouseThroughput;
+import inventory.throughput.repository.DailyProductThroughputRepository;
+import inventory.throughput.repository.DailyWarehouseThroughputRepository;
+import inventory.throughput.repository.ThroughputJdbcRepository;
+import inventory.throughput.repository.ThroughputJdbcRepository.ProductRow;
+import inventory.throughput.repository.ThroughputJdbcRepository.WarehouseRow;
+import inventory.throughput.service.request.ThroughputLine;
+import inventory.throughput.service.response.DailyProductThroughputResponse;
+import inventory.throughput.service.response.DailyWarehouseThroughputResponse;
+import inventory.throughput.service.response.WarehouseThroughputResponse;
+import inventory.warehouse.repository.WarehouseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * 창고/상품별 일일 처리량 집계를 갱신하고 조회한다.
+ * <p>
+ * 출고 완료와 입고 완료 트랜잭션 안에서 호출되어 상태 변경과 함께 커밋되며,
+ * 조회는 하루에 한 행만 읽으므로 기간 길이에만 비례한다.
+ */
+@RequiredArgsConstructor
+@Service
+public class ThroughputService {
+
+    static final int MAX_QUERY_DAYS = 366;
+
+    private final ThroughputJdbcRepository throughputJdbcRepository;
+    private final DailyWarehouseThroughputRepository dailyWarehouseThroughputRepository;
+    private final DailyProductThroughputRepository dailyProductThroughputRepository;
+    private final WarehouseRepository warehouseRepository;
+
+    @Transactional
+    public void recordShipment(Long warehouseId, LocalDate shippedDate, List<ThroughputLine> lines) {
+        recordShipments(warehouseId, shippedDate, 1, lines);
+    }
+
+    /**
+     * 같은 창고, 같은 날 출고된 여러 건을 한 번에 반영한다.
+     */
+    @Transactional
+    public void recordShipments(Long warehouseId, LocalDate shippedDate, int orderCount, List<ThroughputLine> lines) {
+        Map<Long, Long> quantities = mergeByProduct(lines);
+        long totalQuantity = quantities.values().stream().mapToLong(Long::longValue).sum();
+
+        throughputJdbcRepository.incrementWarehouse(
+                new WarehouseRow(warehouseId, shippedDate, orderCount, totalQuantity, 0, 0));
+        throughputJdbcRepository.incrementProducts(quantities.entrySet().stream()
+                .map(entry -> new ProductRow(warehouseId, entry.getKey(), shippedDate, entry.getValue(), 0))
+                .toList());
+    }
+
+    @Transactional
+    public void recordReceipt(Long warehouseId, LocalDate receivedDate, List<ThroughputLine> lines) {
+        Map<Long, Long> quantities = mergeByProduct(lines);
+        long totalQuantity = quantities.values().stream().mapToLong(Long::longValue).sum();
+
+        throughputJdbcRepository.incrementWarehouse(
+                new WarehouseRow(warehouseId, receivedDate, 0, 0, 1, totalQuantity));
+        throughputJdbcRepository.incrementProducts(quantities.entrySet().stream()
+                .map(entry -> new ProductRow(warehouseId, entry.getKey(), receivedDate, 0, entry.getValue()))
+                .toList());
+    }
+
+    @Transactional(readOnly = true)
+    public WarehouseThroughputResponse getWarehouseThroughput(Long warehouseId, LocalDate startDate, LocalDate endDate) {
+        validateRange(startDate, endDate);
+        validateWarehouse(warehouseId);
+
+        Map<LocalDate, DailyWarehouseThroughput> rows = dailyWarehouseThroughputRepository
+                .findByWarehouseIdAndThroughputDateBetweenOrderByThroughputDate(warehouseId, startDate, endDate)
+                .stream()
+                .collect(toMap(DailyWarehouseThroughput::getThroughputDate, row -> row));
+
+        // 처리 내역이 없는 날도 0으로 채워 기간의 모든 날짜를 돌려준다
+        List<DailyWarehouseThroughputResponse> days = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            DailyWarehouseThroughput row = rows.get(date);
+            days.add(row != null
+                    ? DailyWarehouseThroughputResponse.from(row)
+                    : DailyWarehouseThroughputResponse.empty(date));
+        }
+
+        return WarehouseThroughputResponse.of(warehouseId, startDate, endDate, days);
+    }
+
+    @Transactional(readOnly = true)
+    public List<DailyProductThroughputResponse> getProductThroughput(
+            Long warehouseId, Long productId, LocalDate startDate, LocalDate endDate) {
+        validateRange(startDate, endDate);
+        validateWarehouse(warehouseId);
+
+        if (productId != null) {
+            return dailyProductThroughputRepository
+                    .findByWarehouseIdAndProductIdAndThroughputDateBetweenOrderByThroughputDate(
+                            warehouseId, productId, startDate, endDate)
+                    .stream()
+                    .map(DailyProductThroughputResponse::from)
+                    .toList();
+        }
+
+        return dailyProductThroughputRepository
+                .findByWarehouseIdAndThroughputDateBetweenOrderByThroughputDateAscProductIdAsc(
+                        warehouseId, startDate, endDate)
+                .stream()
+                .map(DailyProductThroughputResponse::from)
+                .toList();
+    }
+
+    static void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+            throw new CustomException(ExceptionCode.INVALID_INPUT, "조회 기간이 올바르지 않습니다.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_QUERY_DAYS) {
+            throw new CustomException(ExceptionCode.INVALID_INPUT,
+                    "조회 기간은 최대 " + MAX_QUERY_DAYS + "일입니다.");
+        }
+    }
+
+    private void validateWarehouse(Long warehouseId) {
+        if (warehouseId == null || !warehouseRepository.existsById(warehouseId)) {
+            throw new CustomException(ExceptionCode.DATA_NOT_FOUND, "창고를 찾을 수 없습니다.");
+        }
+    }
+
+    private Map<Long, Long> mergeByProduct(List<ThroughputLine> lines) {
+        Map<Long, Long> quantities = new LinkedHashMap<>();
+        for (ThroughputLine line : lines) {
+            quantities.merge(line.productId(), line.quantity(), Long::sum);
+        }
+        return quantities;
+    }
+}
@@ -0,0 +1,14 @@
+package inventory.throughput.service.request;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+
+public record RebuildThroughputRequest(
+        @NotNull(message = "재계산 시작일은 필수입니다")
+        LocalDate startDate,
+
+        @NotNull(message = "재계산 종료일은 필수입니다")
+        LocalDate endDate
+) {
+}
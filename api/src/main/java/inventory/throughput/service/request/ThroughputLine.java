@@ -0,0 +1,7 @@
+package inventory.throughput.service.request;
+
+/**
+ * 처리량 집계에 반영할 상품 한 줄.
+ */
+public record ThroughputLine(Long productId, long quantity) {
+}
@@ -0,0 +1,21 @@
+package inventory.throughput.service.response;
+
+import inventory.throughput.domain.DailyProductThroughput;
+
+import java.time.LocalDate;
+
+public record DailyProductThroughputResponse(
+        LocalDate date,
+        Long productId,
+        long shippedQuantity,
+        long receivedQuantity
+) {
+    public static DailyProductThroughputResponse from(DailyProductThroughput throughput) {
+        return new DailyProductThroughputResponse(
+                throughput.getThroughputDate(),
+                throughput.getProductId(),
+                throughput.getShippedQuantity(),
+                throughput.getReceivedQuantity()
+        );
+    }
+}
@@ -0,0 +1,27 @@
+package inventory.throughput.service.response;
+
+import inventory.throughput.domain.DailyWarehouseThroughput;
+
+import java.time.LocalDate;
+
+public record DailyWarehouseThroughputResponse(
+        LocalDate date,
+        int shippedOrderCount,
+        long shippedQuantity,
+        int receivedInboundCount,
+        long receivedQuantity
+) {
+    public static DailyWarehouseThroughputResponse from(DailyWarehouseThroughput throughput) {
+        return new DailyWarehouseThroughputResponse(
+                throughput.getThroughputDate(),
+                throughput.getShippedOrderCount(),
+                throughput.getShippedQuantity(),
+                throughput.getReceivedInboundCount(),
+                throughput.getReceivedQuantity()
+        );
+    }
+
+    public static DailyWarehouseThroughputResponse empty(LocalDate date) {
+        return new DailyWarehouseThroughputResponse(date, 0, 0, 0, 0);
+    }
+}
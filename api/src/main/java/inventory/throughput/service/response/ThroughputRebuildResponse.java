@@ -0,0 +1,13 @@
+package inventory.throughput.service.response;
+
+import java.time.LocalDate;
+
+public record ThroughputRebuildResponse(
+        LocalDate startDate,
+        LocalDate endDate,
+        int warehouseCount,
+        int failedWarehouseCount,
+        long dailyRowCount,
+        long elapsedMillis
+) {
+}
@@ -0,0 +1,36 @@
+package inventory.throughput.service.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record WarehouseThroughputResponse(
+        Long warehouseId,
+        LocalDate startDate,
+        LocalDate endDate,
+        long shippedOrderCount,
+        long shippedQuantity,
+        long receivedInboundCount,
+        long receivedQuantity,
+        List<DailyWarehouseThroughputResponse> days
+) {
+    public static WarehouseThroughputResponse of(
+            Long warehouseId,
+            LocalDate startDate,
+            LocalDate endDate,
+            List<DailyWarehouseThroughputResponse> days
+    ) {
+        long shippedOrderCount = 0;
+        long shippedQuantity = 0;
+        long receivedInboundCount = 0;
+        long receivedQuantity = 0;
+        for (DailyWarehouseThroughputResponse day : days) {
+            shippedOrderCount += day.shippedOrderCount();
+            shippedQuantity += day.shippedQuantity();
+            receivedInboundCount += day.receivedInboundCount();
+            receivedQuantity += day.receivedQuantity();
+        }
+
+        return new WarehouseThroughputResponse(warehouseId, startDate, endDate,
+                shippedOrderCount, shippedQuantity, receivedInboundCount, receivedQuantity, days);
+    }
+}
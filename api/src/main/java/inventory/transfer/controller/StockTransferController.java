@@ -0,0 +1,31 @@
+package inventory.transfer.controller;
+
+import inventory.common.dto.response.ApiResponse;
+import inventory.transfer.service.StockTransferService;
+import inventory.transfer.service.request.CreateStockTransferRequest;
+import inventory.transfer.service.response.StockTransferResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/stock-transfers")
+@RestController
+public class StockTransferController {
+
+    private final StockTransferService stockTransferService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<StockTransferResponse>> transfer(
+            @Valid @RequestBody CreateStockTransferRequest request
+    ) {
+        StockTransferResponse response = stockTransferService.transfer(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(HttpStatus.CREATED, response));
+    }
+}
@@ -0,0 +1,44 @@
+package inventory.transfer.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 창고 간 재고 이동. 재고는 등록과 같은 트랜잭션에서 옮겨지므로 상태 없이 이력으로만 남는다.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_stock_transfer_from_warehouse", columnList = "from_warehouse_id"),
+        @Index(name = "idx_stock_transfer_to_warehouse", columnList = "to_warehouse_id")
+})
+@Getter
+@Entity
+public class StockTransfer {
+
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    private Long stockTransferId;
+
+    private Long fromWarehouseId;
+
+    private Long toWarehouseId;
+
+    private LocalDateTime createdAt;
+
+    @Builder
+    public StockTransfer(Long fromWarehouseId, Long toWarehouseId) {
+        this.fromWarehouseId = fromWarehouseId;
+        this.toWarehouseId = toWarehouseId;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,36 @@
+package inventory.transfer.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_stock_transfer_product_transfer", columnList = "stock_transfer_id"))
+@Getter
+@Entity
+public class StockTransferProduct {
+
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    private Long stockTransferProductId;
+
+    private Long stockTransferId;
+
+    private Long productId;
+
+    private int quantity;
+
+    @Builder
+    public StockTransferProduct(Long stockTransferId, Long productId, int quantity) {
+        this.stockTransferId = stockTransferId;
+        this.productId = productId;
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,9 @@
+package inventory.transfer.repository;
+
+import inventory.transfer.domain.StockTransfer;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StockTransferRepository extends JpaRepository<StockTransfer, Long> {
+}
@@ -0,0 +1,170 @@
+package inventory.transfer.service;
+
+import inventory.common.exception.CustomException;
+import inventory.common.exception.ExceptionCode;
+import inventory.product.repository.ProductRepository;
+import inventory.transfer.domain.StockTransfer;
+import inventory.transfer.domain.StockTransferProduct;
+import inventory.transfer.repository.StockTransferProductRepository;
+import inventory.transfer.repository.StockTransferRepository;
+import inventory.transfer.service.request.CreateStockTransferRequest;
+import inventory.transfer.service.request.StockTransferProductRequest;
+import inventory.transfer.service.response.StockTransferProductResponse;
+import inventory.transfer.service.response.StockTransferResponse;
+import inventory.warehouse.domain.Warehouse;
+import inventory.warehouse.repository.WarehouseRepository;
+import inventory.warehouse.repository.WarehouseStockJdbcRepository;
+import inventory.warehouse.repository.WarehouseStockJdbcRepository.StockDelta;
+import inventory.warehouse.repository.WarehouseStockJdbcRepository.StockRow;
+import inventory.warehouse.service.SplitStockService;
+import inventory.warehouse.service.event.StockChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 여러 상품의 재고를 한 창고에서 다른 창고로 한 트랜잭션 안에서 옮긴다.
+ * <p>
+ * 관련 재고 행은 한 문장으로 (창고 ID, 상품 ID) 순으로 잠근다. 창고별로 상품 ID 순으로 잠그는 출고 처리와 순서가 같으므로
+ * 이동끼리, 또는 이동과 출고가 서로 교착되지 않는다. 도착 창고에 없는 재고 행은 잠그기 전에 별도 트랜잭션으로 만들어 둔다.
+ * 이동 트랜잭션 안에서 행을 만들면 그 행의 잠금이 정해진 순서보다 먼저 잡히기 때문이다.
+ * 같은 이유로 출발 재고가 버킷으로 나뉘어 있으면 버킷의 가용 재고도 잠그기 전에 재고 행으로 되돌려 둔다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class StockTransferService {
+
+    private final StockTransferRepository stockTransferRepository;
+    private final StockTransferProductRepository stockTransferProductRepository;
+    private final WarehouseRepository warehouseRepository;
+    private final ProductRepository productRepository;
+    private final WarehouseStockJdbcRepository warehouseStockJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SplitStockService splitStockService;
+
+    public StockTransferResponse transfer(CreateStockTransferRequest request) {
+        Long fromWarehouseId = request.fromWarehouseId();
+        Long toWarehouseId = request.toWarehouseId();
+        if (fromWarehouseId.equals(toWarehouseId)) {
+            throw new CustomException(ExceptionCode.INVALID_INPUT, "출발 창고와 도착 창고가 같습니다.");
+        }
+
+        // 같은 상품은 한 줄로 합치고 상품 ID 순으로 둔다
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (StockTransferProductRequest product : request.products()) {
+            quantities.merge(product.productId(), product.quantity(), Math::addExact);
+        }
+
+        validateWarehouse(fromWarehouseId, "출발 창고를 찾을 수 없습니다.");
+        validateWarehouse(toWarehouseId, "도착 창고를 찾을 수 없습니다.");
+        if (productRepository.findByIds(new ArrayList<>(quantities.keySet())).size() != quantities.size()) {
+            throw new CustomException(ExceptionCode.DATA_NOT_FOUND, "상품을 찾을 수 없습니다.");
+        }
+
+        createMissingStocks(toWarehouseId, quantities.keySet());
+        splitStockService.drain(fromWarehouseId, quantities.keySet());
+        StockTransferResponse response = transactionTemplate.execute(status ->
+                move(fromWarehouseId, toWarehouseId, quantities));
+        log.info("재고 이동: 이동 ID={}, {} -> {}, 상품={}",
+                response.stockTransferId(), fromWarehouseId, toWarehouseId, quantities.size());
+        return response;
+    }
+
+    private void validateWarehouse(Long warehouseId, String message) {
+        Warehouse warehouse = warehouseRepository.findById(warehouseId)
+                .orElseThrow(() -> new CustomException(ExceptionCode.DATA_NOT_FOUND, message));
+        if (!warehouse.isActive()) {
+            throw new CustomException(ExceptionCode.INVALID_STATE, "운영 중인 창고가 아닙니다. 창고 ID: " + warehouseId);
+        }
+    }
+
+    private void createMissingStocks(Long warehouseId, Set<Long> productIds) {
+        Set<Long> existing = new HashSet<>();
+        for (StockRow row : warehouseStockJdbcRepository.findStocks(warehouseId, productIds)) {
+            existing.add(row.productId());
+        }
+        for (Long productId : productIds) {
+            if (existing.contains(productId)) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        warehouseStockJdbcRepository.insertIfAbsent(warehouseId, productId));
+            } catch (DuplicateKeyException e) {
+                // 다른 요청이 먼저 만들었다
+            }
+        }
+    }
+
+    private StockTransferResponse move(Long fromWarehouseId, Long toWarehouseId, Map<Long, Integer> quantities) {
+        Map<Long, StockRow> fromStocks = new HashMap<>();
+        Map<Long, StockRow> toStocks = new HashMap<>();
+        for (StockRow row : warehouseStockJdbcRepository.lockStocks(
+                List.of(fromWarehouseId, toWarehouseId), quantities.keySet())) {
+            (row.warehouseId().equals(fromWarehouseId) ? fromStocks : toStocks).put(row.productId(), row);
+        }
+
+        List<StockDelta> fromDeltas = new ArrayList<>(quantities.size());
+        List<StockDelta> toDeltas = new ArrayList<>(quantities.size());
+        quantities.forEach((productId, quantity) -> {
+            StockRow from = fromStocks.get(productId);
+            if (from == null) {
+                throw new CustomException(ExceptionCode.STOCK_NOT_FOUND,
+                        "출발 창고에 해당 상품의 재고가 없습니다. 상품 ID: " + productId);
+            }
+            // 예약된 수량은 출고가 가져갈 몫이므로 옮기지 않는다
+            int available = from.quantity() - from.reservedQuantity();
+            if (available < quantity) {
+                throw new CustomException(ExceptionCode.INSUFFICIENT_STOCK,
+                        String.format("재고가 부족합니다. 상품 ID: %d, 가용 재고: %d, 요청 수량: %d",
+                                productId, available, quantity));
+            }
+            if (!toStocks.containsKey(productId)) {
+                throw new IllegalStateException("도착 창고의 재고 행이 없습니다. 상품 ID: " + productId);
+            }
+            fromDeltas.add(new StockDelta(fromWarehouseId, productId, -quantity, 0));
+            toDeltas.add(new StockDelta(toWarehouseId, productId, quantity, 0));
+        });
+
+        // 이미 잠근 행이므로 순서는 상관없지만 잠근 순서와 맞춰 둔다
+        List<StockDelta> deltas = new ArrayList<>(fromDeltas.size() + toDeltas.size());
+        deltas.addAll(fromWarehouseId < toWarehouseId ? fromDeltas : toDeltas);
+        deltas.addAll(fromWarehouseId < toWarehouseId ? toDeltas : fromDeltas);
+        warehouseStockJdbcRepository.applyDeltas(deltas);
+
+        StockTransfer transfer = stockTransferRepository.save(StockTransfer.builder()
+                .fromWarehouseId(fromWarehouseId)
+                .toWarehouseId(toWarehouseId)
+                .build());
+        List<StockTransferProduct> lines = new ArrayList<>(quantities.size());
+        List<StockTransferProductResponse> products = new ArrayList<>(quantities.size());
+        quantities.forEach((productId, quantity) -> {
+            lines.add(StockTransferProduct.builder()
+                    .stockTransferId(transfer.getStockTransferId())
+                    .productId(productId)
+                    .quantity(quantity)
+                    .build());
+            products.add(new StockTransferProductResponse(productId, quantity,
+                    fromStocks.get(productId).quantity() - quantity,
+                    toStocks.get(productId).quantity() + quantity));
+        });
+        stockTransferProductRepository.saveAll(lines);
+
+        eventPublisher.publishEvent(StockChangedEvent.of(fromWarehouseId, quantities.keySet()));
+        eventPublisher.publishEvent(StockChangedEvent.of(toWarehouseId, quantities.keySet()));
+        return StockTransferResponse.from(transfer, products);
+    }
+}
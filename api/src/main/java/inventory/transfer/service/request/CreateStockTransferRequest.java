@@ -0,0 +1,22 @@
+package inventory.transfer.service.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record CreateStockTransferRequest(
+        @NotNull(message = "출발 창고 ID는 필수입니다")
+        Long fromWarehouseId,
+
+        @NotNull(message = "도착 창고 ID는 필수입니다")
+        Long toWarehouseId,
+
+        @NotEmpty(message = "이동 상품 목록은 비어있을 수 없습니다")
+        @Size(max = 1000, message = "이동 상품은 최대 1000개까지 요청할 수 있습니다")
+        @Valid
+        List<StockTransferProductRequest> products
+) {
+}
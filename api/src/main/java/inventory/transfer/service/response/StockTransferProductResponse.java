@@ -0,0 +1,12 @@
+package inventory.transfer.service.response;
+
+/**
+ * 이동한 상품과 이동 후 양쪽 창고의 실재고.
+ */
+public record StockTransferProductResponse(
+        Long productId,
+        int quantity,
+        int fromQuantity,
+        int toQuantity
+) {
+}
@@ -0,0 +1,24 @@
+package inventory.transfer.service.response;
+
+import inventory.transfer.domain.StockTransfer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record StockTransferResponse(
+        Long stockTransferId,
+        Long fromWarehouseId,
+        Long toWarehouseId,
+        LocalDateTime createdAt,
+        List<StockTransferProductResponse> products
+) {
+    public static StockTransferResponse from(StockTransfer transfer, List<StockTransferProductResponse> products) {
+        return new StockTransferResponse(
+                transfer.getStockTransferId(),
+                transfer.getFromWarehouseId(),
+                transfer.getToWarehouseId(),
+                transfer.getCreatedAt(),
+                products
+        );
+    }
+}
@@ -2,18 +2,37 @@ package inventory.warehouse.controller;
 
 import inventory.common.dto.response.ApiResponse;
 import inventory.common.dto.response.PageResponse;
+import inventory.common.etag.ETags;
+import inventory.common.export.ExportFormat;
+import inventory.common.export.ExportResponses;
+import inventory.warehouse.service.StockChangeFeed;
+import inventory.warehouse.service.WarehouseStockExportService;
 import inventory.warehouse.service.WarehouseStockService;
+import inventory.warehouse.service.query.WarehouseStockSearchCondition;
+import inventory.warehouse.service.request.ProductAvailabilityRequest;
+import inventory.warehouse.service.response.ProductAvailabilityResponse;
 import inventory.warehouse.service.response.WarehouseStockResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/warehouse-stocks")
@@ -21,6 +40,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class WarehouseStockController {
 
     private final WarehouseStockService warehouseStockService;
+    private final WarehouseStockExportService warehouseStockExportService;
+    private final StockChangeFeed stockChangeFeed;
 
     @GetMapping
     public ResponseEntity<ApiResponse<PageResponse<WarehouseStockResponse>>> searchWarehouseStocks(
@@ -32,19 +53,55 @@ public class WarehouseStockController {
             @RequestParam(required = false) Long productId,
             @RequestParam(required = false) String productName,
             @RequestParam(required = false) String productCode,
-            @RequestParam(required = false) Boolean belowSafetyOnly
+            @RequestParam(required = false) Boolean belowSafetyOnly,
+            WebRequest webRequest
     ) {
         Sort sort = Sort.by(Sort.Direction.fromString(sortDir), sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
+        String eTag = warehouseStockService.findETag(
+                warehouseId, productId, productName, productCode, belowSafetyOnly, pageable);
 
-        Page<WarehouseStockResponse> result = warehouseStockService.findAllWithConditions(
-                warehouseId, productId, productName, productCode, belowSafetyOnly, pageable
-        );
+        return ETags.conditional(webRequest, eTag, () -> {
+            Page<WarehouseStockResponse> result = warehouseStockService.findAllWithConditions(
+                    warehouseId, productId, productName, productCode, belowSafetyOnly, pageable
+            );
+
+            return ApiResponse.success(PageResponse.of(
+                    result.getContent(), page, size, result.getTotalElements()
+            ));
+        });
+    }
 
-        PageResponse<WarehouseStockResponse> pageResponse = PageResponse.of(
-                result.getContent(), page, size, result.getTotalElements()
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportWarehouseStocks(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(required = false) Long warehouseId,
+            @RequestParam(required = false) Long productId,
+            @RequestParam(required = false) String productName,
+            @RequestParam(required = false) String productCode,
+            @RequestParam(required = false) Boolean belowSafetyOnly,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        WarehouseStockSearchCondition condition = new WarehouseStockSearchCondition(
+                warehouseId, productId, productName, productCode, belowSafetyOnly
         );
 
-        return ResponseEntity.ok(ApiResponse.success(pageResponse));
+        return ExportResponses.stream("warehouse-stocks", format, acceptEncoding, outputStream ->
+                warehouseStockExportService.exportWarehouseStocks(condition, format, outputStream));
+    }
+
+    @PostMapping("/availability")
+    public ResponseEntity<ApiResponse<List<ProductAvailabilityResponse>>> findAvailability(
+            @Valid @RequestBody ProductAvailabilityRequest request
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(warehouseStockService.findAvailability(request)));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamWarehouseStocks(
+            @RequestParam(required = false) Long warehouseId,
+            @RequestParam(required = false) Long productId
+    ) {
+        return stockChangeFeed.subscribe(warehouseId, productId);
     }
 }
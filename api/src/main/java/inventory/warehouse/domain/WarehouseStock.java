@@ -28,6 +28,8 @@ public class WarehouseStock {
 
     private int safetyStock;
 
+    private int reorderPoint;
+
     private int reservedQuantity;
 
     private LocalDateTime modifiedAt;
@@ -61,6 +63,10 @@ public class WarehouseStock {
         return getAvailableQuantity() < this.safetyStock;
     }
 
+    public boolean isBelowReorderPoint() {
+        return getAvailableQuantity() <= this.reorderPoint && this.reorderPoint > 0;
+    }
+
     public void decreaseStock(int amount) {
         if (amount <= 0) {
             throw new IllegalArgumentException("재고 차감량은 0보다 커야 합니다.");
@@ -0,0 +1,42 @@
+package inventory.warehouse.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약이 몰리는 재고의 가용 수량을 나눠 담는 버킷.
+ * <p>
+ * 버킷에 담긴 수량은 재고 행의 reservedQuantity에 미리 잡혀 있고, 예약은 재고 행 대신 버킷 하나의 수량을 줄인다.
+ * 행은 {@link inventory.warehouse.repository.WarehouseStockBucketJdbcRepository}로만 읽고 쓴다.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "warehouse_stock_bucket",
+        uniqueConstraints = @UniqueConstraint(name = "uk_warehouse_stock_bucket",
+                columnNames = {"warehouse_id", "product_id", "bucket_no"}))
+@Getter
+@Entity
+public class WarehouseStockBucket {
+
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    private Long warehouseStockBucketId;
+
+    private Long warehouseId;
+
+    private Long productId;
+
+    private int bucketNo;
+
+    private int quantity;
+
+    private LocalDateTime modifiedAt;
+}
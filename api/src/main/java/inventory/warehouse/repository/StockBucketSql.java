@@ -0,0 +1,25 @@
+package inventory.warehouse.repository;
+
+/**
+ * 버킷으로 나눈 재고를 조회할 때 쓰는 SQL 조각.
+ * <p>
+ * 나눌 때 버킷에 담은 가용 수량은 재고 행의 reserved_quantity에 잡혀 있다. 엔티티와 잠그는 조회는 재고 행의 값을 그대로
+ * 다루고, 화면과 집계에 나가는 조회만 이 조각으로 버킷에 남은 수량을 되돌려 나눴는지와 관계없이 같은 값을 보여 준다.
+ * 재고 행의 별칭은 {@code ws}, 버킷 합계의 별칭은 {@code b}로 둔다.
+ */
+public final class StockBucketSql {
+
+    public static final String BUCKET_TOTALS_JOIN = """
+            LEFT JOIN (
+                SELECT warehouse_id, product_id, SUM(quantity) AS quantity
+                FROM warehouse_stock_bucket
+                GROUP BY warehouse_id, product_id
+            ) b ON b.warehouse_id = ws.warehouse_id AND b.product_id = ws.product_id""";
+
+    public static final String RESERVED_QUANTITY = "ws.reserved_quantity - COALESCE(b.quantity, 0)";
+
+    public static final String AVAILABLE_QUANTITY = "ws.quantity - ws.reserved_quantity + COALESCE(b.quantity, 0)";
+
+    private StockBucketSql() {
+    }
+}
@@ -0,0 +1,177 @@
+package inventory.warehouse.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 나눠 담은 재고 버킷을 읽고 쓴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WarehouseStockBucketJdbcRepository {
+
+    private static final String FIND_SPLIT_STOCKS_SQL = """
+            SELECT DISTINCT warehouse_id, product_id
+            FROM warehouse_stock_bucket
+            """;
+
+    private static final String FIND_BUCKET_QUANTITIES_SQL = """
+            SELECT product_id, SUM(quantity) AS quantity
+            FROM warehouse_stock_bucket
+            WHERE warehouse_id = :warehouseId AND product_id IN (:productIds)
+            GROUP BY product_id
+            """;
+
+    private static final String FIND_BUCKETS_SQL = """
+            SELECT warehouse_id, product_id, bucket_no, quantity
+            FROM warehouse_stock_bucket
+            WHERE warehouse_id = :warehouseId AND product_id = :productId
+            ORDER BY bucket_no
+            """;
+
+    // 버킷을 함께 바꾸는 쪽끼리 교착되지 않도록 (상품 ID, 버킷 번호) 순으로 잠근다
+    private static final String LOCK_BUCKETS_SQL = """
+            SELECT warehouse_id, product_id, bucket_no, quantity
+            FROM warehouse_stock_bucket
+            WHERE warehouse_id = :warehouseId AND product_id IN (:productIds)
+            ORDER BY product_id, bucket_no
+            FOR UPDATE
+            """;
+
+    // 다른 요청이 먼저 가져가 버킷이 모자라면 반영하지 않는다
+    private static final String TAKE_SQL = """
+            UPDATE warehouse_stock_bucket
+            SET quantity = quantity - :quantity, modified_at = :modifiedAt
+            WHERE warehouse_id = :warehouseId AND product_id = :productId AND bucket_no = :bucketNo
+              AND quantity >= :quantity
+            """;
+
+    private static final String UPDATE_QUANTITY_SQL = """
+            UPDATE warehouse_stock_bucket
+            SET quantity = :quantity, modified_at = :modifiedAt
+            WHERE warehouse_id = :warehouseId AND product_id = :productId AND bucket_no = :bucketNo
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO warehouse_stock_bucket (warehouse_id, product_id, bucket_no, quantity, modified_at)
+            VALUES (:warehouseId, :productId, :bucketNo, :quantity, :modifiedAt)
+            """;
+
+    private static final String DELETE_SQL = """
+            DELETE FROM warehouse_stock_bucket
+            WHERE warehouse_id = :warehouseId AND product_id = :productId
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 버킷으로 나뉜 재고의 (창고 ID, 상품 ID) 목록을 조회한다.
+     */
+    public List<SplitStock> findSplitStocks() {
+        return jdbcTemplate.query(FIND_SPLIT_STOCKS_SQL, (rs, rowNum) ->
+                new SplitStock(rs.getLong("warehouse_id"), rs.getLong("product_id")));
+    }
+
+    /**
+     * 주어진 상품 중 버킷으로 나뉜 상품마다 버킷에 남은 수량의 합을 조회한다. 나뉘지 않은 상품은 결과에 없다.
+     */
+    public Map<Long, Integer> findBucketQuantities(Long warehouseId, Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("warehouseId", warehouseId)
+                .addValue("productIds", productIds);
+        Map<Long, Integer> quantities = new HashMap<>();
+        jdbcTemplate.query(FIND_BUCKET_QUANTITIES_SQL, params, (RowCallbackHandler) rs ->
+                quantities.put(rs.getLong("product_id"), rs.getInt("quantity")));
+        return quantities;
+    }
+
+    public List<BucketRow> findBuckets(Long warehouseId, Long productId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("warehouseId", warehouseId)
+                .addValue("productId", productId);
+        return jdbcTemplate.query(FIND_BUCKETS_SQL, params, (rs, rowNum) -> toBucketRow(rs));
+    }
+
+    public List<BucketRow> lockBuckets(Long warehouseId, Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("warehouseId", warehouseId)
+                .addValue("productIds", productIds);
+        return jdbcTemplate.query(LOCK_BUCKETS_SQL, params, (rs, rowNum) -> toBucketRow(rs));
+    }
+
+    /**
+     * 버킷 하나에서 수량을 가져간다. 버킷에 남은 수량이 모자라면 false를 반환한다.
+     */
+    public boolean take(Long warehouseId, Long productId, int bucketNo, int quantity) {
+        MapSqlParameterSource params = bucketParams(warehouseId, productId, bucketNo, quantity,
+                Timestamp.valueOf(LocalDateTime.now()));
+        return jdbcTemplate.update(TAKE_SQL, params) > 0;
+    }
+
+    public void updateQuantities(List<BucketRow> buckets) {
+        jdbcTemplate.batchUpdate(UPDATE_QUANTITY_SQL, toBatch(buckets));
+    }
+
+    public void insert(List<BucketRow> buckets) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, toBatch(buckets));
+    }
+
+    public int delete(Long warehouseId, Long productId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("warehouseId", warehouseId)
+                .addValue("productId", productId);
+        return jdbcTemplate.update(DELETE_SQL, params);
+    }
+
+    private MapSqlParameterSource[] toBatch(List<BucketRow> buckets) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return buckets.stream()
+                .map(bucket -> bucketParams(bucket.warehouseId(), bucket.productId(), bucket.bucketNo(),
+                        bucket.quantity(), now))
+                .toArray(MapSqlParameterSource[]::new);
+    }
+
+    private MapSqlParameterSource bucketParams(Long warehouseId, Long productId, int bucketNo, int quantity,
+                                               Timestamp modifiedAt) {
+        return new MapSqlParameterSource()
+                .addValue("warehouseId", warehouseId)
+                .addValue("productId", productId)
+                .addValue("bucketNo", bucketNo)
+                .addValue("quantity", quantity)
+                .addValue("modifiedAt", modifiedAt);
+    }
+
+    private BucketRow toBucketRow(ResultSet rs) throws SQLException {
+        return new BucketRow(
+                rs.getLong("warehouse_id"),
+                rs.getLong("product_id"),
+                rs.getInt("bucket_no"),
+                rs.getInt("quantity"));
+    }
+
+    public record SplitStock(Long warehouseId, Long productId) {
+    }
+
+    public record BucketRow(Long warehouseId, Long productId, int bucketNo, int quantity) {
+    }
+}
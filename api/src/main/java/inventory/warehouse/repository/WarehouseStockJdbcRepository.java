@@ -0,0 +1,292 @@
+package inventory.warehouse.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static inventory.warehouse.repository.StockBucketSql.AVAILABLE_QUANTITY;
+import static inventory.warehouse.repository.StockBucketSql.BUCKET_TOTALS_JOIN;
+import static inventory.warehouse.repository.StockBucketSql.RESERVED_QUANTITY;
+
+/**
+ * 창고 재고를 여러 건 한 번에 잠그고 증감분을 일괄 반영한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WarehouseStockJdbcRepository {
+
+    // 여러 요청이 같은 재고를 잠글 때 교착되지 않도록 항상 상품 ID 순으로 잠근다
+    private static final String FIND_FOR_UPDATE_SQL = """
+            SELECT warehouse_id, product_id, quantity, reserved_quantity, safety_stock
+            FROM warehouse_stock
+            WHERE warehouse_id = :warehouseId AND product_id IN (:productIds)
+            ORDER BY product_id
+            FOR UPDATE
+            """;
+
+    // 여러 창고에 걸쳐 잠글 때도 (창고 ID, 상품 ID) 순으로 잠가 창고별로 잠그는 쪽과 순서가 어긋나지 않게 한다
+    private static final String LOCK_STOCKS_SQL = """
+            SELECT warehouse_id, product_id, quantity, reserved_quantity, safety_stock
+            FROM warehouse_stock
+            WHERE warehouse_id IN (:warehouseIds) AND product_id IN (:productIds)
+            ORDER BY warehouse_id, product_id
+            FOR UPDATE
+            """;
+
+    private static final String INSERT_IF_ABSENT_SQL = """
+            INSERT INTO warehouse_stock
+                (warehouse_id, product_id, quantity, safety_stock, reorder_point, reserved_quantity, modified_at)
+            SELECT :warehouseId, :productId, 0, 0, 0, 0, :modifiedAt
+            FROM DUAL
+            WHERE NOT EXISTS (
+                SELECT 1 FROM warehouse_stock WHERE warehouse_id = :warehouseId AND product_id = :productId
+            )
+            """;
+
+    // 버킷으로 나눈 가용 수량은 reserved_quantity에 잡혀 있으므로 조회할 때는 빼서 실제 예약 수량을 돌려준다
+    private static final String FIND_STOCKS_SQL = """
+            SELECT ws.warehouse_id, ws.product_id, ws.quantity, %s AS reserved_quantity, ws.safety_stock
+            FROM warehouse_stock ws
+            %s
+            WHERE ws.warehouse_id = :warehouseId AND ws.product_id IN (:productIds)
+            """.formatted(RESERVED_QUANTITY, BUCKET_TOTALS_JOIN);
+
+    private static final String FIND_STOCKS_BY_PRODUCTS_SQL = """
+            SELECT ws.warehouse_id, ws.product_id, ws.quantity, %s AS reserved_quantity, ws.safety_stock
+            FROM warehouse_stock ws
+            %s
+            WHERE ws.product_id IN (:productIds)
+            """.formatted(RESERVED_QUANTITY, BUCKET_TOTALS_JOIN);
+
+    private static final String FIND_ALL_STOCKS_SQL = """
+            SELECT ws.warehouse_id, ws.product_id, ws.quantity, %s AS reserved_quantity, ws.safety_stock
+            FROM warehouse_stock ws
+            %s
+            """.formatted(RESERVED_QUANTITY, BUCKET_TOTALS_JOIN);
+
+    // 음수 재고나 실재고보다 큰 예약이 생기는 증감은 반영하지 않는다
+    private static final String APPLY_DELTA_SQL = """
+            UPDATE warehouse_stock
+            SET quantity = quantity + :quantityDelta,
+                reserved_quantity = reserved_quantity + :reservedDelta,
+                modified_at = :modifiedAt
+            WHERE warehouse_id = :warehouseId AND product_id = :productId
+              AND quantity + :quantityDelta >= 0
+              AND reserved_quantity + :reservedDelta >= 0
+              AND reserved_quantity + :reservedDelta <= quantity + :quantityDelta
+            """;
+
+    private static final String FIND_AVAILABLE_SQL = """
+            SELECT ws.warehouse_id, ws.product_id, %1$s AS available
+            FROM warehouse_stock ws
+            JOIN warehouse w ON w.warehouse_id = ws.warehouse_id
+            %2$s
+            WHERE w.active = true AND w.deleted = false
+              AND %1$s > 0
+            ORDER BY ws.product_id
+            """.formatted(AVAILABLE_QUANTITY, BUCKET_TOTALS_JOIN);
+
+    private static final String FIND_AVAILABLE_BY_PRODUCTS_SQL = """
+            SELECT ws.warehouse_id, ws.product_id, %1$s AS available
+            FROM warehouse_stock ws
+            JOIN warehouse w ON w.warehouse_id = ws.warehouse_id
+            %2$s
+            WHERE ws.product_id IN (:productIds)
+              AND w.active = true AND w.deleted = false
+              AND %1$s > 0
+            LIMIT :limit
+            """.formatted(AVAILABLE_QUANTITY, BUCKET_TOTALS_JOIN);
+
+    private static final String FIND_ALL_AVAILABLE_BY_PRODUCTS_SQL = """
+            SELECT ws.warehouse_id, ws.product_id, %1$s AS available
+            FROM warehouse_stock ws
+            JOIN warehouse w ON w.warehouse_id = ws.warehouse_id
+            %2$s
+            WHERE ws.product_id IN (:productIds)
+              AND w.active = true AND w.deleted = false
+              AND %1$s > 0
+            ORDER BY ws.product_id
+            """.formatted(AVAILABLE_QUANTITY, BUCKET_TOTALS_JOIN);
+
+    private static final String FIND_ACTIVE_WAREHOUSE_POSTCODES_SQL = """
+            SELECT warehouse_id, postcode FROM warehouse WHERE active = true AND deleted = false
+            """;
+
+    private static final int STREAM_FETCH_SIZE = 1_000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 재고를 상품 ID 순으로 잠근다. 잠그는 조회는 반영할 행의 값을 그대로 돌려주므로 버킷에 넘긴 수량도 예약에 포함된다.
+     */
+    public List<StockRow> findForUpdate(Long warehouseId, Collection<Long> productIds) {
+        return queryStocks(FIND_FOR_UPDATE_SQL, warehouseId, productIds);
+    }
+
+    /**
+     * 여러 창고의 재고를 한 문장으로 잠근다. 창고와 상품의 모든 조합 중 존재하는 행만 반환한다.
+     */
+    public List<StockRow> lockStocks(Collection<Long> warehouseIds, Collection<Long> productIds) {
+        if (warehouseIds.isEmpty() || productIds.isEmpty()) {
+            return List.of();
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("warehouseIds", warehouseIds)
+                .addValue("productIds", productIds);
+        return jdbcTemplate.query(LOCK_STOCKS_SQL, params, (rs, rowNum) -> toStockRow(rs));
+    }
+
+    /**
+     * 수량이 0인 재고 행을 없을 때만 만든다. 만들었으면 true를 반환한다.
+     */
+    public boolean insertIfAbsent(Long warehouseId, Long productId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("warehouseId", warehouseId)
+                .addValue("productId", productId)
+                .addValue("modifiedAt", Timestamp.valueOf(LocalDateTime.now()));
+        return jdbcTemplate.update(INSERT_IF_ABSENT_SQL, params) > 0;
+    }
+
+    public List<StockRow> findStocks(Long warehouseId, Collection<Long> productIds) {
+        return queryStocks(FIND_STOCKS_SQL, warehouseId, productIds);
+    }
+
+    /**
+     * 모든 창고에서 주어진 상품들의 재고를 조회한다.
+     */
+    public List<StockRow> findStocksByProducts(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(FIND_STOCKS_BY_PRODUCTS_SQL, new MapSqlParameterSource("productIds", productIds),
+                (rs, rowNum) -> toStockRow(rs));
+    }
+
+    /**
+     * 모든 재고 행을 스트리밍으로 읽는다.
+     */
+    public void forEachStock(Consumer<StockRow> consumer) {
+        jdbcTemplate.getJdbcOperations().query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    FIND_ALL_STOCKS_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(toStockRow(rs)));
+    }
+
+    private List<StockRow> queryStocks(String sql, Long warehouseId, Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("warehouseId", warehouseId)
+                .addValue("productIds", productIds);
+        return jdbcTemplate.query(sql, params, (rs, rowNum) -> toStockRow(rs));
+    }
+
+    private StockRow toStockRow(ResultSet rs) throws SQLException {
+        return new StockRow(
+                rs.getLong("warehouse_id"),
+                rs.getLong("product_id"),
+                rs.getInt("quantity"),
+                rs.getInt("reserved_quantity"),
+                rs.getInt("safety_stock"));
+    }
+
+    /**
+     * 재고 증감분을 한 번의 배치로 반영한다. 조건을 만족하지 못한 행이 있으면 예외를 던져 트랜잭션을 되돌린다.
+     */
+    public void applyDeltas(List<StockDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        MapSqlParameterSource[] batch = deltas.stream()
+                .map(delta -> new MapSqlParameterSource()
+                        .addValue("warehouseId", delta.warehouseId())
+                        .addValue("productId", delta.productId())
+                        .addValue("quantityDelta", delta.quantityDelta())
+                        .addValue("reservedDelta", delta.reservedDelta())
+                        .addValue("modifiedAt", now))
+                .toArray(MapSqlParameterSource[]::new);
+
+        int[] results = jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, batch);
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == 0) {
+                StockDelta delta = deltas.get(i);
+                throw new IllegalStateException(String.format(
+                        "재고 반영에 실패했습니다. 창고 ID: %d, 상품 ID: %d", delta.warehouseId(), delta.productId()));
+            }
+        }
+    }
+
+    /**
+     * 운영 중인 창고의 가용 재고가 있는 행을 상품 ID 순으로 스트리밍한다.
+     */
+    public void forEachAvailable(Consumer<AvailableRow> consumer) {
+        jdbcTemplate.getJdbcOperations().query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    FIND_AVAILABLE_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(new AvailableRow(
+                rs.getLong("warehouse_id"), rs.getLong("product_id"), rs.getInt("available"))));
+    }
+
+    public List<AvailableRow> findAvailable(Collection<Long> productIds, int limit) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("productIds", productIds)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(FIND_AVAILABLE_BY_PRODUCTS_SQL, params, (rs, rowNum) -> new AvailableRow(
+                rs.getLong("warehouse_id"), rs.getLong("product_id"), rs.getInt("available")));
+    }
+
+    /**
+     * 주어진 상품의 가용 재고가 있는 활성 창고를 모두 상품 ID 순으로 반환한다.
+     */
+    public List<AvailableRow> findAvailable(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource("productIds", productIds);
+        return jdbcTemplate.query(FIND_ALL_AVAILABLE_BY_PRODUCTS_SQL, params, (rs, rowNum) -> new AvailableRow(
+                rs.getLong("warehouse_id"), rs.getLong("product_id"), rs.getInt("available")));
+    }
+
+    public Map<Long, String> findActiveWarehousePostcodes() {
+        Map<Long, String> postcodes = new HashMap<>();
+        jdbcTemplate.getJdbcOperations().query(FIND_ACTIVE_WAREHOUSE_POSTCODES_SQL,
+                (RowCallbackHandler) rs -> postcodes.put(rs.getLong("warehouse_id"), rs.getString("postcode")));
+        return postcodes;
+    }
+
+    public record AvailableRow(long warehouseId, long productId, int available) {
+    }
+
+    public record StockRow(Long warehouseId, Long productId, int quantity, int reservedQuantity, int safetyStock) {
+    }
+
+    public record StockDelta(Long warehouseId, Long productId, int quantityDelta, int reservedDelta) {
+    }
+}
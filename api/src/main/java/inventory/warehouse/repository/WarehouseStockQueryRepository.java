@@ -1,13 +1,28 @@
 package inventory.warehouse.repository;
 
+import inventory.warehouse.domain.WarehouseStock;
 import inventory.warehouse.service.query.WarehouseStockSearchCondition;
 import inventory.warehouse.service.response.WarehouseStockResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 public interface WarehouseStockQueryRepository {
 
     Page<WarehouseStockResponse> findWarehouseStockSummaries(WarehouseStockSearchCondition condition, Pageable pageable);
-}
 
+    Stream<WarehouseStockResponse> streamWarehouseStockSummaries(WarehouseStockSearchCondition condition);
 
+    /**
+     * 조건에 맞는 재고 행 수와, 요청한 페이지에 들어가는 재고 행마다 재고, 창고, 상품의 수정 시각으로 만든 ETag.
+     */
+    String findWarehouseStockETag(WarehouseStockSearchCondition condition, Pageable pageable);
+
+    /**
+     * 창고의 재고 행들을 상품 ID 순으로 한 문장에서 잠근다. {@code nowait}이면 잠긴 행을 기다리지 않고 바로 실패한다.
+     */
+    List<WarehouseStock> findForUpdate(Long warehouseId, Collection<Long> productIds, boolean nowait);
+}
@@ -1,19 +1,33 @@
 package inventory.warehouse.repository;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import inventory.common.etag.ETags;
 import inventory.product.domain.QProduct;
+import inventory.warehouse.domain.WarehouseStock;
 import inventory.warehouse.domain.QWarehouse;
 import inventory.warehouse.domain.QWarehouseStock;
+import inventory.warehouse.domain.QWarehouseStockBucket;
 import inventory.warehouse.service.query.WarehouseStockSearchCondition;
 import inventory.warehouse.service.response.WarehouseStockResponse;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 @RequiredArgsConstructor
 public class WarehouseStockQueryRepositoryImpl implements WarehouseStockQueryRepository {
@@ -21,22 +35,18 @@ public class WarehouseStockQueryRepositoryImpl implements WarehouseStockQueryRep
     private static final QWarehouseStock warehouseStock = QWarehouseStock.warehouseStock;
     private static final QWarehouse warehouse = QWarehouse.warehouse;
     private static final QProduct product = QProduct.product;
+    private static final QWarehouseStockBucket bucket = QWarehouseStockBucket.warehouseStockBucket;
+
+    private static final int EXPORT_FETCH_SIZE = 500;
+    // jakarta.persistence.lock.timeout 값. 0이면 NOWAIT, -1이면 DB의 잠금 대기 시간까지 기다린다
+    private static final int LOCK_NO_WAIT = 0;
+    private static final int LOCK_WAIT_FOREVER = -1;
 
     private final JPAQueryFactory queryFactory;
 
     @Override
     public Page<WarehouseStockResponse> findWarehouseStockSummaries(WarehouseStockSearchCondition condition, Pageable pageable) {
-        BooleanExpression where = warehouseStock.isNotNull();
-        if (condition != null) {
-            if (condition.warehouseId() != null) where = where.and(warehouseStock.warehouseId.eq(condition.warehouseId()));
-            if (condition.productId() != null) where = where.and(warehouseStock.productId.eq(condition.productId()));
-            if (condition.productNameContains() != null && !condition.productNameContains().isBlank())
-                where = where.and(product.productName.containsIgnoreCase(condition.productNameContains()));
-            if (condition.productCodeContains() != null && !condition.productCodeContains().isBlank())
-                where = where.and(product.productCode.containsIgnoreCase(condition.productCodeContains()));
-            if (condition.belowSafetyOnly() != null && condition.belowSafetyOnly())
-                where = where.and(warehouseStock.quantity.lt(warehouseStock.safetyStock));
-        }
+        BooleanExpression where = createWhereClause(condition);
 
         Long total = queryFactory.select(warehouseStock.count())
                 .from(warehouseStock)
@@ -46,18 +56,7 @@ public class WarehouseStockQueryRepositoryImpl implements WarehouseStockQueryRep
                 .fetchOne();
 
         var content = queryFactory
-                .select(Projections.constructor(WarehouseStockResponse.class,
-                        warehouseStock.warehouseStockId,
-                        warehouseStock.warehouseId,
-                        warehouse.name,
-                        warehouseStock.productId,
-                        product.productName,
-                        product.productCode,
-                        warehouseStock.quantity,
-                        warehouseStock.safetyStock,
-                        warehouseStock.quantity.lt(warehouseStock.safetyStock),
-                        warehouseStock.modifiedAt
-                ))
+                .select(summaryProjection())
                 .from(warehouseStock)
                 .leftJoin(warehouse).on(warehouse.warehouseId.eq(warehouseStock.warehouseId))
                 .leftJoin(product).on(product.productId.eq(warehouseStock.productId))
@@ -69,6 +68,102 @@ public class WarehouseStockQueryRepositoryImpl implements WarehouseStockQueryRep
 
         return new PageImpl<>(content, pageable, total == null ? 0 : total);
     }
-}
 
+    @Override
+    public Stream<WarehouseStockResponse> streamWarehouseStockSummaries(WarehouseStockSearchCondition condition) {
+        // DTO 프로젝션이라 영속성 컨텍스트에 엔티티가 쌓이지 않고, fetch size 단위로 커서에서 읽어온다
+        return queryFactory
+                .select(summaryProjection())
+                .from(warehouseStock)
+                .leftJoin(warehouse).on(warehouse.warehouseId.eq(warehouseStock.warehouseId))
+                .leftJoin(product).on(product.productId.eq(warehouseStock.productId))
+                .where(createWhereClause(condition))
+                .orderBy(warehouseStock.warehouseStockId.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    // 목록 조회와 같은 순서와 범위로 페이지에 들어갈 행의 버전만 읽는다. 다른 페이지의 행이 바뀌어도 이 페이지로 밀려 들어오거나
+    // 건수가 달라지지 않으면 태그는 그대로다. 버킷에서 예약하면 재고 행은 그대로이고 버킷만 바뀌므로 버킷의 수정 시각과 수량도 넣는다
+    @Override
+    public String findWarehouseStockETag(WarehouseStockSearchCondition condition, Pageable pageable) {
+        BooleanExpression where = createWhereClause(condition);
 
+        Long total = queryFactory.select(warehouseStock.count())
+                .from(warehouseStock)
+                .leftJoin(warehouse).on(warehouse.warehouseId.eq(warehouseStock.warehouseId))
+                .leftJoin(product).on(product.productId.eq(warehouseStock.productId))
+                .where(where)
+                .fetchOne();
+
+        List<Tuple> rows = queryFactory
+                .select(warehouseStock.warehouseStockId, warehouseStock.modifiedAt,
+                        warehouse.modifiedAt, product.modifiedAt,
+                        bucket.modifiedAt.max(), bucket.quantity.sum())
+                .from(warehouseStock)
+                .leftJoin(warehouse).on(warehouse.warehouseId.eq(warehouseStock.warehouseId))
+                .leftJoin(product).on(product.productId.eq(warehouseStock.productId))
+                .leftJoin(bucket).on(bucket.warehouseId.eq(warehouseStock.warehouseId),
+                        bucket.productId.eq(warehouseStock.productId))
+                .where(where)
+                .groupBy(warehouseStock.warehouseStockId, warehouseStock.modifiedAt,
+                        warehouse.modifiedAt, product.modifiedAt)
+                .orderBy(warehouseStock.modifiedAt.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        List<Object> version = new ArrayList<>();
+        version.add(pageable.getOffset());
+        version.add(pageable.getPageSize());
+        version.add(total);
+        rows.forEach(row -> version.addAll(Arrays.asList(row.toArray())));
+        return ETags.of(version.toArray());
+    }
+
+    @Override
+    public List<WarehouseStock> findForUpdate(Long warehouseId, Collection<Long> productIds, boolean nowait) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+                .selectFrom(warehouseStock)
+                .where(warehouseStock.warehouseId.eq(warehouseId), warehouseStock.productId.in(productIds))
+                .orderBy(warehouseStock.productId.asc())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(SpecHints.HINT_SPEC_LOCK_TIMEOUT, nowait ? LOCK_NO_WAIT : LOCK_WAIT_FOREVER)
+                .fetch();
+    }
+
+    private ConstructorExpression<WarehouseStockResponse> summaryProjection() {
+        return Projections.constructor(WarehouseStockResponse.class,
+                warehouseStock.warehouseStockId,
+                warehouseStock.warehouseId,
+                warehouse.name,
+                warehouseStock.productId,
+                product.productName,
+                product.productCode,
+                warehouseStock.quantity,
+                warehouseStock.safetyStock,
+                warehouseStock.reorderPoint,
+                warehouseStock.quantity.lt(warehouseStock.safetyStock),
+                warehouseStock.modifiedAt
+        );
+    }
+
+    private BooleanExpression createWhereClause(WarehouseStockSearchCondition condition) {
+        BooleanExpression where = warehouseStock.isNotNull();
+        if (condition != null) {
+            if (condition.warehouseId() != null) where = where.and(warehouseStock.warehouseId.eq(condition.warehouseId()));
+            if (condition.productId() != null) where = where.and(warehouseStock.productId.eq(condition.productId()));
+            if (condition.productNameContains() != null && !condition.productNameContains().isBlank())
+                where = where.and(product.productName.containsIgnoreCase(condition.productNameContains()));
+            if (condition.productCodeContains() != null && !condition.productCodeContains().isBlank())
+                where = where.and(product.productCode.containsIgnoreCase(condition.productCodeContains()));
+            if (condition.belowSafetyOnly() != null && condition.belowSafetyOnly())
+                where = where.and(warehouseStock.quantity.lt(warehouseStock.safetyStock));
+        }
+        return where;
+    }
+}
@@ -0,0 +1,205 @@
+package inventory.warehouse.service;
+
+import inventory.common.datasource.DataSourcePool;
+import inventory.common.datasource.PoolType;
+import inventory.warehouse.repository.WarehouseStockJdbcRepository;
+import inventory.warehouse.repository.WarehouseStockJdbcRepository.StockRow;
+import inventory.warehouse.service.event.StockChangedEvent;
+import inventory.warehouse.service.response.ProductAvailabilityResponse;
+import inventory.warehouse.service.util.ProductStockTable;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 모든 창고의 재고를 상품별로 모아 둔 메모리 집계. 가용 재고 일괄 조회를 DB 없이 응답한다.
+ * <p>
+ * 시작 시 전체를 읽고, 이후에는 재고 변경 이벤트로 바뀐 (창고, 상품)만 {@code flush-millis}마다 다시 읽어 반영한다.
+ * 다른 노드에서 바뀐 재고는 이벤트가 오지 않으므로 {@code refresh-millis}마다 전체를 다시 읽어 맞춘다. 따라서 다른 노드의 변경은
+ * 최대 {@code refresh-millis}(기본 1분)에 전체를 읽는 시간을 더한 만큼 늦게 보인다. 가용 재고 조회는 참고용이고 예약은 항상
+ * 재고 행에서 다시 검증하므로 이 정도 지연은 허용한다.
+ * 전체를 다시 읽는 동안 반영한 변경은 새 집계로 바꾼 뒤 한 번 더 반영해 잃지 않는다.
+ */
+@Slf4j
+@Component
+public class ProductAvailabilityAggregate {
+
+    private static final int INITIAL_PRODUCTS = 1 << 14;
+
+    private final WarehouseStockJdbcRepository warehouseStockJdbcRepository;
+    private final boolean enabled;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Queue<StockChangedEvent> pending = new ConcurrentLinkedQueue<>();
+
+    private ProductStockTable table = new ProductStockTable(INITIAL_PRODUCTS);
+    private List<StockChangedEvent> appliedDuringRefresh;
+    private volatile boolean loaded;
+
+    public ProductAvailabilityAggregate(
+            WarehouseStockJdbcRepository warehouseStockJdbcRepository,
+            MeterRegistry meterRegistry,
+            @Value("${stock-aggregate.enabled:true}") boolean enabled
+    ) {
+        this.warehouseStockJdbcRepository = warehouseStockJdbcRepository;
+        this.enabled = enabled;
+        Gauge.builder("stock.aggregate.products", this, ProductAvailabilityAggregate::productCount)
+                .register(meterRegistry);
+    }
+
+    @DataSourcePool(PoolType.REPORT)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (enabled) {
+            refresh();
+        }
+    }
+
+    @DataSourcePool(PoolType.REPORT)
+    @Scheduled(fixedDelayString = "${stock-aggregate.refresh-millis:60000}",
+            initialDelayString = "${stock-aggregate.refresh-millis:60000}")
+    public void scheduledRefresh() {
+        if (enabled) {
+            refresh();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockChanged(StockChangedEvent event) {
+        if (enabled) {
+            pending.add(event);
+        }
+    }
+
+    /**
+     * 모아 둔 변경을 반영한다. 첫 적재 전에는 쌓아만 두었다가 적재 후에 반영한다.
+     */
+    @DataSourcePool(PoolType.READ)
+    @Scheduled(fixedDelayString = "${stock-aggregate.flush-millis:100}")
+    public void flush() {
+        if (!loaded || pending.isEmpty()) {
+            return;
+        }
+
+        List<StockChangedEvent> events = new ArrayList<>();
+        Map<Long, Set<Long>> productIdsByWarehouse = new TreeMap<>();
+        StockChangedEvent event;
+        while ((event = pending.poll()) != null) {
+            events.add(event);
+            productIdsByWarehouse.computeIfAbsent(event.warehouseId(), k -> new TreeSet<>()).addAll(event.productIds());
+        }
+
+        // 읽기 전에 어느 집계에 반영할지 잡아 둔다. 읽는 사이에 전체 갱신이 끝나 집계가 바뀌면 읽은 값이 새 집계보다
+        // 오래됐을 수 있으므로 반영하지 않고 다음 반영에서 다시 읽는다
+        ProductStockTable target;
+        lock.readLock().lock();
+        try {
+            target = table;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<StockRow> rows = new ArrayList<>();
+        productIdsByWarehouse.forEach((warehouseId, productIds) ->
+                rows.addAll(warehouseStockJdbcRepository.findStocks(warehouseId, productIds)));
+
+        lock.writeLock().lock();
+        try {
+            if (table != target) {
+                pending.addAll(events);
+                return;
+            }
+            // 다시 읽었는데 행이 없으면 재고 행이 지워진 것이다
+            productIdsByWarehouse.forEach((warehouseId, productIds) ->
+                    productIds.forEach(productId -> table.remove(warehouseId, productId)));
+            for (StockRow row : rows) {
+                table.put(row.warehouseId(), row.productId(), row.quantity(), row.reservedQuantity());
+            }
+            if (appliedDuringRefresh != null) {
+                appliedDuringRefresh.addAll(events);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void refresh() {
+        int expectedProducts;
+        lock.writeLock().lock();
+        try {
+            appliedDuringRefresh = new ArrayList<>();
+            expectedProducts = Math.max(INITIAL_PRODUCTS, table.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        ProductStockTable refreshed = new ProductStockTable(expectedProducts);
+        try {
+            warehouseStockJdbcRepository.forEachStock(row ->
+                    refreshed.put(row.warehouseId(), row.productId(), row.quantity(), row.reservedQuantity()));
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                appliedDuringRefresh = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            table = refreshed;
+            pending.addAll(appliedDuringRefresh);
+            appliedDuringRefresh = null;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("재고 집계 갱신: 상품 {}개", refreshed.size());
+    }
+
+    public boolean isLoaded() {
+        return enabled && loaded;
+    }
+
+    /**
+     * 상품별 전체 창고 재고와 창고별 재고를 요청 순서대로 반환한다. 재고가 없는 상품은 0으로 채운다.
+     */
+    public List<ProductAvailabilityResponse> find(long[] productIds) {
+        List<ProductAvailabilityResponse> responses = new ArrayList<>(productIds.length);
+        lock.readLock().lock();
+        try {
+            for (long productId : productIds) {
+                responses.add(ProductAvailabilityResponse.from(productId, table.get(productId)));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return responses;
+    }
+
+    private int productCount() {
+        lock.readLock().lock();
+        try {
+            return table.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
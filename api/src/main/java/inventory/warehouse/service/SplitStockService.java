@@ -0,0 +1,366 @@
+package inventory.warehouse.service;
+
+import inventory.common.exception.CustomException;
+import inventory.common.exception.ExceptionCode;
+import inventory.warehouse.repository.WarehouseStockBucketJdbcRepository;
+import inventory.warehouse.repository.WarehouseStockBucketJdbcRepository.BucketRow;
+import inventory.warehouse.repository.WarehouseStockJdbcRepository;
+import inventory.warehouse.repository.WarehouseStockJdbcRepository.StockDelta;
+import inventory.warehouse.repository.WarehouseStockJdbcRepository.StockRow;
+import inventory.warehouse.service.util.HotStockDetector;
+import inventory.warehouse.service.util.HotStockDetector.Decision;
+import inventory.warehouse.service.util.HotStockDetector.StockKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 예약이 몰리는 재고의 가용 수량을 여러 버킷으로 나눠 재고 행 하나에 잠금이 몰리지 않게 한다.
+ * <p>
+ * 나눌 때는 재고 행의 가용 재고를 모두 버킷에 나눠 담고 그만큼을 reservedQuantity에 잡아 둔다. 이후 예약은 출고 ID로 고른
+ * 버킷의 수량만 줄이며, 모자라면 다른 버킷과 재고 행에 남은 가용 재고에서 빌린다. 예약 해제와 출고 완료는 지금처럼 재고 행에서
+ * 처리하고, 조회는 버킷에 남은 수량을 예약에서 빼서 보여 주므로 나눴는지와 관계없이 같은 값이 보인다.
+ * <p>
+ * {@code interval-millis}마다 노드에서 센 예약 수로 나눌 재고와 합칠 재고를 정하고, 나뉜 재고는 입고 등으로 재고 행에 생긴
+ * 가용 재고를 버킷에 다시 나눠 담는다. 버킷과 재고 행을 함께 바꿀 때는 항상 버킷을 먼저 잠근다.
+ * <p>
+ * 노드가 들고 있는 나뉜 재고 목록은 주기 판정에만 쓴다. 다른 노드가 방금 나누거나 합친 재고가 빠져 있을 수 있으므로
+ * 예약할 재고가 나뉘었는지는 예약하는 트랜잭션 안에서 버킷 테이블을 읽어 정한다.
+ */
+@Slf4j
+@Service
+public class SplitStockService {
+
+    // 출고 ID가 연속이어도 버킷이 고르게 골라지도록 섞는다
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private final WarehouseStockBucketJdbcRepository bucketJdbcRepository;
+    private final WarehouseStockJdbcRepository warehouseStockJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final HotStockDetector detector;
+    private final boolean enabled;
+    private final int bucketCount;
+    private final Counter splits;
+    private final Counter merges;
+    private final Counter borrows;
+
+    private volatile Set<StockKey> splitStocks = Set.of();
+
+    public SplitStockService(
+            WarehouseStockBucketJdbcRepository bucketJdbcRepository,
+            WarehouseStockJdbcRepository warehouseStockJdbcRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${stock-split.enabled:false}") boolean enabled,
+            @Value("${stock-split.buckets:8}") int bucketCount,
+            @Value("${stock-split.split-threshold:500}") int splitThreshold,
+            @Value("${stock-split.merge-threshold:50}") int mergeThreshold,
+            @Value("${stock-split.merge-after-intervals:12}") int mergeAfter
+    ) {
+        if (bucketCount <= 1) {
+            throw new IllegalArgumentException("버킷 수는 2 이상이어야 합니다.");
+        }
+        this.bucketJdbcRepository = bucketJdbcRepository;
+        this.warehouseStockJdbcRepository = warehouseStockJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.detector = new HotStockDetector(splitThreshold, mergeThreshold, mergeAfter);
+        this.enabled = enabled;
+        this.bucketCount = bucketCount;
+        this.splits = meterRegistry.counter("stock.split.splits");
+        this.merges = meterRegistry.counter("stock.split.merges");
+        this.borrows = meterRegistry.counter("stock.split.borrows");
+        Gauge.builder("stock.split.stocks", this, service -> service.splitStocks.size())
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${stock-split.interval-millis:5000}",
+            initialDelayString = "${stock-split.interval-millis:5000}")
+    public void adjust() {
+        if (!enabled) {
+            return;
+        }
+
+        refreshSplitStocks();
+        Decision decision = detector.evaluate(splitStocks);
+        for (StockKey key : decision.toSplit()) {
+            run("나누기", key, () -> split(key.warehouseId(), key.productId()));
+        }
+        for (StockKey key : decision.toMerge()) {
+            run("합치기", key, () -> merge(key.warehouseId(), key.productId()));
+        }
+
+        refreshSplitStocks();
+        for (StockKey key : splitStocks) {
+            run("다시 나누기", key, () -> rebalance(key.warehouseId(), key.productId()));
+        }
+    }
+
+    public boolean isSplit(Long warehouseId, Long productId) {
+        return !findSplitProductIds(warehouseId, List.of(productId)).isEmpty();
+    }
+
+    /**
+     * 주어진 상품 중 지금 버킷으로 나뉜 상품 ID를 버킷 테이블에서 읽는다.
+     */
+    public Set<Long> findSplitProductIds(Long warehouseId, Collection<Long> productIds) {
+        return findBucketQuantities(warehouseId, productIds).keySet();
+    }
+
+    /**
+     * 나뉜 상품마다 버킷에 남은 가용 수량을 읽는다. 이 수량은 재고 행의 reservedQuantity에 잡혀 있으므로 엔티티의
+     * 가용 재고에 더해야 실제로 예약할 수 있는 수량이 된다. 나뉘지 않은 상품은 결과에 없다.
+     */
+    public Map<Long, Integer> findBucketQuantities(Long warehouseId, Collection<Long> productIds) {
+        if (!enabled) {
+            return Map.of();
+        }
+        return bucketJdbcRepository.findBucketQuantities(warehouseId, productIds);
+    }
+
+    /**
+     * 나뉜 재고면 버킷에서 예약하고 true를 반환한다. 버킷 테이블에 행이 없어 나뉘지 않은 재고면 false를 반환하며 호출한 쪽이
+     * 재고 행에서 예약한다. 조회 뒤에 합쳐져 버킷이 사라졌으면 모자란 수량을 재고 행에서 조건부로 가져간다.
+     * 호출한 트랜잭션 안에서 버킷을 바꾸므로 예약이 실패해 예외가 나면 함께 되돌려진다.
+     *
+     * @param hashKey 버킷을 고르는 값. 같은 출고의 예약이 한 버킷에 모이도록 출고 ID를 넘긴다
+     */
+    public boolean reserveFromBuckets(Long warehouseId, Long productId, int quantity, long hashKey) {
+        if (!enabled) {
+            return false;
+        }
+        detector.record(warehouseId, productId);
+        List<BucketRow> buckets = bucketJdbcRepository.findBuckets(warehouseId, productId);
+        if (buckets.isEmpty()) {
+            return false;
+        }
+
+        int remaining = quantity;
+        int home = Math.floorMod(Long.hashCode(hashKey * HASH_MULTIPLIER), buckets.size());
+        for (int i = 0; i < buckets.size() && remaining > 0; i++) {
+            BucketRow bucket = buckets.get((home + i) % buckets.size());
+            int take = Math.min(bucket.quantity(), remaining);
+            // 읽은 뒤 다른 요청이 가져갔으면 건너뛰고 다음 버킷에서 빌린다
+            if (take > 0 && bucketJdbcRepository.take(warehouseId, productId, bucket.bucketNo(), take)) {
+                remaining -= take;
+                if (i > 0) {
+                    borrows.increment();
+                }
+            }
+        }
+
+        if (remaining > 0) {
+            // 버킷이 모두 말랐으면 아직 버킷에 나눠 담지 않은 재고 행의 가용 재고에서 가져온다
+            try {
+                warehouseStockJdbcRepository.applyDeltas(
+                        List.of(new StockDelta(warehouseId, productId, 0, remaining)));
+            } catch (IllegalStateException e) {
+                throw new CustomException(ExceptionCode.INSUFFICIENT_STOCK,
+                        "예약 가능한 재고가 부족합니다. 상품 ID: " + productId);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 재고 행의 가용 재고가 모자랄 때 부른다. 버킷 조회 뒤에 다른 노드가 재고를 나눴을 수 있으므로 버킷을 잠가 다시 읽고
+     * 가져갈 수 있는 만큼 가져간 뒤 남은 수량을 반환한다. 나뉘지 않은 재고면 요청한 수량을 그대로 반환한다.
+     * <p>
+     * 재고 행을 잠근 뒤에 버킷을 잠그므로 버킷을 먼저 잠그는 조정 작업과 드물게 교착될 수 있고, 그때는 호출한 쪽의
+     * {@link inventory.common.retry.DeadlockRetry}가 다시 시도한다.
+     */
+    public int takeFromLockedBuckets(Long warehouseId, Long productId, int quantity) {
+        if (!enabled) {
+            return quantity;
+        }
+
+        List<BucketRow> buckets = bucketJdbcRepository.lockBuckets(warehouseId, List.of(productId));
+        int remaining = quantity;
+        List<BucketRow> taken = new ArrayList<>(buckets.size());
+        for (BucketRow bucket : buckets) {
+            if (remaining == 0) {
+                break;
+            }
+            int take = Math.min(bucket.quantity(), remaining);
+            if (take > 0) {
+                taken.add(new BucketRow(warehouseId, productId, bucket.bucketNo(), bucket.quantity() - take));
+                remaining -= take;
+            }
+        }
+        if (!taken.isEmpty()) {
+            bucketJdbcRepository.updateQuantities(taken);
+        }
+        return remaining;
+    }
+
+    /**
+     * 버킷에 남은 수량을 재고 행으로 되돌린다. 재고 행의 가용 재고를 한 번에 검증하고 바꿔야 하는 일괄 처리 전에 부른다.
+     * 되돌린 버킷은 남겨 두므로 다음 주기에 다시 채워진다.
+     */
+    public void drain(Long warehouseId, Collection<Long> productIds) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<BucketRow> buckets = bucketJdbcRepository.lockBuckets(warehouseId, new TreeSet<>(productIds));
+            Map<Long, Integer> drained = new TreeMap<>();
+            List<BucketRow> emptied = new ArrayList<>();
+            for (BucketRow bucket : buckets) {
+                if (bucket.quantity() > 0) {
+                    drained.merge(bucket.productId(), bucket.quantity(), Integer::sum);
+                    emptied.add(new BucketRow(warehouseId, bucket.productId(), bucket.bucketNo(), 0));
+                }
+            }
+            if (emptied.isEmpty()) {
+                return;
+            }
+
+            bucketJdbcRepository.updateQuantities(emptied);
+            List<StockDelta> deltas = new ArrayList<>(drained.size());
+            drained.forEach((productId, quantity) -> deltas.add(new StockDelta(warehouseId, productId, 0, -quantity)));
+            warehouseStockJdbcRepository.applyDeltas(deltas);
+        });
+    }
+
+    /**
+     * 재고 행의 가용 재고를 버킷에 나눠 담는다. 이미 나뉘었거나 버킷마다 하나씩 담을 만큼 가용 재고가 없으면 false를 반환한다.
+     */
+    public boolean split(Long warehouseId, Long productId) {
+        Boolean split = transactionTemplate.execute(status -> {
+            // 재고 행을 먼저 잠가 여러 노드가 같은 재고를 동시에 나누지 않게 한다
+            List<StockRow> stocks = warehouseStockJdbcRepository.findForUpdate(warehouseId, List.of(productId));
+            if (stocks.isEmpty() || !bucketJdbcRepository.findBuckets(warehouseId, productId).isEmpty()) {
+                return false;
+            }
+
+            StockRow stock = stocks.get(0);
+            int available = stock.quantity() - stock.reservedQuantity();
+            if (available < bucketCount) {
+                return false;
+            }
+
+            int[] shares = distribute(available, bucketCount);
+            List<BucketRow> buckets = new ArrayList<>(bucketCount);
+            for (int i = 0; i < bucketCount; i++) {
+                buckets.add(new BucketRow(warehouseId, productId, i, shares[i]));
+            }
+            bucketJdbcRepository.insert(buckets);
+            warehouseStockJdbcRepository.applyDeltas(List.of(new StockDelta(warehouseId, productId, 0, available)));
+            return true;
+        });
+
+        if (Boolean.TRUE.equals(split)) {
+            refreshSplitStocks();
+            splits.increment();
+            log.info("재고를 버킷으로 나눔: 창고 ID={}, 상품 ID={}, 버킷={}", warehouseId, productId, bucketCount);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 버킷에 남은 수량을 재고 행으로 되돌리고 버킷을 지운다.
+     */
+    public void merge(Long warehouseId, Long productId) {
+        Boolean merged = transactionTemplate.execute(status -> {
+            List<BucketRow> buckets = bucketJdbcRepository.lockBuckets(warehouseId, List.of(productId));
+            if (buckets.isEmpty()) {
+                return false;
+            }
+
+            int remaining = sum(buckets);
+            if (remaining > 0) {
+                warehouseStockJdbcRepository.applyDeltas(
+                        List.of(new StockDelta(warehouseId, productId, 0, -remaining)));
+            }
+            bucketJdbcRepository.delete(warehouseId, productId);
+            return true;
+        });
+
+        if (Boolean.TRUE.equals(merged)) {
+            refreshSplitStocks();
+            merges.increment();
+            log.info("버킷으로 나눈 재고를 합침: 창고 ID={}, 상품 ID={}", warehouseId, productId);
+        }
+    }
+
+    /**
+     * 재고 행에 새로 생긴 가용 재고와 버킷에 남은 수량을 합쳐 버킷에 고르게 다시 나눠 담는다.
+     */
+    public void rebalance(Long warehouseId, Long productId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<BucketRow> buckets = bucketJdbcRepository.lockBuckets(warehouseId, List.of(productId));
+            if (buckets.isEmpty()) {
+                return;
+            }
+            List<StockRow> stocks = warehouseStockJdbcRepository.findForUpdate(warehouseId, List.of(productId));
+            if (stocks.isEmpty()) {
+                return;
+            }
+
+            StockRow stock = stocks.get(0);
+            int unallotted = stock.quantity() - stock.reservedQuantity();
+            int allotted = sum(buckets);
+            boolean dried = buckets.stream().anyMatch(bucket -> bucket.quantity() == 0);
+            if (unallotted == 0 && (!dried || allotted == 0)) {
+                return;
+            }
+
+            // 출고 완료 등으로 실재고가 버킷 몫보다 줄었으면 버킷에서 덜어 낸다
+            int total = Math.max(0, unallotted + allotted);
+            int[] shares = distribute(total, buckets.size());
+            List<BucketRow> updated = new ArrayList<>(buckets.size());
+            for (int i = 0; i < buckets.size(); i++) {
+                BucketRow bucket = buckets.get(i);
+                updated.add(new BucketRow(warehouseId, productId, bucket.bucketNo(), shares[i]));
+            }
+            bucketJdbcRepository.updateQuantities(updated);
+            if (total != allotted) {
+                warehouseStockJdbcRepository.applyDeltas(
+                        List.of(new StockDelta(warehouseId, productId, 0, total - allotted)));
+            }
+        });
+    }
+
+    private void refreshSplitStocks() {
+        Set<StockKey> loaded = new HashSet<>();
+        bucketJdbcRepository.findSplitStocks().forEach(stock ->
+                loaded.add(new StockKey(stock.warehouseId(), stock.productId())));
+        splitStocks = Set.copyOf(loaded);
+    }
+
+    private void run(String action, StockKey key, Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            // 한 재고의 실패로 다른 재고 조정을 멈추지 않는다. 다음 주기에 다시 판정한다
+            log.warn("재고 버킷 {} 실패: 창고 ID={}, 상품 ID={}", action, key.warehouseId(), key.productId(), e);
+        }
+    }
+
+    private int sum(List<BucketRow> buckets) {
+        int sum = 0;
+        for (BucketRow bucket : buckets) {
+            sum += bucket.quantity();
+        }
+        return sum;
+    }
+
+    private int[] distribute(int total, int count) {
+        int[] shares = new int[count];
+        for (int i = 0; i < count; i++) {
+            shares[i] = total / count + (i < total % count ? 1 : 0);
+        }
+        return shares;
+    }
+}
@@ -0,0 +1,184 @@
+package inventory.warehouse.service;
+
+import inventory.common.exception.CustomException;
+import inventory.common.exception.ExceptionCode;
+import inventory.warehouse.repository.WarehouseStockJdbcRepository;
+import inventory.warehouse.service.event.StockChangedEvent;
+import inventory.warehouse.service.response.StockChangeResponse;
+import inventory.warehouse.service.util.StockChangeBuffer;
+import inventory.warehouse.service.util.StockChangeBuffer.Batch;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 재고 변경을 SSE 구독자에게 흘려보낸다.
+ * <p>
+ * 재고를 바꾸는 트랜잭션이 커밋되면 바뀐 (창고, 상품) 키만 모아 두고, {@code coalesce-millis}마다 한 번 커밋된 값을 읽어
+ * 조건이 맞는 구독자에게 나눠 준다. 같은 재고가 창 안에서 여러 번 바뀌어도 한 건으로 나간다.
+ * 구독자마다 가상 스레드 하나가 자기 버퍼를 비우며 전송하므로 느린 구독자가 다른 구독자나 집계를 막지 않는다.
+ */
+@Slf4j
+@Service
+public class StockChangeFeed {
+
+    private final WarehouseStockJdbcRepository warehouseStockJdbcRepository;
+    private final int maxSubscribers;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final long heartbeatMillis;
+    private final Counter overflows;
+
+    private final Set<PendingKey> pending = ConcurrentHashMap.newKeySet();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ThreadFactory senderThreads = Thread.ofVirtual().name("stock-feed-", 0).factory();
+
+    public StockChangeFeed(
+            WarehouseStockJdbcRepository warehouseStockJdbcRepository,
+            MeterRegistry meterRegistry,
+            @Value("${stock-feed.max-subscribers:5000}") int maxSubscribers,
+            @Value("${stock-feed.buffer-size:1000}") int bufferSize,
+            @Value("${stock-feed.timeout-millis:1800000}") long timeoutMillis,
+            @Value("${stock-feed.heartbeat-millis:15000}") long heartbeatMillis
+    ) {
+        this.warehouseStockJdbcRepository = warehouseStockJdbcRepository;
+        this.maxSubscribers = maxSubscribers;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+        this.heartbeatMillis = heartbeatMillis;
+        this.overflows = meterRegistry.counter("stock.feed.overflows");
+        meterRegistry.gaugeCollectionSize("stock.feed.subscribers", List.of(), subscribers);
+    }
+
+    /**
+     * 창고나 상품 조건에 맞는 재고 변경을 받는 구독을 연다. 조건이 없으면 모든 변경을 받는다.
+     */
+    public SseEmitter subscribe(Long warehouseId, Long productId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new CustomException(ExceptionCode.TOO_MANY_REQUESTS, "재고 변경 구독자가 너무 많습니다.");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(warehouseId, productId, emitter, new StockChangeBuffer(bufferSize));
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        senderThreads.newThread(() -> send(subscriber)).start();
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockChanged(StockChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        for (Long productId : event.productIds()) {
+            pending.add(new PendingKey(event.warehouseId(), productId));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${stock-feed.coalesce-millis:200}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 도는 동안 들어온 키는 이번에 보내거나 다음 창으로 넘어간다
+        Map<Long, Set<Long>> productIdsByWarehouse = new TreeMap<>();
+        for (Iterator<PendingKey> iterator = pending.iterator(); iterator.hasNext(); ) {
+            PendingKey key = iterator.next();
+            iterator.remove();
+            productIdsByWarehouse.computeIfAbsent(key.warehouseId(), k -> new TreeSet<>()).add(key.productId());
+        }
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        List<StockChangeResponse> changes = new ArrayList<>();
+        productIdsByWarehouse.forEach((warehouseId, productIds) ->
+                warehouseStockJdbcRepository.findStocks(warehouseId, productIds)
+                        .forEach(row -> changes.add(StockChangeResponse.from(row))));
+
+        for (Subscriber subscriber : subscribers) {
+            List<StockChangeResponse> matched = changes.stream().filter(subscriber::matches).toList();
+            if (!matched.isEmpty() && !subscriber.buffer().offer(matched)) {
+                overflows.increment();
+            }
+        }
+    }
+
+    private void send(Subscriber subscriber) {
+        SseEmitter emitter = subscriber.emitter();
+        try {
+            emitter.send(SseEmitter.event().comment("connected"));
+            Batch batch;
+            while ((batch = subscriber.buffer().take(heartbeatMillis)) != null) {
+                if (batch.overflowed()) {
+                    // 버린 변경이 있으니 목록을 다시 조회하라고 알린다
+                    emitter.send(SseEmitter.event().name("resync").data(""));
+                }
+                if (!batch.changes().isEmpty()) {
+                    emitter.send(SseEmitter.event().name("stock").data(batch.changes(), MediaType.APPLICATION_JSON));
+                }
+                if (batch.isEmpty()) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊겼거나 이미 완료된 구독
+            log.debug("재고 변경 구독 종료: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            unsubscribe(subscriber);
+            emitter.complete();
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.buffer().close();
+        }
+    }
+
+    private record PendingKey(Long warehouseId, Long productId) {
+    }
+
+    private record Subscriber(Long warehouseId, Long productId, SseEmitter emitter, StockChangeBuffer buffer) {
+
+        boolean matches(StockChangeResponse change) {
+            return (warehouseId == null || warehouseId.equals(change.warehouseId()))
+                    && (productId == null || productId.equals(change.productId()));
+        }
+
+        // 같은 조건의 구독자가 여럿일 수 있으므로 값이 아니라 인스턴스로 구분한다
+        @Override
+        public boolean equals(Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+}
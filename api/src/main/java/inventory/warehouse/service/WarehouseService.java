@@ -1,5 +1,7 @@
 package inventory.warehouse.service;
 
+import inventory.common.datasource.DataSourcePool;
+import inventory.common.datasource.PoolType;
 import inventory.common.exception.CustomException;
 import inventory.common.exception.ExceptionCode;
 import inventory.warehouse.domain.Warehouse;
@@ -34,6 +36,7 @@ public class WarehouseService {
         return WarehouseResponse.from(warehouseRepository.save(warehouse));
     }
 
+    @DataSourcePool(PoolType.READ)
     public WarehouseResponse findById(Long id) {
         if (id == null) {
             throw new CustomException(ExceptionCode.INVALID_INPUT);
@@ -43,6 +46,7 @@ public class WarehouseService {
                 .orElseThrow(() -> new CustomException(ExceptionCode.DATA_NOT_FOUND)));
     }
 
+    @DataSourcePool(PoolType.READ)
     public Page<WarehouseResponse> findAllWithConditions(
             String nameContains,
             String postcodeContains,
@@ -0,0 +1,50 @@
+package inventory.warehouse.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import inventory.common.datasource.DataSourcePool;
+import inventory.common.datasource.PoolType;
+import inventory.common.export.ExportFormat;
+import inventory.common.export.RecordExportWriter;
+import inventory.warehouse.repository.WarehouseStockQueryRepository;
+import inventory.warehouse.service.query.WarehouseStockSearchCondition;
+import inventory.warehouse.service.response.WarehouseStockResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class WarehouseStockExportService {
+
+    private final WarehouseStockQueryRepository warehouseStockQueryRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 검색 조건에 맞는 창고 재고를 커서로 읽으면서 바로 출력 스트림에 기록한다.
+     */
+    @DataSourcePool(PoolType.REPORT)
+    @Transactional(readOnly = true)
+    public long exportWarehouseStocks(
+            WarehouseStockSearchCondition condition,
+            ExportFormat format,
+            OutputStream outputStream) {
+
+        try (Stream<WarehouseStockResponse> rows = warehouseStockQueryRepository.streamWarehouseStockSummaries(condition);
+             RecordExportWriter<WarehouseStockResponse> writer = new RecordExportWriter<>(
+                     outputStream, format, objectMapper, WarehouseStockResponse.class)) {
+            rows.forEach(writer::write);
+
+            log.info("창고 재고 내보내기 완료: 형식={}, 건수={}", format, writer.getCount());
+            return writer.getCount();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,28 +1,47 @@
 package inventory.warehouse.service;
 
+import inventory.common.datasource.DataSourcePool;
+import inventory.common.datasource.PoolType;
 import inventory.common.exception.CustomException;
 import inventory.common.exception.ExceptionCode;
 import inventory.product.repository.ProductRepository;
 import inventory.warehouse.domain.WarehouseStock;
 import inventory.warehouse.repository.WarehouseRepository;
+import inventory.warehouse.repository.WarehouseStockJdbcRepository;
+import inventory.warehouse.repository.WarehouseStockJdbcRepository.StockRow;
 import inventory.warehouse.repository.WarehouseStockQueryRepository;
 import inventory.warehouse.repository.WarehouseStockRepository;
+import inventory.warehouse.service.event.StockChangedEvent;
 import inventory.warehouse.service.query.WarehouseStockSearchCondition;
+import inventory.warehouse.service.request.ProductAvailabilityRequest;
+import inventory.warehouse.service.response.ProductAvailabilityResponse;
 import inventory.warehouse.service.response.WarehouseStockResponse;
+import inventory.warehouse.service.util.ProductStockTable;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 @RequiredArgsConstructor
 @Service
 public class WarehouseStockService {
 
+    private static final int MAX_AVAILABILITY_PRODUCTS = 1_000;
+
     private final WarehouseStockRepository warehouseStockRepository;
     private final WarehouseStockQueryRepository warehouseStockQueryRepository;
     private final WarehouseRepository warehouseRepository;
     private final ProductRepository productRepository;
+    private final WarehouseStockJdbcRepository warehouseStockJdbcRepository;
+    private final ProductAvailabilityAggregate productAvailabilityAggregate;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void updateStockOnInbound(Long warehouseId, Long productId, int quantity) {
@@ -51,8 +70,26 @@ public class WarehouseStockService {
                     .build();
             warehouseStockRepository.save(newStock);
         }
+        eventPublisher.publishEvent(StockChangedEvent.of(warehouseId, List.of(productId)));
     }
 
+    @DataSourcePool(PoolType.READ)
+    @Transactional(readOnly = true)
+    public String findETag(
+            Long warehouseId,
+            Long productId,
+            String productNameContains,
+            String productCodeContains,
+            Boolean belowSafetyOnly,
+            Pageable pageable
+    ) {
+        WarehouseStockSearchCondition condition = new WarehouseStockSearchCondition(
+                warehouseId, productId, productNameContains, productCodeContains, belowSafetyOnly
+        );
+        return warehouseStockQueryRepository.findWarehouseStockETag(condition, pageable);
+    }
+
+    @DataSourcePool(PoolType.READ)
     @Transactional(readOnly = true)
     public Page<WarehouseStockResponse> findAllWithConditions(
             Long warehouseId,
@@ -67,4 +104,38 @@ public class WarehouseStockService {
         );
         return warehouseStockQueryRepository.findWarehouseStockSummaries(condition, pageable);
     }
+
+    /**
+     * 상품별로 모든 창고의 실재고, 예약 재고, 가용 재고를 합계와 창고별로 조회한다.
+     * 상품코드는 상품 ID로 바꾸며, 없는 상품코드는 결과에서 빠진다. 메모리 집계가 준비되기 전에는 DB에서 읽는다.
+     */
+    @DataSourcePool(PoolType.READ)
+    public List<ProductAvailabilityResponse> findAvailability(ProductAvailabilityRequest request) {
+        Set<Long> productIds = new LinkedHashSet<>();
+        if (request.productIds() != null) {
+            productIds.addAll(request.productIds());
+        }
+        if (request.productCodes() != null && !request.productCodes().isEmpty()) {
+            productIds.addAll(productRepository.findProductIdsByCodes(request.productCodes()).values());
+        }
+        productIds.remove(null);
+        if (productIds.size() > MAX_AVAILABILITY_PRODUCTS) {
+            throw new CustomException(ExceptionCode.INVALID_INPUT, "상품은 1,000개까지 조회할 수 있습니다.");
+        }
+
+        long[] ids = productIds.stream().mapToLong(Long::longValue).toArray();
+        if (productAvailabilityAggregate.isLoaded()) {
+            return productAvailabilityAggregate.find(ids);
+        }
+
+        ProductStockTable table = new ProductStockTable(ids.length);
+        for (StockRow row : warehouseStockJdbcRepository.findStocksByProducts(productIds)) {
+            table.put(row.warehouseId(), row.productId(), row.quantity(), row.reservedQuantity());
+        }
+        List<ProductAvailabilityResponse> responses = new ArrayList<>(ids.length);
+        for (long productId : ids) {
+            responses.add(ProductAvailabilityResponse.from(productId, table.get(productId)));
+        }
+        return responses;
+    }
 }
@@ -0,0 +1,18 @@
+package inventory.warehouse.service.event;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 한 창고의 재고 행이 바뀌었음을 알린다. 값 대신 키만 담고, 구독자에게 보낼 때 커밋된 값을 다시 읽는다.
+ */
+public record StockChangedEvent(Long warehouseId, List<Long> productIds) {
+
+    public StockChangedEvent {
+        productIds = List.copyOf(productIds);
+    }
+
+    public static StockChangedEvent of(Long warehouseId, Collection<Long> productIds) {
+        return new StockChangedEvent(warehouseId, List.copyOf(productIds));
+    }
+}
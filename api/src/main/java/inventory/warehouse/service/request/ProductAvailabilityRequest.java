@@ -0,0 +1,17 @@
+package inventory.warehouse.service.request;
+
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 가용 재고를 조회할 상품. 상품 ID와 상품코드를 섞어 보낼 수 있으며 합쳐서 {@code 1,000}개까지 조회한다.
+ */
+public record ProductAvailabilityRequest(
+        @Size(max = 1000, message = "상품 ID는 1,000개까지 조회할 수 있습니다")
+        List<Long> productIds,
+
+        @Size(max = 1000, message = "상품코드는 1,000개까지 조회할 수 있습니다")
+        List<String> productCodes
+) {
+}
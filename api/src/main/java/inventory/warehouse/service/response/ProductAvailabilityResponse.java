@@ -0,0 +1,35 @@
+package inventory.warehouse.service.response;
+
+import inventory.warehouse.service.util.ProductStockTable.ProductStocks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record ProductAvailabilityResponse(
+        Long productId,
+        int quantity,
+        int reservedQuantity,
+        int availableQuantity,
+        List<WarehouseAvailabilityResponse> warehouses
+) {
+    /**
+     * @param stocks 상품의 창고별 재고. 재고가 없는 상품이면 null
+     */
+    public static ProductAvailabilityResponse from(long productId, ProductStocks stocks) {
+        if (stocks == null) {
+            return new ProductAvailabilityResponse(productId, 0, 0, 0, List.of());
+        }
+
+        List<WarehouseAvailabilityResponse> warehouses = new ArrayList<>(stocks.warehouseIds().length);
+        for (int i = 0; i < stocks.warehouseIds().length; i++) {
+            int quantity = stocks.quantities()[i];
+            int reserved = stocks.reservedQuantities()[i];
+            warehouses.add(new WarehouseAvailabilityResponse(
+                    stocks.warehouseIds()[i], quantity, reserved, quantity - reserved));
+        }
+
+        int quantity = stocks.totalQuantity();
+        int reserved = stocks.totalReservedQuantity();
+        return new ProductAvailabilityResponse(productId, quantity, reserved, quantity - reserved, warehouses);
+    }
+}
@@ -0,0 +1,26 @@
+package inventory.warehouse.service.response;
+
+import inventory.warehouse.repository.WarehouseStockJdbcRepository.StockRow;
+
+public record StockChangeResponse(
+        Long warehouseId,
+        Long productId,
+        int quantity,
+        int reservedQuantity,
+        int availableQuantity,
+        int safetyStock,
+        boolean isBelowSafetyStock
+) {
+    public static StockChangeResponse from(StockRow row) {
+        int available = row.quantity() - row.reservedQuantity();
+        return new StockChangeResponse(
+                row.warehouseId(),
+                row.productId(),
+                row.quantity(),
+                row.reservedQuantity(),
+                available,
+                row.safetyStock(),
+                available < row.safetyStock()
+        );
+    }
+}
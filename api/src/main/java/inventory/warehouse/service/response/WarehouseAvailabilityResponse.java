@@ -0,0 +1,9 @@
+package inventory.warehouse.service.response;
+
+public record WarehouseAvailabilityResponse(
+        Long warehouseId,
+        int quantity,
+        int reservedQuantity,
+        int availableQuantity
+) {
+}
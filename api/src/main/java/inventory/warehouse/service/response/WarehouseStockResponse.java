@@ -15,6 +15,7 @@ public record WarehouseStockResponse(
         String productCode,
         int quantity,
         int safetyStock,
+        int reorderPoint,
         boolean isBelowSafetyStock,
         LocalDateTime modifiedAt
 ) {
@@ -28,6 +29,7 @@ public record WarehouseStockResponse(
                 product.getProductCode(),
                 warehouseStock.getQuantity(),
                 warehouseStock.getSafetyStock(),
+                warehouseStock.getReorderPoint(),
                 warehouseStock.isBelowSafetyStock(),
                 warehouseStock.getModifiedAt()
         );
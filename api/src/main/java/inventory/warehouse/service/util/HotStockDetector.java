@@ -0,0 +1,83 @@
+package inventory.warehouse.service.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 재고별 예약 빈도로 버킷으로 나눌 재고와 다시 합칠 재고를 고른다.
+ * <p>
+ * 예약 수는 판정 구간마다 새로 센다. 한 구간에 {@code splitThreshold}번 이상 예약된 재고는 나누고, 나뉜 재고가
+ * {@code mergeAfter} 구간 연속으로 {@code mergeThreshold}번 미만이면 합친다. 두 기준 사이에서는 지금 상태를 유지해
+ * 경계 근처의 재고가 나눔과 합침을 오가지 않게 한다.
+ * {@link #record}는 여러 스레드에서 불러도 되지만 {@link #evaluate}는 한 스레드에서만 부른다.
+ */
+public class HotStockDetector {
+
+    private final int splitThreshold;
+    private final int mergeThreshold;
+    private final int mergeAfter;
+    private final ConcurrentMap<StockKey, LongAdder> counts = new ConcurrentHashMap<>();
+    private final Map<StockKey, Integer> coldStreaks = new HashMap<>();
+
+    public HotStockDetector(int splitThreshold, int mergeThreshold, int mergeAfter) {
+        if (mergeThreshold < 0 || splitThreshold <= mergeThreshold || mergeAfter <= 0) {
+            throw new IllegalArgumentException("핫 재고 판정 설정이 올바르지 않습니다.");
+        }
+        this.splitThreshold = splitThreshold;
+        this.mergeThreshold = mergeThreshold;
+        this.mergeAfter = mergeAfter;
+    }
+
+    public void record(long warehouseId, long productId) {
+        counts.computeIfAbsent(new StockKey(warehouseId, productId), key -> new LongAdder()).increment();
+    }
+
+    /**
+     * 지난 구간의 예약 수로 판정하고 새 구간을 시작한다.
+     *
+     * @param split 지금 버킷으로 나뉘어 있는 재고
+     */
+    public Decision evaluate(Set<StockKey> split) {
+        // 꺼내는 사이에 들어온 예약 몇 건은 빠질 수 있지만 판정에는 지장이 없다
+        Map<StockKey, Long> window = new HashMap<>();
+        for (StockKey key : counts.keySet()) {
+            LongAdder count = counts.remove(key);
+            if (count != null) {
+                window.put(key, count.sum());
+            }
+        }
+
+        List<StockKey> toSplit = new ArrayList<>();
+        window.forEach((key, count) -> {
+            if (count >= splitThreshold && !split.contains(key)) {
+                toSplit.add(key);
+            }
+        });
+
+        List<StockKey> toMerge = new ArrayList<>();
+        coldStreaks.keySet().retainAll(split);
+        for (StockKey key : split) {
+            if (window.getOrDefault(key, 0L) >= mergeThreshold) {
+                coldStreaks.remove(key);
+                continue;
+            }
+            if (coldStreaks.merge(key, 1, Integer::sum) >= mergeAfter) {
+                coldStreaks.remove(key);
+                toMerge.add(key);
+            }
+        }
+        return new Decision(toSplit, toMerge);
+    }
+
+    public record StockKey(long warehouseId, long productId) {
+    }
+
+    public record Decision(List<StockKey> toSplit, List<StockKey> toMerge) {
+    }
+}
@@ -0,0 +1,159 @@
+package inventory.warehouse.service.util;
+
+import java.util.Arrays;
+
+/**
+ * 상품 ID별로 창고별 실재고와 예약 재고를 담는 표.
+ * <p>
+ * 상품 ID를 {@code long} 배열에 그대로 두는 개방 주소법 해시로 찾으므로 조회할 때 {@link Long}을 만들지 않는다.
+ * 상품마다의 창고별 재고는 바꾸지 않고 새 배열로 교체한다. 상품 ID는 1 이상이어야 하며, 스레드 안전하지 않으므로 호출하는 쪽에서 동기화한다.
+ */
+public class ProductStockTable {
+
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private ProductStocks[] values;
+    private int size;
+
+    public ProductStockTable(int expectedProducts) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedProducts) * 2 - 1) << 1;
+        this.keys = new long[capacity];
+        this.values = new ProductStocks[capacity];
+    }
+
+    /**
+     * 상품의 창고별 재고를 반환한다. 한 번도 들어온 적 없는 상품이면 null
+     */
+    public ProductStocks get(long productId) {
+        int slot = slot(productId);
+        return keys[slot] == productId ? values[slot] : null;
+    }
+
+    public void put(long warehouseId, long productId, int quantity, int reservedQuantity) {
+        if (productId <= EMPTY) {
+            throw new IllegalArgumentException("상품 ID는 1 이상이어야 합니다.");
+        }
+
+        int slot = slot(productId);
+        if (keys[slot] == productId) {
+            values[slot] = values[slot].with(warehouseId, quantity, reservedQuantity);
+            return;
+        }
+
+        keys[slot] = productId;
+        values[slot] = ProductStocks.EMPTY.with(warehouseId, quantity, reservedQuantity);
+        if (++size * 2 > keys.length) {
+            grow();
+        }
+    }
+
+    /**
+     * 창고에서 상품 재고 행이 사라졌을 때 그 창고를 뺀다. 상품 칸은 빈 재고로 남는다.
+     */
+    public void remove(long warehouseId, long productId) {
+        int slot = slot(productId);
+        if (keys[slot] == productId) {
+            values[slot] = values[slot].without(warehouseId);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 찾는 상품이 있는 칸이나, 없으면 들어갈 빈 칸을 반환한다
+    private int slot(long productId) {
+        int mask = keys.length - 1;
+        int slot = hash(productId) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != productId) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        ProductStocks[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new ProductStocks[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * 한 상품의 창고별 재고. 세 배열은 같은 순서로 짝을 이룬다.
+     */
+    public record ProductStocks(long[] warehouseIds, int[] quantities, int[] reservedQuantities) {
+
+        static final ProductStocks EMPTY = new ProductStocks(new long[0], new int[0], new int[0]);
+
+        public int totalQuantity() {
+            return Arrays.stream(quantities).sum();
+        }
+
+        public int totalReservedQuantity() {
+            return Arrays.stream(reservedQuantities).sum();
+        }
+
+        ProductStocks with(long warehouseId, int quantity, int reservedQuantity) {
+            int index = indexOf(warehouseId);
+            if (index >= 0) {
+                int[] newQuantities = quantities.clone();
+                int[] newReserved = reservedQuantities.clone();
+                newQuantities[index] = quantity;
+                newReserved[index] = reservedQuantity;
+                return new ProductStocks(warehouseIds, newQuantities, newReserved);
+            }
+
+            int length = warehouseIds.length;
+            long[] newWarehouseIds = Arrays.copyOf(warehouseIds, length + 1);
+            int[] newQuantities = Arrays.copyOf(quantities, length + 1);
+            int[] newReserved = Arrays.copyOf(reservedQuantities, length + 1);
+            newWarehouseIds[length] = warehouseId;
+            newQuantities[length] = quantity;
+            newReserved[length] = reservedQuantity;
+            return new ProductStocks(newWarehouseIds, newQuantities, newReserved);
+        }
+
+        ProductStocks without(long warehouseId) {
+            int index = indexOf(warehouseId);
+            if (index < 0) {
+                return this;
+            }
+
+            int length = warehouseIds.length;
+            long[] newWarehouseIds = new long[length - 1];
+            int[] newQuantities = new int[length - 1];
+            int[] newReserved = new int[length - 1];
+            for (int from = 0, to = 0; from < length; from++) {
+                if (from != index) {
+                    newWarehouseIds[to] = warehouseIds[from];
+                    newQuantities[to] = quantities[from];
+                    newReserved[to] = reservedQuantities[from];
+                    to++;
+                }
+            }
+            return new ProductStocks(newWarehouseIds, newQuantities, newReserved);
+        }
+
+        private int indexOf(long warehouseId) {
+            for (int i = 0; i < warehouseIds.length; i++) {
+                if (warehouseIds[i] == warehouseId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package inventory.warehouse.service.util;
+
+import inventory.warehouse.service.response.StockChangeResponse;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 구독자 한 명에게 보낼 재고 변경을 모아 두는 버퍼.
+ * <p>
+ * 같은 재고의 변경은 마지막 값 하나로 합치므로 소비자가 느려도 재고 종류 수 이상으로 쌓이지 않는다.
+ * 그래도 {@code capacity}를 넘으면 모아 둔 변경을 버리고 넘침 표시만 남겨, 소비자가 목록을 다시 조회하게 한다.
+ * 가상 스레드에서 기다리므로 {@code synchronized} 대신 {@link ReentrantLock}을 쓴다.
+ */
+public class StockChangeBuffer {
+
+    private final int capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
+    private Map<StockKey, StockChangeResponse> pending = new LinkedHashMap<>();
+    private boolean overflowed;
+    private boolean closed;
+
+    public StockChangeBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("버퍼 크기는 0보다 커야 합니다.");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * 변경을 넣는다. 버퍼가 넘치면 false를 반환한다.
+     */
+    public boolean offer(List<StockChangeResponse> changes) {
+        lock.lock();
+        try {
+            if (closed) {
+                return true;
+            }
+            boolean accepted = true;
+            for (StockChangeResponse change : changes) {
+                StockKey key = new StockKey(change.warehouseId(), change.productId());
+                // 최근에 바뀐 재고가 뒤에 오도록 지우고 다시 넣는다
+                pending.remove(key);
+                pending.put(key, change);
+                if (pending.size() > capacity) {
+                    pending.clear();
+                    overflowed = true;
+                    accepted = false;
+                }
+            }
+            changed.signal();
+            return accepted;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 변경이 생길 때까지 최대 {@code timeoutMillis} 기다렸다가 모인 것을 꺼낸다.
+     * 시간이 다 되면 빈 묶음을, 버퍼가 닫혔으면 null을 반환한다.
+     */
+    public Batch take(long timeoutMillis) throws InterruptedException {
+        lock.lock();
+        try {
+            long remaining = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            while (!closed && pending.isEmpty() && !overflowed && remaining > 0) {
+                remaining = changed.awaitNanos(remaining);
+            }
+            if (closed) {
+                return null;
+            }
+
+            Batch batch = new Batch(new ArrayList<>(pending.values()), overflowed);
+            pending = new LinkedHashMap<>();
+            overflowed = false;
+            return batch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            pending.clear();
+            changed.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public record Batch(List<StockChangeResponse> changes, boolean overflowed) {
+
+        public boolean isEmpty() {
+            return changes.isEmpty() && !overflowed;
+        }
+    }
+
+    private record StockKey(Long warehouseId, Long productId) {
+    }
+}
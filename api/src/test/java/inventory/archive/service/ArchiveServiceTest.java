@@ -0,0 +1,231 @@
+package inventory.archive.service;
+
+import inventory.common.export.ExportFormat;
+import inventory.inbound.domain.Inbound;
+import inventory.inbound.domain.enums.InboundStatus;
+import inventory.inbound.repository.InboundRepository;
+import inventory.outbound.domain.Outbound;
+import inventory.outbound.domain.OutboundProduct;
+import inventory.outbound.domain.enums.OutboundStatus;
+import inventory.outbound.repository.OutboundProductRepository;
+import inventory.outbound.repository.OutboundRepository;
+import inventory.outbound.service.OutboundExportService;
+import inventory.outbound.service.OutboundService;
+import inventory.outbound.service.response.OutboundSummaryResponse;
+import inventory.warehouse.domain.Warehouse;
+import inventory.warehouse.repository.WarehouseRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@Transactional
+@SpringBootTest
+class ArchiveServiceTest {
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    @Autowired
+    private ArchivePolicy archivePolicy;
+
+    @Autowired
+    private OutboundService outboundService;
+
+    @Autowired
+    private OutboundExportService outboundExportService;
+
+    @Autowired
+    private OutboundRepository outboundRepository;
+
+    @Autowired
+    private OutboundProductRepository outboundProductRepository;
+
+    @Autowired
+    private InboundRepository inboundRepository;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Warehouse warehouse;
+
+    @BeforeEach
+    void setUp() {
+        warehouse = warehouseRepository.save(Warehouse.builder()
+                .name("아카이브 테스트 창고")
+                .postcode("12345")
+                .baseAddress("서울시 어딘가")
+                .detailAddress("상세주소")
+                .managerName("관리자")
+                .managerContact("01012345678")
+                .build());
+    }
+
+    private Outbound createOutbound(LocalDate requestedDate, OutboundStatus status) {
+        Outbound outbound = outboundRepository.save(Outbound.builder()
+                .warehouseId(warehouse.getWarehouseId())
+                .recipientName("수령인")
+                .requestedDate(requestedDate)
+                .outboundStatus(status)
+                .build());
+        outboundProductRepository.save(OutboundProduct.builder()
+                .outboundId(outbound.getOutboundId())
+                .productId(1L)
+                .requestedQuantity(3)
+                .build());
+        return outbound;
+    }
+
+    private void makeOld(String table, String idColumn, Long id) {
+        jdbcTemplate.update("UPDATE " + table + " SET modified_at = ? WHERE " + idColumn + " = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(400)), id);
+    }
+
+    @DisplayName("보관 기간이 지난 종료 출고만 아카이브로 옮겨진다")
+    @Test
+    void archiveOutbounds() {
+        // given
+        Outbound oldShipped = createOutbound(LocalDate.now().minusDays(400), OutboundStatus.SHIPPED);
+        Outbound oldOrdered = createOutbound(LocalDate.now().minusDays(400), OutboundStatus.ORDERED);
+        Outbound recentCanceled = createOutbound(LocalDate.now(), OutboundStatus.CANCELED);
+        makeOld("outbound", "outbound_id", oldShipped.getOutboundId());
+        makeOld("outbound", "outbound_id", oldOrdered.getOutboundId());
+
+        // when
+        int archived = archiveService.archiveOutbounds(archivePolicy.cutoff());
+        entityManager.clear();
+
+        // then
+        assertThat(archived).isEqualTo(1);
+        assertThat(outboundRepository.findById(oldShipped.getOutboundId())).isEmpty();
+        assertThat(outboundProductRepository.findByOutboundId(oldShipped.getOutboundId())).isEmpty();
+        assertThat(outboundRepository.findById(oldOrdered.getOutboundId())).isPresent();
+        assertThat(outboundRepository.findById(recentCanceled.getOutboundId())).isPresent();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbound_product_archive WHERE outbound_id = ?",
+                Long.class, oldShipped.getOutboundId())).isEqualTo(1L);
+    }
+
+    @DisplayName("오래전에 종료되었어도 요청일이 기준일 이후인 출고는 옮기지 않아 최근 기간 검색에 남는다")
+    @Test
+    void keepClosedOutboundWithRecentRequestedDate() {
+        // given
+        Outbound futureCanceled = createOutbound(LocalDate.now().plusDays(30), OutboundStatus.CANCELED);
+        makeOld("outbound", "outbound_id", futureCanceled.getOutboundId());
+
+        // when
+        int archived = archiveService.archiveOutbounds(archivePolicy.cutoff());
+        entityManager.clear();
+
+        // then
+        assertThat(archived).isZero();
+        assertThat(outboundService.searchOutbounds(
+                null, warehouse.getWarehouseId(), null, LocalDate.now(), LocalDate.now().plusDays(60),
+                PageRequest.of(0, 10)).getContent())
+                .extracting("outboundId")
+                .containsExactly(futureCanceled.getOutboundId());
+    }
+
+    @DisplayName("보관 기간 이전을 포함한 검색은 운영 테이블 결과 뒤에 아카이브 결과를 이어서 페이지를 만든다")
+    @Test
+    void searchIncludesArchiveWhenRangeRequiresIt() {
+        // given
+        Outbound oldShipped = createOutbound(LocalDate.now().minusDays(400), OutboundStatus.SHIPPED);
+        Outbound hot = createOutbound(LocalDate.now().minusDays(1), OutboundStatus.ORDERED);
+        makeOld("outbound", "outbound_id", oldShipped.getOutboundId());
+        archiveService.archiveOutbounds(archivePolicy.cutoff());
+        entityManager.clear();
+
+        LocalDate startDate = LocalDate.now().minusDays(500);
+
+        // when
+        Page<OutboundSummaryResponse> firstPage = outboundService.searchOutbounds(
+                null, warehouse.getWarehouseId(), null, startDate, LocalDate.now(), PageRequest.of(0, 1));
+        Page<OutboundSummaryResponse> secondPage = outboundService.searchOutbounds(
+                null, warehouse.getWarehouseId(), null, startDate, LocalDate.now(), PageRequest.of(1, 1));
+        Page<OutboundSummaryResponse> recentOnly = outboundService.searchOutbounds(
+                null, warehouse.getWarehouseId(), null, LocalDate.now().minusDays(7), LocalDate.now(),
+                PageRequest.of(0, 10));
+
+        // then
+        assertThat(firstPage.getTotalElements()).isEqualTo(2);
+        assertThat(firstPage.getContent()).extracting("outboundId").containsExactly(hot.getOutboundId());
+        assertThat(secondPage.getContent()).extracting("outboundId").containsExactly(oldShipped.getOutboundId());
+        assertThat(recentOnly.getContent()).extracting("outboundId").containsExactly(hot.getOutboundId());
+    }
+
+    @DisplayName("보관 기간 이전을 포함한 내보내기는 운영 테이블 뒤에 아카이브된 출고까지 이어서 기록한다")
+    @Test
+    void exportIncludesArchiveWhenRangeRequiresIt() {
+        // given
+        Outbound oldShipped = createOutbound(LocalDate.now().minusDays(400), OutboundStatus.SHIPPED);
+        Outbound hot = createOutbound(LocalDate.now().minusDays(1), OutboundStatus.ORDERED);
+        makeOld("outbound", "outbound_id", oldShipped.getOutboundId());
+        archiveService.archiveOutbounds(archivePolicy.cutoff());
+        entityManager.clear();
+
+        ByteArrayOutputStream withArchive = new ByteArrayOutputStream();
+        ByteArrayOutputStream recentOnly = new ByteArrayOutputStream();
+
+        // when
+        long withArchiveCount = outboundExportService.exportOutbounds(null, warehouse.getWarehouseId(), null,
+                LocalDate.now().minusDays(500), LocalDate.now(), ExportFormat.NDJSON, withArchive);
+        long recentOnlyCount = outboundExportService.exportOutbounds(null, warehouse.getWarehouseId(), null,
+                LocalDate.now().minusDays(7), LocalDate.now(), ExportFormat.NDJSON, recentOnly);
+
+        // then
+        String[] lines = withArchive.toString(StandardCharsets.UTF_8).strip().split("\n");
+        assertThat(withArchiveCount).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"outboundId\":" + hot.getOutboundId() + ",");
+        assertThat(lines[1]).contains("\"outboundId\":" + oldShipped.getOutboundId() + ",");
+        assertThat(recentOnlyCount).isEqualTo(1);
+        assertThat(recentOnly.toString(StandardCharsets.UTF_8))
+                .doesNotContain("\"outboundId\":" + oldShipped.getOutboundId() + ",");
+    }
+
+    @DisplayName("삭제된 입고는 상태와 관계없이 삭제 후 보관 기간이 지나면 아카이브된다")
+    @Test
+    void archiveDeletedInbounds() {
+        // given
+        Inbound deleted = inboundRepository.save(Inbound.builder()
+                .warehouseId(warehouse.getWarehouseId())
+                .supplierId(1L)
+                .expectedDate(LocalDate.now().minusDays(400))
+                .status(InboundStatus.REGISTERED)
+                .build());
+        jdbcTemplate.update("UPDATE inbound SET deleted = true, deleted_at = ? WHERE inbound_id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(400)), deleted.getInboundId());
+
+        // when
+        int archived = archiveService.archiveInbounds(archivePolicy.cutoff());
+
+        // then
+        assertThat(archived).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM inbound WHERE inbound_id = ?", Long.class, deleted.getInboundId()))
+                .isZero();
+    }
+}
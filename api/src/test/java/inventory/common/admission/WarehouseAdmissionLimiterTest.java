@@ -0,0 +1,176 @@
+package inventory.common.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WarehouseAdmissionLimiterTest {
+
+    private static final long TARGET_LATENCY_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @DisplayName("한 창고가 한도를 모두 쓰면 그 창고 요청만 거절되고 다른 창고 요청은 받는다")
+    @Test
+    void isolateWarehouses() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        WarehouseAdmissionLimiter limiter = new WarehouseAdmissionLimiter(registry, true, 2, 1, 10, 500, 0.9, 3);
+        limiter.acquire(1L);
+        limiter.acquire(1L);
+
+        // when & then
+        assertThatThrownBy(() -> limiter.acquire(1L))
+                .isInstanceOf(AdmissionRejectedException.class)
+                .extracting("retryAfterSeconds")
+                .isEqualTo(3L);
+        assertThat(limiter.acquire(2L).getInFlight()).isEqualTo(1);
+        assertThat(registry.get("admission.rejected").tag("warehouseId", "1").counter().count()).isEqualTo(1);
+        assertThat(registry.get("admission.inflight").tag("warehouseId", "1").gauge().value()).isEqualTo(2);
+    }
+
+    @DisplayName("목표 지연을 넘기면 한도를 비율로 줄이고, 바쁠 때 한도만큼의 요청이 목표 안에 끝나면 1 늘린다")
+    @Test
+    void adjustLimit() {
+        // given
+        AdaptiveLimiter limiter = new AdaptiveLimiter(10, 2, 20, TARGET_LATENCY_NANOS, 0.5);
+
+        // when
+        limiter.tryAcquire();
+        limiter.onSuccess(TARGET_LATENCY_NANOS + 1);
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(5);
+
+        // when: 한도를 꽉 채운 채로 네 건이 끝난다
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire();
+        }
+        for (int i = 0; i < 4; i++) {
+            limiter.onSuccess(1);
+            limiter.tryAcquire();
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(5);
+
+        // when: 다섯 번째가 끝나 한 창을 채운다
+        limiter.onSuccess(1);
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(6);
+
+        // when
+        limiter.onDropped();
+        limiter.onDropped();
+        limiter.onDropped();
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @DisplayName("한도를 줄이면 그 전까지 모은 성공은 버리고 줄어든 한도만큼 새로 모아야 늘린다")
+    @Test
+    void resetWindowOnDecrease() {
+        // given: 한도 4에서 세 건이 목표 안에 끝난 뒤 한 건이 목표를 넘긴다
+        AdaptiveLimiter limiter = new AdaptiveLimiter(4, 1, 20, TARGET_LATENCY_NANOS, 0.5);
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire();
+        }
+        for (int i = 0; i < 3; i++) {
+            limiter.onSuccess(1);
+            limiter.tryAcquire();
+        }
+        limiter.onSuccess(TARGET_LATENCY_NANOS + 1);
+
+        // when
+        limiter.onSuccess(1);
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(2);
+
+        // when: 줄어든 한도 2를 채우는 두 번째 성공
+        limiter.onSuccess(1);
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    @DisplayName("한가한 창고는 요청이 목표 지연 안에 끝나도 한도를 늘리지 않는다")
+    @Test
+    void keepLimitWhenIdle() {
+        // given
+        AdaptiveLimiter limiter = new AdaptiveLimiter(10, 2, 20, TARGET_LATENCY_NANOS, 0.9);
+
+        // when
+        limiter.tryAcquire();
+        limiter.onSuccess(1);
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @DisplayName("몰린 창고는 한도를 넘는 요청이 거절되어 공유 커넥션 풀을 한도 이상 차지하지 못하고, 다른 창고는 거절도 대기도 없다")
+    @Test
+    void hotWarehouseDoesNotStarveOthers() throws Exception {
+        // given: 커넥션 8개 중 몰린 창고는 한도 4까지만 쓸 수 있다
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        WarehouseAdmissionLimiter limiter = new WarehouseAdmissionLimiter(registry, true, 4, 1, 4, 1_000, 0.9, 1);
+        Semaphore connectionPool = new Semaphore(8, true);
+        AtomicInteger hotConnections = new AtomicInteger();
+        AtomicInteger maxHotConnections = new AtomicInteger();
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService hotClients = Executors.newFixedThreadPool(32);
+        for (int i = 0; i < 32; i++) {
+            hotClients.submit(() -> {
+                while (running.get()) {
+                    try {
+                        AdaptiveLimiter admitted = limiter.acquire(1L);
+                        connectionPool.acquire();
+                        maxHotConnections.accumulateAndGet(hotConnections.incrementAndGet(), Math::max);
+                        try {
+                            Thread.sleep(20);
+                        } finally {
+                            hotConnections.decrementAndGet();
+                            connectionPool.release();
+                            admitted.onSuccess(1);
+                        }
+                    } catch (AdmissionRejectedException e) {
+                        Thread.sleep(1);
+                    }
+                }
+                return null;
+            });
+        }
+        Thread.sleep(100);
+
+        // when: 다른 창고 요청은 커넥션을 기다리지 않고 바로 얻어야 한다
+        int waited = 0;
+        for (int i = 0; i < 100; i++) {
+            AdaptiveLimiter admitted = limiter.acquire(2L);
+            if (connectionPool.tryAcquire()) {
+                connectionPool.release();
+            } else {
+                waited++;
+            }
+            admitted.onSuccess(1);
+        }
+        running.set(false);
+        hotClients.shutdown();
+        hotClients.awaitTermination(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(waited).isZero();
+        assertThat(maxHotConnections.get()).isLessThanOrEqualTo(4);
+        assertThat(registry.get("admission.rejected").tag("warehouseId", "1").counter().count()).isPositive();
+        assertThat(registry.find("admission.rejected").tag("warehouseId", "2").counter()).isNull();
+    }
+}
@@ -0,0 +1,169 @@
+package inventory.common.cache;
+
+import inventory.product.domain.Product;
+import inventory.product.repository.ProductJdbcRepository;
+import inventory.product.repository.ProductJdbcRepository.ProductRow;
+import inventory.product.repository.ProductRepository;
+import inventory.supplier.domain.Supplier;
+import inventory.supplier.repository.SupplierRepository;
+import inventory.warehouse.domain.Warehouse;
+import inventory.warehouse.repository.WarehouseRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2차 캐시는 커밋된 데이터만 담으므로 테스트 트랜잭션 없이 실제로 커밋하고, 끝나면 직접 지운다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+class SecondLevelCacheTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductJdbcRepository productJdbcRepository;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private SupplierRepository supplierRepository;
+
+    @Autowired
+    private SecondLevelCacheEvictor secondLevelCacheEvictor;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+    private Product product;
+    private Warehouse warehouse;
+    private Supplier supplier;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        supplier = supplierRepository.save(Supplier.builder()
+                .name("캐시 공급업체")
+                .businessRegistrationNumber("777-77-77777")
+                .postcode("12345")
+                .baseAddress("서울시 어딘가")
+                .detailAddress("상세주소")
+                .ceoName("대표")
+                .managerName("매니저")
+                .managerContact("01012345678")
+                .build());
+        warehouse = warehouseRepository.save(Warehouse.builder()
+                .name("캐시 창고")
+                .postcode("12345")
+                .baseAddress("서울시 어딘가")
+                .detailAddress("상세주소")
+                .managerName("관리자")
+                .managerContact("01012345678")
+                .build());
+        product = productRepository.save(Product.builder()
+                .supplierId(supplier.getSupplierId()).productName("캐시 상품").productCode("CACHE001").unit("개").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM product WHERE product_id = ?", product.getProductId());
+        jdbcTemplate.update("DELETE FROM warehouse WHERE warehouse_id = ?", warehouse.getWarehouseId());
+        jdbcTemplate.update("DELETE FROM supplier WHERE supplier_id = ?", supplier.getSupplierId());
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    private void loadAll() {
+        productRepository.findById(product.getProductId());
+        productRepository.findByIds(List.of(product.getProductId()));
+        warehouseRepository.findById(warehouse.getWarehouseId());
+        supplierRepository.findById(supplier.getSupplierId());
+    }
+
+    @DisplayName("한 번 읽은 상품, 창고, 공급업체와 상품 목록 쿼리는 다시 조회할 때 DB를 거치지 않는다")
+    @Test
+    void readFromCache() {
+        // given
+        loadAll();
+        statistics.clear();
+
+        // when
+        loadAll();
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(entityManagerFactory.getCache().contains(Product.class, product.getProductId())).isTrue();
+        assertThat(entityManagerFactory.getCache().contains(Warehouse.class, warehouse.getWarehouseId())).isTrue();
+        assertThat(entityManagerFactory.getCache().contains(Supplier.class, supplier.getSupplierId())).isTrue();
+    }
+
+    @DisplayName("캐시에 올라간 뒤 소프트 삭제된 상품, 창고, 공급업체는 다시 조회되지 않는다")
+    @Test
+    void softDeletedNotServedFromCache() {
+        // given
+        loadAll();
+
+        // when
+        productRepository.deleteById(product.getProductId());
+        warehouseRepository.deleteById(warehouse.getWarehouseId());
+        supplierRepository.deleteById(supplier.getSupplierId());
+
+        // then
+        assertThat(productRepository.findById(product.getProductId())).isEmpty();
+        assertThat(productRepository.findByIds(List.of(product.getProductId()))).isEmpty();
+        assertThat(warehouseRepository.findById(warehouse.getWarehouseId())).isEmpty();
+        assertThat(supplierRepository.findById(supplier.getSupplierId())).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT deleted FROM product WHERE product_id = ?",
+                Boolean.class, product.getProductId())).isTrue();
+    }
+
+    @DisplayName("JDBC로 일괄 수정한 상품은 캐시를 비운 뒤에야 바뀐 값으로 조회된다")
+    @Test
+    void evictAfterJdbcUpdate() {
+        // given
+        loadAll();
+        ProductRow row = new ProductRow(product.getProductId(), supplier.getSupplierId(),
+                "바뀐 상품", "CACHE001", "박스", null);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> productJdbcRepository.batchUpdate(List.of(row)));
+        String staleName = productRepository.findById(product.getProductId()).orElseThrow().getProductName();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            productJdbcRepository.batchUpdate(List.of(row));
+            secondLevelCacheEvictor.evict(Product.class, List.of(product.getProductId()));
+        });
+
+        // then
+        assertThat(staleName).isEqualTo("캐시 상품");
+        assertThat(productRepository.findById(product.getProductId()).orElseThrow())
+                .extracting(Product::getProductName, Product::getUnit)
+                .containsExactly("바뀐 상품", "박스");
+        assertThat(productRepository.findByIds(List.of(product.getProductId())))
+                .extracting(Product::getProductName)
+                .containsExactly("바뀐 상품");
+    }
+}
@@ -0,0 +1,70 @@
+package inventory.common.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataSourcePoolAspectTest {
+
+    private final PoolRoutingDataSource routingDataSource = new PoolRoutingDataSource();
+
+    private Pools pools;
+
+    @BeforeEach
+    void setUp() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Pools(routingDataSource));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new DataSourcePoolAspect());
+        pools = factory.getProxy();
+    }
+
+    @DisplayName("지정이 없으면 쓰기 풀을 쓰고, 메서드에 지정한 풀이 클래스에 지정한 풀보다 우선한다")
+    @Test
+    void routeByAnnotation() {
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(PoolType.WRITE);
+        assertThat(pools.report(() -> {
+        })).isEqualTo(PoolType.REPORT);
+        assertThat(pools.read()).isEqualTo(PoolType.READ);
+    }
+
+    @DisplayName("안쪽 호출이 끝나면 바깥 메서드의 풀로 돌아가고, 메서드를 벗어나면 지정이 지워진다")
+    @Test
+    void restoreAfterNestedCall() {
+        // given
+        List<Object> inner = new ArrayList<>();
+
+        // when
+        Object outer = pools.report(() -> inner.add(pools.read()));
+
+        // then
+        assertThat(inner).containsExactly(PoolType.READ);
+        assertThat(outer).isEqualTo(PoolType.REPORT);
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(PoolType.WRITE);
+    }
+
+    @DataSourcePool(PoolType.REPORT)
+    public static class Pools {
+
+        private final PoolRoutingDataSource routingDataSource;
+
+        public Pools(PoolRoutingDataSource routingDataSource) {
+            this.routingDataSource = routingDataSource;
+        }
+
+        public Object report(Runnable inner) {
+            inner.run();
+            return routingDataSource.determineCurrentLookupKey();
+        }
+
+        @DataSourcePool(PoolType.READ)
+        public Object read() {
+            return routingDataSource.determineCurrentLookupKey();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package inventory.common.retry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeadlockRetryAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private Victim victim;
+
+    @BeforeEach
+    void setUp() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Victim());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new DeadlockRetryAspect(meterRegistry, 3, 1));
+        victim = factory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @DisplayName("잠금 실패는 최대 시도 횟수 안에서 다시 실행한다")
+    @Test
+    void retryUntilSuccess() {
+        // when
+        int attempts = victim.failTimes(2);
+
+        // then
+        assertThat(attempts).isEqualTo(3);
+        assertThat(meterRegistry.counter("deadlock.retries").count()).isEqualTo(2);
+    }
+
+    @DisplayName("최대 시도 횟수를 넘기면 마지막 예외를 그대로 던진다")
+    @Test
+    void giveUpAfterMaxAttempts() {
+        assertThatThrownBy(() -> victim.failTimes(3))
+                .isInstanceOf(CannotAcquireLockException.class);
+        assertThat(victim.attempts()).isEqualTo(3);
+    }
+
+    @DisplayName("잠금 실패가 아닌 예외나 바깥 트랜잭션 안에서의 실패는 다시 시도하지 않는다")
+    @Test
+    void noRetry() {
+        assertThatThrownBy(() -> victim.violate())
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(victim.attempts()).isEqualTo(1);
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        assertThatThrownBy(() -> victim.failTimes(5))
+                .isInstanceOf(CannotAcquireLockException.class);
+        assertThat(victim.attempts()).isEqualTo(2);
+    }
+
+    public static class Victim {
+
+        private int attempts;
+
+        @DeadlockRetry
+        public int failTimes(int failures) {
+            attempts++;
+            if (attempts <= failures) {
+                throw new CannotAcquireLockException("Deadlock found when trying to get lock");
+            }
+            return attempts;
+        }
+
+        public int attempts() {
+            return attempts;
+        }
+
+        @DeadlockRetry
+        public void violate() {
+            attempts++;
+            throw new DataIntegrityViolationException("duplicate");
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package inventory.common.warmup;
+
+import inventory.common.admission.WarehouseAdmissionLimiter;
+import inventory.outbound.service.OutboundService;
+import inventory.outbound.service.request.CreateOutboundRequest;
+import inventory.outbound.service.request.OutboundProductRequest;
+import inventory.product.domain.Product;
+import inventory.product.repository.ProductRepository;
+import inventory.warehouse.domain.Warehouse;
+import inventory.warehouse.domain.WarehouseStock;
+import inventory.warehouse.repository.WarehouseRepository;
+import inventory.warehouse.repository.WarehouseStockRepository;
+import inventory.warehouse.service.SplitStockService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 테스트 설정은 웜업을 끄므로 여기서만 켜고, 데이터를 넣은 뒤 직접 한 번 더 실행한다.
+ */
+@ActiveProfiles("test")
+@Transactional
+@SpringBootTest(properties = {
+        "warmup.enabled=true",
+        "warmup.iterations=3"
+})
+class WarmUpRunnerTest {
+
+    @Autowired
+    private WarmUpRunner warmUpRunner;
+
+    @MockitoSpyBean
+    private OutboundService outboundService;
+
+    @MockitoSpyBean
+    private SplitStockService splitStockService;
+
+    @MockitoSpyBean
+    private WarehouseAdmissionLimiter admissionLimiter;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private WarehouseStockRepository warehouseStockRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long warehouseId;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        warehouseId = warehouseRepository.save(Warehouse.builder()
+                .name("웜업 테스트 창고")
+                .postcode("12345")
+                .baseAddress("서울시 어딘가")
+                .detailAddress("상세주소")
+                .managerName("관리자")
+                .managerContact("01012345678")
+                .build()).getWarehouseId();
+        productId = productRepository.save(Product.builder()
+                .supplierId(1L).productName("웜업 상품").productCode("WARM001").unit("개").build()).getProductId();
+        warehouseStockRepository.save(WarehouseStock.builder()
+                .warehouseId(warehouseId).productId(productId).quantity(100).safetyStock(0).build());
+
+        // 최근 많이 출고된 상품으로 잡히도록 출고를 하나 등록해 둔다
+        outboundService.createOutbound(new CreateOutboundRequest(
+                warehouseId,
+                LocalDate.now().plusDays(1),
+                "수령인",
+                "01011112222",
+                "12345",
+                "서울시 어딘가",
+                "상세주소",
+                null,
+                List.of(new OutboundProductRequest(productId, 10))));
+        entityManager.flush();
+        entityManager.clear();
+        clearInvocations(outboundService, splitStockService, admissionLimiter);
+    }
+
+    private int outboundCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbound WHERE warehouse_id = ?",
+                Integer.class, warehouseId);
+    }
+
+    private int reservedQuantity() {
+        return jdbcTemplate.queryForObject(
+                "SELECT reserved_quantity FROM warehouse_stock WHERE warehouse_id = ? AND product_id = ?",
+                Integer.class, warehouseId, productId);
+    }
+
+    @DisplayName("웜업은 조회 경로만 데우고 출고를 등록하지 않아 재고, 핫 재고 판정, 창고별 처리 한도에 흔적을 남기지 않는다")
+    @Test
+    void warmUpOnlyReads() {
+        // when
+        warmUpRunner.run(new DefaultApplicationArguments());
+        entityManager.flush();
+
+        // then
+        verify(outboundService, never()).createOutbound(any());
+        verify(splitStockService, never()).reserveFromBuckets(anyLong(), anyLong(), anyInt(), anyLong());
+        verify(admissionLimiter, never()).acquire(anyLong());
+        verify(outboundService, atLeastOnce()).findById(anyLong());
+        assertThat(outboundCount()).isEqualTo(1);
+        assertThat(reservedQuantity()).isEqualTo(10);
+        assertThat(meterRegistry.get("warmup.step.first").tag("step", "outbound-detail").timeGauge()).isNotNull();
+        assertThat(meterRegistry.get("warmup.step.first").tag("step", "stock-lookup").timeGauge()).isNotNull();
+    }
+}
@@ -0,0 +1,124 @@
+package inventory.idempotency.service;
+
+import inventory.common.exception.CustomException;
+import inventory.common.exception.ExceptionCode;
+import inventory.idempotency.service.response.StoredResponse;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("test")
+@Transactional
+@SpringBootTest
+class IdempotencyServiceTest {
+
+    private static final byte[] BODY = "{\"outboundId\":1}".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @DisplayName("처리가 끝난 키로 같은 요청이 다시 오면 첫 응답을 돌려준다")
+    @Test
+    void replayCompletedResponse() {
+        // given
+        String key = UUID.randomUUID().toString();
+        assertThat(idempotencyService.acquire(key, "hash")).isEmpty();
+        idempotencyService.complete(key, "hash", 201, "application/json", BODY);
+
+        // when
+        Optional<StoredResponse> replayed = idempotencyService.acquire(key, "hash");
+
+        // then
+        assertThat(replayed).isPresent();
+        assertThat(replayed.get().status()).isEqualTo(201);
+        assertThat(replayed.get().body()).isEqualTo(BODY);
+    }
+
+    @DisplayName("같은 키를 다른 요청에 쓰면 거절한다")
+    @Test
+    void rejectReusedKey() {
+        // given
+        String key = UUID.randomUUID().toString();
+        idempotencyService.acquire(key, "hash");
+        idempotencyService.complete(key, "hash", 200, "application/json", BODY);
+
+        // when & then
+        assertThatThrownBy(() -> idempotencyService.acquire(key, "other-hash"))
+                .isInstanceOf(CustomException.class)
+                .extracting("exceptionCode")
+                .isEqualTo(ExceptionCode.IDEMPOTENCY_KEY_REUSED);
+    }
+
+    @DisplayName("처리 중인 키로 들어온 요청은 다시 실행하지 않고 먼저 온 요청의 응답을 기다린다")
+    @Test
+    void waitForInFlightRequest() throws Exception {
+        // given
+        String key = UUID.randomUUID().toString();
+        assertThat(idempotencyService.acquire(key, "hash")).isEmpty();
+
+        // when
+        CompletableFuture<Optional<StoredResponse>> duplicate =
+                CompletableFuture.supplyAsync(() -> idempotencyService.acquire(key, "hash"));
+        Thread.sleep(100);
+        assertThat(duplicate).isNotDone();
+        idempotencyService.complete(key, "hash", 201, "application/json", BODY);
+
+        // then
+        Optional<StoredResponse> response = duplicate.get(5, TimeUnit.SECONDS);
+        assertThat(response).isPresent();
+        assertThat(response.get().status()).isEqualTo(201);
+    }
+
+    @DisplayName("서버 오류 응답은 저장하지 않아 같은 키로 다시 실행할 수 있다")
+    @Test
+    void releaseOnServerError() {
+        // given
+        String key = UUID.randomUUID().toString();
+        idempotencyService.acquire(key, "hash");
+
+        // when
+        idempotencyService.complete(key, "hash", 500, "application/json", BODY);
+
+        // then
+        assertThat(idempotencyService.acquire(key, "hash")).isEmpty();
+    }
+
+    @DisplayName("요청이 많아 거절된 응답은 저장하지 않아 같은 키로 다시 보내면 실행되고 그 응답이 저장된다")
+    @Test
+    void releaseOnTooManyRequests() {
+        // given
+        String key = UUID.randomUUID().toString();
+        idempotencyService.acquire(key, "hash");
+        idempotencyService.complete(key, "hash", 429, "application/json", BODY);
+
+        // when
+        Optional<StoredResponse> retried = idempotencyService.acquire(key, "hash");
+        idempotencyService.complete(key, "hash", 201, "application/json", BODY);
+
+        // then
+        assertThat(retried).isEmpty();
+        assertThat(idempotencyService.acquire(key, "hash"))
+                .hasValueSatisfying(response -> assertThat(response.status()).isEqualTo(201));
+    }
+
+    @DisplayName("키가 비어 있거나 너무 길면 거절한다")
+    @Test
+    void rejectInvalidKey() {
+        assertThatThrownBy(() -> idempotencyService.acquire(" ", "hash"))
+                .isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> idempotencyService.acquire("k".repeat(IdempotencyService.MAX_KEY_LENGTH + 1), "hash"))
+                .isInstanceOf(CustomException.class);
+    }
+}
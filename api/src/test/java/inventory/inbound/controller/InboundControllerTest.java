@@ -3,19 +3,24 @@ package inventory.inbound.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import inventory.common.exception.GlobalExceptionHandler;
 import inventory.inbound.service.request.CreateInboundRequest;
+import inventory.inbound.service.request.DeleteInboundsRequest;
 import inventory.inbound.service.request.InboundProductRequest;
 import inventory.inbound.service.request.UpdateInboundStatusRequest;
+import inventory.inbound.service.response.InboundImportError;
+import inventory.inbound.service.response.InboundImportResponse;
 import inventory.inbound.service.response.InboundResponse;
 import inventory.inbound.service.response.InboundSummaryResponse;
 import inventory.inbound.service.response.InboundProductResponse;
 import inventory.inbound.domain.Inbound;
 import inventory.inbound.domain.enums.InboundStatus;
+import inventory.inbound.service.InboundImportService;
 import inventory.inbound.service.InboundService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -24,14 +29,18 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -50,6 +59,9 @@ class InboundControllerTest {
     @MockitoBean
     private InboundService inboundService;
 
+    @MockitoBean
+    private InboundImportService inboundImportService;
+
     @DisplayName("입고 등록을 성공하면 CREATED 상태와 입고 정보를 반환한다")
     @Test
     void createInboundWithSuccess() throws Exception {
@@ -112,6 +124,22 @@ class InboundControllerTest {
                 .andExpect(jsonPath("$.data.products[0].quantity").value(100));
     }
 
+    @DisplayName("입고 조회 시 If-None-Match가 현재 ETag와 같으면 본문을 만들지 않고 304를 반환한다")
+    @Test
+    void getInboundWithNotModified() throws Exception {
+        // given
+        Long inboundId = 1L;
+        String eTag = "\"8f1c2a\"";
+        when(inboundService.findETag(inboundId)).thenReturn(eTag);
+
+        // when & then
+        mockMvc.perform(get(BASE_URL + "/" + inboundId)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+        verify(inboundService, never()).findById(any());
+    }
+
     @DisplayName("입고 목록 조회를 성공하면 페이징된 결과를 반환한다 (QueryDSL)")
     @Test
     void searchInboundsWithSuccess() throws Exception {
@@ -180,4 +208,57 @@ class InboundControllerTest {
         mockMvc.perform(delete(BASE_URL + "/" + inboundId))
                 .andExpect(status().isNoContent());
     }
+
+    @DisplayName("입고 일괄 삭제를 성공하면 NO_CONTENT 상태를 반환한다")
+    @Test
+    void deleteInboundsWithSuccess() throws Exception {
+        // given
+        DeleteInboundsRequest request = new DeleteInboundsRequest(List.of(1L, 2L));
+
+        // when & then
+        mockMvc.perform(post(BASE_URL + "/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNoContent());
+    }
+
+    @DisplayName("삭제할 입고 ID가 비어있으면 400을 반환한다")
+    @Test
+    void deleteInboundsWithEmptyIds() throws Exception {
+        // given
+        DeleteInboundsRequest request = new DeleteInboundsRequest(List.of());
+
+        // when & then
+        mockMvc.perform(post(BASE_URL + "/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("입고 CSV 업로드를 성공하면 OK 상태와 처리 결과를 반환한다")
+    @Test
+    void importInboundsWithSuccess() throws Exception {
+        // given
+        String csv = """
+                warehouseId,supplierId,expectedDate,productCode,quantity
+                1,1,2030-01-01,P-001,10
+                1,1,2030-01-01,P-404,5
+                """;
+
+        InboundImportResponse response = new InboundImportResponse(
+                2, 1, 1, 1,
+                List.of(new InboundImportError(3, "상품을 찾을 수 없습니다. 상품코드: P-404")),
+                false
+        );
+        when(inboundImportService.importCsv(any(InputStream.class))).thenReturn(response);
+
+        // when & then
+        mockMvc.perform(post(BASE_URL + "/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.importedLines").value(1))
+                .andExpect(jsonPath("$.data.failedLines").value(1))
+                .andExpect(jsonPath("$.data.errors[0].lineNumber").value(3));
+    }
 }
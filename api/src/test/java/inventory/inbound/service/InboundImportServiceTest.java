@@ -0,0 +1,288 @@
+package inventory.inbound.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+
+import inventory.common.exception.CustomException;
+import inventory.inbound.domain.Inbound;
+import inventory.inbound.domain.InboundProduct;
+import inventory.inbound.domain.enums.InboundStatus;
+import inventory.inbound.repository.InboundJdbcRepository;
+import inventory.inbound.repository.InboundProductRepository;
+import inventory.inbound.repository.InboundRepository;
+import inventory.inbound.service.response.InboundImportResponse;
+import inventory.product.domain.Product;
+import inventory.product.repository.ProductRepository;
+import inventory.supplier.domain.Supplier;
+import inventory.supplier.repository.SupplierRepository;
+import inventory.warehouse.domain.Warehouse;
+import inventory.warehouse.repository.WarehouseRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+/**
+ * 가져오기는 청크마다 트랜잭션을 커밋하므로 테스트 트랜잭션으로 감싸지 않고 커밋된 결과를 확인한 뒤 직접 지운다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+class InboundImportServiceTest {
+
+    private static final int CHUNK_SIZE = 1_000;
+
+    @Autowired
+    private InboundImportService inboundImportService;
+
+    @MockitoSpyBean
+    private InboundJdbcRepository inboundJdbcRepository;
+
+    @Autowired
+    private InboundRepository inboundRepository;
+
+    @Autowired
+    private InboundProductRepository inboundProductRepository;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private SupplierRepository supplierRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Long> warehouseIds = new ArrayList<>();
+    private final List<Long> supplierIds = new ArrayList<>();
+    private final List<Long> productIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        for (Long warehouseId : warehouseIds) {
+            jdbcTemplate.update("DELETE FROM inbound_product WHERE inbound_id IN "
+                    + "(SELECT inbound_id FROM inbound WHERE warehouse_id = ?)", warehouseId);
+            jdbcTemplate.update("DELETE FROM inbound WHERE warehouse_id = ?", warehouseId);
+            jdbcTemplate.update("DELETE FROM warehouse WHERE warehouse_id = ?", warehouseId);
+        }
+        for (Long productId : productIds) {
+            jdbcTemplate.update("DELETE FROM product WHERE product_id = ?", productId);
+        }
+        for (Long supplierId : supplierIds) {
+            jdbcTemplate.update("DELETE FROM supplier WHERE supplier_id = ?", supplierId);
+        }
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    private Warehouse createTestWarehouse() {
+        Warehouse warehouse = Warehouse.builder()
+                .name("테스트 창고")
+                .postcode("12345")
+                .baseAddress("서울시 어딘가")
+                .detailAddress("상세주소")
+                .managerName("관리자")
+                .managerContact("01012345678")
+                .build();
+        Warehouse saved = warehouseRepository.save(warehouse);
+        warehouseIds.add(saved.getWarehouseId());
+        return saved;
+    }
+
+    private Supplier createTestSupplier() {
+        Supplier supplier = Supplier.builder()
+                .name("테스트 공급업체")
+                .businessRegistrationNumber("1234567890")
+                .postcode("12345")
+                .baseAddress("서울시 어딘가")
+                .detailAddress("상세주소")
+                .ceoName("대표")
+                .managerName("매니저")
+                .managerContact("01012345678")
+                .build();
+        Supplier saved = supplierRepository.save(supplier);
+        supplierIds.add(saved.getSupplierId());
+        return saved;
+    }
+
+    private Product createTestProduct(Long supplierId, String productCode) {
+        Product product = Product.builder()
+                .supplierId(supplierId)
+                .productName("상품-" + productCode)
+                .productCode(productCode)
+                .unit("개")
+                .build();
+        Product saved = productRepository.save(product);
+        productIds.add(saved.getProductId());
+        return saved;
+    }
+
+    private InputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long count(String sql, Long warehouseId) {
+        return jdbcTemplate.queryForObject(sql, Long.class, warehouseId);
+    }
+
+    @DisplayName("연속된 같은 창고/공급업체/예정일 줄은 하나의 입고로 묶여 등록되고 잘못된 줄은 줄 번호와 함께 보고된다")
+    @Test
+    void importCsvWithSuccess() {
+        // given
+        Warehouse warehouse = createTestWarehouse();
+        Supplier supplier = createTestSupplier();
+        Product product1 = createTestProduct(supplier.getSupplierId(), "IMP001");
+        Product product2 = createTestProduct(supplier.getSupplierId(), "IMP002");
+
+        Long w = warehouse.getWarehouseId();
+        Long s = supplier.getSupplierId();
+        String content = "warehouseId,supplierId,expectedDate,productCode,quantity\n"
+                + w + "," + s + ",2030-01-01,IMP001,10\n"
+                + w + "," + s + ",2030-01-01,IMP002,20\n"
+                + w + "," + s + ",2030-01-01,UNKNOWN,5\n"
+                + w + "," + s + ",2030-01-02,IMP001,0\n"
+                + w + "," + s + ",2030-01-02,IMP001,30\n"
+                + "999999," + s + ",2030-01-02,IMP001,1\n";
+
+        // when
+        InboundImportResponse response = inboundImportService.importCsv(csv(content));
+
+        // then
+        assertThat(response.totalLines()).isEqualTo(6);
+        assertThat(response.importedLines()).isEqualTo(3);
+        assertThat(response.failedLines()).isEqualTo(3);
+        assertThat(response.createdInboundCount()).isEqualTo(2);
+        assertThat(response.errorsTruncated()).isFalse();
+        assertThat(response.errors()).extracting("lineNumber").containsExactly(4L, 5L, 7L);
+
+        List<Inbound> inbounds = inboundRepository.findAll().stream()
+                .filter(inbound -> inbound.getWarehouseId().equals(w))
+                .toList();
+        assertThat(inbounds).hasSize(2);
+        assertThat(inbounds).allMatch(inbound -> inbound.getStatus() == InboundStatus.REGISTERED);
+
+        List<InboundProduct> firstLines =
+                inboundProductRepository.findInboundProductsByInboundId(inbounds.get(0).getInboundId());
+        assertThat(firstLines).extracting("productId")
+                .containsExactlyInAnyOrder(product1.getProductId(), product2.getProductId());
+    }
+
+    @DisplayName("헤더가 올바르지 않으면 예외가 발생한다")
+    @Test
+    void importCsvWithInvalidHeader() {
+        // when & then
+        assertThatThrownBy(() -> inboundImportService.importCsv(csv("a,b,c\n1,2,3\n")))
+                .isInstanceOf(CustomException.class);
+    }
+
+    @DisplayName("청크마다 커밋되므로 뒤 청크 저장이 실패해도 앞 청크에서 등록한 줄은 남고 실패한 청크의 줄만 남지 않는다")
+    @Test
+    void commitPerChunk() {
+        // given: 같은 입고로 묶이는 2,500줄 중 두 번째 청크 저장이 실패한다
+        Warehouse warehouse = createTestWarehouse();
+        Supplier supplier = createTestSupplier();
+        createTestProduct(supplier.getSupplierId(), "CHUNK001");
+
+        StringBuilder content = new StringBuilder("warehouseId,supplierId,expectedDate,productCode,quantity\n");
+        for (int i = 0; i < 2_500; i++) {
+            content.append(warehouse.getWarehouseId()).append(',').append(supplier.getSupplierId())
+                    .append(",2030-01-01,CHUNK001,1\n");
+        }
+        AtomicInteger batches = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (batches.incrementAndGet() == 2) {
+                throw new IllegalStateException("저장 실패");
+            }
+            return invocation.callRealMethod();
+        }).when(inboundJdbcRepository).batchInsertInboundProducts(anyList());
+
+        // when
+        assertThatThrownBy(() -> inboundImportService.importCsv(csv(content.toString())))
+                .isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(count("SELECT COUNT(*) FROM inbound WHERE warehouse_id = ?", warehouse.getWarehouseId()))
+                .isEqualTo(1);
+        assertThat(count("SELECT COUNT(*) FROM inbound_product WHERE inbound_id IN "
+                + "(SELECT inbound_id FROM inbound WHERE warehouse_id = ?)", warehouse.getWarehouseId()))
+                .isEqualTo(CHUNK_SIZE);
+    }
+
+    @DisplayName("100만 줄 파일도 한 청크씩 읽고 커밋하며 오류 목록은 상한까지만 담긴다")
+    @Test
+    void importCsvWithMillionLines() {
+        // given
+        Warehouse warehouse = createTestWarehouse();
+        Supplier supplier = createTestSupplier();
+        createTestProduct(supplier.getSupplierId(), "BULK001");
+
+        int lineCount = 1_000_000;
+        String validLine = warehouse.getWarehouseId() + "," + supplier.getSupplierId() + ",2030-01-01,BULK001,1\n";
+        String invalidLine = warehouse.getWarehouseId() + "," + supplier.getSupplierId() + ",2030-01-01,MISSING,1\n";
+        AtomicInteger produced = new AtomicInteger();
+
+        // 파일 전체를 메모리에 올리지 않도록 줄을 필요할 때마다 만들어 낸다
+        InputStream generated = new InputStream() {
+            private byte[] current = "warehouseId,supplierId,expectedDate,productCode,quantity\n"
+                    .getBytes(StandardCharsets.UTF_8);
+            private int position;
+
+            @Override
+            public int read() {
+                if (position == current.length) {
+                    if (produced.get() == lineCount) {
+                        return -1;
+                    }
+                    int line = produced.incrementAndGet();
+                    current = (line % 1_000 == 0 ? validLine : invalidLine).getBytes(StandardCharsets.UTF_8);
+                    position = 0;
+                }
+                return current[position++];
+            }
+        };
+
+        // 청크를 저장할 때마다 그때까지 읽어 들인 줄이 저장한 청크보다 얼마나 앞서 있는지 잰다
+        AtomicInteger batches = new AtomicInteger();
+        AtomicInteger maxLinesAhead = new AtomicInteger();
+        doAnswer(invocation -> {
+            int saved = batches.incrementAndGet() * CHUNK_SIZE;
+            maxLinesAhead.accumulateAndGet(produced.get() - saved, Math::max);
+            return invocation.callRealMethod();
+        }).when(inboundJdbcRepository).batchInsertInboundProducts(anyList());
+
+        // when
+        InboundImportResponse response = inboundImportService.importCsv(generated);
+
+        // then
+        assertThat(response.totalLines()).isEqualTo(lineCount);
+        assertThat(response.importedLines()).isEqualTo(1_000);
+        assertThat(response.failedLines()).isEqualTo(999_000);
+        assertThat(response.createdInboundCount()).isEqualTo(1);
+        assertThat(response.errors()).hasSize(1_000);
+        assertThat(response.errorsTruncated()).isTrue();
+
+        // 청크마다 한 번씩 저장해 커밋했고, 다음 청크를 다 읽기 전에 저장했으므로 메모리에는 한 청크와 읽기 버퍼만 남는다
+        assertThat(batches.get()).isEqualTo(lineCount / CHUNK_SIZE);
+        assertThat(maxLinesAhead.get()).isLessThan(CHUNK_SIZE);
+        assertThat(count("SELECT COUNT(*) FROM inbound_product WHERE inbound_id IN "
+                + "(SELECT inbound_id FROM inbound WHERE warehouse_id = ?)", warehouse.getWarehouseId()))
+                .isEqualTo(1_000);
+    }
+}
@@ -7,6 +7,7 @@ import inventory.common.exception.CustomException;
 import inventory.common.exception.ExceptionCode;
 import inventory.inbound.domain.Inbound;
 import inventory.inbound.domain.enums.InboundStatus;
+import inventory.inbound.repository.InboundProductRepository;
 import inventory.inbound.repository.InboundRepository;
 import inventory.inbound.service.request.CreateInboundRequest;
 import inventory.inbound.service.request.InboundProductRequest;
@@ -44,6 +45,9 @@ class InboundServiceTest {
     @Autowired
     private InboundRepository inboundRepository;
 
+    @Autowired
+    private InboundProductRepository inboundProductRepository;
+
     @Autowired
     private WarehouseRepository warehouseRepository;
 
@@ -366,6 +370,41 @@ class InboundServiceTest {
         assertThat(inbound).isNull();
     }
 
+    @DisplayName("여러 입고를 한 번에 삭제하면 입고와 입고 상품이 모두 조회되지 않는다")
+    @Test
+    void deleteByIdsWithSuccess() {
+        // given
+        Warehouse testWarehouse = createTestWarehouse("일괄 삭제 테스트 창고");
+        Supplier testSupplier = createTestSupplier("일괄 삭제 테스트 공급업체", "1234567880");
+        Product testProduct = createTestProduct(testSupplier.getSupplierId(), "일괄 삭제 테스트 상품", "PROD080");
+
+        CreateInboundRequest request = new CreateInboundRequest(
+                testWarehouse.getWarehouseId(),
+                testSupplier.getSupplierId(),
+                LocalDate.now(),
+                List.of(new InboundProductRequest(testProduct.getProductId(), 10))
+        );
+        Long inboundId1 = inboundService.save(request).inboundId();
+        Long inboundId2 = inboundService.save(request).inboundId();
+
+        // when
+        inboundService.deleteByIds(List.of(inboundId1, inboundId2));
+
+        // then
+        assertThat(inboundRepository.findById(inboundId1)).isEmpty();
+        assertThat(inboundRepository.findById(inboundId2)).isEmpty();
+        assertThat(inboundProductRepository.findInboundProductsByInboundId(inboundId1)).isEmpty();
+    }
+
+    @DisplayName("존재하지 않는 입고가 포함된 일괄 삭제 시 예외가 발생한다")
+    @Test
+    void deleteByIdsWithNotFound() {
+        // when & then
+        assertThatThrownBy(() -> inboundService.deleteByIds(List.of(999L, 1000L)))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("exceptionCode", ExceptionCode.DATA_NOT_FOUND);
+    }
+
     @DisplayName("존재하지 않는 입고 삭제 시 예외가 발생한다")
     @Test
     void deleteByIdWithNotFound() {
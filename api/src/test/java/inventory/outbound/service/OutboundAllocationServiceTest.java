@@ -0,0 +1,259 @@
+package inventory.outbound.service;
+
+import inventory.common.exception.CustomException;
+import inventory.outbound.service.request.AllocateOutboundRequest;
+import inventory.outbound.service.request.OutboundProductRequest;
+import inventory.outbound.service.response.OutboundAllocationResponse;
+import inventory.outbound.service.response.OutboundResponse;
+import inventory.outbound.service.util.StockAllocator.ProductStock;
+import inventory.product.domain.Product;
+import inventory.product.repository.ProductRepository;
+import inventory.warehouse.domain.Warehouse;
+import inventory.warehouse.domain.WarehouseStock;
+import inventory.warehouse.repository.WarehouseRepository;
+import inventory.warehouse.repository.WarehouseStockJdbcRepository;
+import inventory.warehouse.repository.WarehouseStockRepository;
+import inventory.warehouse.service.event.StockChangedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 테스트 설정은 가용 재고 색인을 꺼 두므로 여기서만 켠다. 예약된 반영과 전체 갱신은 사실상 돌지 않게 두고 테스트에서 직접 호출한다.
+ * 배정 결과는 커밋 후에 색인에 반영되므로 테스트 트랜잭션 없이 커밋하고, 끝나면 직접 지운다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "allocation.index-enabled=true",
+        "allocation.flush-millis=3600000",
+        "allocation.refresh-millis=3600000"
+})
+class OutboundAllocationServiceTest {
+
+    private static final String DELIVERY_POSTCODE = "12399";
+
+    @Autowired
+    private OutboundAllocationService outboundAllocationService;
+
+    @Autowired
+    private StockAvailabilityIndex stockAvailabilityIndex;
+
+    @MockitoSpyBean
+    private WarehouseStockJdbcRepository warehouseStockJdbcRepository;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private WarehouseStockRepository warehouseStockRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long nearWarehouseId;
+    private Long farWarehouseId;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        nearWarehouseId = saveWarehouse("가까운 배정 창고", "12345");
+        farWarehouseId = saveWarehouse("먼 배정 창고", "90000");
+        productId = productRepository.save(Product.builder()
+                .supplierId(1L).productName("배정 상품").productCode("ALLOC001").unit("개").build()).getProductId();
+        warehouseStockRepository.save(WarehouseStock.builder()
+                .warehouseId(nearWarehouseId).productId(productId).quantity(5).safetyStock(0).build());
+        warehouseStockRepository.save(WarehouseStock.builder()
+                .warehouseId(farWarehouseId).productId(productId).quantity(10).safetyStock(0).build());
+
+        stockAvailabilityIndex.refresh();
+        clearInvocations(warehouseStockJdbcRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Long warehouseId : List.of(nearWarehouseId, farWarehouseId)) {
+            jdbcTemplate.update("DELETE FROM outbound_product WHERE outbound_id IN "
+                    + "(SELECT outbound_id FROM outbound WHERE warehouse_id = ?)", warehouseId);
+            jdbcTemplate.update("DELETE FROM outbound WHERE warehouse_id = ?", warehouseId);
+            jdbcTemplate.update("DELETE FROM warehouse_stock WHERE warehouse_id = ?", warehouseId);
+            jdbcTemplate.update("DELETE FROM warehouse WHERE warehouse_id = ?", warehouseId);
+        }
+        jdbcTemplate.update("DELETE FROM product WHERE product_id = ?", productId);
+        entityManagerFactory.getCache().evictAll();
+        stockAvailabilityIndex.refresh();
+    }
+
+    private Long saveWarehouse(String name, String postcode) {
+        return warehouseRepository.save(Warehouse.builder()
+                .name(name)
+                .postcode(postcode)
+                .baseAddress("서울시 어딘가")
+                .detailAddress("상세주소")
+                .managerName("관리자")
+                .managerContact("01012345678")
+                .build()).getWarehouseId();
+    }
+
+    private AllocateOutboundRequest request(int quantity) {
+        return new AllocateOutboundRequest(
+                LocalDate.now().plusDays(1),
+                "수령인",
+                "01011112222",
+                DELIVERY_POSTCODE,
+                "서울시 어딘가",
+                "상세주소",
+                null,
+                List.of(new OutboundProductRequest(productId, quantity)));
+    }
+
+    // 재고 행을 바꾸고 같은 트랜잭션에서 변경 이벤트를 발행한다
+    private void changeStock(Long warehouseId, int quantity, boolean rollback) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE warehouse_stock SET quantity = ? WHERE warehouse_id = ? AND product_id = ?",
+                    quantity, warehouseId, productId);
+            eventPublisher.publishEvent(StockChangedEvent.of(warehouseId, List.of(productId)));
+            if (rollback) {
+                status.setRollbackOnly();
+            }
+        });
+    }
+
+    private int indexedAvailable(Long warehouseId) {
+        ProductStock stock = stockAvailabilityIndex.find(List.of(productId)).get(productId);
+        if (stock == null) {
+            return 0;
+        }
+        for (int i = 0; i < stock.warehouseIds().length; i++) {
+            if (stock.warehouseIds()[i] == warehouseId) {
+                return stock.available()[i];
+            }
+        }
+        return 0;
+    }
+
+    private int reservedQuantity(Long warehouseId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT reserved_quantity FROM warehouse_stock WHERE warehouse_id = ? AND product_id = ?",
+                Integer.class, warehouseId, productId);
+    }
+
+    private int outboundCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbound WHERE warehouse_id IN (?, ?)",
+                Integer.class, nearWarehouseId, farWarehouseId);
+    }
+
+    @DisplayName("한 창고에서 모두 보낼 수 있으면 그 창고에 출고 하나를 등록하고 재고를 예약한다")
+    @Test
+    void allocateToSingleWarehouse() {
+        // when
+        OutboundAllocationResponse response = outboundAllocationService.allocate(request(8));
+
+        // then
+        assertThat(response.split()).isFalse();
+        assertThat(response.outbounds()).extracting(OutboundResponse::warehouseId).containsExactly(farWarehouseId);
+        assertThat(reservedQuantity(farWarehouseId)).isEqualTo(8);
+        assertThat(reservedQuantity(nearWarehouseId)).isZero();
+    }
+
+    @DisplayName("한 창고로 채울 수 없으면 창고마다 출고를 나누어 등록하고 전체 수량을 예약한다")
+    @Test
+    void splitAcrossWarehouses() {
+        // when
+        OutboundAllocationResponse response = outboundAllocationService.allocate(request(14));
+
+        // then
+        assertThat(response.split()).isTrue();
+        assertThat(response.outbounds()).extracting(OutboundResponse::warehouseId)
+                .containsExactlyInAnyOrder(nearWarehouseId, farWarehouseId);
+        assertThat(reservedQuantity(nearWarehouseId) + reservedQuantity(farWarehouseId)).isEqualTo(14);
+    }
+
+    @DisplayName("모든 창고의 재고를 합쳐도 부족하면 출고를 등록하지 않는다")
+    @Test
+    void rejectWhenInsufficient() {
+        // when & then
+        assertThatThrownBy(() -> outboundAllocationService.allocate(request(16)))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining("창고 재고가 없습니다");
+        assertThat(outboundCount()).isZero();
+    }
+
+    @DisplayName("배정이 커밋되면 반영 전에도 색인에서 배정한 수량을 빼고, 반영 후에는 예약이 잡힌 재고 행 값을 따른다")
+    @Test
+    void decreaseIndexAfterAllocation() {
+        // when
+        outboundAllocationService.allocate(request(8));
+        int beforeFlush = indexedAvailable(farWarehouseId);
+        stockAvailabilityIndex.flush();
+
+        // then
+        assertThat(beforeFlush).isEqualTo(2);
+        assertThat(indexedAvailable(farWarehouseId)).isEqualTo(2);
+        assertThat(indexedAvailable(nearWarehouseId)).isEqualTo(5);
+    }
+
+    @DisplayName("커밋된 재고 변경은 전체 갱신 없이 다음 반영에서 색인에 보이고 롤백된 변경은 다시 읽지 않는다")
+    @Test
+    void applyCommittedStockChanges() {
+        // given
+        changeStock(farWarehouseId, 2, false);
+        changeStock(nearWarehouseId, 100, true);
+
+        // when
+        stockAvailabilityIndex.flush();
+
+        // then
+        assertThat(indexedAvailable(farWarehouseId)).isEqualTo(2);
+        assertThat(indexedAvailable(nearWarehouseId)).isEqualTo(5);
+        verify(warehouseStockJdbcRepository, times(1)).findAvailable(
+                argThat(productIds -> Set.copyOf(productIds).equals(Set.of(productId))));
+        assertThatThrownBy(() -> outboundAllocationService.allocate(request(8)))
+                .isInstanceOf(CustomException.class);
+    }
+
+    @DisplayName("가용 재고가 남은 창고가 없어진 상품은 반영할 때 색인에서 빠진다")
+    @Test
+    void removeSoldOutProduct() {
+        // given
+        changeStock(nearWarehouseId, 0, false);
+        changeStock(farWarehouseId, 0, false);
+
+        // when
+        stockAvailabilityIndex.flush();
+
+        // then
+        assertThat(stockAvailabilityIndex.find(List.of(productId))).isEmpty();
+    }
+}
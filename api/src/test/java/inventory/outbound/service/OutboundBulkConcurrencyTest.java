@@ -0,0 +1,171 @@
+package inventory.outbound.service;
+
+import inventory.outbound.domain.Outbound;
+import inventory.outbound.domain.OutboundProduct;
+import inventory.outbound.domain.enums.OutboundStatus;
+import inventory.outbound.repository.OutboundProductRepository;
+import inventory.outbound.repository.OutboundRepository;
+import inventory.outbound.service.response.OutboundBulkResponse;
+import inventory.product.domain.Product;
+import inventory.product.repository.ProductRepository;
+import inventory.warehouse.domain.Warehouse;
+import inventory.warehouse.domain.WarehouseStock;
+import inventory.warehouse.repository.WarehouseRepository;
+import inventory.warehouse.repository.WarehouseStockRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 스레드가 각자 트랜잭션을 커밋해야 하므로 테스트 트랜잭션 없이 실행하고, 끝나면 직접 지운다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+class OutboundBulkConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private OutboundBulkService outboundBulkService;
+
+    @Autowired
+    private OutboundRepository outboundRepository;
+
+    @Autowired
+    private OutboundProductRepository outboundProductRepository;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private WarehouseStockRepository warehouseStockRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long warehouseId;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        warehouseId = warehouseRepository.save(Warehouse.builder()
+                .name("일괄 동시성 테스트 창고")
+                .postcode("12345")
+                .baseAddress("서울시 어딘가")
+                .detailAddress("상세주소")
+                .managerName("관리자")
+                .managerContact("01012345678")
+                .build()).getWarehouseId();
+        productId = productRepository.save(Product.builder()
+                .supplierId(1L).productName("일괄 동시성 상품").productCode("BULKCC001").unit("개").build())
+                .getProductId();
+        // 다른 출고가 잡아 둔 예약이 있어 같은 출고를 두 번 반영해도 재고 조건으로는 막히지 않는다
+        warehouseStockRepository.save(WarehouseStock.builder()
+                .warehouseId(warehouseId).productId(productId).quantity(20).safetyStock(0).build());
+        jdbcTemplate.update("UPDATE warehouse_stock SET reserved_quantity = 10 "
+                + "WHERE warehouse_id = ? AND product_id = ?", warehouseId, productId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM outbound_product WHERE outbound_id IN "
+                + "(SELECT outbound_id FROM outbound WHERE warehouse_id = ?)", warehouseId);
+        jdbcTemplate.update("DELETE FROM outbound WHERE warehouse_id = ?", warehouseId);
+        jdbcTemplate.update("DELETE FROM warehouse_stock WHERE warehouse_id = ?", warehouseId);
+        jdbcTemplate.update("DELETE FROM product WHERE product_id = ?", productId);
+        jdbcTemplate.update("DELETE FROM warehouse WHERE warehouse_id = ?", warehouseId);
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    private Long savePickingOutbound(int quantity) {
+        Outbound outbound = outboundRepository.save(Outbound.builder()
+                .warehouseId(warehouseId)
+                .recipientName("수령인")
+                .requestedDate(LocalDate.now())
+                .outboundStatus(OutboundStatus.PICKING)
+                .build());
+        outboundProductRepository.save(OutboundProduct.builder()
+                .outboundId(outbound.getOutboundId()).productId(productId).requestedQuantity(quantity).build());
+        return outbound.getOutboundId();
+    }
+
+    private List<OutboundBulkResponse> runConcurrently(List<Supplier<OutboundBulkResponse>> tasks)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(tasks.size());
+        Queue<OutboundBulkResponse> responses = new ConcurrentLinkedQueue<>();
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        for (Supplier<OutboundBulkResponse> task : tasks) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    responses.add(task.get());
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        boolean finished = done.await(60, TimeUnit.SECONDS);
+        executor.shutdownNow();
+
+        assertThat(finished).isTrue();
+        assertThat(failures).isEmpty();
+        return new ArrayList<>(responses);
+    }
+
+    @DisplayName("같은 출고를 동시에 일괄 완료하거나 취소해도 한 요청만 성공하고 재고는 한 번만 반영된다")
+    @Test
+    void completeAndCancelSameOutboundConcurrently() throws InterruptedException {
+        // given
+        Long outboundId = savePickingOutbound(5);
+        List<Supplier<OutboundBulkResponse>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            tasks.add(i % 2 == 0
+                    ? () -> outboundBulkService.completeOutbounds(List.of(outboundId))
+                    : () -> outboundBulkService.cancelOutbounds(List.of(outboundId)));
+        }
+
+        // when
+        List<OutboundBulkResponse> responses = runConcurrently(tasks);
+
+        // then
+        assertThat(responses).hasSize(THREADS);
+        assertThat(responses.stream().mapToInt(OutboundBulkResponse::succeededCount).sum()).isEqualTo(1);
+
+        OutboundStatus status = outboundRepository.findById(outboundId).orElseThrow().getOutboundStatus();
+        WarehouseStock stock = warehouseStockRepository.findByWarehouseIdAndProductId(warehouseId, productId)
+                .orElseThrow();
+        assertThat(stock.getReservedQuantity()).isEqualTo(5);
+        assertThat(stock.getQuantity()).isEqualTo(status == OutboundStatus.SHIPPED ? 15 : 20);
+    }
+}
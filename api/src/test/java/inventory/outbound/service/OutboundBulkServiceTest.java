@@ -0,0 +1,220 @@
+package inventory.outbound.service;
+
+import inventory.outbound.domain.Outbound;
+import inventory.outbound.domain.OutboundProduct;
+import inventory.outbound.domain.enums.OutboundStatus;
+import inventory.outbound.repository.OutboundProductRepository;
+import inventory.outbound.repository.OutboundRepository;
+import inventory.outbound.service.response.OutboundBulkResponse;
+import inventory.outbound.service.response.OutboundBulkResult;
+import inventory.product.domain.Product;
+import inventory.product.repository.ProductRepository;
+import inventory.warehouse.domain.Warehouse;
+import inventory.warehouse.domain.WarehouseStock;
+import inventory.warehouse.repository.WarehouseRepository;
+import inventory.warehouse.repository.WarehouseStockRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@ActiveProfiles("test")
+@Transactional
+@SpringBootTest
+class OutboundBulkServiceTest {
+
+    @Autowired
+    private OutboundBulkService outboundBulkService;
+
+    @Autowired
+    private OutboundRepository outboundRepository;
+
+    @Autowired
+    private OutboundProductRepository outboundProductRepository;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private WarehouseStockRepository warehouseStockRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long warehouseId;
+    private Product product1;
+    private Product product2;
+
+    @BeforeEach
+    void setUp() {
+        Warehouse warehouse = warehouseRepository.save(Warehouse.builder()
+                .name("일괄 처리 테스트 창고")
+                .postcode("12345")
+                .baseAddress("서울시 어딘가")
+                .detailAddress("상세주소")
+                .managerName("관리자")
+                .managerContact("01012345678")
+                .build());
+        warehouseId = warehouse.getWarehouseId();
+
+        product1 = productRepository.save(Product.builder()
+                .supplierId(1L).productName("일괄 상품1").productCode("BULK001").unit("개").build());
+        product2 = productRepository.save(Product.builder()
+                .supplierId(1L).productName("일괄 상품2").productCode("BULK002").unit("개").build());
+
+        warehouseStockRepository.save(WarehouseStock.builder()
+                .warehouseId(warehouseId).productId(product1.getProductId()).quantity(20).safetyStock(0).build());
+        warehouseStockRepository.save(WarehouseStock.builder()
+                .warehouseId(warehouseId).productId(product2.getProductId()).quantity(5).safetyStock(0).build());
+    }
+
+    // 출고 등록처럼 재고를 예약해 둔다
+    private Outbound createOutbound(OutboundStatus status, Map<Product, Integer> lines) {
+        lines.forEach((product, quantity) -> findStock(product).reserve(quantity));
+        return createOutboundWithoutReservation(status, lines);
+    }
+
+    private Outbound createOutboundWithoutReservation(OutboundStatus status, Map<Product, Integer> lines) {
+        Outbound outbound = outboundRepository.save(Outbound.builder()
+                .warehouseId(warehouseId)
+                .recipientName("수령인")
+                .requestedDate(LocalDate.now())
+                .outboundStatus(status)
+                .build());
+        lines.forEach((product, quantity) -> outboundProductRepository.save(OutboundProduct.builder()
+                .outboundId(outbound.getOutboundId())
+                .productId(product.getProductId())
+                .requestedQuantity(quantity)
+                .build()));
+        return outbound;
+    }
+
+    private WarehouseStock findStock(Product product) {
+        return warehouseStockRepository.findByWarehouseIdAndProductId(warehouseId, product.getProductId())
+                .orElseThrow();
+    }
+
+    @DisplayName("예약이 모자라거나 상태가 맞지 않는 출고만 실패하고 나머지는 피킹을 시작하며 재고는 다시 예약하지 않는다")
+    @Test
+    void startPickings() {
+        // given
+        Outbound first = createOutbound(OutboundStatus.ORDERED, Map.of(product1, 8, product2, 2));
+        Outbound second = createOutbound(OutboundStatus.ORDERED, Map.of(product1, 7));
+        Outbound shortage = createOutboundWithoutReservation(OutboundStatus.ORDERED, Map.of(product2, 3));
+        Outbound picking = createOutbound(OutboundStatus.PICKING, Map.of(product1, 1));
+        entityManager.flush();
+
+        // when
+        OutboundBulkResponse response = outboundBulkService.startPickings(List.of(
+                first.getOutboundId(), second.getOutboundId(), shortage.getOutboundId(),
+                picking.getOutboundId(), -1L));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(response.requestedCount()).isEqualTo(5);
+        assertThat(response.succeededCount()).isEqualTo(2);
+        assertThat(response.results()).extracting(OutboundBulkResult::outboundId, OutboundBulkResult::success)
+                .containsExactly(
+                        tuple(first.getOutboundId(), true),
+                        tuple(second.getOutboundId(), true),
+                        tuple(shortage.getOutboundId(), false),
+                        tuple(picking.getOutboundId(), false),
+                        tuple(-1L, false));
+
+        assertThat(findStock(product1).getReservedQuantity()).isEqualTo(16);
+        assertThat(findStock(product2).getReservedQuantity()).isEqualTo(2);
+        assertThat(outboundRepository.findById(first.getOutboundId()).orElseThrow().getOutboundStatus())
+                .isEqualTo(OutboundStatus.PICKING);
+        assertThat(outboundRepository.findById(shortage.getOutboundId()).orElseThrow().getOutboundStatus())
+                .isEqualTo(OutboundStatus.ORDERED);
+    }
+
+    @DisplayName("피킹 중인 출고를 일괄 완료하면 예약 재고와 실재고가 함께 차감된다")
+    @Test
+    void completeOutbounds() {
+        // given
+        Outbound first = createOutbound(OutboundStatus.ORDERED, Map.of(product1, 4));
+        Outbound second = createOutbound(OutboundStatus.ORDERED, Map.of(product1, 6, product2, 3));
+        entityManager.flush();
+        outboundBulkService.startPickings(List.of(first.getOutboundId(), second.getOutboundId()));
+        entityManager.flush();
+
+        // when
+        OutboundBulkResponse response = outboundBulkService.completeOutbounds(
+                List.of(first.getOutboundId(), second.getOutboundId()));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(response.failedCount()).isZero();
+        assertThat(findStock(product1))
+                .extracting(WarehouseStock::getQuantity, WarehouseStock::getReservedQuantity)
+                .containsExactly(10, 0);
+        assertThat(findStock(product2))
+                .extracting(WarehouseStock::getQuantity, WarehouseStock::getReservedQuantity)
+                .containsExactly(2, 0);
+        assertThat(outboundRepository.findById(second.getOutboundId()).orElseThrow().getShippedDate())
+                .isEqualTo(LocalDate.now());
+    }
+
+    @DisplayName("재고를 모두 예약한 출고도 피킹을 시작하고 완료하면 예약 재고가 남지 않는다")
+    @Test
+    void pickAndCompleteFullStock() {
+        // given
+        Outbound outbound = createOutbound(OutboundStatus.ORDERED, Map.of(product1, 20));
+        entityManager.flush();
+
+        // when
+        OutboundBulkResponse picked = outboundBulkService.startPickings(List.of(outbound.getOutboundId()));
+        entityManager.flush();
+        OutboundBulkResponse completed = outboundBulkService.completeOutbounds(List.of(outbound.getOutboundId()));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(picked.failedCount()).isZero();
+        assertThat(completed.failedCount()).isZero();
+        assertThat(findStock(product1))
+                .extracting(WarehouseStock::getQuantity, WarehouseStock::getReservedQuantity)
+                .containsExactly(0, 0);
+    }
+
+    @DisplayName("일괄 취소하면 예약 재고가 해제되고 이미 완료된 출고는 실패로 남는다")
+    @Test
+    void cancelOutbounds() {
+        // given
+        Outbound first = createOutbound(OutboundStatus.ORDERED, Map.of(product1, 5));
+        Outbound shipped = createOutbound(OutboundStatus.SHIPPED, Map.of(product1, 1));
+        entityManager.flush();
+        outboundBulkService.startPickings(List.of(first.getOutboundId()));
+        entityManager.flush();
+
+        // when
+        OutboundBulkResponse response = outboundBulkService.cancelOutbounds(
+                List.of(first.getOutboundId(), shipped.getOutboundId()));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(response.succeededCount()).isEqualTo(1);
+        assertThat(response.results().get(1).success()).isFalse();
+        assertThat(findStock(product1).getReservedQuantity()).isZero();
+        assertThat(outboundRepository.findById(first.getOutboundId()).orElseThrow().getOutboundStatus())
+                .isEqualTo(OutboundStatus.CANCELED);
+    }
+}
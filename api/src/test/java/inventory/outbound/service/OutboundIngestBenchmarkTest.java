@@ -0,0 +1,228 @@
+package inventory.outbound.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import inventory.outbound.service.request.CreateOutboundRequest;
+import inventory.outbound.service.request.OutboundProductRequest;
+import inventory.outbound.service.response.OutboundIngestResult;
+import inventory.product.domain.Product;
+import inventory.product.repository.ProductRepository;
+import inventory.warehouse.domain.Warehouse;
+import inventory.warehouse.domain.WarehouseStock;
+import inventory.warehouse.repository.WarehouseRepository;
+import inventory.warehouse.repository.WarehouseStockRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 주문을 건별 등록과 스트림 배치 등록으로 동시에 넣어 처리량을 비교한다.
+ * <p>
+ * 시간이 오래 걸리므로 OUTBOUND_INGEST_BENCHMARK=true일 때만 실행한다. H2에서는 경향만 볼 수 있으니 실제 수치는
+ * SPRING_DATASOURCE_URL 등으로 MySQL을 가리켜 측정한다. 스트림마다 상품 순서를 섞은 여러 줄 주문을 보내므로 배치끼리
+ * 같은 재고를 엇갈린 순서로 쓰게 되고, 배치 등록이 교착으로 한 건씩 다시 등록하는 경로로 떨어지지 않는지도 함께 본다.
+ * 창고별 처리 한도는 두 방식에 똑같이 걸리므로 끄고 잰다.
+ */
+@EnabledIfEnvironmentVariable(named = "OUTBOUND_INGEST_BENCHMARK", matches = "true")
+@ActiveProfiles("test")
+@SpringBootTest(properties = "admission.enabled=false")
+class OutboundIngestBenchmarkTest {
+
+    private static final int PRODUCTS = 8;
+    private static final int STREAMS = 8;
+    private static final int ORDERS_PER_STREAM = 500;
+    private static final int LINES = 3;
+
+    @Autowired
+    private OutboundService outboundService;
+
+    @Autowired
+    private OutboundIngestService outboundIngestService;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private WarehouseStockRepository warehouseStockRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long warehouseId;
+    private final List<Long> productIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        warehouseId = warehouseRepository.save(Warehouse.builder()
+                .name("스트림 벤치마크 창고")
+                .postcode("12345")
+                .baseAddress("서울시 어딘가")
+                .detailAddress("상세주소")
+                .managerName("관리자")
+                .managerContact("01012345678")
+                .build()).getWarehouseId();
+        for (int i = 0; i < PRODUCTS; i++) {
+            Long productId = productRepository.save(Product.builder()
+                    .supplierId(1L).productName("스트림 벤치마크 상품").productCode("INGESTBENCH" + i).unit("개").build())
+                    .getProductId();
+            productIds.add(productId);
+            warehouseStockRepository.save(WarehouseStock.builder()
+                    .warehouseId(warehouseId).productId(productId).quantity(10_000_000).safetyStock(0).build());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM outbound_product WHERE outbound_id IN "
+                + "(SELECT outbound_id FROM outbound WHERE warehouse_id = ?)", warehouseId);
+        jdbcTemplate.update("DELETE FROM outbound WHERE warehouse_id = ?", warehouseId);
+        jdbcTemplate.update("DELETE FROM warehouse_stock WHERE warehouse_id = ?", warehouseId);
+        for (Long productId : productIds) {
+            jdbcTemplate.update("DELETE FROM product WHERE product_id = ?", productId);
+        }
+        jdbcTemplate.update("DELETE FROM warehouse WHERE warehouse_id = ?", warehouseId);
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @DisplayName("상품 순서가 엇갈린 주문을 동시에 넣을 때 건별 등록과 스트림 배치 등록의 처리량")
+    @Test
+    void compare() throws InterruptedException {
+        System.out.printf("%-12s %12s %10s%n", "mode", "orders/sec", "failures");
+        Result perRequest = run(orders -> {
+            long failures = 0;
+            for (CreateOutboundRequest order : orders) {
+                try {
+                    outboundService.createOutbound(order);
+                } catch (RuntimeException e) {
+                    failures++;
+                }
+            }
+            return failures;
+        });
+        report("per-request", perRequest);
+        Result stream = run(orders -> {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            outboundIngestService.ingest(new ByteArrayInputStream(ndjson(orders)), out);
+            return objectMapper.readerFor(OutboundIngestResult.class)
+                    .<OutboundIngestResult>readValues(out.toByteArray())
+                    .readAll()
+                    .stream()
+                    .filter(result -> !result.success())
+                    .count();
+        });
+        report("stream", stream);
+
+        Integer reserved = jdbcTemplate.queryForObject(
+                "SELECT SUM(reserved_quantity) FROM warehouse_stock WHERE warehouse_id = ?",
+                Integer.class, warehouseId);
+        assertThat(perRequest.failures()).isZero();
+        assertThat(stream.failures()).isZero();
+        assertThat(reserved).isEqualTo(2 * STREAMS * ORDERS_PER_STREAM * LINES);
+    }
+
+    private Result run(Sender sender) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(STREAMS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(STREAMS);
+        AtomicLong failures = new AtomicLong();
+
+        for (int t = 0; t < STREAMS; t++) {
+            List<CreateOutboundRequest> orders = orders();
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    failures.addAndGet(sender.send(orders));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (IOException e) {
+                    failures.addAndGet(orders.size());
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        done.await(10, TimeUnit.MINUTES);
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdownNow();
+        return new Result(STREAMS * ORDERS_PER_STREAM * 1e9 / elapsedNanos, failures.get());
+    }
+
+    // 요청에 적힌 순서처럼 상품 순서를 섞은 주문
+    private List<CreateOutboundRequest> orders() {
+        List<CreateOutboundRequest> orders = new ArrayList<>(ORDERS_PER_STREAM);
+        for (int i = 0; i < ORDERS_PER_STREAM; i++) {
+            List<Long> lines = new ArrayList<>(productIds);
+            Collections.shuffle(lines, ThreadLocalRandom.current());
+            orders.add(new CreateOutboundRequest(
+                    warehouseId,
+                    LocalDate.now().plusDays(1),
+                    "수령인",
+                    "01011112222",
+                    "12345",
+                    "서울시 어딘가",
+                    "상세주소",
+                    null,
+                    lines.subList(0, LINES).stream()
+                            .map(productId -> new OutboundProductRequest(productId, 1))
+                            .toList()));
+        }
+        return orders;
+    }
+
+    private byte[] ndjson(List<CreateOutboundRequest> orders) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        for (CreateOutboundRequest order : orders) {
+            body.write(objectMapper.writeValueAsBytes(order));
+            body.write('\n');
+        }
+        return body.toByteArray();
+    }
+
+    private void report(String mode, Result result) {
+        System.out.printf("%-12s %12.1f %10d%n", mode, result.ordersPerSecond(), result.failures());
+    }
+
+    @FunctionalInterface
+    private interface Sender {
+
+        // 주문을 모두 보내고 실패한 주문 수를 반환한다
+        long send(List<CreateOutboundRequest> orders) throws IOException;
+    }
+
+    private record Result(double ordersPerSecond, long failures) {
+    }
+}
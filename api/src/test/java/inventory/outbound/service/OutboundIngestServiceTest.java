@@ -0,0 +1,307 @@
+package inventory.outbound.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import inventory.outbound.repository.OutboundRepository;
+import inventory.outbound.service.request.CreateOutboundRequest;
+import inventory.outbound.service.request.OutboundProductRequest;
+import inventory.outbound.service.response.OutboundIngestResult;
+import inventory.product.domain.Product;
+import inventory.product.repository.ProductRepository;
+import inventory.warehouse.domain.Warehouse;
+import inventory.warehouse.domain.WarehouseStock;
+import inventory.warehouse.repository.WarehouseRepository;
+import inventory.warehouse.repository.WarehouseStockJdbcRepository;
+import inventory.warehouse.repository.WarehouseStockRepository;
+import jakarta.transaction.Transactional;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test")
+@Transactional
+@SpringBootTest
+@AutoConfigureMockMvc
+class OutboundIngestServiceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboundIngestServiceTest.class);
+
+    @MockitoSpyBean
+    private OutboundService outboundService;
+
+    @Autowired
+    private OutboundIngestService outboundIngestService;
+
+    @Autowired
+    private OutboundRepository outboundRepository;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private WarehouseStockRepository warehouseStockRepository;
+
+    @MockitoSpyBean
+    private WarehouseStockJdbcRepository warehouseStockJdbcRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private Long warehouseId;
+    private Long plentyProductId;
+    private Long scarceProductId;
+
+    @BeforeEach
+    void setUp() {
+        Warehouse warehouse = warehouseRepository.save(Warehouse.builder()
+                .name("스트림 수신 창고")
+                .postcode("12345")
+                .baseAddress("서울시 어딘가")
+                .detailAddress("상세주소")
+                .managerName("관리자")
+                .managerContact("01012345678")
+                .build());
+        warehouseId = warehouse.getWarehouseId();
+
+        Product plenty = productRepository.save(Product.builder()
+                .supplierId(1L).productName("스트림 상품1").productCode("INGEST001").unit("개").build());
+        Product scarce = productRepository.save(Product.builder()
+                .supplierId(1L).productName("스트림 상품2").productCode("INGEST002").unit("개").build());
+        plentyProductId = plenty.getProductId();
+        scarceProductId = scarce.getProductId();
+
+        warehouseStockRepository.save(WarehouseStock.builder()
+                .warehouseId(warehouseId).productId(plentyProductId).quantity(1_000_000).safetyStock(0).build());
+        warehouseStockRepository.save(WarehouseStock.builder()
+                .warehouseId(warehouseId).productId(scarceProductId).quantity(5).safetyStock(0).build());
+    }
+
+    private CreateOutboundRequest order(String recipientName, Long productId, int quantity) {
+        return new CreateOutboundRequest(
+                warehouseId,
+                LocalDate.now().plusDays(1),
+                recipientName,
+                "01011112222",
+                "12345",
+                "서울시 강남구",
+                "테헤란로 456",
+                null,
+                List.of(new OutboundProductRequest(productId, quantity))
+        );
+    }
+
+    private String ndjson(List<CreateOutboundRequest> orders) throws IOException {
+        StringBuilder body = new StringBuilder();
+        for (CreateOutboundRequest order : orders) {
+            body.append(objectMapper.writeValueAsString(order)).append('\n');
+        }
+        return body.toString();
+    }
+
+    private byte[] smile(List<CreateOutboundRequest> orders) throws IOException {
+        ObjectMapper smileMapper = objectMapper.copyWith(new SmileFactory());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = smileMapper.getFactory().createGenerator(out)) {
+            for (CreateOutboundRequest order : orders) {
+                smileMapper.writeValue(generator, order);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private List<OutboundIngestResult> readSmileResults(byte[] body) throws IOException {
+        return objectMapper.copyWith(new SmileFactory())
+                .readerFor(OutboundIngestResult.class)
+                .<OutboundIngestResult>readValues(body)
+                .readAll();
+    }
+
+    private List<OutboundIngestResult> ingest(OutboundIngestService service, String body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.ingest(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), out);
+        return objectMapper.readerFor(OutboundIngestResult.class)
+                .<OutboundIngestResult>readValues(out.toByteArray())
+                .readAll();
+    }
+
+    private void postStream(String mediaType, byte[] body) throws Exception {
+        mockMvc.perform(post("/api/v1/outbounds/stream")
+                        .contentType(mediaType)
+                        .accept(mediaType)
+                        .content(body))
+                .andExpect(status().isOk());
+    }
+
+    @DisplayName("검증이나 재고에서 실패한 주문만 실패로 돌려주고 나머지는 순번대로 등록된다")
+    @Test
+    void ingestWithPartialFailures() throws IOException {
+        // given
+        OutboundIngestService service = new OutboundIngestService(
+                outboundService, warehouseStockJdbcRepository, transactionTemplate, validator, objectMapper, 2);
+        String body = ndjson(List.of(
+                order("수령인1", plentyProductId, 3),
+                order("수령인2", scarceProductId, 2),
+                order("", plentyProductId, 1),
+                order("수령인4", scarceProductId, 10),
+                order("수령인5", plentyProductId, 4)));
+        long before = outboundRepository.count();
+
+        // when
+        List<OutboundIngestResult> results = ingest(service, body);
+
+        // then
+        assertThat(results).extracting(OutboundIngestResult::sequence, OutboundIngestResult::success)
+                .containsExactly(
+                        tuple(1L, true),
+                        tuple(2L, true),
+                        tuple(3L, false),
+                        tuple(4L, false),
+                        tuple(5L, true));
+        assertThat(results.get(2).message()).isEqualTo("수령인 이름은 필수입니다");
+        assertThat(outboundRepository.count()).isEqualTo(before + 3);
+        assertThat(warehouseStockRepository.findByWarehouseIdAndProductId(warehouseId, scarceProductId)
+                .orElseThrow().getReservedQuantity()).isEqualTo(2);
+    }
+
+    @DisplayName("배치는 주문 순서와 관계없이 쓸 재고를 상품 ID 순으로 먼저 잠근 뒤 주문을 등록한다")
+    @Test
+    void lockStocksBeforeBatch() throws IOException {
+        // given
+        Long first = Math.max(plentyProductId, scarceProductId);
+        Long second = Math.min(plentyProductId, scarceProductId);
+        String body = ndjson(List.of(order("수령인1", first, 1), order("수령인2", second, 1)));
+
+        // when
+        List<OutboundIngestResult> results = ingest(outboundIngestService, body);
+
+        // then
+        assertThat(results).extracting(OutboundIngestResult::success).containsExactly(true, true);
+        InOrder inOrder = inOrder(warehouseStockJdbcRepository, outboundService);
+        inOrder.verify(warehouseStockJdbcRepository).findForUpdate(eq(warehouseId),
+                argThat(productIds -> List.copyOf(productIds).equals(List.of(second, first))));
+        inOrder.verify(outboundService, times(2)).createOutbound(any());
+    }
+
+    @DisplayName("형식이 깨진 줄을 만나면 앞선 주문까지만 처리하고 그 줄을 실패로 알린 뒤 멈춘다")
+    @Test
+    void stopAtMalformedLine() throws IOException {
+        // given
+        String body = ndjson(List.of(order("수령인1", plentyProductId, 1))) + "{\"warehouseId\": \n";
+
+        // when
+        List<OutboundIngestResult> results = ingest(outboundIngestService, body);
+
+        // then
+        assertThat(results).extracting(OutboundIngestResult::sequence, OutboundIngestResult::success)
+                .containsExactly(tuple(1L, true), tuple(2L, false));
+    }
+
+    @DisplayName("Smile 스트림도 주문마다 결과를 Smile로 돌려주고 실패한 주문만 실패로 알린다")
+    @Test
+    void ingestSmileStream() throws Exception {
+        // given
+        byte[] body = smile(List.of(
+                order("수령인1", plentyProductId, 3),
+                order("수령인2", scarceProductId, 10)));
+
+        // when
+        byte[] response = mockMvc.perform(post("/api/v1/outbounds/stream")
+                        .contentType(OutboundIngestService.APPLICATION_SMILE_VALUE)
+                        .accept(OutboundIngestService.APPLICATION_SMILE_VALUE)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // then
+        assertThat(readSmileResults(response))
+                .extracting(OutboundIngestResult::sequence, OutboundIngestResult::success)
+                .containsExactly(tuple(1L, true), tuple(2L, false));
+    }
+
+    @DisplayName("같은 주문 수를 건별 REST 요청, NDJSON 스트림, Smile 스트림으로 등록해 주문당 크기와 처리 시간을 잰다")
+    @Test
+    void compareWithRestPerOrder() throws Exception {
+        // given
+        int orders = 200;
+        CreateOutboundRequest request = order("수령인", plentyProductId, 1);
+        byte[] single = objectMapper.writeValueAsBytes(request);
+        byte[] ndjson = ndjson(Collections.nCopies(orders, request)).getBytes(StandardCharsets.UTF_8);
+        byte[] smile = smile(Collections.nCopies(orders, request));
+        for (int i = 0; i < 20; i++) {
+            mockMvc.perform(post("/api/v1/outbounds").contentType(MediaType.APPLICATION_JSON).content(single));
+        }
+        postStream(MediaType.APPLICATION_NDJSON_VALUE, ndjson(Collections.nCopies(20, request))
+                .getBytes(StandardCharsets.UTF_8));
+        postStream(OutboundIngestService.APPLICATION_SMILE_VALUE, smile(Collections.nCopies(20, request)));
+        long before = outboundRepository.count();
+
+        // when
+        long restStarted = System.nanoTime();
+        for (int i = 0; i < orders; i++) {
+            mockMvc.perform(post("/api/v1/outbounds").contentType(MediaType.APPLICATION_JSON).content(single))
+                    .andExpect(status().isCreated());
+        }
+        long restNanos = System.nanoTime() - restStarted;
+
+        long ndjsonStarted = System.nanoTime();
+        postStream(MediaType.APPLICATION_NDJSON_VALUE, ndjson);
+        long ndjsonNanos = System.nanoTime() - ndjsonStarted;
+
+        long smileStarted = System.nanoTime();
+        postStream(OutboundIngestService.APPLICATION_SMILE_VALUE, smile);
+        long smileNanos = System.nanoTime() - smileStarted;
+
+        // then
+        assertThat(outboundRepository.count()).isEqualTo(before + orders * 3L);
+        assertThat(smile.length).isLessThan(ndjson.length);
+        assertThat(ndjsonNanos).isLessThan(restNanos);
+        assertThat(smileNanos).isLessThan(restNanos);
+        log.info("출고 등록 주문당 요청 크기: REST {}B, NDJSON {}B, Smile {}B",
+                single.length, ndjson.length / orders, smile.length / orders);
+        log.info("출고 등록 주문당 처리 시간: REST {}us, NDJSON {}us, Smile {}us",
+                restNanos / orders / 1_000, ndjsonNanos / orders / 1_000, smileNanos / orders / 1_000);
+    }
+}
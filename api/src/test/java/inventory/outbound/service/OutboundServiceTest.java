@@ -20,9 +20,12 @@ import inventory.warehouse.domain.Warehouse;
 import inventory.warehouse.domain.WarehouseStock;
 import inventory.warehouse.repository.WarehouseRepository;
 import inventory.warehouse.repository.WarehouseStockRepository;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import java.time.LocalDate;
 import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -56,6 +59,9 @@ class OutboundServiceTest {
     @Autowired
     private SupplierRepository supplierRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private Warehouse testWarehouse;
     private Supplier testSupplier;
     private Product testProduct1;
@@ -310,6 +316,72 @@ class OutboundServiceTest {
                 .isInstanceOf(CustomException.class);
     }
 
+    @DisplayName("여러 출고를 한 번에 삭제하면 출고와 출고 상품이 모두 조회되지 않는다")
+    @Test
+    void deleteOutboundsWithSuccess() {
+        // given
+        Outbound outbound1 = createTestOutbound();
+        Outbound outbound2 = createTestOutbound();
+
+        // when
+        outboundService.deleteOutbounds(List.of(outbound1.getOutboundId(), outbound2.getOutboundId()));
+
+        // then
+        assertThat(outboundRepository.findById(outbound1.getOutboundId())).isEmpty();
+        assertThat(outboundRepository.findById(outbound2.getOutboundId())).isEmpty();
+        assertThat(outboundProductRepository.findByOutboundId(outbound1.getOutboundId())).isEmpty();
+        assertThat(outboundProductRepository.findByOutboundId(outbound2.getOutboundId())).isEmpty();
+    }
+
+    @DisplayName("삭제할 출고 중 하나라도 없으면 아무것도 삭제하지 않는다")
+    @Test
+    void deleteOutboundsWithNotFound() {
+        // given
+        Outbound outbound = createTestOutbound();
+
+        // when & then
+        assertThatThrownBy(() -> outboundService.deleteOutbounds(List.of(outbound.getOutboundId(), 999_999L)))
+                .isInstanceOf(CustomException.class);
+        assertThat(outboundRepository.findById(outbound.getOutboundId())).isPresent();
+    }
+
+    @DisplayName("ETag는 상세 조회보다 적은 쿼리 한 번으로 구하고 재고나 상태가 바뀌면 달라진다")
+    @Test
+    void findETagWithSingleQuery() {
+        // given
+        Long outboundId = createTestOutbound().getOutboundId();
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        String eTag = outboundService.findETag(outboundId);
+        long eTagStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        entityManager.clear();
+        outboundService.findById(outboundId);
+        long detailStatements = statistics.getPrepareStatementCount();
+
+        // then
+        assertThat(eTagStatements).isEqualTo(1);
+        assertThat(detailStatements).isGreaterThanOrEqualTo(5);
+        assertThat(outboundService.findETag(outboundId)).isEqualTo(eTag);
+
+        outboundService.startPicking(outboundId);
+        entityManager.flush();
+        assertThat(outboundService.findETag(outboundId)).isNotEqualTo(eTag);
+    }
+
+    @DisplayName("존재하지 않는 출고의 ETag를 구하면 예외가 발생한다")
+    @Test
+    void findETagWithNotFound() {
+        assertThatThrownBy(() -> outboundService.findETag(999_999L))
+                .isInstanceOf(CustomException.class);
+    }
+
     private Outbound createTestOutbound() {
         CreateOutboundRequest request = new CreateOutboundRequest(
                 testWarehouse.getWarehouseId(),
@@ -0,0 +1,154 @@
+package inventory.outbound.service;
+
+import inventory.outbound.service.request.CreateOutboundRequest;
+import inventory.outbound.service.request.OutboundProductRequest;
+import inventory.product.domain.Product;
+import inventory.product.repository.ProductRepository;
+import inventory.warehouse.domain.Warehouse;
+import inventory.warehouse.domain.WarehouseStock;
+import inventory.warehouse.repository.WarehouseRepository;
+import inventory.warehouse.repository.WarehouseStockRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기본 설정은 재고 행을 잠그지 않으므로 비관적 잠금 모드는 이 테스트에서만 켠다.
+ * 여러 스레드가 각자 트랜잭션을 커밋해야 하므로 테스트 트랜잭션 없이 실행하고, 끝나면 직접 지운다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = "outbound.stock-lock.mode=PESSIMISTIC")
+class OutboundStockLockTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private OutboundService outboundService;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private WarehouseStockRepository warehouseStockRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long warehouseId;
+    private Long productId1;
+    private Long productId2;
+
+    @BeforeEach
+    void setUp() {
+        warehouseId = warehouseRepository.save(Warehouse.builder()
+                .name("잠금 테스트 창고")
+                .postcode("12345")
+                .baseAddress("서울시 어딘가")
+                .detailAddress("상세주소")
+                .managerName("관리자")
+                .managerContact("01012345678")
+                .build()).getWarehouseId();
+        productId1 = saveProduct("LOCK001");
+        productId2 = saveProduct("LOCK002");
+        for (Long productId : List.of(productId1, productId2)) {
+            warehouseStockRepository.save(WarehouseStock.builder()
+                    .warehouseId(warehouseId).productId(productId).quantity(100).safetyStock(0).build());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM outbound_product WHERE outbound_id IN "
+                + "(SELECT outbound_id FROM outbound WHERE warehouse_id = ?)", warehouseId);
+        jdbcTemplate.update("DELETE FROM outbound WHERE warehouse_id = ?", warehouseId);
+        jdbcTemplate.update("DELETE FROM warehouse_stock WHERE warehouse_id = ?", warehouseId);
+        jdbcTemplate.update("DELETE FROM product WHERE product_id IN (?, ?)", productId1, productId2);
+        jdbcTemplate.update("DELETE FROM warehouse WHERE warehouse_id = ?", warehouseId);
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    private Long saveProduct(String productCode) {
+        return productRepository.save(Product.builder()
+                .supplierId(1L).productName("잠금 상품 " + productCode).productCode(productCode).unit("개").build())
+                .getProductId();
+    }
+
+    private CreateOutboundRequest request(Long firstProductId, Long secondProductId) {
+        return new CreateOutboundRequest(
+                warehouseId,
+                LocalDate.now().plusDays(1),
+                "수령인",
+                "01011112222",
+                "12345",
+                "서울시 어딘가",
+                "상세주소",
+                null,
+                List.of(new OutboundProductRequest(firstProductId, 1),
+                        new OutboundProductRequest(secondProductId, 1)));
+    }
+
+    private int reservedQuantity(Long productId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT reserved_quantity FROM warehouse_stock WHERE warehouse_id = ? AND product_id = ?",
+                Integer.class, warehouseId, productId);
+    }
+
+    @DisplayName("상품 순서가 엇갈린 여러 줄 출고를 동시에 등록해도 교착 없이 모두 성공하고 예약이 빠짐없이 반영된다")
+    @Test
+    void createOutboundsWithCrossedProductOrder() throws InterruptedException {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < THREADS; i++) {
+            CreateOutboundRequest request = i % 2 == 0
+                    ? request(productId1, productId2)
+                    : request(productId2, productId1);
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    outboundService.createOutbound(request);
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // when
+        start.countDown();
+        boolean finished = done.await(60, TimeUnit.SECONDS);
+        executor.shutdownNow();
+
+        // then
+        assertThat(finished).isTrue();
+        assertThat(failures).isEmpty();
+        assertThat(reservedQuantity(productId1)).isEqualTo(THREADS);
+        assertThat(reservedQuantity(productId2)).isEqualTo(THREADS);
+    }
+}
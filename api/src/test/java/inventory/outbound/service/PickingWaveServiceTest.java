@@ -0,0 +1,133 @@
+package inventory.outbound.service;
+
+import inventory.outbound.domain.Outbound;
+import inventory.outbound.domain.OutboundProduct;
+import inventory.outbound.domain.enums.OutboundStatus;
+import inventory.outbound.repository.OutboundProductRepository;
+import inventory.outbound.repository.OutboundRepository;
+import inventory.outbound.service.response.PickListItemResponse;
+import inventory.outbound.service.response.PickingWaveResponse;
+import inventory.product.domain.Product;
+import inventory.product.repository.ProductRepository;
+import inventory.warehouse.domain.Warehouse;
+import inventory.warehouse.repository.WarehouseRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@ActiveProfiles("test")
+@Transactional
+@SpringBootTest
+class PickingWaveServiceTest {
+
+    @Autowired
+    private PickingWaveService pickingWaveService;
+
+    @Autowired
+    private OutboundRepository outboundRepository;
+
+    @Autowired
+    private OutboundProductRepository outboundProductRepository;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long warehouseId;
+    private Product product1;
+    private Product product2;
+
+    @BeforeEach
+    void setUp() {
+        Warehouse warehouse = warehouseRepository.save(Warehouse.builder()
+                .name("웨이브 테스트 창고")
+                .postcode("12345")
+                .baseAddress("서울시 어딘가")
+                .detailAddress("상세주소")
+                .managerName("관리자")
+                .managerContact("01012345678")
+                .build());
+        warehouseId = warehouse.getWarehouseId();
+
+        product1 = productRepository.save(Product.builder()
+                .supplierId(1L).productName("웨이브 상품1").productCode("WAVE001").unit("개").build());
+        product2 = productRepository.save(Product.builder()
+                .supplierId(1L).productName("웨이브 상품2").productCode("WAVE002").unit("개").build());
+    }
+
+    private Outbound createOutbound(LocalDate requestedDate, Map<Product, Integer> lines) {
+        Outbound outbound = outboundRepository.save(Outbound.builder()
+                .warehouseId(warehouseId)
+                .recipientName("수령인")
+                .requestedDate(requestedDate)
+                .outboundStatus(OutboundStatus.ORDERED)
+                .build());
+        lines.forEach((product, quantity) -> outboundProductRepository.save(OutboundProduct.builder()
+                .outboundId(outbound.getOutboundId())
+                .productId(product.getProductId())
+                .requestedQuantity(quantity)
+                .build()));
+        return outbound;
+    }
+
+    @DisplayName("출고 예정일이 된 ORDERED 출고만 웨이브로 묶여 피킹 상태가 되고 상품별 피킹 목록이 만들어진다")
+    @Test
+    void planWaves() {
+        // given
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        Outbound first = createOutbound(yesterday, Map.of(product1, 3, product2, 1));
+        Outbound second = createOutbound(yesterday, Map.of(product1, 2));
+        Outbound future = createOutbound(LocalDate.now().plusDays(5), Map.of(product1, 7));
+        entityManager.flush();
+
+        // when
+        List<PickingWaveResponse> waves = pickingWaveService.planWaves(warehouseId, LocalDate.now());
+        entityManager.clear();
+
+        // then
+        assertThat(waves).hasSize(1);
+        PickingWaveResponse wave = waves.get(0);
+        assertThat(wave.outboundCount()).isEqualTo(2);
+        assertThat(wave.totalQuantity()).isEqualTo(6);
+        assertThat(wave.pickList()).extracting(PickListItemResponse::productCode,
+                        PickListItemResponse::quantity, PickListItemResponse::outboundCount)
+                .containsExactlyInAnyOrder(tuple("WAVE001", 5L, 2), tuple("WAVE002", 1L, 1));
+
+        assertThat(outboundRepository.findById(first.getOutboundId()).orElseThrow())
+                .extracting(Outbound::getOutboundStatus, Outbound::getWaveId)
+                .containsExactly(OutboundStatus.PICKING, wave.pickingWaveId());
+        assertThat(outboundRepository.findById(second.getOutboundId()).orElseThrow().getOutboundStatus())
+                .isEqualTo(OutboundStatus.PICKING);
+        assertThat(outboundRepository.findById(future.getOutboundId()).orElseThrow().getOutboundStatus())
+                .isEqualTo(OutboundStatus.ORDERED);
+
+        assertThat(pickingWaveService.findById(wave.pickingWaveId()).pickList()).hasSize(2);
+    }
+
+    @DisplayName("대상 출고가 없으면 웨이브를 만들지 않는다")
+    @Test
+    void planWavesWithoutCandidates() {
+        // when
+        List<PickingWaveResponse> waves = pickingWaveService.planWaves(warehouseId, LocalDate.now());
+
+        // then
+        assertThat(waves).isEmpty();
+    }
+}
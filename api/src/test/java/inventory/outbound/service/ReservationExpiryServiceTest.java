@@ -0,0 +1,132 @@
+package inventory.outbound.service;
+
+import inventory.outbound.domain.Outbound;
+import inventory.outbound.domain.OutboundProduct;
+import inventory.outbound.domain.enums.OutboundStatus;
+import inventory.outbound.repository.OutboundProductRepository;
+import inventory.outbound.repository.OutboundRepository;
+import inventory.product.domain.Product;
+import inventory.product.repository.ProductRepository;
+import inventory.warehouse.domain.Warehouse;
+import inventory.warehouse.domain.WarehouseStock;
+import inventory.warehouse.repository.WarehouseRepository;
+import inventory.warehouse.repository.WarehouseStockRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@Transactional
+@SpringBootTest
+class ReservationExpiryServiceTest {
+
+    @Autowired
+    private ReservationExpiryService reservationExpiryService;
+
+    @Autowired
+    private OutboundRepository outboundRepository;
+
+    @Autowired
+    private OutboundProductRepository outboundProductRepository;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private WarehouseStockRepository warehouseStockRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long warehouseId;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        Warehouse warehouse = warehouseRepository.save(Warehouse.builder()
+                .name("예약 만료 테스트 창고")
+                .postcode("12345")
+                .baseAddress("서울시 어딘가")
+                .detailAddress("상세주소")
+                .managerName("관리자")
+                .managerContact("01012345678")
+                .build());
+        warehouseId = warehouse.getWarehouseId();
+
+        product = productRepository.save(Product.builder()
+                .supplierId(1L).productName("만료 상품").productCode("EXP001").unit("개").build());
+
+        WarehouseStock stock = WarehouseStock.builder()
+                .warehouseId(warehouseId).productId(product.getProductId()).quantity(50).safetyStock(0).build();
+        stock.reserve(12);
+        warehouseStockRepository.save(stock);
+    }
+
+    private Outbound createOutbound(OutboundStatus status, int quantity) {
+        Outbound outbound = outboundRepository.save(Outbound.builder()
+                .warehouseId(warehouseId)
+                .recipientName("수령인")
+                .requestedDate(LocalDate.now())
+                .outboundStatus(status)
+                .build());
+        outboundProductRepository.save(OutboundProduct.builder()
+                .outboundId(outbound.getOutboundId())
+                .productId(product.getProductId())
+                .requestedQuantity(quantity)
+                .build());
+        return outbound;
+    }
+
+    @DisplayName("TTL이 지난 ORDERED 출고는 취소되고 예약 재고가 풀리며, 그 사이 피킹된 출고는 그대로 둔다")
+    @Test
+    void expire() {
+        // given
+        Outbound stale1 = createOutbound(OutboundStatus.ORDERED, 3);
+        Outbound stale2 = createOutbound(OutboundStatus.ORDERED, 4);
+        Outbound picked = createOutbound(OutboundStatus.PICKING, 5);
+        entityManager.flush();
+
+        // when
+        int expired = reservationExpiryService.expire(
+                List.of(stale1.getOutboundId(), stale2.getOutboundId(), picked.getOutboundId()),
+                LocalDateTime.now().plusDays(30));
+        entityManager.clear();
+
+        // then
+        assertThat(expired).isEqualTo(2);
+        assertThat(outboundRepository.findById(stale1.getOutboundId()).orElseThrow().getOutboundStatus())
+                .isEqualTo(OutboundStatus.CANCELED);
+        assertThat(outboundRepository.findById(picked.getOutboundId()).orElseThrow().getOutboundStatus())
+                .isEqualTo(OutboundStatus.PICKING);
+        assertThat(warehouseStockRepository.findByWarehouseIdAndProductId(warehouseId, product.getProductId())
+                .orElseThrow().getReservedQuantity()).isEqualTo(5);
+    }
+
+    @DisplayName("TTL이 지나지 않은 출고는 만료하지 않는다")
+    @Test
+    void skipFreshOutbounds() {
+        // given
+        Outbound fresh = createOutbound(OutboundStatus.ORDERED, 3);
+        entityManager.flush();
+
+        // when
+        int expired = reservationExpiryService.expire(List.of(fresh.getOutboundId()), LocalDateTime.now());
+
+        // then
+        assertThat(expired).isZero();
+    }
+}
@@ -0,0 +1,196 @@
+package inventory.outbound.service;
+
+import inventory.product.domain.Product;
+import inventory.product.repository.ProductRepository;
+import inventory.warehouse.domain.Warehouse;
+import inventory.warehouse.domain.WarehouseStock;
+import inventory.warehouse.repository.WarehouseRepository;
+import inventory.warehouse.repository.WarehouseStockJdbcRepository;
+import inventory.warehouse.repository.WarehouseStockJdbcRepository.StockDelta;
+import inventory.warehouse.repository.WarehouseStockRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 ID 순 비관적 잠금과 잠그지 않는 조건부 증감 갱신의 처리량을 경합 정도(대상 상품 수)별로 비교한다.
+ * <p>
+ * 시간이 오래 걸리므로 STOCK_LOCK_BENCHMARK=true일 때만 실행한다. H2에서는 경향만 볼 수 있으니 실제 수치는
+ * SPRING_DATASOURCE_URL 등으로 MySQL을 가리켜 측정한다. 각 작업은 출고 한 건처럼 세 상품을 하나씩 예약한다.
+ */
+@EnabledIfEnvironmentVariable(named = "STOCK_LOCK_BENCHMARK", matches = "true")
+@ActiveProfiles("test")
+@SpringBootTest(properties = "outbound.stock-lock.mode=PESSIMISTIC")
+class StockLockBenchmarkTest {
+
+    private static final int[] HOT_PRODUCT_COUNTS = {3, 8, 32, 128};
+    private static final int THREADS = 16;
+    private static final int OPERATIONS_PER_THREAD = 200;
+    private static final int LINES = 3;
+
+    @Autowired
+    private OutboundStockLocker outboundStockLocker;
+
+    @Autowired
+    private WarehouseStockJdbcRepository warehouseStockJdbcRepository;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private WarehouseStockRepository warehouseStockRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long warehouseId;
+    private final List<Long> productIds = new ArrayList<>();
+    private final AtomicLong failedUnits = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        warehouseId = warehouseRepository.save(Warehouse.builder()
+                .name("벤치마크 창고")
+                .postcode("12345")
+                .baseAddress("서울시 어딘가")
+                .detailAddress("상세주소")
+                .managerName("관리자")
+                .managerContact("01012345678")
+                .build()).getWarehouseId();
+        int maxProducts = HOT_PRODUCT_COUNTS[HOT_PRODUCT_COUNTS.length - 1];
+        for (int i = 0; i < maxProducts; i++) {
+            Long productId = productRepository.save(Product.builder()
+                    .supplierId(1L).productName("벤치마크 상품").productCode("BENCH" + i).unit("개").build())
+                    .getProductId();
+            productIds.add(productId);
+            warehouseStockRepository.save(WarehouseStock.builder()
+                    .warehouseId(warehouseId).productId(productId).quantity(10_000_000).safetyStock(0).build());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM warehouse_stock WHERE warehouse_id = ?", warehouseId);
+        for (Long productId : productIds) {
+            jdbcTemplate.update("DELETE FROM product WHERE product_id = ?", productId);
+        }
+        jdbcTemplate.update("DELETE FROM warehouse WHERE warehouse_id = ?", warehouseId);
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @DisplayName("경합 정도별 비관적 잠금과 조건부 증감 갱신의 처리량")
+    @Test
+    void compare() throws InterruptedException {
+        System.out.printf("%-12s %8s %12s %10s %10s%n", "mode", "products", "ops/sec", "retries", "failures");
+        for (int hotProducts : HOT_PRODUCT_COUNTS) {
+            List<Long> hot = productIds.subList(0, hotProducts);
+            report("pessimistic", hotProducts, run(hot, lines ->
+                    transactionTemplate.executeWithoutResult(status -> {
+                        for (WarehouseStock stock : outboundStockLocker.findStocks(warehouseId, lines)) {
+                            stock.reserve(1);
+                        }
+                    })));
+            report("delta", hotProducts, run(hot, lines -> {
+                // 잠그는 순서를 맞추기 위해 비관적 잠금과 같이 상품 ID 순으로 갱신한다
+                List<StockDelta> deltas = lines.stream().sorted()
+                        .map(productId -> new StockDelta(warehouseId, productId, 0, 1))
+                        .toList();
+                transactionTemplate.executeWithoutResult(status -> warehouseStockJdbcRepository.applyDeltas(deltas));
+            }));
+        }
+
+        Integer reserved = jdbcTemplate.queryForObject(
+                "SELECT SUM(reserved_quantity) FROM warehouse_stock WHERE warehouse_id = ?", Integer.class, warehouseId);
+        long expected = 2L * HOT_PRODUCT_COUNTS.length * THREADS * OPERATIONS_PER_THREAD * LINES;
+        assertThat(reserved.longValue()).isEqualTo(expected - failedUnits.get());
+    }
+
+    private Result run(List<Long> hot, Consumer<List<Long>> operation) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        AtomicLong retries = new AtomicLong();
+        AtomicLong failures = new AtomicLong();
+
+        for (int t = 0; t < THREADS; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                        // 요청에 적힌 순서처럼 상품 순서를 섞는다
+                        List<Long> lines = new ArrayList<>(hot);
+                        Collections.shuffle(lines, ThreadLocalRandom.current());
+                        lines = lines.subList(0, LINES);
+                        if (!execute(operation, lines, retries)) {
+                            failures.incrementAndGet();
+                            failedUnits.addAndGet(LINES);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        done.await(10, TimeUnit.MINUTES);
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdownNow();
+        return new Result(THREADS * OPERATIONS_PER_THREAD * 1e9 / elapsedNanos, retries.get(), failures.get());
+    }
+
+    // 운영 코드의 @DeadlockRetry와 같이 잠금 실패를 세 번까지 다시 시도한다
+    private boolean execute(Consumer<List<Long>> operation, List<Long> lines, AtomicLong retries) {
+        for (int attempt = 1; attempt <= 3; attempt++) {
+            try {
+                operation.accept(lines);
+                return true;
+            } catch (PessimisticLockingFailureException e) {
+                retries.incrementAndGet();
+            }
+        }
+        return false;
+    }
+
+    private void report(String mode, int hotProducts, Result result) {
+        System.out.printf("%-12s %8d %12.1f %10d %10d%n",
+                mode, hotProducts, result.operationsPerSecond(), result.retries(), result.failures());
+    }
+
+    private record Result(double operationsPerSecond, long retries, long failures) {
+    }
+}
@@ -0,0 +1,69 @@
+package inventory.outbound.service.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @DisplayName("만료 시각이 지난 항목만 꺼내고 아직 남은 항목은 휠에 둔다")
+    @Test
+    void advanceReturnsDueItems() {
+        // given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, START);
+        wheel.add("a", START + 15);
+        wheel.add("b", START + 35);
+
+        // when
+        List<String> first = wheel.advance(START + 20);
+        List<String> second = wheel.advance(START + 30);
+        List<String> third = wheel.advance(START + 40);
+
+        // then
+        assertThat(first).containsExactly("a");
+        assertThat(second).isEmpty();
+        assertThat(third).containsExactly("b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @DisplayName("한 바퀴보다 먼 항목은 위 휠을 거쳐 정확한 틱에 만료된다")
+    @Test
+    void cascadeFromOverflowWheels() {
+        // given
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(10, 4, START);
+        List<Long> deadlines = List.of(START + 45, START + 170, START + 650, START + 2_345);
+        deadlines.forEach(deadline -> wheel.add(deadline, deadline));
+
+        // when & then
+        List<Long> expired = new ArrayList<>();
+        for (long now = START; now <= START + 2_400; now += 10) {
+            for (Long deadline : wheel.advance(now)) {
+                // 만료 시각이 지난 뒤 한 틱 안에 꺼내진다
+                assertThat(now).isGreaterThan(deadline).isLessThanOrEqualTo(deadline + 10);
+                expired.add(deadline);
+            }
+        }
+        assertThat(expired).containsExactlyElementsOf(deadlines);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @DisplayName("이미 지난 시각으로 넣은 항목은 다음 진행 때 바로 꺼낸다")
+    @Test
+    void overdueItems() {
+        // given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, START);
+        wheel.add("late", START - 1_000);
+
+        // when
+        List<String> expired = wheel.advance(START);
+
+        // then
+        assertThat(expired).containsExactly("late");
+    }
+}
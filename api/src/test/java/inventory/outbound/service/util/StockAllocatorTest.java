@@ -0,0 +1,116 @@
+package inventory.outbound.service.util;
+
+import inventory.outbound.service.util.StockAllocator.Line;
+import inventory.outbound.service.util.StockAllocator.ProductStock;
+import inventory.outbound.service.util.StockAllocator.WarehouseAllocation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class StockAllocatorTest {
+
+    private final StockAllocator allocator = new StockAllocator(1.0, 0.5, 0.3);
+
+    @DisplayName("한 창고에서 모두 보낼 수 있으면 배송지에 가까운 창고 하나를 고른다")
+    @Test
+    void chooseSingleNearestWarehouse() {
+        // given
+        List<Line> lines = List.of(new Line(1L, 5), new Line(2L, 3));
+        Map<Long, ProductStock> stocks = Map.of(
+                1L, new ProductStock(new long[]{10L, 20L}, new int[]{10, 10}),
+                2L, new ProductStock(new long[]{10L, 20L}, new int[]{10, 10}));
+        Map<Long, Double> distance = Map.of(10L, 0.8, 20L, 0.1);
+
+        // when
+        List<WarehouseAllocation> allocations = allocator.allocate(lines, stocks, distance::get);
+
+        // then
+        assertThat(allocations).hasSize(1);
+        assertThat(allocations.get(0).warehouseId()).isEqualTo(20L);
+        assertThat(allocations.get(0).lines()).isEqualTo(lines);
+    }
+
+    @DisplayName("한 창고로 채울 수 없으면 적은 창고로 나누어 전체 수량을 배정한다")
+    @Test
+    void splitAcrossWarehouses() {
+        // given
+        List<Line> lines = List.of(new Line(1L, 5), new Line(2L, 4));
+        Map<Long, ProductStock> stocks = Map.of(
+                1L, new ProductStock(new long[]{10L, 20L, 30L}, new int[]{5, 2, 1}),
+                2L, new ProductStock(new long[]{20L, 30L}, new int[]{4, 1}));
+
+        // when
+        List<WarehouseAllocation> allocations = allocator.allocate(lines, stocks, warehouseId -> 0.1);
+
+        // then
+        assertThat(allocations).extracting(WarehouseAllocation::warehouseId).containsExactlyInAnyOrder(10L, 20L);
+        assertThat(allocations.stream().flatMap(allocation -> allocation.lines().stream()).toList())
+                .extracting(Line::productId, Line::quantity)
+                .containsExactlyInAnyOrder(tuple(1L, 5), tuple(2L, 4));
+    }
+
+    @DisplayName("모든 창고의 재고를 합쳐도 부족하면 빈 목록을 반환한다")
+    @Test
+    void unfulfillable() {
+        // given
+        List<Line> lines = List.of(new Line(1L, 10));
+        Map<Long, ProductStock> stocks = Map.of(
+                1L, new ProductStock(new long[]{10L, 20L}, new int[]{4, 5}));
+
+        // when & then
+        assertThat(allocator.allocate(lines, stocks, warehouseId -> 0.0)).isEmpty();
+        assertThat(allocator.allocate(List.of(new Line(99L, 1)), stocks, warehouseId -> 0.0)).isEmpty();
+    }
+
+    @DisplayName("우편번호 앞 세 자리 차이로 거리를 어림하고 형식이 맞지 않으면 가장 멀게 본다")
+    @Test
+    void postcodeDistance() {
+        assertThat(StockAllocator.postcodeDistance("06236", "06299")).isZero();
+        assertThat(StockAllocator.postcodeDistance("06236", "48058")).isGreaterThan(0.4);
+        assertThat(StockAllocator.postcodeDistance(null, "06236")).isEqualTo(1.0);
+    }
+
+    @DisplayName("상품 50개, 창고 20개 주문도 1ms 안쪽으로 배정한다")
+    @Test
+    void allocateLargeOrderQuickly() {
+        // given
+        Random random = new Random(42);
+        int warehouseCount = 20;
+        List<Line> lines = new ArrayList<>();
+        Map<Long, ProductStock> stocks = new HashMap<>();
+        for (long productId = 1; productId <= 50; productId++) {
+            lines.add(new Line(productId, 30));
+            long[] warehouseIds = new long[warehouseCount];
+            int[] available = new int[warehouseCount];
+            for (int w = 0; w < warehouseCount; w++) {
+                warehouseIds[w] = w + 1;
+                available[w] = random.nextInt(20);
+            }
+            stocks.put(productId, new ProductStock(warehouseIds, available));
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            allocator.allocate(lines, stocks, warehouseId -> warehouseId / 20.0);
+        }
+
+        // when
+        int runs = 1_000;
+        long started = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            allocator.allocate(lines, stocks, warehouseId -> warehouseId / 20.0);
+        }
+        long averageNanos = (System.nanoTime() - started) / runs;
+
+        // then
+        assertThat(allocator.allocate(lines, stocks, warehouseId -> warehouseId / 20.0)).isNotEmpty();
+        assertThat(averageNanos).isLessThan(1_000_000L);
+    }
+}
@@ -0,0 +1,57 @@
+package inventory.outbound.service.util;
+
+import inventory.outbound.service.util.WavePlanner.PlannedWave;
+import inventory.outbound.service.util.WavePlanner.WaveOrder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WavePlannerTest {
+
+    private static final LocalDate DAY1 = LocalDate.of(2030, 1, 1);
+    private static final LocalDate DAY2 = LocalDate.of(2030, 1, 2);
+
+    @DisplayName("출고 예정일이 바뀌면 새 웨이브가 시작된다")
+    @Test
+    void splitByExpectedDate() {
+        // given
+        WavePlanner planner = new WavePlanner(10, 1_000);
+        List<WaveOrder> orders = List.of(
+                new WaveOrder(1L, DAY1, 5),
+                new WaveOrder(2L, DAY1, 5),
+                new WaveOrder(3L, DAY2, 5));
+
+        // when
+        List<PlannedWave> waves = planner.plan(orders);
+
+        // then
+        assertThat(waves).hasSize(2);
+        assertThat(waves.get(0).outboundIds()).containsExactly(1L, 2L);
+        assertThat(waves.get(0).totalQuantity()).isEqualTo(10);
+        assertThat(waves.get(1).expectedDate()).isEqualTo(DAY2);
+    }
+
+    @DisplayName("출고 수나 수량 한도를 넘으면 웨이브를 나누고 한도보다 큰 출고는 단독 웨이브가 된다")
+    @Test
+    void splitByCapacity() {
+        // given
+        WavePlanner planner = new WavePlanner(2, 100);
+        List<WaveOrder> orders = List.of(
+                new WaveOrder(1L, DAY1, 10),
+                new WaveOrder(2L, DAY1, 10),
+                new WaveOrder(3L, DAY1, 10),
+                new WaveOrder(4L, DAY1, 95),
+                new WaveOrder(5L, DAY1, 300));
+
+        // when
+        List<PlannedWave> waves = planner.plan(orders);
+
+        // then
+        assertThat(waves).extracting(PlannedWave::outboundIds)
+                .containsExactly(List.of(1L, 2L), List.of(3L), List.of(4L), List.of(5L));
+    }
+}
@@ -3,9 +3,11 @@ package inventory.product.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import inventory.common.exception.GlobalExceptionHandler;
 import inventory.product.domain.Product;
+import inventory.product.service.ProductBulkImportService;
 import inventory.product.service.ProductService;
 import inventory.product.service.request.CreateProductRequest;
 import inventory.product.service.request.UpdateProductRequest;
+import inventory.product.service.response.ProductBulkImportResponse;
 import inventory.product.service.response.ProductResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,6 +22,9 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.InputStream;
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
@@ -42,6 +47,9 @@ class ProductControllerTest {
     @MockitoBean
     private ProductService productService;
 
+    @MockitoBean
+    private ProductBulkImportService productBulkImportService;
+
     @DisplayName("상품 생성을 성공하면 CREATED 상태와 상품 정보를 반환한다")
     @Test
     void createProductWithSuccess() throws Exception {
@@ -224,4 +232,29 @@ class ProductControllerTest {
                         .content(objectMapper.writeValueAsString(invalidRequest)))
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @DisplayName("상품 CSV 일괄 등록을 성공하면 OK 상태와 처리 결과를 반환한다")
+    @Test
+    void importProductsWithSuccess() throws Exception {
+        // given
+        String csv = """
+                supplierId,productName,productCode,unit,thumbnailUrl
+                1,상품1,PROD001,EA,
+                1,상품2,PROD002,EA,
+                """;
+
+        ProductBulkImportResponse response = new ProductBulkImportResponse(
+                2, 1, 1, 0, 10, 200, List.of(), false
+        );
+        when(productBulkImportService.importCsv(any(InputStream.class))).thenReturn(response);
+
+        // when & then
+        mockMvc.perform(post(BASE_URL + "/bulk")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.insertedCount").value(1))
+                .andExpect(jsonPath("$.data.updatedCount").value(1))
+                .andExpect(jsonPath("$.data.recordsPerSecond").value(200));
+    }
+}
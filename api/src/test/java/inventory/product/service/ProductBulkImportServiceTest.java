@@ -0,0 +1,222 @@
+package inventory.product.service;
+
+import inventory.product.domain.Product;
+import inventory.product.repository.ProductJdbcRepository;
+import inventory.product.repository.ProductRepository;
+import inventory.product.service.response.ProductBulkImportResponse;
+import inventory.product.service.response.ProductImportError;
+import inventory.supplier.domain.Supplier;
+import inventory.supplier.repository.SupplierRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+
+/**
+ * 일괄 등록은 레인별 스레드에서 각자 트랜잭션을 커밋하므로 테스트 트랜잭션으로 감싸지 않고 직접 정리한다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+class ProductBulkImportServiceTest {
+
+    @Autowired
+    private ProductBulkImportService productBulkImportService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private SupplierRepository supplierRepository;
+
+    @MockitoSpyBean
+    private ProductJdbcRepository productJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM product WHERE product_code LIKE 'BULK-%'");
+        jdbcTemplate.update("DELETE FROM supplier WHERE business_registration_number LIKE '999%'");
+    }
+
+    private Supplier createTestSupplier(String businessRegistrationNumber) {
+        Supplier supplier = Supplier.builder()
+                .name("일괄 등록 공급업체")
+                .businessRegistrationNumber(businessRegistrationNumber)
+                .postcode("12345")
+                .baseAddress("서울시 어딘가")
+                .detailAddress("상세주소")
+                .ceoName("대표")
+                .managerName("매니저")
+                .managerContact("01012345678")
+                .build();
+        return supplierRepository.save(supplier);
+    }
+
+    private InputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @DisplayName("새 상품코드는 등록하고 기존 상품코드는 수정하며 잘못된 줄은 줄 번호와 함께 보고한다")
+    @Test
+    void importCsvWithInsertAndUpdate() {
+        // given
+        Supplier supplier = createTestSupplier("9990000001");
+        Supplier otherSupplier = createTestSupplier("9990000002");
+        Long s = supplier.getSupplierId();
+        productRepository.save(Product.builder()
+                .supplierId(s)
+                .productName("기존 상품")
+                .productCode("BULK-001")
+                .unit("개")
+                .build());
+        productRepository.save(Product.builder()
+                .supplierId(otherSupplier.getSupplierId())
+                .productName("다른 공급업체 상품")
+                .productCode("BULK-999")
+                .unit("개")
+                .build());
+
+        String content = "supplierId,productName,productCode,unit,thumbnailUrl\n"
+                + s + ",수정된 상품,BULK-001,박스,\n"
+                + s + ",새 상품,BULK-002,개,https://example.com/a.png\n"
+                + s + ",새 상품 최종,BULK-002,개,\n"
+                + s + ",,BULK-003,개,\n"
+                + "999999,없는 공급업체,BULK-004,개,\n"
+                + s + ",가로채기,BULK-999,개,\n";
+
+        // when
+        ProductBulkImportResponse response = productBulkImportService.importCsv(csv(content));
+
+        // then
+        assertThat(response.totalLines()).isEqualTo(6);
+        assertThat(response.insertedCount()).isEqualTo(1);
+        assertThat(response.updatedCount()).isEqualTo(1);
+        assertThat(response.failedCount()).isEqualTo(4);
+        assertThat(response.errors()).extracting("lineNumber").containsExactly(3L, 5L, 6L, 7L);
+
+        Map<String, Long> ids = productRepository.findProductIdsByCodes(List.of("BULK-001", "BULK-002", "BULK-999"));
+        Product updated = productRepository.findById(ids.get("BULK-001")).orElseThrow();
+        assertThat(updated.getProductName()).isEqualTo("수정된 상품");
+        assertThat(updated.getUnit()).isEqualTo("박스");
+
+        Product inserted = productRepository.findById(ids.get("BULK-002")).orElseThrow();
+        assertThat(inserted.getProductName()).isEqualTo("새 상품 최종");
+        assertThat(inserted.getThumbnailUrl()).isEqualTo(Product.THUMBNAIL_DEFAULT_PNG);
+
+        Product untouched = productRepository.findById(ids.get("BULK-999")).orElseThrow();
+        assertThat(untouched.getProductName()).isEqualTo("다른 공급업체 상품");
+    }
+
+    @DisplayName("여러 청크에 걸친 대량 파일도 모든 상품을 한 번씩만 등록한다")
+    @Test
+    void importCsvWithManyChunks() {
+        // given
+        Supplier supplier = createTestSupplier("9990000003");
+        int productCount = 5_000;
+
+        StringBuilder content = new StringBuilder("supplierId,productName,productCode,unit,thumbnailUrl\n");
+        for (int i = 0; i < productCount; i++) {
+            content.append(supplier.getSupplierId()).append(",상품").append(i)
+                    .append(",BULK-M").append(i).append(",개,\n");
+        }
+        // 같은 코드가 다른 청크에 다시 나오면 수정으로 처리된다
+        for (int i = 0; i < 100; i++) {
+            content.append(supplier.getSupplierId()).append(",상품 재입력").append(i)
+                    .append(",BULK-M").append(i).append(",개,\n");
+        }
+
+        // when
+        ProductBulkImportResponse response = productBulkImportService.importCsv(csv(content.toString()));
+
+        // then
+        assertThat(response.failedCount()).isZero();
+        assertThat(response.insertedCount() + response.updatedCount()).isEqualTo(productCount + 100);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM product WHERE product_code LIKE 'BULK-M%'", Long.class))
+                .isEqualTo(productCount);
+    }
+
+    @DisplayName("삭제된 상품의 상품코드는 새로 등록하지 않고 그 상품을 되살려 수정한다")
+    @Test
+    void restoreSoftDeletedProduct() {
+        // given
+        Supplier supplier = createTestSupplier("9990000004");
+        Long s = supplier.getSupplierId();
+        Product deleted = productRepository.save(Product.builder()
+                .supplierId(s)
+                .productName("삭제된 상품")
+                .productCode("BULK-D1")
+                .unit("개")
+                .build());
+        productRepository.delete(deleted);
+
+        String content = "supplierId,productName,productCode,unit,thumbnailUrl\n"
+                + s + ",되살린 상품,BULK-D1,박스,\n";
+
+        // when
+        ProductBulkImportResponse response = productBulkImportService.importCsv(csv(content));
+
+        // then
+        assertThat(response.insertedCount()).isZero();
+        assertThat(response.updatedCount()).isEqualTo(1);
+        assertThat(response.failedCount()).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM product WHERE product_code = 'BULK-D1'", Long.class))
+                .isEqualTo(1);
+
+        Product restored = productRepository.findById(deleted.getProductId()).orElseThrow();
+        assertThat(restored.getProductName()).isEqualTo("되살린 상품");
+        assertThat(restored.getUnit()).isEqualTo("박스");
+        assertThat(restored.isDeleted()).isFalse();
+    }
+
+    @DisplayName("청크 저장이 실패해도 한 줄은 한 번만 실패로 세고, 중복과 없는 공급업체는 원래 사유로 보고한다")
+    @Test
+    void reportEachLineOnceWhenChunkFails() {
+        // given
+        Supplier supplier = createTestSupplier("9990000005");
+        Long s = supplier.getSupplierId();
+        doThrow(new DataIntegrityViolationException("상품코드 중복"))
+                .when(productJdbcRepository).batchInsert(anyList());
+
+        String content = "supplierId,productName,productCode,unit,thumbnailUrl\n"
+                + s + ",첫 입력,BULK-F1,개,\n"
+                + s + ",다시 입력,BULK-F1,개,\n"
+                + s + ",다른 상품,BULK-F2,개,\n"
+                + "999999,없는 공급업체,BULK-F3,개,\n";
+
+        // when
+        ProductBulkImportResponse response = productBulkImportService.importCsv(csv(content));
+
+        // then
+        assertThat(response.insertedCount()).isZero();
+        assertThat(response.updatedCount()).isZero();
+        assertThat(response.failedCount()).isEqualTo(4);
+        List<ProductImportError> errors = response.errors();
+        assertThat(errors).extracting(ProductImportError::lineNumber).containsExactly(2L, 3L, 4L, 5L);
+        assertThat(errors.get(0).message()).startsWith("같은 상품코드가 뒤에서 다시 등장해 건너뜁니다");
+        assertThat(errors.get(1).message()).isEqualTo("저장 중 오류가 발생했습니다.");
+        assertThat(errors.get(2).message()).isEqualTo("저장 중 오류가 발생했습니다.");
+        assertThat(errors.get(3).message()).startsWith("공급업체를 찾을 수 없습니다");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM product WHERE product_code LIKE 'BULK-F%'", Long.class))
+                .isZero();
+    }
+}
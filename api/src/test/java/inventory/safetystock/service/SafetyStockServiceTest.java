@@ -0,0 +1,231 @@
+package inventory.safetystock.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import inventory.outbound.domain.Outbound;
+import inventory.outbound.domain.OutboundProduct;
+import inventory.outbound.domain.enums.OutboundStatus;
+import inventory.outbound.repository.OutboundProductRepository;
+import inventory.outbound.repository.OutboundRepository;
+import inventory.safetystock.repository.SafetyStockJdbcRepository;
+import inventory.safetystock.service.SafetyStockService.WarehouseResult;
+import inventory.warehouse.domain.Warehouse;
+import inventory.warehouse.domain.WarehouseStock;
+import inventory.warehouse.repository.WarehouseRepository;
+import inventory.warehouse.repository.WarehouseStockRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ActiveProfiles("test")
+@Transactional
+@SpringBootTest
+class SafetyStockServiceTest {
+
+    private static final Long PRODUCT_ID = 1L;
+
+    @Autowired
+    private SafetyStockService safetyStockService;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private WarehouseStockRepository warehouseStockRepository;
+
+    @Autowired
+    private OutboundRepository outboundRepository;
+
+    @Autowired
+    private OutboundProductRepository outboundProductRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoSpyBean
+    private SafetyStockJdbcRepository safetyStockJdbcRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("reportDataSource")
+    private HikariDataSource reportDataSource;
+
+    @Autowired
+    @Qualifier("writeDataSource")
+    private HikariDataSource writeDataSource;
+
+    private Long warehouseId;
+
+    @BeforeEach
+    void setUp() {
+        Warehouse warehouse = warehouseRepository.save(Warehouse.builder()
+                .name("안전재고 테스트 창고")
+                .postcode("12345")
+                .baseAddress("서울시 어딘가")
+                .detailAddress("상세주소")
+                .managerName("관리자")
+                .managerContact("01012345678")
+                .build());
+        warehouseId = warehouse.getWarehouseId();
+
+        warehouseStockRepository.save(WarehouseStock.builder()
+                .warehouseId(warehouseId)
+                .productId(PRODUCT_ID)
+                .quantity(500)
+                .safetyStock(0)
+                .build());
+    }
+
+    private void ship(LocalDate shippedDate, int quantity) {
+        Outbound outbound = outboundRepository.save(Outbound.builder()
+                .warehouseId(warehouseId)
+                .recipientName("수령인")
+                .requestedDate(shippedDate)
+                .outboundStatus(OutboundStatus.SHIPPED)
+                .build());
+        outboundProductRepository.save(OutboundProduct.builder()
+                .outboundId(outbound.getOutboundId())
+                .productId(PRODUCT_ID)
+                .requestedQuantity(quantity)
+                .build());
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE outbound SET shipped_date = ? WHERE outbound_id = ?",
+                Date.valueOf(shippedDate), outbound.getOutboundId());
+    }
+
+    private WarehouseStock findStock() {
+        entityManager.clear();
+        return warehouseStockRepository.findByWarehouseIdAndProductId(warehouseId, PRODUCT_ID).orElseThrow();
+    }
+
+    private Long demandSum() {
+        return jdbcTemplate.queryForObject(
+                "SELECT demand_sum FROM demand_statistics WHERE warehouse_id = ? AND product_id = ?",
+                Long.class, warehouseId, PRODUCT_ID);
+    }
+
+    @DisplayName("출고 이력으로 계산한 안전재고와 재주문점이 창고 재고에 반영된다")
+    @Test
+    void recalculateWarehouse() {
+        // given: 20일 동안 10, 20개가 번갈아 출고
+        LocalDate processedThrough = LocalDate.now().minusDays(2);
+        for (int day = 0; day < 20; day++) {
+            ship(processedThrough.minusDays(day), day % 2 == 0 ? 10 : 20);
+        }
+
+        // when
+        WarehouseResult result = safetyStockService.recalculateWarehouse(warehouseId, processedThrough);
+
+        // then
+        WarehouseStock stock = findStock();
+        assertThat(result.calculatedProductCount()).isEqualTo(1);
+        assertThat(result.updatedStockCount()).isEqualTo(1);
+        assertThat(stock.getSafetyStock()).isEqualTo(22);
+        assertThat(stock.getReorderPoint()).isEqualTo(127);
+    }
+
+    @DisplayName("다음 실행은 마지막으로 반영한 날짜 이후의 이력만 더한다")
+    @Test
+    void recalculateWarehouseIncrementally() {
+        // given
+        LocalDate firstRun = LocalDate.now().minusDays(2);
+        for (int day = 0; day < 20; day++) {
+            ship(firstRun.minusDays(day), 15);
+        }
+        safetyStockService.recalculateWarehouse(warehouseId, firstRun);
+        ship(firstRun.plusDays(1), 30);
+
+        // when
+        WarehouseResult sameDay = safetyStockService.recalculateWarehouse(warehouseId, firstRun);
+        safetyStockService.recalculateWarehouse(warehouseId, firstRun.plusDays(1));
+
+        // then
+        assertThat(sameDay.calculatedProductCount()).isZero();
+        assertThat(demandSum()).isEqualTo(330L);
+        assertThat(findStock().getSafetyStock()).isPositive();
+    }
+
+    @DisplayName("기준일이 지나면 이력 창에서 밀려난 날의 수요를 통계에서 빼고 첫 수요일을 창의 시작으로 당긴다")
+    @Test
+    void slideHistoryWindow() {
+        // given: 창의 첫날에 30개, 마지막 19일 동안 10개씩 출고
+        LocalDate firstRun = LocalDate.now().minusDays(2);
+        ship(firstRun.minusDays(364), 30);
+        for (int day = 0; day < 19; day++) {
+            ship(firstRun.minusDays(day), 10);
+        }
+        safetyStockService.recalculateWarehouse(warehouseId, firstRun);
+
+        // when
+        safetyStockService.recalculateWarehouse(warehouseId, firstRun.plusDays(1));
+
+        // then
+        assertThat(demandSum()).isEqualTo(190L);
+        LocalDate firstDemandDate = jdbcTemplate.queryForObject(
+                "SELECT first_demand_date FROM demand_statistics WHERE warehouse_id = ? AND product_id = ?",
+                LocalDate.class, warehouseId, PRODUCT_ID);
+        assertThat(firstDemandDate).isEqualTo(firstRun.minusDays(363));
+    }
+
+    @DisplayName("마지막 실행이 이력 창보다 오래되었으면 저장된 통계를 버리고 창 안의 이력만 다시 쌓는다")
+    @Test
+    void resetStatisticsOutsideWindow() {
+        // given
+        LocalDate firstRun = LocalDate.now().minusDays(500);
+        ship(firstRun, 15);
+        safetyStockService.recalculateWarehouse(warehouseId, firstRun);
+        ship(LocalDate.now().minusDays(10), 20);
+
+        // when
+        safetyStockService.recalculateWarehouse(warehouseId, LocalDate.now().minusDays(1));
+
+        // then
+        assertThat(demandSum()).isEqualTo(20L);
+    }
+
+    @DisplayName("포크조인 작업 스레드에서도 이력은 리포트 풀에서 읽고 결과는 쓰기 풀에서 저장한다")
+    @Test
+    void routePoolsInsideWorkers() {
+        // given: 라우팅 데이터소스가 지금 고르는 풀을 기록한다
+        Queue<DataSource> readPools = new ConcurrentLinkedQueue<>();
+        Queue<DataSource> writePools = new ConcurrentLinkedQueue<>();
+        doAnswer(invocation -> {
+            readPools.add(dataSource.unwrap(HikariDataSource.class));
+            return invocation.callRealMethod();
+        }).when(safetyStockJdbcRepository).forEachDailyDemand(any(), any(), any(), any());
+        // 작업 스레드는 테스트 트랜잭션의 창고를 볼 수 없으므로 저장은 풀만 기록하고 되돌린다
+        doAnswer(invocation -> {
+            writePools.add(dataSource.unwrap(HikariDataSource.class));
+            throw new IllegalStateException("저장하지 않고 되돌린다");
+        }).when(safetyStockJdbcRepository).saveRun(any(), any(), any());
+
+        // when
+        safetyStockService.recalculateAll(LocalDate.now().minusDays(1));
+
+        // then
+        assertThat(readPools).isNotEmpty().allMatch(pool -> pool == reportDataSource);
+        assertThat(writePools).isNotEmpty().allMatch(pool -> pool == writeDataSource);
+    }
+}
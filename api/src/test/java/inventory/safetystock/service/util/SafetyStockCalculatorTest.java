@@ -0,0 +1,63 @@
+package inventory.safetystock.service.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SafetyStockCalculatorTest {
+
+    private final SafetyStockCalculator calculator = new SafetyStockCalculator(1.65, 7, 14);
+
+    private final LocalDate processedThrough = LocalDate.of(2030, 1, 31);
+
+    @DisplayName("리드타임 표본이 없으면 기본 리드타임으로 수요 변동만 반영한다")
+    @Test
+    void calculateWithDefaultLeadTime() {
+        // given: 20일 동안 10, 20개가 번갈아 출고 (평균 15, 분산 25)
+        DemandAccumulator accumulator = DemandAccumulator.empty(1L);
+        for (int day = 0; day < 20; day++) {
+            accumulator.addDailyDemand(processedThrough.minusDays(day), day % 2 == 0 ? 10 : 20);
+        }
+
+        // when
+        SafetyStockLevel level = calculator.calculate(accumulator, processedThrough);
+
+        // then: 1.65 * sqrt(7 * 25) = 21.83, 15 * 7 + 21.83 = 126.83
+        assertThat(level.safetyStock()).isEqualTo(22);
+        assertThat(level.reorderPoint()).isEqualTo(127);
+    }
+
+    @DisplayName("수요가 없는 날은 0으로 계산되고 리드타임 변동도 안전재고에 반영된다")
+    @Test
+    void calculateWithLeadTimeVariance() {
+        // given: 20일 중 하루만 200개 출고, 리드타임 2일과 4일
+        DemandAccumulator accumulator = DemandAccumulator.empty(1L);
+        accumulator.addDailyDemand(processedThrough.minusDays(19), 200);
+        accumulator.addLeadTime(2);
+        accumulator.addLeadTime(4);
+
+        // when
+        SafetyStockLevel level = calculator.calculate(accumulator, processedThrough);
+
+        // then: d = 10, σd² = 1900, L = 3, σL² = 1 -> 1.65 * sqrt(3 * 1900 + 100 * 1) = 125.66
+        assertThat(level.safetyStock()).isEqualTo(126);
+        assertThat(level.reorderPoint()).isEqualTo(156);
+    }
+
+    @DisplayName("관측 기간이 최소 일수보다 짧거나 수요가 없으면 계산하지 않는다")
+    @Test
+    void calculateWithInsufficientHistory() {
+        // given
+        DemandAccumulator recent = DemandAccumulator.empty(1L);
+        recent.addDailyDemand(processedThrough.minusDays(5), 10);
+        DemandAccumulator noDemand = DemandAccumulator.empty(2L);
+        noDemand.addLeadTime(3);
+
+        // when & then
+        assertThat(calculator.calculate(recent, processedThrough)).isNull();
+        assertThat(calculator.calculate(noDemand, processedThrough)).isNull();
+    }
+}
@@ -0,0 +1,201 @@
+package inventory.stockaudit.service;
+
+import inventory.inbound.domain.Inbound;
+import inventory.inbound.domain.InboundProduct;
+import inventory.inbound.domain.enums.InboundStatus;
+import inventory.inbound.repository.InboundProductRepository;
+import inventory.inbound.repository.InboundRepository;
+import inventory.outbound.domain.Outbound;
+import inventory.outbound.domain.OutboundProduct;
+import inventory.outbound.domain.enums.OutboundStatus;
+import inventory.outbound.repository.OutboundProductRepository;
+import inventory.outbound.repository.OutboundRepository;
+import inventory.product.domain.Product;
+import inventory.product.repository.ProductRepository;
+import inventory.stockaudit.service.response.StockAuditResponse;
+import inventory.stockaudit.service.response.StockDiscrepancyResponse;
+import inventory.warehouse.domain.Warehouse;
+import inventory.warehouse.domain.WarehouseStock;
+import inventory.warehouse.repository.WarehouseRepository;
+import inventory.warehouse.repository.WarehouseStockRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 점검은 포크조인 스레드의 별도 트랜잭션에서 읽으므로 테스트 트랜잭션 없이 실제로 커밋하고, 끝나면 직접 지운다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+class StockAuditServiceTest {
+
+    @Autowired
+    private StockAuditService stockAuditService;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private WarehouseStockRepository warehouseStockRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InboundRepository inboundRepository;
+
+    @Autowired
+    private InboundProductRepository inboundProductRepository;
+
+    @Autowired
+    private OutboundRepository outboundRepository;
+
+    @Autowired
+    private OutboundProductRepository outboundProductRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long warehouseId;
+    private Long product1Id;
+    private Long product2Id;
+    private Long product3Id;
+
+    @BeforeEach
+    void setUp() {
+        warehouseId = warehouseRepository.save(Warehouse.builder()
+                .name("점검 창고")
+                .postcode("12345")
+                .baseAddress("서울시 어딘가")
+                .detailAddress("상세주소")
+                .managerName("관리자")
+                .managerContact("01012345678")
+                .build()).getWarehouseId();
+        product1Id = saveProduct("AUDIT001");
+        product2Id = saveProduct("AUDIT002");
+        product3Id = saveProduct("AUDIT003");
+
+        // 입고 10/5 - 출고 완료 3 = 7/5, 피킹 중 2
+        Inbound inbound = inboundRepository.save(Inbound.builder()
+                .warehouseId(warehouseId).supplierId(1L).expectedDate(LocalDate.now())
+                .status(InboundStatus.COMPLETED).build());
+        inboundProductRepository.save(InboundProduct.builder()
+                .inboundId(inbound.getInboundId()).productId(product1Id).quantity(10).build());
+        inboundProductRepository.save(InboundProduct.builder()
+                .inboundId(inbound.getInboundId()).productId(product2Id).quantity(5).build());
+        saveOutbound(OutboundStatus.SHIPPED, product1Id, 3);
+        saveOutbound(OutboundStatus.PICKING, product1Id, 2);
+        saveOutbound(OutboundStatus.CANCELED, product2Id, 4);
+
+        saveStock(product1Id, 7);
+        saveStock(product2Id, 5);
+        // 이력 없이 들어온 재고
+        saveStock(product3Id, 9);
+        // 등록과 피킹 시작에서 두 번 예약된 상태
+        jdbcTemplate.update("UPDATE warehouse_stock SET reserved_quantity = 4 WHERE warehouse_id = ? AND product_id = ?",
+                warehouseId, product1Id);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM outbound_product WHERE outbound_id IN "
+                + "(SELECT outbound_id FROM outbound WHERE warehouse_id = ?)", warehouseId);
+        jdbcTemplate.update("DELETE FROM outbound WHERE warehouse_id = ?", warehouseId);
+        jdbcTemplate.update("DELETE FROM inbound_product WHERE inbound_id IN "
+                + "(SELECT inbound_id FROM inbound WHERE warehouse_id = ?)", warehouseId);
+        jdbcTemplate.update("DELETE FROM inbound WHERE warehouse_id = ?", warehouseId);
+        jdbcTemplate.update("DELETE FROM warehouse_stock WHERE warehouse_id = ?", warehouseId);
+        jdbcTemplate.update("DELETE FROM product WHERE product_id IN (?, ?, ?)", product1Id, product2Id, product3Id);
+        jdbcTemplate.update("DELETE FROM warehouse WHERE warehouse_id = ?", warehouseId);
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    private Long saveProduct(String productCode) {
+        return productRepository.save(Product.builder()
+                .supplierId(1L).productName("점검 상품").productCode(productCode).unit("개").build()).getProductId();
+    }
+
+    private void saveOutbound(OutboundStatus status, Long productId, int quantity) {
+        Outbound outbound = outboundRepository.save(Outbound.builder()
+                .warehouseId(warehouseId)
+                .recipientName("수령인")
+                .requestedDate(LocalDate.now())
+                .outboundStatus(status)
+                .build());
+        outboundProductRepository.save(OutboundProduct.builder()
+                .outboundId(outbound.getOutboundId()).productId(productId).requestedQuantity(quantity).build());
+    }
+
+    private void saveStock(Long productId, int quantity) {
+        warehouseStockRepository.save(WarehouseStock.builder()
+                .warehouseId(warehouseId).productId(productId).quantity(quantity).safetyStock(0).build());
+    }
+
+    private List<StockDiscrepancyResponse> discrepanciesOf(StockAuditResponse response) {
+        return response.discrepancies().stream()
+                .filter(discrepancy -> discrepancy.warehouseId().equals(warehouseId))
+                .toList();
+    }
+
+    private int reservedQuantityOf(Long productId) {
+        return warehouseStockRepository.findByWarehouseIdAndProductId(warehouseId, productId)
+                .orElseThrow()
+                .getReservedQuantity();
+    }
+
+    @DisplayName("이력으로 계산한 실재고나 예약 재고와 다른 상품만 보고하고, 보정하지 않으면 재고는 그대로다")
+    @Test
+    void auditWithoutCorrection() {
+        // when
+        StockAuditResponse response = stockAuditService.audit(false);
+
+        // then
+        assertThat(response.failedWarehouseCount()).isZero();
+        assertThat(discrepanciesOf(response))
+                .extracting(StockDiscrepancyResponse::productId,
+                        StockDiscrepancyResponse::quantity, StockDiscrepancyResponse::expectedQuantity,
+                        StockDiscrepancyResponse::reservedQuantity, StockDiscrepancyResponse::expectedReservedQuantity,
+                        StockDiscrepancyResponse::corrected)
+                .containsExactly(
+                        tuple(product1Id, 7, 7L, 4, 2L, false),
+                        tuple(product3Id, 9, 0L, 0, 0L, false));
+        assertThat(reservedQuantityOf(product1Id)).isEqualTo(4);
+    }
+
+    @DisplayName("보정하면 예약 재고만 진행 중인 출고 수량으로 맞추고 실재고 차이는 보고만 한다")
+    @Test
+    void auditWithCorrection() {
+        // when
+        StockAuditResponse response = stockAuditService.audit(true);
+
+        // then
+        assertThat(discrepanciesOf(response))
+                .extracting(StockDiscrepancyResponse::productId, StockDiscrepancyResponse::corrected)
+                .containsExactly(
+                        tuple(product1Id, true),
+                        tuple(product3Id, false));
+        assertThat(reservedQuantityOf(product1Id)).isEqualTo(2);
+        assertThat(warehouseStockRepository.findByWarehouseIdAndProductId(warehouseId, product3Id)
+                .orElseThrow().getQuantity()).isEqualTo(9);
+
+        // 다시 점검하면 예약 재고 차이는 남지 않는다
+        assertThat(discrepanciesOf(stockAuditService.audit(false)))
+                .extracting(StockDiscrepancyResponse::productId)
+                .containsExactly(product3Id);
+    }
+}
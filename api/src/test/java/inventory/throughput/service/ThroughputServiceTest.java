@@ -0,0 +1,186 @@
+package inventory.throughput.service;
+
+import inventory.common.exception.CustomException;
+import inventory.inbound.domain.Inbound;
+import inventory.inbound.domain.InboundProduct;
+import inventory.inbound.domain.enums.InboundStatus;
+import inventory.inbound.repository.InboundProductRepository;
+import inventory.inbound.repository.InboundRepository;
+import inventory.outbound.domain.Outbound;
+import inventory.outbound.domain.OutboundProduct;
+import inventory.outbound.domain.enums.OutboundStatus;
+import inventory.outbound.repository.OutboundProductRepository;
+import inventory.outbound.repository.OutboundRepository;
+import inventory.throughput.service.request.ThroughputLine;
+import inventory.throughput.service.response.DailyProductThroughputResponse;
+import inventory.throughput.service.response.WarehouseThroughputResponse;
+import inventory.warehouse.domain.Warehouse;
+import inventory.warehouse.repository.WarehouseRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@ActiveProfiles("test")
+@Transactional
+@SpringBootTest
+class ThroughputServiceTest {
+
+    @Autowired
+    private ThroughputService throughputService;
+
+    @Autowired
+    private ThroughputRebuildService throughputRebuildService;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private OutboundRepository outboundRepository;
+
+    @Autowired
+    private OutboundProductRepository outboundProductRepository;
+
+    @Autowired
+    private InboundRepository inboundRepository;
+
+    @Autowired
+    private InboundProductRepository inboundProductRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long warehouseId;
+
+    @BeforeEach
+    void setUp() {
+        Warehouse warehouse = warehouseRepository.save(Warehouse.builder()
+                .name("처리량 테스트 창고")
+                .postcode("12345")
+                .baseAddress("서울시 어딘가")
+                .detailAddress("상세주소")
+                .managerName("관리자")
+                .managerContact("01012345678")
+                .build());
+        warehouseId = warehouse.getWarehouseId();
+    }
+
+    private void createShippedOutbound(LocalDate shippedDate, Long productId, int quantity) {
+        Outbound outbound = outboundRepository.save(Outbound.builder()
+                .warehouseId(warehouseId)
+                .recipientName("수령인")
+                .requestedDate(shippedDate)
+                .outboundStatus(OutboundStatus.SHIPPED)
+                .build());
+        outboundProductRepository.save(OutboundProduct.builder()
+                .outboundId(outbound.getOutboundId())
+                .productId(productId)
+                .requestedQuantity(quantity)
+                .build());
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE outbound SET shipped_date = ? WHERE outbound_id = ?",
+                Date.valueOf(shippedDate), outbound.getOutboundId());
+    }
+
+    private void createCompletedInbound(Long productId, int quantity) {
+        Inbound inbound = inboundRepository.save(Inbound.builder()
+                .warehouseId(warehouseId)
+                .supplierId(1L)
+                .expectedDate(LocalDate.now())
+                .status(InboundStatus.COMPLETED)
+                .build());
+        inboundProductRepository.save(InboundProduct.builder()
+                .inboundId(inbound.getInboundId())
+                .productId(productId)
+                .quantity(quantity)
+                .build());
+        entityManager.flush();
+    }
+
+    @DisplayName("출고와 입고 완료가 일자별 집계에 누적되고 처리 내역이 없는 날은 0으로 채워진다")
+    @Test
+    void recordAndQueryThroughput() {
+        // given
+        LocalDate today = LocalDate.now();
+        throughputService.recordShipment(warehouseId, today,
+                List.of(new ThroughputLine(1L, 3), new ThroughputLine(1L, 2), new ThroughputLine(2L, 4)));
+        throughputService.recordShipment(warehouseId, today, List.of(new ThroughputLine(2L, 1)));
+        throughputService.recordReceipt(warehouseId, today, List.of(new ThroughputLine(1L, 10)));
+
+        // when
+        WarehouseThroughputResponse response =
+                throughputService.getWarehouseThroughput(warehouseId, today.minusDays(2), today);
+        List<DailyProductThroughputResponse> products =
+                throughputService.getProductThroughput(warehouseId, null, today, today);
+
+        // then
+        assertThat(response.days()).hasSize(3);
+        assertThat(response.days().get(0).shippedOrderCount()).isZero();
+        assertThat(response.shippedOrderCount()).isEqualTo(2);
+        assertThat(response.shippedQuantity()).isEqualTo(10);
+        assertThat(response.receivedInboundCount()).isEqualTo(1);
+        assertThat(response.receivedQuantity()).isEqualTo(10);
+        assertThat(products).extracting("productId", "shippedQuantity", "receivedQuantity")
+                .containsExactly(
+                        tuple(1L, 5L, 10L),
+                        tuple(2L, 5L, 0L));
+    }
+
+    @DisplayName("재계산은 기간의 집계를 지우고 출고/입고 이력으로 다시 채운다")
+    @Test
+    void rebuildWarehouse() {
+        // given
+        LocalDate today = LocalDate.now();
+        LocalDate yesterday = today.minusDays(1);
+        createShippedOutbound(yesterday, 1L, 3);
+        createShippedOutbound(yesterday, 1L, 4);
+        createShippedOutbound(today, 2L, 5);
+        createCompletedInbound(1L, 20);
+
+        // 이력과 맞지 않는 집계를 미리 넣어 둔다
+        throughputService.recordShipment(warehouseId, yesterday, List.of(new ThroughputLine(9L, 100)));
+
+        // when
+        int rowCount = throughputRebuildService.rebuildWarehouse(warehouseId, yesterday, today);
+        entityManager.clear();
+
+        // then
+        assertThat(rowCount).isEqualTo(2);
+
+        WarehouseThroughputResponse response = throughputService.getWarehouseThroughput(warehouseId, yesterday, today);
+        assertThat(response.days().get(0).shippedOrderCount()).isEqualTo(2);
+        assertThat(response.days().get(0).shippedQuantity()).isEqualTo(7);
+        assertThat(response.days().get(1).shippedOrderCount()).isEqualTo(1);
+        assertThat(response.days().get(1).receivedInboundCount()).isEqualTo(1);
+        assertThat(response.days().get(1).receivedQuantity()).isEqualTo(20);
+
+        List<DailyProductThroughputResponse> products =
+                throughputService.getProductThroughput(warehouseId, null, yesterday, today);
+        assertThat(products).extracting("productId").doesNotContain(9L);
+    }
+
+    @DisplayName("조회 기간이 366일을 넘으면 예외가 발생한다")
+    @Test
+    void getWarehouseThroughputWithTooLongRange() {
+        // when & then
+        LocalDate today = LocalDate.now();
+        assertThatThrownBy(() -> throughputService.getWarehouseThroughput(warehouseId, today.minusDays(366), today))
+                .isInstanceOf(CustomException.class);
+    }
+}
@@ -0,0 +1,289 @@
+package inventory.transfer.service;
+
+import inventory.common.exception.CustomException;
+import inventory.common.exception.ExceptionCode;
+import inventory.outbound.domain.Outbound;
+import inventory.outbound.domain.OutboundProduct;
+import inventory.outbound.domain.enums.OutboundStatus;
+import inventory.outbound.repository.OutboundProductRepository;
+import inventory.outbound.repository.OutboundRepository;
+import inventory.outbound.service.OutboundBulkService;
+import inventory.product.domain.Product;
+import inventory.product.repository.ProductRepository;
+import inventory.transfer.service.request.CreateStockTransferRequest;
+import inventory.transfer.service.request.StockTransferProductRequest;
+import inventory.transfer.service.response.StockTransferProductResponse;
+import inventory.transfer.service.response.StockTransferResponse;
+import inventory.warehouse.domain.Warehouse;
+import inventory.warehouse.domain.WarehouseStock;
+import inventory.warehouse.repository.WarehouseRepository;
+import inventory.warehouse.repository.WarehouseStockRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 이동은 자체 트랜잭션으로 커밋되고 동시성 테스트는 여러 스레드에서 실행되므로 테스트 트랜잭션 없이 커밋하고, 끝나면 직접 지운다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+class StockTransferServiceTest {
+
+    private static final int INITIAL_QUANTITY = 1_000;
+
+    @Autowired
+    private StockTransferService stockTransferService;
+
+    @Autowired
+    private OutboundBulkService outboundBulkService;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private WarehouseStockRepository warehouseStockRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OutboundRepository outboundRepository;
+
+    @Autowired
+    private OutboundProductRepository outboundProductRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long warehouseA;
+    private Long warehouseB;
+    private List<Long> productIds;
+
+    @BeforeEach
+    void setUp() {
+        warehouseA = saveWarehouse("이동 창고 A");
+        warehouseB = saveWarehouse("이동 창고 B");
+        productIds = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            productIds.add(productRepository.save(Product.builder()
+                    .supplierId(1L).productName("이동 상품" + i).productCode("TRANSFER00" + i).unit("개").build())
+                    .getProductId());
+        }
+        for (Long productId : productIds.subList(0, 3)) {
+            saveStock(warehouseA, productId);
+            saveStock(warehouseB, productId);
+        }
+        // 네 번째 상품은 A 창고에만 있다
+        saveStock(warehouseA, productIds.get(3));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM stock_transfer_product WHERE stock_transfer_id IN "
+                        + "(SELECT stock_transfer_id FROM stock_transfer WHERE from_warehouse_id IN (?, ?))",
+                warehouseA, warehouseB);
+        jdbcTemplate.update("DELETE FROM stock_transfer WHERE from_warehouse_id IN (?, ?)", warehouseA, warehouseB);
+        jdbcTemplate.update("DELETE FROM outbound_product WHERE outbound_id IN "
+                + "(SELECT outbound_id FROM outbound WHERE warehouse_id IN (?, ?))", warehouseA, warehouseB);
+        jdbcTemplate.update("DELETE FROM outbound WHERE warehouse_id IN (?, ?)", warehouseA, warehouseB);
+        jdbcTemplate.update("DELETE FROM warehouse_stock WHERE warehouse_id IN (?, ?)", warehouseA, warehouseB);
+        for (Long productId : productIds) {
+            jdbcTemplate.update("DELETE FROM product WHERE product_id = ?", productId);
+        }
+        jdbcTemplate.update("DELETE FROM warehouse WHERE warehouse_id IN (?, ?)", warehouseA, warehouseB);
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    private Long saveWarehouse(String name) {
+        return warehouseRepository.save(Warehouse.builder()
+                .name(name)
+                .postcode("12345")
+                .baseAddress("서울시 어딘가")
+                .detailAddress("상세주소")
+                .managerName("관리자")
+                .managerContact("01012345678")
+                .build()).getWarehouseId();
+    }
+
+    private void saveStock(Long warehouseId, Long productId) {
+        warehouseStockRepository.save(WarehouseStock.builder()
+                .warehouseId(warehouseId).productId(productId).quantity(INITIAL_QUANTITY).safetyStock(0).build());
+    }
+
+    private WarehouseStock findStock(Long warehouseId, Long productId) {
+        return warehouseStockRepository.findByWarehouseIdAndProductId(warehouseId, productId).orElseThrow();
+    }
+
+    private CreateStockTransferRequest request(Long from, Long to, List<Long> products, int quantity) {
+        return new CreateStockTransferRequest(from, to, products.stream()
+                .map(productId -> new StockTransferProductRequest(productId, quantity))
+                .toList());
+    }
+
+    private Long saveOrderedOutbound(Long warehouseId, List<Long> products) {
+        Outbound outbound = outboundRepository.save(Outbound.builder()
+                .warehouseId(warehouseId)
+                .recipientName("수령인")
+                .requestedDate(LocalDate.now())
+                .outboundStatus(OutboundStatus.ORDERED)
+                .build());
+        for (Long productId : products) {
+            outboundProductRepository.save(OutboundProduct.builder()
+                    .outboundId(outbound.getOutboundId()).productId(productId).requestedQuantity(1).build());
+            // 출고 등록처럼 재고를 예약해 둔다
+            jdbcTemplate.update("UPDATE warehouse_stock SET reserved_quantity = reserved_quantity + 1 "
+                    + "WHERE warehouse_id = ? AND product_id = ?", warehouseId, productId);
+        }
+        return outbound.getOutboundId();
+    }
+
+    private Integer transferCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM stock_transfer WHERE from_warehouse_id IN (?, ?)",
+                Integer.class, warehouseA, warehouseB);
+    }
+
+    @DisplayName("여러 상품을 한 번에 옮기고, 도착 창고에 없는 재고는 새로 만든다")
+    @Test
+    void transfer() {
+        // when
+        StockTransferResponse response = stockTransferService.transfer(new CreateStockTransferRequest(
+                warehouseA, warehouseB, List.of(
+                        new StockTransferProductRequest(productIds.get(3), 30),
+                        new StockTransferProductRequest(productIds.get(0), 10),
+                        new StockTransferProductRequest(productIds.get(0), 5))));
+
+        // then
+        assertThat(response.products())
+                .extracting(StockTransferProductResponse::productId, StockTransferProductResponse::quantity,
+                        StockTransferProductResponse::fromQuantity, StockTransferProductResponse::toQuantity)
+                .containsExactly(
+                        tuple(productIds.get(0), 15, INITIAL_QUANTITY - 15, INITIAL_QUANTITY + 15),
+                        tuple(productIds.get(3), 30, INITIAL_QUANTITY - 30, 30));
+        assertThat(findStock(warehouseA, productIds.get(0)).getQuantity()).isEqualTo(INITIAL_QUANTITY - 15);
+        assertThat(findStock(warehouseB, productIds.get(0)).getQuantity()).isEqualTo(INITIAL_QUANTITY + 15);
+        assertThat(findStock(warehouseB, productIds.get(3)).getQuantity()).isEqualTo(30);
+        assertThat(transferCount()).isEqualTo(1);
+    }
+
+    @DisplayName("한 상품이라도 가용 재고가 부족하면 아무것도 옮기지 않는다")
+    @Test
+    void transferRollsBackOnShortage() {
+        // given
+        jdbcTemplate.update("UPDATE warehouse_stock SET reserved_quantity = ? WHERE warehouse_id = ? AND product_id = ?",
+                INITIAL_QUANTITY - 5, warehouseA, productIds.get(1));
+
+        // when & then
+        assertThatThrownBy(() -> stockTransferService.transfer(new CreateStockTransferRequest(
+                warehouseA, warehouseB, List.of(
+                        new StockTransferProductRequest(productIds.get(0), 10),
+                        new StockTransferProductRequest(productIds.get(1), 10)))))
+                .isInstanceOf(CustomException.class)
+                .extracting("exceptionCode")
+                .isEqualTo(ExceptionCode.INSUFFICIENT_STOCK);
+        assertThat(findStock(warehouseA, productIds.get(0)).getQuantity()).isEqualTo(INITIAL_QUANTITY);
+        assertThat(findStock(warehouseB, productIds.get(0)).getQuantity()).isEqualTo(INITIAL_QUANTITY);
+        assertThat(transferCount()).isZero();
+    }
+
+    @DisplayName("같은 창고로는 옮길 수 없다")
+    @Test
+    void transferToSameWarehouse() {
+        assertThatThrownBy(() -> stockTransferService.transfer(request(warehouseA, warehouseA, productIds, 1)))
+                .isInstanceOf(CustomException.class)
+                .extracting("exceptionCode")
+                .isEqualTo(ExceptionCode.INVALID_INPUT);
+    }
+
+    @DisplayName("양방향 이동과 피킹 시작이 같은 재고를 동시에 잠가도 교착 없이 모두 반영된다")
+    @Test
+    void concurrentTransfersAndPickings() throws InterruptedException {
+        // given
+        List<Long> shared = productIds.subList(0, 3);
+        List<Long> reversed = new ArrayList<>(shared);
+        Collections.reverse(reversed);
+        int rounds = 40;
+        List<Long> outboundsA = new ArrayList<>();
+        List<Long> outboundsB = new ArrayList<>();
+        for (int i = 0; i < rounds / 2; i++) {
+            outboundsA.add(saveOrderedOutbound(warehouseA, reversed));
+            outboundsB.add(saveOrderedOutbound(warehouseB, reversed));
+        }
+
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < rounds; i++) {
+            // 요청 순서를 섞어도 잠금 순서는 같아야 한다
+            List<Long> products = i % 2 == 0 ? shared : reversed;
+            tasks.add(i % 2 == 0
+                    ? () -> stockTransferService.transfer(request(warehouseA, warehouseB, products, 3))
+                    : () -> stockTransferService.transfer(request(warehouseB, warehouseA, products, 2)));
+        }
+        for (int i = 0; i < rounds / 2; i++) {
+            Long outboundA = outboundsA.get(i);
+            Long outboundB = outboundsB.get(i);
+            tasks.add(() -> outboundBulkService.startPickings(List.of(outboundA, outboundB)));
+        }
+        Collections.shuffle(tasks);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(tasks.size());
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        for (Runnable task : tasks) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    task.run();
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // when
+        start.countDown();
+        boolean finished = done.await(60, TimeUnit.SECONDS);
+        executor.shutdownNow();
+
+        // then
+        assertThat(finished).isTrue();
+        assertThat(failures).isEmpty();
+        assertThat(transferCount()).isEqualTo(rounds);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbound WHERE warehouse_id IN (?, ?) AND outbound_status = 'PICKING'",
+                Integer.class, warehouseA, warehouseB)).isEqualTo(rounds);
+        for (Long productId : shared) {
+            WarehouseStock stockA = findStock(warehouseA, productId);
+            WarehouseStock stockB = findStock(warehouseB, productId);
+            assertThat(stockA.getQuantity()).isEqualTo(INITIAL_QUANTITY - (rounds / 2) * 3 + (rounds / 2) * 2);
+            assertThat(stockA.getQuantity() + stockB.getQuantity()).isEqualTo(INITIAL_QUANTITY * 2);
+            assertThat(stockA.getReservedQuantity()).isEqualTo(rounds / 2);
+            assertThat(stockB.getReservedQuantity()).isEqualTo(rounds / 2);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package inventory.warehouse.service;
+
+import inventory.product.domain.Product;
+import inventory.product.repository.ProductRepository;
+import inventory.warehouse.domain.Warehouse;
+import inventory.warehouse.domain.WarehouseStock;
+import inventory.warehouse.repository.WarehouseRepository;
+import inventory.warehouse.repository.WarehouseStockJdbcRepository;
+import inventory.warehouse.repository.WarehouseStockRepository;
+import inventory.warehouse.service.event.StockChangedEvent;
+import inventory.warehouse.service.response.ProductAvailabilityResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 테스트 설정은 집계를 꺼 두므로 여기서만 켠다. 예약된 반영과 전체 갱신은 사실상 돌지 않게 두고 테스트에서 직접 호출한다.
+ * 커밋 후 이벤트를 확인해야 하므로 테스트 트랜잭션 없이 커밋하고, 끝나면 직접 지운다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "stock-aggregate.enabled=true",
+        "stock-aggregate.flush-millis=3600000",
+        "stock-aggregate.refresh-millis=3600000"
+})
+class ProductAvailabilityAggregateTest {
+
+    @Autowired
+    private ProductAvailabilityAggregate aggregate;
+
+    @MockitoSpyBean
+    private WarehouseStockJdbcRepository warehouseStockJdbcRepository;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private WarehouseStockRepository warehouseStockRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long warehouseId;
+    private Long productId1;
+    private Long productId2;
+
+    @BeforeEach
+    void setUp() {
+        warehouseId = warehouseRepository.save(Warehouse.builder()
+                .name("집계 테스트 창고")
+                .postcode("12345")
+                .baseAddress("서울시 어딘가")
+                .detailAddress("상세주소")
+                .managerName("관리자")
+                .managerContact("01012345678")
+                .build()).getWarehouseId();
+        productId1 = saveProduct("AGG001");
+        productId2 = saveProduct("AGG002");
+        warehouseStockRepository.save(WarehouseStock.builder()
+                .warehouseId(warehouseId).productId(productId1).quantity(10).safetyStock(0).build());
+        warehouseStockRepository.save(WarehouseStock.builder()
+                .warehouseId(warehouseId).productId(productId2).quantity(20).safetyStock(0).build());
+
+        aggregate.refresh();
+        clearInvocations(warehouseStockJdbcRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM warehouse_stock WHERE warehouse_id = ?", warehouseId);
+        jdbcTemplate.update("DELETE FROM product WHERE product_id IN (?, ?)", productId1, productId2);
+        jdbcTemplate.update("DELETE FROM warehouse WHERE warehouse_id = ?", warehouseId);
+        entityManagerFactory.getCache().evictAll();
+        aggregate.refresh();
+    }
+
+    private Long saveProduct(String productCode) {
+        return productRepository.save(Product.builder()
+                .supplierId(1L).productName("집계 상품 " + productCode).productCode(productCode).unit("개").build())
+                .getProductId();
+    }
+
+    // 재고 행을 바꾸고 같은 트랜잭션에서 변경 이벤트를 발행한다
+    private void changeStock(Long productId, int quantity, boolean rollback) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE warehouse_stock SET quantity = ? WHERE warehouse_id = ? AND product_id = ?",
+                    quantity, warehouseId, productId);
+            eventPublisher.publishEvent(StockChangedEvent.of(warehouseId, List.of(productId)));
+            if (rollback) {
+                status.setRollbackOnly();
+            }
+        });
+    }
+
+    private int quantity(Long productId) {
+        return findOne(productId).quantity();
+    }
+
+    private ProductAvailabilityResponse findOne(Long productId) {
+        return aggregate.find(new long[]{productId}).get(0);
+    }
+
+    @DisplayName("커밋된 재고 변경은 반영 후 응답에 보이고 롤백된 변경은 대기열에 들어가지 않는다")
+    @Test
+    void applyOnlyCommittedChanges() {
+        // when
+        changeStock(productId1, 15, false);
+        changeStock(productId2, 99, true);
+        // 롤백된 변경의 이벤트가 대기열에 있었다면 아래 직접 수정도 함께 읽혔을 것이다
+        jdbcTemplate.update("UPDATE warehouse_stock SET quantity = 30 WHERE warehouse_id = ? AND product_id = ?",
+                warehouseId, productId2);
+        aggregate.flush();
+
+        // then
+        assertThat(quantity(productId1)).isEqualTo(15);
+        assertThat(quantity(productId2)).isEqualTo(20);
+    }
+
+    @DisplayName("한 번 반영할 때 같은 창고의 변경은 상품을 합쳐 한 번만 다시 읽는다")
+    @Test
+    void coalesceEventsPerWarehouse() {
+        // given
+        aggregate.onStockChanged(StockChangedEvent.of(warehouseId, List.of(productId1)));
+        aggregate.onStockChanged(StockChangedEvent.of(warehouseId, List.of(productId1, productId2)));
+        aggregate.onStockChanged(StockChangedEvent.of(warehouseId, List.of(productId2)));
+
+        // when
+        aggregate.flush();
+        aggregate.flush();
+
+        // then
+        verify(warehouseStockJdbcRepository, times(1)).findStocks(eq(warehouseId),
+                argThat(productIds -> Set.copyOf(productIds).equals(Set.of(productId1, productId2))));
+        verify(warehouseStockJdbcRepository, times(1)).findStocks(any(), anyCollection());
+    }
+
+    @DisplayName("다시 읽었을 때 재고 행이 없으면 집계에서 빠져 0으로 응답한다")
+    @Test
+    void removeDeletedRow() {
+        // given
+        jdbcTemplate.update("DELETE FROM warehouse_stock WHERE warehouse_id = ? AND product_id = ?",
+                warehouseId, productId1);
+        aggregate.onStockChanged(StockChangedEvent.of(warehouseId, List.of(productId1)));
+
+        // when
+        aggregate.flush();
+
+        // then
+        ProductAvailabilityResponse response = findOne(productId1);
+        assertThat(response.quantity()).isZero();
+        assertThat(response.warehouses()).isEmpty();
+        assertThat(quantity(productId2)).isEqualTo(20);
+    }
+
+    @DisplayName("전체 갱신이 읽은 뒤 반영된 변경은 새 집계로 바뀐 뒤 다시 반영되어 잃지 않는다")
+    @Test
+    void replayChangesAppliedDuringRefresh() throws Exception {
+        // given: 전체 갱신이 이전 값을 다 읽은 뒤 집계를 바꾸기 전에 멈춘다
+        CountDownLatch read = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            invocation.callRealMethod();
+            read.countDown();
+            assertThat(resume.await(10, TimeUnit.SECONDS)).isTrue();
+            return null;
+        }).when(warehouseStockJdbcRepository).forEachStock(any());
+        CompletableFuture<Void> refresh = CompletableFuture.runAsync(aggregate::refresh);
+        assertThat(read.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // when: 그 사이에 커밋된 변경을 반영한다
+        changeStock(productId1, 40, false);
+        aggregate.flush();
+        assertThat(quantity(productId1)).isEqualTo(40);
+        resume.countDown();
+        refresh.get(10, TimeUnit.SECONDS);
+        int afterRefresh = quantity(productId1);
+        aggregate.flush();
+
+        // then
+        assertThat(afterRefresh).isEqualTo(10);
+        assertThat(quantity(productId1)).isEqualTo(40);
+    }
+
+    @DisplayName("반영할 값을 읽는 사이에 전체 갱신이 끝나면 읽은 값을 버리고 다음 반영에서 다시 읽어 새 값을 덮어쓰지 않는다")
+    @Test
+    void discardRowsReadBeforeRefresh() {
+        // given: 반영이 15를 읽은 뒤 재고가 50으로 바뀌고 전체 갱신이 그 값을 읽어 집계를 바꾼다
+        changeStock(productId1, 15, false);
+        doAnswer(invocation -> {
+            Object rows = invocation.callRealMethod();
+            jdbcTemplate.update("UPDATE warehouse_stock SET quantity = 50 WHERE warehouse_id = ? AND product_id = ?",
+                    warehouseId, productId1);
+            aggregate.refresh();
+            return rows;
+        }).doCallRealMethod().when(warehouseStockJdbcRepository).findStocks(any(), anyCollection());
+
+        // when
+        aggregate.flush();
+        int afterFirstFlush = quantity(productId1);
+        aggregate.flush();
+
+        // then
+        assertThat(afterFirstFlush).isEqualTo(50);
+        assertThat(quantity(productId1)).isEqualTo(50);
+        verify(warehouseStockJdbcRepository, times(2)).findStocks(any(), anyCollection());
+    }
+}
@@ -0,0 +1,338 @@
+package inventory.warehouse.service;
+
+import inventory.common.exception.CustomException;
+import inventory.common.exception.ExceptionCode;
+import inventory.outbound.service.OutboundBulkService;
+import inventory.outbound.service.OutboundService;
+import inventory.outbound.service.request.CreateOutboundRequest;
+import inventory.outbound.service.request.OutboundProductRequest;
+import inventory.outbound.service.response.OutboundResponse;
+import inventory.product.domain.Product;
+import inventory.product.repository.ProductRepository;
+import inventory.warehouse.domain.Warehouse;
+import inventory.warehouse.domain.WarehouseStock;
+import inventory.warehouse.repository.WarehouseRepository;
+import inventory.warehouse.repository.WarehouseStockBucketJdbcRepository;
+import inventory.warehouse.repository.WarehouseStockBucketJdbcRepository.BucketRow;
+import inventory.warehouse.repository.WarehouseStockJdbcRepository;
+import inventory.warehouse.repository.WarehouseStockJdbcRepository.StockDelta;
+import inventory.warehouse.repository.WarehouseStockJdbcRepository.StockRow;
+import inventory.warehouse.repository.WarehouseStockRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+
+/**
+ * 기본 설정은 재고를 나누지 않고 재고 행도 잠그지 않으므로 운영에서 함께 쓰는 두 모드를 이 테스트에서만 켠다.
+ * 나누고 합치기는 테스트에서 직접 부르므로 주기 작업은 돌지 않게 한다.
+ */
+@ActiveProfiles("test")
+@Transactional
+@SpringBootTest(properties = {
+        "outbound.stock-lock.mode=PESSIMISTIC",
+        "stock-split.enabled=true",
+        "stock-split.buckets=4",
+        "stock-split.interval-millis=3600000"
+})
+class SplitStockServiceTest {
+
+    @Autowired
+    private SplitStockService splitStockService;
+
+    @Autowired
+    private OutboundService outboundService;
+
+    @Autowired
+    private OutboundBulkService outboundBulkService;
+
+    @Autowired
+    private WarehouseStockService warehouseStockService;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private WarehouseStockRepository warehouseStockRepository;
+
+    @Autowired
+    private WarehouseStockJdbcRepository warehouseStockJdbcRepository;
+
+    @MockitoSpyBean
+    private WarehouseStockBucketJdbcRepository bucketJdbcRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long warehouseId;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        Warehouse warehouse = warehouseRepository.save(Warehouse.builder()
+                .name("버킷 테스트 창고")
+                .postcode("12345")
+                .baseAddress("서울시 어딘가")
+                .detailAddress("상세주소")
+                .managerName("관리자")
+                .managerContact("01012345678")
+                .build());
+        warehouseId = warehouse.getWarehouseId();
+
+        Product product = productRepository.save(Product.builder()
+                .supplierId(1L).productName("인기 상품").productCode("HOT001").unit("개").build());
+        productId = product.getProductId();
+
+        warehouseStockRepository.save(WarehouseStock.builder()
+                .warehouseId(warehouseId).productId(productId).quantity(100).safetyStock(0).build());
+        entityManager.flush();
+    }
+
+    private OutboundResponse createOutbound(int quantity) {
+        OutboundResponse response = outboundService.createOutbound(new CreateOutboundRequest(
+                warehouseId,
+                LocalDate.now().plusDays(1),
+                "수령인",
+                "01011112222",
+                "12345",
+                "서울시 어딘가",
+                "상세주소",
+                null,
+                List.of(new OutboundProductRequest(productId, quantity))));
+        entityManager.flush();
+        entityManager.clear();
+        return response;
+    }
+
+    private void split() {
+        assertThat(splitStockService.split(warehouseId, productId)).isTrue();
+        entityManager.clear();
+    }
+
+    // 다른 노드가 나눈 것처럼 이 노드의 나뉜 재고 목록을 거치지 않고 버킷을 만든다
+    private void splitOnAnotherNode() {
+        bucketJdbcRepository.insert(List.of(
+                new BucketRow(warehouseId, productId, 0, 25),
+                new BucketRow(warehouseId, productId, 1, 25),
+                new BucketRow(warehouseId, productId, 2, 25),
+                new BucketRow(warehouseId, productId, 3, 25)));
+        warehouseStockJdbcRepository.applyDeltas(List.of(new StockDelta(warehouseId, productId, 0, 100)));
+        entityManager.clear();
+    }
+
+    private WarehouseStock findStock() {
+        entityManager.clear();
+        return warehouseStockRepository.findByWarehouseIdAndProductId(warehouseId, productId).orElseThrow();
+    }
+
+    // 화면과 집계에 나가는 조회처럼 버킷에 남은 수량을 예약에서 뺀 값을 읽는다
+    private StockRow visibleStock() {
+        return warehouseStockJdbcRepository.findStocks(warehouseId, List.of(productId)).get(0);
+    }
+
+    private int rowReservedQuantity() {
+        return jdbcTemplate.queryForObject(
+                "SELECT reserved_quantity FROM warehouse_stock WHERE warehouse_id = ? AND product_id = ?",
+                Integer.class, warehouseId, productId);
+    }
+
+    private List<Integer> bucketQuantities() {
+        return bucketJdbcRepository.findBuckets(warehouseId, productId).stream()
+                .map(BucketRow::quantity)
+                .toList();
+    }
+
+    @DisplayName("재고를 나누면 가용 재고가 버킷에 고르게 담기고 조회하는 예약은 그대로이며 엔티티는 재고 행 값을 본다")
+    @Test
+    void split_keepsVisibleQuantities() {
+        // when
+        split();
+
+        // then
+        assertThat(bucketQuantities()).containsExactly(25, 25, 25, 25);
+        assertThat(rowReservedQuantity()).isEqualTo(100);
+        assertThat(visibleStock())
+                .extracting(StockRow::quantity, StockRow::reservedQuantity)
+                .containsExactly(100, 0);
+        assertThat(findStock().getReservedQuantity()).isEqualTo(100);
+        assertThat(splitStockService.isSplit(warehouseId, productId)).isTrue();
+        assertThat(splitStockService.split(warehouseId, productId)).isFalse();
+    }
+
+    @DisplayName("나뉜 재고의 예약은 재고 행을 바꾸지 않고 버킷에서 빼며 한 버킷이 모자라면 다른 버킷에서 빌린다")
+    @Test
+    void reserve_borrowsFromSiblingBuckets() {
+        // given
+        split();
+
+        // when
+        createOutbound(30);
+
+        // then
+        assertThat(rowReservedQuantity()).isEqualTo(100);
+        assertThat(bucketQuantities()).hasSize(4)
+                .filteredOn(quantity -> quantity < 25)
+                .hasSize(2);
+        assertThat(bucketQuantities().stream().mapToInt(Integer::intValue).sum()).isEqualTo(70);
+        assertThat(visibleStock())
+                .extracting(StockRow::quantity, StockRow::reservedQuantity)
+                .containsExactly(100, 30);
+    }
+
+    @DisplayName("다른 노드가 방금 나눠 이 노드의 목록에 없는 재고도 버킷에서 예약하고 모자라면 재고 부족으로 실패한다")
+    @Test
+    void reserve_splitOnAnotherNode() {
+        // given
+        splitOnAnotherNode();
+
+        // when
+        createOutbound(30);
+
+        // then
+        assertThat(rowReservedQuantity()).isEqualTo(100);
+        assertThat(bucketQuantities().stream().mapToInt(Integer::intValue).sum()).isEqualTo(70);
+        assertThatThrownBy(() -> createOutbound(71))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getExceptionCode())
+                .isEqualTo(ExceptionCode.INSUFFICIENT_STOCK);
+    }
+
+    @DisplayName("버킷을 읽은 뒤에 나뉘어 재고 행이 모자라면 버킷을 잠가 다시 읽고 거기서 예약한다")
+    @Test
+    void reserve_takesFromLockedBucketsWhenSplitAfterRead() {
+        // given: 예약할 때 읽은 버킷이 나누기 전의 것이었다
+        splitOnAnotherNode();
+        doReturn(List.of()).doCallRealMethod().when(bucketJdbcRepository).findBuckets(warehouseId, productId);
+
+        // when
+        createOutbound(30);
+
+        // then
+        assertThat(rowReservedQuantity()).isEqualTo(100);
+        assertThat(bucketQuantities()).containsExactly(0, 20, 25, 25);
+        assertThat(visibleStock())
+                .extracting(StockRow::quantity, StockRow::reservedQuantity)
+                .containsExactly(100, 30);
+    }
+
+    @DisplayName("버킷이 모두 마르면 입고로 재고 행에 생긴 가용 재고에서 예약하고 그보다 많으면 실패한다")
+    @Test
+    void reserve_fallsBackToStockRow() {
+        // given
+        split();
+        warehouseStockJdbcRepository.applyDeltas(List.of(new StockDelta(warehouseId, productId, 10, 0)));
+
+        // when
+        createOutbound(105);
+
+        // then
+        assertThat(bucketQuantities()).containsOnly(0);
+        assertThat(rowReservedQuantity()).isEqualTo(105);
+        assertThatThrownBy(() -> createOutbound(6))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getExceptionCode())
+                .isEqualTo(ExceptionCode.INSUFFICIENT_STOCK);
+    }
+
+    @DisplayName("버킷에서만 예약해 재고 행이 그대로여도 출고 상세와 재고 목록의 ETag가 달라진다")
+    @Test
+    void eTagsChangeOnBucketReservation() {
+        // given
+        split();
+        Long outboundId = createOutbound(10).outboundId();
+        String outboundETag = outboundService.findETag(outboundId);
+        Pageable firstPage = PageRequest.of(0, 20);
+        String stockETag = warehouseStockService.findETag(warehouseId, null, null, null, null, firstPage);
+
+        // when
+        createOutbound(5);
+
+        // then
+        assertThat(rowReservedQuantity()).isEqualTo(100);
+        assertThat(outboundService.findETag(outboundId)).isNotEqualTo(outboundETag);
+        assertThat(warehouseStockService.findETag(warehouseId, null, null, null, null, firstPage))
+                .isNotEqualTo(stockETag);
+    }
+
+    @DisplayName("다시 나누면 재고 행에 생긴 가용 재고까지 버킷에 고르게 담긴다")
+    @Test
+    void rebalance() {
+        // given
+        split();
+        createOutbound(30);
+        warehouseStockJdbcRepository.applyDeltas(List.of(new StockDelta(warehouseId, productId, 20, 0)));
+
+        // when
+        splitStockService.rebalance(warehouseId, productId);
+
+        // then
+        assertThat(bucketQuantities()).containsExactly(23, 23, 22, 22);
+        assertThat(rowReservedQuantity()).isEqualTo(120);
+        assertThat(visibleStock())
+                .extracting(StockRow::quantity, StockRow::reservedQuantity)
+                .containsExactly(120, 30);
+    }
+
+    @DisplayName("합치면 버킷에 남은 수량이 재고 행으로 돌아가고 버킷이 지워진다")
+    @Test
+    void merge() {
+        // given
+        split();
+        createOutbound(30);
+
+        // when
+        splitStockService.merge(warehouseId, productId);
+
+        // then
+        assertThat(bucketQuantities()).isEmpty();
+        assertThat(rowReservedQuantity()).isEqualTo(30);
+        assertThat(splitStockService.isSplit(warehouseId, productId)).isFalse();
+        assertThat(findStock().getAvailableQuantity()).isEqualTo(70);
+    }
+
+    @DisplayName("일괄 피킹은 버킷을 건드리지 않고 등록할 때 버킷에서 잡은 예약만 확인하며 완료하면 그만큼 차감된다")
+    @Test
+    void bulkPickingKeepsBuckets() {
+        // given
+        split();
+        Long outboundId = createOutbound(10).outboundId();
+
+        // when
+        outboundBulkService.startPickings(List.of(outboundId));
+        entityManager.flush();
+
+        // then
+        assertThat(bucketQuantities().stream().mapToInt(Integer::intValue).sum()).isEqualTo(90);
+        assertThat(rowReservedQuantity()).isEqualTo(100);
+        assertThat(visibleStock())
+                .extracting(StockRow::quantity, StockRow::reservedQuantity)
+                .containsExactly(100, 10);
+
+        outboundBulkService.completeOutbounds(List.of(outboundId));
+        entityManager.flush();
+        assertThat(visibleStock())
+                .extracting(StockRow::quantity, StockRow::reservedQuantity)
+                .containsExactly(90, 0);
+    }
+}
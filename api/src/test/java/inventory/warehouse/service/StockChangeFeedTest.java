@@ -0,0 +1,239 @@
+package inventory.warehouse.service;
+
+import inventory.product.domain.Product;
+import inventory.product.repository.ProductRepository;
+import inventory.warehouse.domain.Warehouse;
+import inventory.warehouse.domain.WarehouseStock;
+import inventory.warehouse.repository.WarehouseRepository;
+import inventory.warehouse.repository.WarehouseStockJdbcRepository;
+import inventory.warehouse.repository.WarehouseStockRepository;
+import inventory.warehouse.service.event.StockChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * 구독은 실제 SSE 엔드포인트로 열고, 응답에 쌓이는 이벤트를 읽어 확인한다.
+ * 예약된 전송은 사실상 돌지 않게 두고 테스트에서 직접 호출하며, 버퍼는 세 상품이 한 번에 바뀌면 넘치도록 작게 둔다.
+ * 커밋 후 이벤트를 확인해야 하므로 테스트 트랜잭션 없이 커밋하고, 끝나면 직접 지운다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "stock-feed.coalesce-millis=3600000",
+        "stock-feed.buffer-size=2"
+})
+@AutoConfigureMockMvc
+class StockChangeFeedTest {
+
+    private static final long WAIT_MILLIS = 5_000;
+
+    @Autowired
+    private StockChangeFeed stockChangeFeed;
+
+    @MockitoSpyBean
+    private WarehouseStockJdbcRepository warehouseStockJdbcRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private WarehouseStockRepository warehouseStockRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long warehouseId;
+    private Long productId1;
+    private Long productId2;
+    private Long productId3;
+    private MvcResult subscription;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        warehouseId = warehouseRepository.save(Warehouse.builder()
+                .name("구독 테스트 창고")
+                .postcode("12345")
+                .baseAddress("서울시 어딘가")
+                .detailAddress("상세주소")
+                .managerName("관리자")
+                .managerContact("01012345678")
+                .build()).getWarehouseId();
+        productId1 = saveProduct("FEED001");
+        productId2 = saveProduct("FEED002");
+        productId3 = saveProduct("FEED003");
+        for (Long productId : List.of(productId1, productId2, productId3)) {
+            warehouseStockRepository.save(WarehouseStock.builder()
+                    .warehouseId(warehouseId).productId(productId).quantity(10).safetyStock(0).build());
+        }
+
+        subscription = mockMvc.perform(get("/api/v1/warehouse-stocks/stream").param("warehouseId",
+                        warehouseId.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        awaitContent(":connected");
+        clearInvocations(warehouseStockJdbcRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 구독을 닫아 다른 테스트의 변경을 받지 않게 한다
+        subscription.getRequest().getAsyncContext().complete();
+        jdbcTemplate.update("DELETE FROM warehouse_stock WHERE warehouse_id = ?", warehouseId);
+        jdbcTemplate.update("DELETE FROM product WHERE product_id IN (?, ?, ?)", productId1, productId2, productId3);
+        jdbcTemplate.update("DELETE FROM warehouse WHERE warehouse_id = ?", warehouseId);
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    private Long saveProduct(String productCode) {
+        return productRepository.save(Product.builder()
+                .supplierId(1L).productName("구독 상품 " + productCode).productCode(productCode).unit("개").build())
+                .getProductId();
+    }
+
+    // 재고 행을 바꾸고 같은 트랜잭션에서 변경 이벤트를 발행한다
+    private void changeStock(Long productId, int quantity, boolean rollback) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE warehouse_stock SET quantity = ? WHERE warehouse_id = ? AND product_id = ?",
+                    quantity, warehouseId, productId);
+            eventPublisher.publishEvent(StockChangedEvent.of(warehouseId, List.of(productId)));
+            if (rollback) {
+                status.setRollbackOnly();
+            }
+        });
+    }
+
+    private String content() throws Exception {
+        return subscription.getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    // 구독자마다 가상 스레드가 따로 보내므로 응답에 나타날 때까지 기다린다
+    private String awaitContent(String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (!content().contains(expected)) {
+            assertThat(System.currentTimeMillis()).as("응답에 %s가 오지 않았다", expected).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+        return content();
+    }
+
+    private int count(String content, String token) {
+        return content.split(token, -1).length - 1;
+    }
+
+    private String productField(Long productId) {
+        return "\"productId\":" + productId + ",";
+    }
+
+    @DisplayName("커밋된 재고 변경만 구독자에게 나가고 롤백된 변경은 다시 읽지도 보내지도 않는다")
+    @Test
+    void deliverOnlyCommittedChanges() throws Exception {
+        // given
+        changeStock(productId1, 15, false);
+        changeStock(productId2, 99, true);
+
+        // when
+        stockChangeFeed.flush();
+
+        // then
+        String content = awaitContent("event:stock");
+        assertThat(content).contains(productField(productId1), "\"quantity\":15");
+        assertThat(content).doesNotContain(productField(productId2));
+        verify(warehouseStockJdbcRepository, times(1)).findStocks(eq(warehouseId),
+                argThat(productIds -> Set.copyOf(productIds).equals(Set.of(productId1))));
+    }
+
+    @DisplayName("한 창 안에서 여러 번 바뀐 재고는 창고마다 한 번 읽어 재고마다 마지막 값 한 건으로 보낸다")
+    @Test
+    void coalesceChangesInWindow() throws Exception {
+        // given
+        changeStock(productId1, 11, false);
+        changeStock(productId1, 12, false);
+        changeStock(productId2, 21, false);
+        changeStock(productId1, 13, false);
+
+        // when
+        stockChangeFeed.flush();
+        stockChangeFeed.flush();
+
+        // then
+        String content = awaitContent("event:stock");
+        assertThat(count(content, "event:stock")).isEqualTo(1);
+        assertThat(count(content, productField(productId1))).isEqualTo(1);
+        assertThat(count(content, productField(productId2))).isEqualTo(1);
+        assertThat(content).contains("\"quantity\":13", "\"quantity\":21");
+        verify(warehouseStockJdbcRepository, times(1)).findStocks(eq(warehouseId),
+                argThat(productIds -> Set.copyOf(productIds).equals(Set.of(productId1, productId2))));
+        verify(warehouseStockJdbcRepository, times(1)).findStocks(any(), anyCollection());
+    }
+
+    @DisplayName("버퍼가 넘치면 모아 둔 변경 대신 다시 조회하라는 이벤트를 보내고, 다음 변경부터는 다시 그대로 보낸다")
+    @Test
+    void resyncAfterOverflow() throws Exception {
+        // given
+        double overflowsBefore = meterRegistry.counter("stock.feed.overflows").count();
+        changeStock(productId1, 11, false);
+        changeStock(productId2, 21, false);
+        changeStock(productId3, 31, false);
+
+        // when
+        stockChangeFeed.flush();
+        String afterOverflow = awaitContent("event:resync");
+        changeStock(productId1, 12, false);
+        stockChangeFeed.flush();
+
+        // then
+        assertThat(afterOverflow).doesNotContain("event:stock");
+        assertThat(meterRegistry.counter("stock.feed.overflows").count()).isEqualTo(overflowsBefore + 1);
+        String content = awaitContent("event:stock");
+        assertThat(count(content, "event:resync")).isEqualTo(1);
+        assertThat(content.substring(content.indexOf("event:stock")))
+                .contains(productField(productId1), "\"quantity\":12")
+                .doesNotContain(productField(productId2), productField(productId3));
+    }
+}
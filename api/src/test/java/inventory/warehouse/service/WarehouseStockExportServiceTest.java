@@ -0,0 +1,117 @@
+package inventory.warehouse.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import inventory.common.export.ExportFormat;
+import inventory.product.domain.Product;
+import inventory.product.repository.ProductRepository;
+import inventory.warehouse.domain.Warehouse;
+import inventory.warehouse.domain.WarehouseStock;
+import inventory.warehouse.repository.WarehouseRepository;
+import inventory.warehouse.repository.WarehouseStockRepository;
+import inventory.warehouse.service.query.WarehouseStockSearchCondition;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@Transactional
+@SpringBootTest
+class WarehouseStockExportServiceTest {
+
+    @Autowired
+    private WarehouseStockExportService warehouseStockExportService;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private WarehouseStockRepository warehouseStockRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Warehouse createTestWarehouse(String name) {
+        Warehouse warehouse = Warehouse.builder()
+                .name(name)
+                .postcode("12345")
+                .baseAddress("서울시 어딘가")
+                .detailAddress("상세주소")
+                .managerName("관리자")
+                .managerContact("01012345678")
+                .build();
+        return warehouseRepository.save(warehouse);
+    }
+
+    private Product createTestProduct(String productName, String productCode) {
+        Product product = Product.builder()
+                .supplierId(1L)
+                .productName(productName)
+                .productCode(productCode)
+                .unit("개")
+                .build();
+        return productRepository.save(product);
+    }
+
+    @DisplayName("CSV 내보내기는 헤더와 검색 조건에 맞는 재고만 기록한다")
+    @Test
+    void exportCsvWithCondition() {
+        // given
+        Warehouse warehouse = createTestWarehouse("내보내기 창고");
+        Warehouse otherWarehouse = createTestWarehouse("다른 창고");
+        Product product1 = createTestProduct("상품, 쉼표 포함", "EXP001");
+        Product product2 = createTestProduct("상품2", "EXP002");
+        warehouseStockRepository.save(new WarehouseStock(warehouse.getWarehouseId(), product1.getProductId(), 10, 5));
+        warehouseStockRepository.save(new WarehouseStock(warehouse.getWarehouseId(), product2.getProductId(), 1, 5));
+        warehouseStockRepository.save(new WarehouseStock(otherWarehouse.getWarehouseId(), product1.getProductId(), 7, 0));
+
+        WarehouseStockSearchCondition condition = new WarehouseStockSearchCondition(
+                warehouse.getWarehouseId(), null, null, null, null);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        long count = warehouseStockExportService.exportWarehouseStocks(condition, ExportFormat.CSV, outputStream);
+
+        // then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("warehouseStockId,warehouseId,warehouseName,productId,productName,productCode");
+        assertThat(lines[1]).contains("\"상품, 쉼표 포함\"", "EXP001");
+        assertThat(lines[2]).contains("EXP002");
+    }
+
+    @DisplayName("NDJSON 내보내기는 재고 한 건을 한 줄의 JSON으로 기록한다")
+    @Test
+    void exportNdjson() throws Exception {
+        // given
+        Warehouse warehouse = createTestWarehouse("내보내기 창고");
+        Product product = createTestProduct("상품1", "EXP003");
+        warehouseStockRepository.save(new WarehouseStock(warehouse.getWarehouseId(), product.getProductId(), 3, 5));
+
+        WarehouseStockSearchCondition condition = new WarehouseStockSearchCondition(
+                warehouse.getWarehouseId(), null, null, null, true);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        warehouseStockExportService.exportWarehouseStocks(condition, ExportFormat.NDJSON, outputStream);
+
+        // then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(1);
+        JsonNode node = objectMapper.readTree(lines[0]);
+        assertThat(node.get("productCode").asText()).isEqualTo("EXP003");
+        assertThat(node.get("quantity").asInt()).isEqualTo(3);
+    }
+}
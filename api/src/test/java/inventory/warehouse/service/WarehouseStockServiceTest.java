@@ -0,0 +1,150 @@
+package inventory.warehouse.service;
+
+import inventory.common.exception.CustomException;
+import inventory.product.domain.Product;
+import inventory.product.repository.ProductRepository;
+import inventory.warehouse.domain.Warehouse;
+import inventory.warehouse.domain.WarehouseStock;
+import inventory.warehouse.repository.WarehouseRepository;
+import inventory.warehouse.repository.WarehouseStockRepository;
+import inventory.warehouse.service.request.ProductAvailabilityRequest;
+import inventory.warehouse.service.response.ProductAvailabilityResponse;
+import inventory.warehouse.service.response.WarehouseAvailabilityResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@ActiveProfiles("test")
+@Transactional
+@SpringBootTest
+class WarehouseStockServiceTest {
+
+    @Autowired
+    private WarehouseStockService warehouseStockService;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private WarehouseStockRepository warehouseStockRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long createWarehouse(String name) {
+        return warehouseRepository.save(Warehouse.builder()
+                .name(name)
+                .postcode("12345")
+                .baseAddress("서울시 어딘가")
+                .detailAddress("상세주소")
+                .managerName("관리자")
+                .managerContact("01012345678")
+                .build()).getWarehouseId();
+    }
+
+    private Product createProduct(String productCode) {
+        return productRepository.save(Product.builder()
+                .supplierId(1L).productName("가용 재고 상품").productCode(productCode).unit("개").build());
+    }
+
+    private void createStock(Long warehouseId, Product product, int quantity, int reserved) {
+        WarehouseStock stock = WarehouseStock.builder()
+                .warehouseId(warehouseId).productId(product.getProductId()).quantity(quantity).safetyStock(0).build();
+        stock.reserve(reserved);
+        warehouseStockRepository.save(stock);
+    }
+
+    @DisplayName("상품 ID와 상품코드로 조회하면 창고별 재고와 전체 합계를 요청 순서대로 반환한다")
+    @Test
+    void findAvailability() {
+        // given
+        Long warehouse1 = createWarehouse("가용 재고 창고1");
+        Long warehouse2 = createWarehouse("가용 재고 창고2");
+        Product product1 = createProduct("AVAIL001");
+        Product product2 = createProduct("AVAIL002");
+        Product noStock = createProduct("AVAIL003");
+        createStock(warehouse1, product1, 10, 3);
+        createStock(warehouse2, product1, 7, 0);
+        createStock(warehouse2, product2, 4, 4);
+        entityManager.flush();
+
+        ProductAvailabilityRequest request = new ProductAvailabilityRequest(
+                List.of(product1.getProductId(), noStock.getProductId()), List.of("AVAIL002", "UNKNOWN"));
+
+        // when
+        List<ProductAvailabilityResponse> result = warehouseStockService.findAvailability(request);
+
+        // then
+        assertThat(result)
+                .extracting(ProductAvailabilityResponse::productId, ProductAvailabilityResponse::quantity,
+                        ProductAvailabilityResponse::reservedQuantity, ProductAvailabilityResponse::availableQuantity)
+                .containsExactly(
+                        tuple(product1.getProductId(), 17, 3, 14),
+                        tuple(noStock.getProductId(), 0, 0, 0),
+                        tuple(product2.getProductId(), 4, 4, 0));
+        assertThat(result.get(0).warehouses())
+                .extracting(WarehouseAvailabilityResponse::warehouseId, WarehouseAvailabilityResponse::availableQuantity)
+                .containsExactlyInAnyOrder(tuple(warehouse1, 7), tuple(warehouse2, 7));
+        assertThat(result.get(1).warehouses()).isEmpty();
+    }
+
+    @DisplayName("상품 ID와 상품코드를 합쳐 1,000개를 넘으면 예외가 발생한다")
+    @Test
+    void findAvailabilityWithTooManyProducts() {
+        // given
+        List<Long> productIds = LongStream.rangeClosed(1_000_001, 1_001_000).boxed().toList();
+        Product product = createProduct("AVAIL999");
+        entityManager.flush();
+
+        // when & then
+        assertThatThrownBy(() -> warehouseStockService.findAvailability(
+                new ProductAvailabilityRequest(productIds, List.of(product.getProductCode()))))
+                .isInstanceOf(CustomException.class);
+    }
+
+    @DisplayName("재고 목록 ETag는 요청한 페이지의 행이 바뀔 때만 달라지고 다른 페이지의 태그는 그대로다")
+    @Test
+    void findETagScopedToPage() {
+        // given: 최근 수정 순이므로 첫 페이지에 ETAG003, ETAG002, 둘째 페이지에 ETAG001 재고가 온다
+        Long warehouseId = createWarehouse("ETag 창고");
+        Product latestProduct = null;
+        for (String productCode : List.of("ETAG001", "ETAG002", "ETAG003")) {
+            latestProduct = createProduct(productCode);
+            createStock(warehouseId, latestProduct, 10, 0);
+            entityManager.flush();
+        }
+        Pageable firstPage = PageRequest.of(0, 2);
+        Pageable secondPage = PageRequest.of(1, 2);
+        String firstETag = warehouseStockService.findETag(warehouseId, null, null, null, null, firstPage);
+        String secondETag = warehouseStockService.findETag(warehouseId, null, null, null, null, secondPage);
+
+        // when
+        warehouseStockRepository.findByWarehouseIdAndProductId(warehouseId, latestProduct.getProductId())
+                .orElseThrow()
+                .updateSafetyStock(5);
+        entityManager.flush();
+
+        // then
+        assertThat(firstETag).isNotEqualTo(secondETag);
+        assertThat(warehouseStockService.findETag(warehouseId, null, null, null, null, firstPage))
+                .isNotEqualTo(firstETag);
+        assertThat(warehouseStockService.findETag(warehouseId, null, null, null, null, secondPage))
+                .isEqualTo(secondETag);
+    }
+}
@@ -0,0 +1,83 @@
+package inventory.warehouse.service.util;
+
+import inventory.warehouse.service.util.HotStockDetector.Decision;
+import inventory.warehouse.service.util.HotStockDetector.StockKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HotStockDetectorTest {
+
+    private void record(HotStockDetector detector, long productId, int times) {
+        for (int i = 0; i < times; i++) {
+            detector.record(1L, productId);
+        }
+    }
+
+    @DisplayName("한 구간에 기준 이상 예약된 재고만 나눌 대상이 되고 이미 나뉜 재고는 제외된다")
+    @Test
+    void splitHotStocks() {
+        // given
+        HotStockDetector detector = new HotStockDetector(10, 2, 3);
+        record(detector, 1L, 10);
+        record(detector, 2L, 9);
+        record(detector, 3L, 50);
+
+        // when
+        Decision decision = detector.evaluate(Set.of(new StockKey(1L, 3L)));
+
+        // then
+        assertThat(decision.toSplit()).containsExactly(new StockKey(1L, 1L));
+        assertThat(decision.toMerge()).isEmpty();
+    }
+
+    @DisplayName("나뉜 재고는 정해진 구간 수만큼 연속으로 한산해야 합쳐진다")
+    @Test
+    void mergeAfterColdIntervals() {
+        // given
+        HotStockDetector detector = new HotStockDetector(10, 2, 3);
+        Set<StockKey> split = Set.of(new StockKey(1L, 1L));
+
+        // when
+        Decision first = detector.evaluate(split);
+        Decision second = detector.evaluate(split);
+        record(detector, 1L, 5);
+        Decision busy = detector.evaluate(split);
+        detector.evaluate(split);
+        detector.evaluate(split);
+        Decision merged = detector.evaluate(split);
+
+        // then
+        assertThat(first.toMerge()).isEmpty();
+        assertThat(second.toMerge()).isEmpty();
+        assertThat(busy.toMerge()).isEmpty();
+        assertThat(merged.toMerge()).containsExactly(new StockKey(1L, 1L));
+    }
+
+    @DisplayName("판정하면 예약 수를 새로 센다")
+    @Test
+    void resetCountsAfterEvaluate() {
+        // given
+        HotStockDetector detector = new HotStockDetector(10, 2, 3);
+        record(detector, 1L, 6);
+        detector.evaluate(Set.of());
+        record(detector, 1L, 6);
+
+        // when
+        Decision decision = detector.evaluate(Set.of());
+
+        // then
+        assertThat(decision.toSplit()).isEmpty();
+    }
+
+    @DisplayName("나누는 기준이 합치는 기준보다 크지 않으면 만들 수 없다")
+    @Test
+    void invalidThresholds() {
+        assertThatThrownBy(() -> new HotStockDetector(5, 5, 3))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
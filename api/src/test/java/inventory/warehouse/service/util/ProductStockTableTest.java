@@ -0,0 +1,79 @@
+package inventory.warehouse.service.util;
+
+import inventory.warehouse.service.util.ProductStockTable.ProductStocks;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductStockTableTest {
+
+    @DisplayName("같은 창고의 재고는 덮어쓰고 다른 창고의 재고는 더해 합계를 낸다")
+    @Test
+    void putAndTotal() {
+        // given
+        ProductStockTable table = new ProductStockTable(16);
+
+        // when
+        table.put(1L, 100L, 10, 2);
+        table.put(2L, 100L, 5, 0);
+        table.put(1L, 100L, 12, 4);
+
+        // then
+        ProductStocks stocks = table.get(100L);
+        assertThat(stocks.warehouseIds()).containsExactly(1L, 2L);
+        assertThat(stocks.quantities()).containsExactly(12, 5);
+        assertThat(stocks.reservedQuantities()).containsExactly(4, 0);
+        assertThat(stocks.totalQuantity()).isEqualTo(17);
+        assertThat(stocks.totalReservedQuantity()).isEqualTo(4);
+        assertThat(table.get(200L)).isNull();
+    }
+
+    @DisplayName("창고 재고를 빼면 그 창고만 사라지고 상품은 빈 재고로 남는다")
+    @Test
+    void remove() {
+        // given
+        ProductStockTable table = new ProductStockTable(16);
+        table.put(1L, 100L, 10, 0);
+        table.put(2L, 100L, 5, 0);
+
+        // when
+        table.remove(1L, 100L);
+        table.remove(2L, 100L);
+        table.remove(1L, 200L);
+
+        // then
+        assertThat(table.get(100L).warehouseIds()).isEmpty();
+        assertThat(table.get(100L).totalQuantity()).isZero();
+        assertThat(table.get(200L)).isNull();
+        assertThat(table.size()).isEqualTo(1);
+    }
+
+    @DisplayName("예상보다 많은 상품이 들어와도 표를 늘려 모든 상품을 찾는다")
+    @Test
+    void grow() {
+        // given
+        ProductStockTable table = new ProductStockTable(16);
+
+        // when
+        for (long productId = 1; productId <= 10_000; productId++) {
+            table.put(productId % 7, productId, (int) productId, 0);
+        }
+
+        // then
+        assertThat(table.size()).isEqualTo(10_000);
+        for (long productId = 1; productId <= 10_000; productId++) {
+            assertThat(table.get(productId).totalQuantity()).isEqualTo((int) productId);
+        }
+    }
+
+    @DisplayName("상품 ID가 1보다 작으면 넣을 수 없다")
+    @Test
+    void rejectInvalidProductId() {
+        ProductStockTable table = new ProductStockTable(16);
+
+        assertThatThrownBy(() -> table.put(1L, 0L, 1, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
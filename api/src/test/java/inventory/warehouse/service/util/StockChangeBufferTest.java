@@ -0,0 +1,68 @@
+package inventory.warehouse.service.util;
+
+import inventory.warehouse.service.response.StockChangeResponse;
+import inventory.warehouse.service.util.StockChangeBuffer.Batch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class StockChangeBufferTest {
+
+    private StockChangeResponse change(Long productId, int reserved) {
+        return new StockChangeResponse(1L, productId, 100, reserved, 100 - reserved, 10, false);
+    }
+
+    @DisplayName("같은 재고의 변경은 마지막 값 하나로 합쳐진다")
+    @Test
+    void coalesceSameStock() throws InterruptedException {
+        // given
+        StockChangeBuffer buffer = new StockChangeBuffer(10);
+        for (int i = 1; i <= 1_000; i++) {
+            buffer.offer(List.of(change(1L, i % 100)));
+        }
+        buffer.offer(List.of(change(2L, 5)));
+
+        // when
+        Batch batch = buffer.take(0);
+
+        // then
+        assertThat(batch.overflowed()).isFalse();
+        assertThat(batch.changes()).extracting(StockChangeResponse::productId, StockChangeResponse::reservedQuantity)
+                .containsExactly(
+                        tuple(1L, 0),
+                        tuple(2L, 5));
+    }
+
+    @DisplayName("서로 다른 재고가 버퍼 크기를 넘으면 모아 둔 변경을 버리고 넘침만 알린다")
+    @Test
+    void overflow() throws InterruptedException {
+        // given
+        StockChangeBuffer buffer = new StockChangeBuffer(2);
+
+        // when
+        boolean accepted = buffer.offer(List.of(change(1L, 1), change(2L, 1), change(3L, 1)));
+        Batch batch = buffer.take(0);
+
+        // then
+        assertThat(accepted).isFalse();
+        assertThat(batch.overflowed()).isTrue();
+        assertThat(batch.changes()).isEmpty();
+        assertThat(buffer.take(0).isEmpty()).isTrue();
+    }
+
+    @DisplayName("변경이 없으면 기다린 뒤 빈 묶음을, 닫힌 버퍼는 null을 반환한다")
+    @Test
+    void takeAfterTimeoutAndClose() throws InterruptedException {
+        // given
+        StockChangeBuffer buffer = new StockChangeBuffer(2);
+
+        // when & then
+        assertThat(buffer.take(10).isEmpty()).isTrue();
+        buffer.close();
+        assertThat(buffer.take(10)).isNull();
+    }
+}
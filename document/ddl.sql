@@ -1,5 +1,6 @@
 -- 재고 관리 시스템 DDL
 -- 데이터베이스: inventory
+-- modified_at은 ETag 계산에 쓰이므로 같은 초 안의 변경도 구분되도록 마이크로초까지 저장한다 (DATETIME(6))
 
 -- 1. 공급업체 테이블
 CREATE TABLE supplier
@@ -16,7 +17,7 @@ CREATE TABLE supplier
     manager_email                VARCHAR(100),
     active                       BOOLEAN DEFAULT TRUE,
     created_at                   DATETIME     NOT NULL,
-    modified_at                  DATETIME     NOT NULL,
+    modified_at                  DATETIME(6)  NOT NULL,
     deleted                      BOOLEAN DEFAULT FALSE,
     deleted_at                   DATETIME
 );
@@ -33,7 +34,7 @@ CREATE TABLE warehouse
     manager_contact VARCHAR(20),
     active          BOOLEAN DEFAULT TRUE,
     created_at      DATETIME     NOT NULL,
-    modified_at     DATETIME     NOT NULL,
+    modified_at     DATETIME(6)  NOT NULL,
     deleted         BOOLEAN DEFAULT FALSE,
     deleted_at      DATETIME
 );
@@ -49,7 +50,7 @@ CREATE TABLE product
     thumbnail_url VARCHAR(500),
     active        BOOLEAN DEFAULT TRUE,
     created_at    DATETIME     NOT NULL,
-    modified_at   DATETIME     NOT NULL,
+    modified_at   DATETIME(6)  NOT NULL,
     deleted       BOOLEAN DEFAULT FALSE,
     deleted_at    DATETIME,
     FOREIGN KEY (supplier_id) REFERENCES supplier (supplier_id)
@@ -64,7 +65,7 @@ CREATE TABLE inbound
     expected_date DATE,
     status        VARCHAR(20) NOT NULL,
     created_at    DATETIME    NOT NULL,
-    modified_at   DATETIME    NOT NULL,
+    modified_at   DATETIME(6) NOT NULL,
     deleted       BOOLEAN DEFAULT FALSE,
     deleted_at    DATETIME,
     FOREIGN KEY (warehouse_id) REFERENCES warehouse (warehouse_id),
@@ -99,9 +100,10 @@ CREATE TABLE outbound
     expected_date           DATE,
     shipped_date            DATE,
     delivery_memo           TEXT,
+    wave_id                 BIGINT,
     outbound_status         VARCHAR(20) NOT NULL,
     created_at              DATETIME    NOT NULL,
-    modified_at             DATETIME    NOT NULL,
+    modified_at             DATETIME(6) NOT NULL,
     deleted                 BOOLEAN DEFAULT FALSE,
     deleted_at              DATETIME,
     FOREIGN KEY (warehouse_id) REFERENCES warehouse (warehouse_id)
@@ -128,8 +130,9 @@ CREATE TABLE warehouse_stock
     product_id         BIGINT   NOT NULL,
     quantity           INT      NOT NULL DEFAULT 0,
     safety_stock       INT      NOT NULL DEFAULT 0,
+    reorder_point      INT      NOT NULL DEFAULT 0,
     reserved_quantity  INT      NOT NULL DEFAULT 0,
-    modified_at        DATETIME NOT NULL,
+    modified_at        DATETIME(6) NOT NULL,
     UNIQUE KEY uk_warehouse_product (warehouse_id, product_id),
     FOREIGN KEY (warehouse_id) REFERENCES warehouse (warehouse_id),
     FOREIGN KEY (product_id) REFERENCES product (product_id)
@@ -146,6 +149,194 @@ CREATE TABLE notification
     send_at           DATETIME     NOT NULL
 );
 
+-- 10. 출고 아카이브 테이블 (보관 기간이 지난 종료/삭제 출고)
+CREATE TABLE outbound_archive
+(
+    outbound_id             BIGINT PRIMARY KEY,
+    warehouse_id            BIGINT      NOT NULL,
+    order_number            VARCHAR(50) NOT NULL,
+    recipient_name          VARCHAR(50),
+    recipient_contact       VARCHAR(20),
+    delivery_postcode       VARCHAR(10),
+    delivery_base_address   VARCHAR(200),
+    delivery_detail_address VARCHAR(200),
+    requested_date          DATE,
+    expected_date           DATE,
+    shipped_date            DATE,
+    delivery_memo           TEXT,
+    wave_id                 BIGINT,
+    outbound_status         VARCHAR(20) NOT NULL,
+    created_at              DATETIME    NOT NULL,
+    modified_at             DATETIME(6) NOT NULL,
+    deleted                 BOOLEAN DEFAULT FALSE,
+    deleted_at              DATETIME,
+    archived_at             DATETIME    NOT NULL
+);
+
+-- 11. 출고 상품 아카이브 테이블
+CREATE TABLE outbound_product_archive
+(
+    outbound_product_id BIGINT PRIMARY KEY,
+    outbound_id         BIGINT   NOT NULL,
+    product_id          BIGINT   NOT NULL,
+    requested_quantity  INT      NOT NULL,
+    deleted             BOOLEAN DEFAULT FALSE,
+    deleted_at          DATETIME,
+    archived_at         DATETIME NOT NULL
+);
+
+-- 12. 입고 아카이브 테이블
+CREATE TABLE inbound_archive
+(
+    inbound_id    BIGINT PRIMARY KEY,
+    warehouse_id  BIGINT      NOT NULL,
+    supplier_id   BIGINT      NOT NULL,
+    expected_date DATE,
+    status        VARCHAR(20) NOT NULL,
+    created_at    DATETIME    NOT NULL,
+    modified_at   DATETIME(6) NOT NULL,
+    deleted       BOOLEAN DEFAULT FALSE,
+    deleted_at    DATETIME,
+    archived_at   DATETIME    NOT NULL
+);
+
+-- 13. 입고 상품 아카이브 테이블
+CREATE TABLE inbound_product_archive
+(
+    inbound_product_id BIGINT PRIMARY KEY,
+    product_id         BIGINT   NOT NULL,
+    inbound_id         BIGINT   NOT NULL,
+    quantity           INT      NOT NULL,
+    deleted            BOOLEAN DEFAULT FALSE,
+    deleted_at         DATETIME,
+    archived_at        DATETIME NOT NULL
+);
+
+-- 14. 창고별 일일 처리량 집계 테이블
+CREATE TABLE daily_warehouse_throughput
+(
+    daily_warehouse_throughput_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    warehouse_id                  BIGINT NOT NULL,
+    throughput_date               DATE   NOT NULL,
+    shipped_order_count           INT    NOT NULL DEFAULT 0,
+    shipped_quantity              BIGINT NOT NULL DEFAULT 0,
+    received_inbound_count        INT    NOT NULL DEFAULT 0,
+    received_quantity             BIGINT NOT NULL DEFAULT 0,
+    UNIQUE KEY uk_daily_warehouse_throughput (warehouse_id, throughput_date)
+);
+
+-- 15. 창고/상품별 일일 처리량 집계 테이블
+CREATE TABLE daily_product_throughput
+(
+    daily_product_throughput_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    warehouse_id                BIGINT NOT NULL,
+    product_id                  BIGINT NOT NULL,
+    throughput_date             DATE   NOT NULL,
+    shipped_quantity            BIGINT NOT NULL DEFAULT 0,
+    received_quantity           BIGINT NOT NULL DEFAULT 0,
+    UNIQUE KEY uk_daily_product_throughput (warehouse_id, product_id, throughput_date)
+);
+
+-- 16. 창고/상품별 수요 통계 테이블
+CREATE TABLE demand_statistics
+(
+    demand_statistics_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    warehouse_id         BIGINT NOT NULL,
+    product_id           BIGINT NOT NULL,
+    first_demand_date    DATE,
+    demand_sum           BIGINT NOT NULL DEFAULT 0,
+    demand_square_sum    DOUBLE NOT NULL DEFAULT 0,
+    lead_time_count      BIGINT NOT NULL DEFAULT 0,
+    lead_time_sum        BIGINT NOT NULL DEFAULT 0,
+    lead_time_square_sum BIGINT NOT NULL DEFAULT 0,
+    safety_stock         INT,
+    reorder_point        INT,
+    calculated_at        DATETIME,
+    UNIQUE KEY uk_demand_statistics (warehouse_id, product_id)
+);
+
+-- 17. 창고별 안전재고 계산 이력 테이블
+CREATE TABLE safety_stock_run
+(
+    warehouse_id      BIGINT PRIMARY KEY,
+    processed_through DATE     NOT NULL,
+    ran_at            DATETIME NOT NULL
+);
+
+-- 18. 피킹 웨이브 테이블
+CREATE TABLE picking_wave
+(
+    picking_wave_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    wave_number     VARCHAR(50) NOT NULL UNIQUE,
+    warehouse_id    BIGINT      NOT NULL,
+    expected_date   DATE        NOT NULL,
+    outbound_count  INT         NOT NULL,
+    total_quantity  BIGINT      NOT NULL,
+    created_at      DATETIME    NOT NULL,
+    FOREIGN KEY (warehouse_id) REFERENCES warehouse (warehouse_id)
+);
+
+-- 19. 피킹 웨이브 통합 피킹 목록 테이블
+CREATE TABLE picking_wave_item
+(
+    picking_wave_item_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    picking_wave_id      BIGINT NOT NULL,
+    product_id           BIGINT NOT NULL,
+    quantity             BIGINT NOT NULL,
+    outbound_count       INT    NOT NULL,
+    FOREIGN KEY (picking_wave_id) REFERENCES picking_wave (picking_wave_id),
+    FOREIGN KEY (product_id) REFERENCES product (product_id)
+);
+
+-- 20. 멱등성 키 테이블
+CREATE TABLE idempotency_record
+(
+    idempotency_key       VARCHAR(255) PRIMARY KEY,
+    request_hash          CHAR(64)     NOT NULL,
+    status                VARCHAR(20)  NOT NULL,
+    response_status       INT,
+    response_content_type VARCHAR(255),
+    response_body         MEDIUMBLOB,
+    created_at            DATETIME     NOT NULL,
+    expires_at            DATETIME     NOT NULL
+);
+
+-- 21. 창고 간 재고 이동 테이블 (등록과 같은 트랜잭션에서 재고를 옮기므로 상태 없이 이력만 남긴다)
+CREATE TABLE stock_transfer
+(
+    stock_transfer_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    from_warehouse_id BIGINT   NOT NULL,
+    to_warehouse_id   BIGINT   NOT NULL,
+    created_at        DATETIME NOT NULL,
+    FOREIGN KEY (from_warehouse_id) REFERENCES warehouse (warehouse_id),
+    FOREIGN KEY (to_warehouse_id) REFERENCES warehouse (warehouse_id)
+);
+
+-- 22. 창고 간 재고 이동 상품 테이블
+CREATE TABLE stock_transfer_product
+(
+    stock_transfer_product_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    stock_transfer_id         BIGINT NOT NULL,
+    product_id                BIGINT NOT NULL,
+    quantity                  INT    NOT NULL,
+    FOREIGN KEY (stock_transfer_id) REFERENCES stock_transfer (stock_transfer_id),
+    FOREIGN KEY (product_id) REFERENCES product (product_id)
+);
+
+-- 23. 재고 버킷 테이블 (예약이 몰리는 재고의 가용 수량을 나눠 담는다. 담긴 수량은 warehouse_stock.reserved_quantity에 잡혀 있다)
+CREATE TABLE warehouse_stock_bucket
+(
+    warehouse_stock_bucket_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    warehouse_id              BIGINT      NOT NULL,
+    product_id                BIGINT      NOT NULL,
+    bucket_no                 INT         NOT NULL,
+    quantity                  INT         NOT NULL DEFAULT 0,
+    modified_at               DATETIME(6) NOT NULL,
+    UNIQUE KEY uk_warehouse_stock_bucket (warehouse_id, product_id, bucket_no),
+    FOREIGN KEY (warehouse_id) REFERENCES warehouse (warehouse_id),
+    FOREIGN KEY (product_id) REFERENCES product (product_id)
+);
+
 
 -- 공급업체 테이블 인덱스
 CREATE INDEX idx_supplier_name ON supplier (name);
@@ -174,6 +365,7 @@ CREATE INDEX idx_inbound_status ON inbound (status);
 CREATE INDEX idx_inbound_expected_date ON inbound (expected_date);
 CREATE INDEX idx_inbound_created_at ON inbound (created_at);
 CREATE INDEX idx_inbound_warehouse_status ON inbound (warehouse_id, status);
+CREATE INDEX idx_inbound_status_modified_at ON inbound (status, modified_at);
 
 -- 입고 상품 테이블 인덱스
 CREATE INDEX idx_inbound_product_product_id ON inbound_product (product_id);
@@ -188,6 +380,7 @@ CREATE INDEX idx_outbound_expected_date ON outbound (expected_date);
 CREATE INDEX idx_outbound_shipped_date ON outbound (shipped_date);
 CREATE INDEX idx_outbound_created_at ON outbound (created_at);
 CREATE INDEX idx_outbound_warehouse_status ON outbound (warehouse_id, outbound_status);
+CREATE INDEX idx_outbound_status_modified_at ON outbound (outbound_status, modified_at);
 
 -- 출고 상품 테이블 인덱스
 CREATE INDEX idx_outbound_product_outbound_id ON outbound_product (outbound_id);
@@ -205,3 +398,30 @@ CREATE INDEX idx_warehouse_stock_warehouse_quantity ON warehouse_stock (warehous
 CREATE INDEX idx_notification_recipient_email ON notification (recipient_email);
 CREATE INDEX idx_notification_type ON notification (notification_type);
 CREATE INDEX idx_notification_send_at ON notification (send_at);
+
+-- 아카이브 테이블 인덱스 (창고별 검색과 재고 정합성 점검이 (창고, 상태)로 읽는다)
+CREATE INDEX idx_outbound_archive_requested_date ON outbound_archive (requested_date);
+CREATE INDEX idx_outbound_archive_warehouse_status ON outbound_archive (warehouse_id, outbound_status);
+CREATE INDEX idx_outbound_product_archive_outbound_id ON outbound_product_archive (outbound_id);
+CREATE INDEX idx_inbound_archive_expected_date ON inbound_archive (expected_date);
+CREATE INDEX idx_inbound_archive_warehouse_status ON inbound_archive (warehouse_id, status);
+CREATE INDEX idx_inbound_product_archive_inbound_id ON inbound_product_archive (inbound_id);
+
+-- 처리량 집계 테이블 인덱스
+CREATE INDEX idx_daily_product_throughput_warehouse_date ON daily_product_throughput (warehouse_id, throughput_date);
+CREATE INDEX idx_inbound_warehouse_status_modified_at ON inbound (warehouse_id, status, modified_at);
+CREATE INDEX idx_outbound_warehouse_status_shipped_date ON outbound (warehouse_id, outbound_status, shipped_date);
+
+-- 피킹 웨이브 인덱스
+CREATE INDEX idx_outbound_warehouse_status_expected_date ON outbound (warehouse_id, outbound_status, expected_date);
+CREATE INDEX idx_outbound_wave_id ON outbound (wave_id);
+CREATE INDEX idx_picking_wave_warehouse_expected_date ON picking_wave (warehouse_id, expected_date);
+CREATE INDEX idx_picking_wave_item_wave_id ON picking_wave_item (picking_wave_id);
+
+-- 멱등성 키 인덱스
+CREATE INDEX idx_idempotency_record_expires_at ON idempotency_record (expires_at);
+
+-- 재고 이동 인덱스
+CREATE INDEX idx_stock_transfer_from_warehouse ON stock_transfer (from_warehouse_id);
+CREATE INDEX idx_stock_transfer_to_warehouse ON stock_transfer (to_warehouse_id);
+CREATE INDEX idx_stock_transfer_product_transfer ON stock_transfer_product (stock_transfer_id);
@@ -0,0 +1,50 @@
+#!/usr/bin/env bash
+# 컨테이너를 띄운 시점부터 첫 요청이 200으로 응답할 때까지 걸린 시간을 잰다.
+# 같은 이미지를 빠른 기동 옵션을 끈 상태(before)와 이미지 기본값(after)으로 번갈아 띄워 비교한다.
+#
+# 사용법: scripts/measure-first-request.sh <이미지> <env 파일> [반복 횟수]
+#   env 파일에는 MYSQL_DATASOURCE_URL, MYSQL_USERNAME, MYSQL_PASSWORD, MAIL_USERNAME, MAIL_PASSWORD를 넣는다.
+#   DB는 document/ddl.sql로 스키마를 만들어 둔 상태여야 한다.
+#   마지막에 이미지와 측정 환경을 함께 출력하므로 결과를 그대로 커밋 메시지나 PR에 옮겨 기록한다.
+set -euo pipefail
+
+IMAGE=${1:?이미지 이름이 필요합니다}
+ENV_FILE=${2:?env 파일이 필요합니다}
+RUNS=${3:-5}
+PORT=18080
+URL="http://localhost:${PORT}/actuator/health/liveness"
+
+measure() {
+  local label=$1
+  shift
+  local started container elapsed
+  started=$(date +%s%3N)
+  container=$(docker run -d --rm --network host --env-file "$ENV_FILE" -e SERVER_PORT="$PORT" "$@" "$IMAGE")
+  until curl -fs -o /dev/null "$URL"; do
+    if ! docker ps -q --no-trunc | grep -q "$container"; then
+      echo "${label}: 컨테이너가 기동 중에 종료되었습니다" >&2
+      exit 1
+    fi
+    sleep 0.05
+  done
+  elapsed=$(( $(date +%s%3N) - started ))
+  docker stop "$container" > /dev/null
+  echo "$elapsed"
+}
+
+report() {
+  local label=$1
+  shift
+  local samples=()
+  for _ in $(seq "$RUNS"); do
+    samples+=("$(measure "$label" "$@")")
+  done
+  printf '%s\n' "${samples[@]}" | sort -n | awk -v label="$label" '
+    { v[NR] = $1 }
+    END { printf "%-7s 첫 요청까지: 중앙값 %dms, 최소 %dms, 최대 %dms (%d회)\n", label, v[int((NR + 1) / 2)], v[1], v[NR], NR }'
+}
+
+report before -e FAST_START_OPTS= -e JPA_DDL_AUTO=update
+report after
+echo "이미지: ${IMAGE} ($(docker image inspect --format '{{.Id}}' "$IMAGE"))"
+echo "측정 환경: $(uname -sm), CPU $(nproc)개, $(date '+%Y-%m-%d')"